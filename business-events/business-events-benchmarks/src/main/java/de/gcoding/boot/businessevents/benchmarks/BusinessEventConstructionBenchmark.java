@@ -0,0 +1,87 @@
+package de.gcoding.boot.businessevents.benchmarks;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.time.EventClock;
+import de.gcoding.boot.businessevents.time.SystemEventClock;
+import de.gcoding.boot.businessevents.time.TickingEventClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of single events through {@link BusinessEvent.Builder} and directly from
+ * {@link BusinessEventData}, with both the system and the ticking {@link EventClock}. Run with {@code -prof gc} to
+ * see the bytes allocated per event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusinessEventConstructionBenchmark {
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private final Object payload = "payload";
+    private final EventClock systemClock = new SystemEventClock();
+    private TickingEventClock tickingClock;
+    private BusinessEvent eventWithMetadata;
+
+    @Setup
+    public void setup() {
+        tickingClock = new TickingEventClock();
+        eventWithMetadata = BusinessEvent.withPayload(payload)
+            .metadata(Map.of("tenant", "benchmark", "source", "jmh"))
+            .build(this);
+    }
+
+    @TearDown
+    public void tearDown() {
+        tickingClock.close();
+    }
+
+    @Benchmark
+    public BusinessEvent builder() {
+        return BusinessEvent.withPayload(payload)
+            .action(EventActions.CREATE)
+            .build(this);
+    }
+
+    @Benchmark
+    public BusinessEvent builderFromEventWithoutChanges() {
+        return BusinessEvent.fromEvent(eventWithMetadata).build(this);
+    }
+
+    @Benchmark
+    public BusinessEvent builderFromEventWithAdditionalMetadata() {
+        return BusinessEvent.fromEvent(eventWithMetadata).addMetadata("trace", "id").build(this);
+    }
+
+    @Benchmark
+    public BusinessEventData eventDataWithSystemClock() {
+        return new BusinessEventData(EVENT_ID, payload, EventActions.CREATE, systemClock.now());
+    }
+
+    @Benchmark
+    public BusinessEvent eventWithSystemClock() {
+        return new BusinessEvent(this, new BusinessEventData(EVENT_ID, payload, EventActions.CREATE, systemClock.now()));
+    }
+
+    @Benchmark
+    public BusinessEvent eventWithTickingClock() {
+        return new BusinessEvent(this, new BusinessEventData(EVENT_ID, payload, EventActions.CREATE, tickingClock.now()));
+    }
+}
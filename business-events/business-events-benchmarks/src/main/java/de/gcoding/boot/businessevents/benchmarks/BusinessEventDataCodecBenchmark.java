@@ -0,0 +1,91 @@
+package de.gcoding.boot.businessevents.benchmarks;
+
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.codec.BusinessEventDataCodec;
+import de.gcoding.boot.businessevents.codec.CodecDictionary;
+import de.gcoding.boot.businessevents.codec.PayloadSerializer;
+import jakarta.annotation.Nonnull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures encoding a typical event into a direct buffer, as done by the journal, decoding it again and the round trip
+ * of both. The payload is serialized as UTF-8, so the numbers reflect the codec rather than the payload serializer.
+ * Run with {@code -prof gc} to see the bytes allocated per event, which should be little more than the serialized
+ * payload when encoding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusinessEventDataCodecBenchmark {
+    private final BusinessEventData eventData = new BusinessEventData(
+        UUID.randomUUID(),
+        "order-4711",
+        EventActions.CREATE,
+        ZonedDateTime.of(2024, 5, 17, 12, 30, 15, 123456789, ZoneOffset.UTC),
+        Map.of("tenant", "acme")
+    );
+    private final BusinessEventDataCodec codec = new BusinessEventDataCodec(
+        new Utf8PayloadSerializer(),
+        CodecDictionary.defaults().with("tenant")
+    );
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+    private final ByteBuffer encoded = ByteBuffer.allocateDirect(256);
+
+    @Setup
+    public void setup() {
+        codec.encode(eventData, encoded);
+        encoded.flip();
+    }
+
+    @Benchmark
+    public int encodeIntoBuffer() {
+        return codec.encode(eventData, buffer.clear());
+    }
+
+    @Benchmark
+    public BusinessEventData decode() {
+        return codec.decode(encoded.duplicate());
+    }
+
+    @Benchmark
+    public BusinessEventData roundTrip() {
+        codec.encode(eventData, buffer.clear());
+        return codec.decode(buffer.flip());
+    }
+
+    private static class Utf8PayloadSerializer implements PayloadSerializer {
+        @Nonnull
+        @Override
+        public byte[] serialize(@Nonnull Object payload) {
+            return ((String) payload).getBytes(UTF_8);
+        }
+
+        @Nonnull
+        @Override
+        public Object deserialize(@Nonnull byte[] data, @Nonnull String payloadType) {
+            return new String(data, UTF_8);
+        }
+    }
+}
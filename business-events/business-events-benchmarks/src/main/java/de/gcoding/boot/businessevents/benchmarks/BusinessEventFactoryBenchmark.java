@@ -0,0 +1,76 @@
+package de.gcoding.boot.businessevents.benchmarks;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.emission.BusinessEventFactoryImpl;
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.id.RandomEventIdGenerator;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import de.gcoding.boot.businessevents.time.SystemEventClock;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of a single event with {@link BusinessEventFactoryImpl}, either with a static action or with
+ * an action SpEL expression that is interpreted or compiled, depending on the {@code compilerMode}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusinessEventFactoryBenchmark {
+    @Param({"OFF", "MIXED"})
+    public SpelCompilerMode compilerMode;
+    private final Object payload = "payload";
+    private BusinessEventFactoryImpl factory;
+    private MethodSignature staticActionSignature;
+    private EmitBusinessEvent staticActionConfiguration;
+    private MethodSignature expressionActionSignature;
+    private EmitBusinessEvent expressionActionConfiguration;
+
+    @Setup
+    public void setup() {
+        final var parser = new SpelExpressionParser(new SpelParserConfiguration(compilerMode, null));
+
+        factory = new BusinessEventFactoryImpl(
+            parser,
+            new BeanFactoryResolver(new StaticListableBeanFactory()),
+            BusinessEventFactoryImpl.DEFAULT_EXPRESSION_CACHE_SIZE,
+            new RandomEventIdGenerator(),
+            new SystemEventClock(),
+            BusinessEventsMetrics.NOOP
+        );
+        staticActionSignature = EmittingMethods.signature("staticAction");
+        staticActionConfiguration = EmittingMethods.configuration("staticAction");
+        expressionActionSignature = EmittingMethods.signature("expressionAction");
+        expressionActionConfiguration = EmittingMethods.configuration("expressionAction");
+    }
+
+    @Benchmark
+    public BusinessEvent staticAction() {
+        return factory.createBusinessEvent(payload, this, staticActionSignature, staticActionConfiguration);
+    }
+
+    @Benchmark
+    public BusinessEvent expressionAction() {
+        return factory.createBusinessEvent(payload, this, expressionActionSignature, expressionActionConfiguration);
+    }
+}
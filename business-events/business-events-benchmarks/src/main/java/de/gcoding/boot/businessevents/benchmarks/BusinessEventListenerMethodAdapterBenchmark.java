@@ -0,0 +1,93 @@
+package de.gcoding.boot.businessevents.benchmarks;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventDataProvider;
+import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.listen.BusinessEventListener;
+import de.gcoding.boot.businessevents.listen.BusinessEventListenerMethodAdapter;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatch of an event to {@code @BusinessEventListener} methods through
+ * {@link BusinessEventListenerMethodAdapter}, including the payload type and action checks and the binding of the
+ * method parameters. {@code skipped} measures an event the listener is not interested in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusinessEventListenerMethodAdapterBenchmark {
+    private final BusinessEvent event = BusinessEvent.withPayload("payload").action(EventActions.CREATE).build();
+    private final BusinessEvent uninterestingEvent = BusinessEvent.withPayload(42).action(EventActions.CREATE).build();
+    private Listener listener;
+    private BusinessEventListenerMethodAdapter payloadAdapter;
+    private BusinessEventListenerMethodAdapter allParametersAdapter;
+
+    @Setup
+    public void setup(Blackhole blackhole) throws NoSuchMethodException {
+        listener = new Listener(blackhole);
+        payloadAdapter = adapter(Listener.class.getMethod("onPayload", String.class));
+        allParametersAdapter = adapter(Listener.class.getMethod("onEvent", String.class, String.class, BusinessEventDataProvider.class));
+    }
+
+    @Benchmark
+    public void payloadParameter() {
+        payloadAdapter.onApplicationEvent(event);
+    }
+
+    @Benchmark
+    public void allParameters() {
+        allParametersAdapter.onApplicationEvent(event);
+    }
+
+    @Benchmark
+    public void skipped() {
+        payloadAdapter.onApplicationEvent(uninterestingEvent);
+    }
+
+    private BusinessEventListenerMethodAdapter adapter(Method method) {
+        return new BusinessEventListenerMethodAdapter(
+            method.getAnnotation(BusinessEventListener.class),
+            () -> listener,
+            method,
+            null,
+            BusinessEventsMetrics.NOOP
+        );
+    }
+
+    public static class Listener {
+        private final Blackhole blackhole;
+
+        Listener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @BusinessEventListener(payloadType = String.class, actions = EventActions.CREATE)
+        public void onPayload(String payload) {
+            blackhole.consume(payload);
+        }
+
+        @BusinessEventListener(payloadType = String.class)
+        public void onEvent(String payload, String action, BusinessEventDataProvider event) {
+            blackhole.consume(payload);
+            blackhole.consume(action);
+            blackhole.consume(event);
+        }
+    }
+}
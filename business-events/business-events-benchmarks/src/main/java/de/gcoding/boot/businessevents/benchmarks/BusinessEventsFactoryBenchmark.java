@@ -0,0 +1,85 @@
+package de.gcoding.boot.businessevents.benchmarks;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.emission.BusinessEventFactoryImpl;
+import de.gcoding.boot.businessevents.emission.BusinessEventsFactoryImpl;
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.emission.unwrapper.CollectionUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.CompositeEventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.OptionalUnwrapper;
+import de.gcoding.boot.businessevents.id.RandomEventIdGenerator;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptions;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import de.gcoding.boot.businessevents.time.SystemEventClock;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures turning the return value of an annotated method into events with {@link BusinessEventsFactoryImpl}:
+ * <ul>
+ *     <li>{@code SKIPPED}: a single payload of a method that skips unwrapping</li>
+ *     <li>{@code SINGLE}: a single payload that no unwrapper supports</li>
+ *     <li>{@code OPTIONAL}: a payload wrapped into an {@code Optional}</li>
+ *     <li>{@code LIST}: a list of ten payloads</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusinessEventsFactoryBenchmark {
+    @Param({"SKIPPED", "SINGLE", "OPTIONAL", "LIST"})
+    public String returnValue;
+    private BusinessEventsFactoryImpl factory;
+    private Object payload;
+    private MethodSignature methodSignature;
+    private EmitBusinessEvent configuration;
+
+    @Setup
+    public void setup() {
+        final var methodName = returnValue.equals("SKIPPED") ? "skipUnwrap" : "staticAction";
+        final var unwrapper = new CompositeEventPayloadUnwrapper(List.of(new OptionalUnwrapper(), new CollectionUnwrapper()));
+        final var eventFactory = new BusinessEventFactoryImpl(
+            new SpelExpressionParser(),
+            new BeanFactoryResolver(new StaticListableBeanFactory()),
+            BusinessEventFactoryImpl.DEFAULT_EXPRESSION_CACHE_SIZE,
+            new RandomEventIdGenerator(),
+            new SystemEventClock(),
+            BusinessEventsMetrics.NOOP
+        );
+
+        factory = new BusinessEventsFactoryImpl(unwrapper, eventFactory, BusinessEventSubscriptions.ANY, BusinessEventsMetrics.NOOP);
+        methodSignature = EmittingMethods.signature(methodName);
+        configuration = EmittingMethods.configuration(methodName);
+        payload = switch (returnValue) {
+            case "OPTIONAL" -> Optional.of("payload");
+            case "LIST" -> IntStream.range(0, 10).mapToObj(i -> "payload-" + i).toList();
+            default -> "payload";
+        };
+    }
+
+    @Benchmark
+    public List<BusinessEvent> createBusinessEvents() {
+        return factory.createBusinessEvents(payload, this, methodSignature, configuration);
+    }
+}
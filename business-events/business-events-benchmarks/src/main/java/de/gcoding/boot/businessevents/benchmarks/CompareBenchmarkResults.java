@@ -0,0 +1,124 @@
+package de.gcoding.boot.businessevents.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>
+ * Compares two JMH result files written with {@code -rf csv}, e.g. of the same benchmarks run on two commits, and
+ * prints the change of the score and of the bytes allocated per operation for each benchmark:
+ * </p>
+ * <pre>
+ * java -cp benchmarks.jar de.gcoding.boot.businessevents.benchmarks.CompareBenchmarkResults base.csv head.csv
+ * </pre>
+ * <p>
+ * The allocation columns are only filled in if the benchmarks were run with {@code -prof gc}.
+ * </p>
+ */
+public class CompareBenchmarkResults {
+    private static final String ALLOCATION_SUFFIX = ":gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CompareBenchmarkResults <base.csv> <head.csv>");
+            System.exit(1);
+        }
+
+        final var base = read(Path.of(args[0]));
+        final var head = read(Path.of(args[1]));
+
+        System.out.printf(Locale.ROOT, "%-90s %18s %18s %9s %16s %16s%n", "Benchmark", "Base", "Head", "Change", "Base alloc", "Head alloc");
+
+        for (final var entry : head.entrySet()) {
+            final var key = entry.getKey();
+
+            if (key.benchmark().contains(":")) {
+                // secondary results of profilers, such as the allocation rate
+                continue;
+            }
+
+            final var headScore = entry.getValue();
+            final var baseScore = base.get(key);
+            final var allocationKey = new Key(key.benchmark() + ALLOCATION_SUFFIX, key.params());
+
+            System.out.printf(
+                Locale.ROOT,
+                "%-90s %18s %18s %9s %16s %16s%n",
+                key,
+                baseScore != null ? format(baseScore) : "-",
+                format(headScore),
+                baseScore != null ? String.format(Locale.ROOT, "%+.1f%%", (headScore.value() / baseScore.value() - 1) * 100) : "-",
+                format(base.get(allocationKey)),
+                format(head.get(allocationKey))
+            );
+        }
+    }
+
+    private static Map<Key, Score> read(Path file) throws IOException {
+        final var lines = Files.readAllLines(file);
+        final var header = parseLine(lines.getFirst());
+        final var scores = new LinkedHashMap<Key, Score>();
+
+        for (final var line : lines.subList(1, lines.size())) {
+            final var columns = parseLine(line);
+            final var params = new ArrayList<String>();
+
+            for (var i = 7; i < columns.size(); i++) {
+                if (!columns.get(i).isEmpty()) {
+                    params.add(header.get(i).replace("Param: ", "") + "=" + columns.get(i));
+                }
+            }
+
+            final var key = new Key(shortName(columns.get(0)), String.join(",", params));
+            scores.put(key, new Score(Double.parseDouble(columns.get(4)), columns.get(6)));
+        }
+
+        return scores;
+    }
+
+    private static String shortName(String benchmark) {
+        // strips the package, but keeps the class name as well as the name of secondary results
+        final var method = benchmark.split(":", 2)[0];
+        return benchmark.substring(method.lastIndexOf('.', method.lastIndexOf('.') - 1) + 1);
+    }
+
+    private static List<String> parseLine(String line) {
+        final var columns = new ArrayList<String>();
+        final var column = new StringBuilder();
+        var quoted = false;
+
+        for (final var character : line.toCharArray()) {
+            if (character == '"') {
+                quoted = !quoted;
+            } else if (character == ',' && !quoted) {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(character);
+            }
+        }
+
+        columns.add(column.toString());
+        return columns;
+    }
+
+    private static String format(Score score) {
+        return score != null ? String.format(Locale.ROOT, "%.3f %s", score.value(), score.unit()) : "-";
+    }
+
+    private record Key(String benchmark, String params) {
+        @Override
+        public String toString() {
+            return params.isEmpty() ? benchmark : benchmark + " [" + params + "]";
+        }
+    }
+
+    private record Score(double value, String unit) {
+    }
+}
@@ -0,0 +1,74 @@
+package de.gcoding.boot.businessevents.benchmarks;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.emission.unwrapper.ArrayUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.CollectionUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.CompositeEventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.IterableUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.MapValuesUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.OptionalUnwrapper;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast {@link CompositeEventPayloadUnwrapper} dispatches a return value to the unwrapper supporting its
+ * type, with all standard unwrappers registered. {@code UNSUPPORTED} is a value no unwrapper supports and
+ * {@code SUBTYPE} is an {@code ArrayDeque}, which is only supported through its {@code Collection} supertype.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompositeEventPayloadUnwrapperBenchmark {
+    @Param({"UNSUPPORTED", "OPTIONAL", "LIST", "SUBTYPE", "MAP"})
+    public String returnValue;
+    private CompositeEventPayloadUnwrapper unwrapper;
+    private Object payload;
+    private MethodSignature methodSignature;
+    private EmitBusinessEvent configuration;
+
+    @Setup
+    public void setup() {
+        unwrapper = new CompositeEventPayloadUnwrapper(List.of(
+            new OptionalUnwrapper(),
+            new CollectionUnwrapper(),
+            new ArrayUnwrapper(),
+            new IterableUnwrapper(),
+            new MapValuesUnwrapper()
+        ));
+        methodSignature = EmittingMethods.signature("staticAction");
+        configuration = EmittingMethods.configuration("staticAction");
+        payload = switch (returnValue) {
+            case "OPTIONAL" -> Optional.of("payload");
+            case "LIST" -> List.of("payload");
+            case "SUBTYPE" -> new ArrayDeque<>(List.of("payload"));
+            case "MAP" -> Map.of("key", "payload");
+            default -> "payload";
+        };
+    }
+
+    @Benchmark
+    public void unwrap(Blackhole blackhole) {
+        unwrapper.unwrap(payload, this, methodSignature, configuration)
+            .ifPresentOrElse(payloads -> payloads.forEach(blackhole::consume), () -> blackhole.consume(payload));
+    }
+}
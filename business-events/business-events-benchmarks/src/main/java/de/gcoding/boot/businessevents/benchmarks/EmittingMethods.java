@@ -0,0 +1,57 @@
+package de.gcoding.boot.businessevents.benchmarks;
+
+import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.aspectj.runtime.reflect.Factory;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * The annotated methods the benchmarks emit events for. Provides the {@link MethodSignature} and the
+ * {@link EmitBusinessEvent} configuration of a method just like the aspect would receive them, without the need to
+ * mock or proxy anything.
+ */
+public class EmittingMethods {
+    @EmitBusinessEvent(action = EventActions.CREATE)
+    public Object staticAction() {
+        return null;
+    }
+
+    @EmitBusinessEvent(actionSpEL = "payload.isEmpty() ? 'NONE' : 'CREATE'")
+    public Object expressionAction() {
+        return null;
+    }
+
+    @EmitBusinessEvent(action = EventActions.CREATE, skipUnwrap = true)
+    public Object skipUnwrap() {
+        return null;
+    }
+
+    public static MethodSignature signature(String methodName) {
+        final var method = method(methodName);
+        final var factory = new Factory(EmittingMethods.class.getSimpleName() + ".java", EmittingMethods.class);
+
+        return (MethodSignature) factory.makeMethodSig(
+            method.getModifiers(),
+            method.getName(),
+            method.getDeclaringClass(),
+            method.getParameterTypes(),
+            new String[0],
+            method.getExceptionTypes(),
+            method.getReturnType()
+        );
+    }
+
+    public static EmitBusinessEvent configuration(String methodName) {
+        return method(methodName).getAnnotation(EmitBusinessEvent.class);
+    }
+
+    private static Method method(String methodName) {
+        return Arrays.stream(EmittingMethods.class.getDeclaredMethods())
+            .filter(method -> method.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("No such method: " + methodName));
+    }
+}
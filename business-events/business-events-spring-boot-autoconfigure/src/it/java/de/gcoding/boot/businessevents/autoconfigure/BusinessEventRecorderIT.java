@@ -0,0 +1,205 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventDataProvider;
+import de.gcoding.boot.businessevents.test.BusinessEventRecorder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BusinessEventRecorderIT {
+    @Test
+    void whenEventsAreRecordedConcurrentlyNoEventIsLost() {
+        final var recorder = new BusinessEventRecorder();
+        final var threads = new ArrayList<Thread>();
+
+        for (var i = 0; i < 8; i++) {
+            final var threadIndex = i;
+            threads.add(Thread.ofPlatform().start(() -> IntStream.range(0, 10_000)
+                .forEach(sequence -> recorder.onApplicationEvent(event(threadIndex + ":" + sequence)))));
+        }
+
+        threads.forEach(BusinessEventRecorderIT::join);
+
+        assertThat(recorder.getNumEmitted()).isEqualTo(80_000);
+        assertThat(recorder.getRecordedEvents()).hasSize(80_000);
+        assertThat(recorder.stream().filter(event -> event.getPayload().toString().startsWith("3:")))
+            .extracting(BusinessEventDataProvider::getPayload)
+            .containsExactlyElementsOf(IntStream.range(0, 10_000).mapToObj(sequence -> "3:" + sequence).toList());
+    }
+
+    @Test
+    void whenCapacityIsExceededOnlyTheMostRecentEventsAreRetained() {
+        final var recorder = new BusinessEventRecorder(3);
+
+        IntStream.rangeClosed(1, 5).forEach(i -> recorder.onApplicationEvent(event(i)));
+
+        assertThat(recorder.getNumEmitted()).isEqualTo(5);
+        assertThat(recorder).extracting(BusinessEventDataProvider::getPayload).containsExactly(3, 4, 5);
+    }
+
+    @Test
+    void whenCapacityIsNotPositiveRecorderCannotBeCreated() {
+        assertThrows(IllegalArgumentException.class, () -> new BusinessEventRecorder(0));
+    }
+
+    @Test
+    void whenResetAllEventsAreDiscarded() {
+        final var recorder = new BusinessEventRecorder();
+        recorder.onApplicationEvent(event("payload"));
+
+        recorder.reset();
+
+        assertThat(recorder.getNumEmitted()).isZero();
+        recorder.assertThat().noEventHasBeenEmitted();
+    }
+
+    @Test
+    void whenEventsAreRecordedAsynchronouslyAwaitReturnsOnceTheyArrived() {
+        final var recorder = new BusinessEventRecorder();
+        recorder.onApplicationEvent(event("early"));
+
+        CompletableFuture.runAsync(
+            () -> IntStream.range(0, 1_000).forEach(i -> recorder.onApplicationEvent(event(i))),
+            CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+        );
+
+        recorder.awaitEvents(event -> event.getPayload() instanceof Integer, 1_000, Duration.ofSeconds(10))
+            .assertThat()
+            .numberOfEventsEmitted(1_001);
+    }
+
+    @Test
+    void whenResetWhileAwaitingOnlyEventsRecordedAfterTheResetAreCounted() {
+        final var recorder = new BusinessEventRecorder();
+        recorder.onApplicationEvent(event("before reset"));
+
+        CompletableFuture.runAsync(
+            () -> {
+                recorder.reset();
+                recorder.onApplicationEvent(event("first"));
+                recorder.onApplicationEvent(event("second"));
+            },
+            CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+        );
+
+        recorder.awaitEvents(2, Duration.ofSeconds(10))
+            .assertThat()
+            .eventsWhereEmittedWithPayloads("first", "second");
+    }
+
+    @Test
+    void whenEventsDoNotArriveInTimeAwaitFails() {
+        final var recorder = new BusinessEventRecorder();
+        recorder.onApplicationEvent(event("payload"));
+
+        final var error = assertThrows(AssertionError.class, () -> recorder.awaitEvents(2, Duration.ofMillis(50)));
+
+        assertThat(error).hasMessageContaining("only 1 were recorded");
+    }
+
+    @Test
+    void whenNarrowedByPayloadTypeEventsWithSubtypePayloadsAreIncluded() {
+        final var recorder = new BusinessEventRecorder();
+        recorder.onApplicationEvent(event("text"));
+        recorder.onApplicationEvent(event(42));
+        recorder.onApplicationEvent(event(4.2));
+
+        recorder.assertThatAllEventsWithPayloadType(Number.class).eventsWhereEmittedWithPayloads(42, 4.2)
+            .and().fromEventsWithPayloadType(CharSequence.class).exactlyOneEventWasEmittedWithPayload("text")
+            .and().fromEventsWithPayloadType(Object.class).numberOfEventsEmitted(3);
+    }
+
+    @Test
+    void whenNarrowedByActionAndPayloadTypeOnlyEventsMatchingBothAreIncluded() {
+        final var recorder = new BusinessEventRecorder();
+        recorder.onApplicationEvent(event(1, "CREATE"));
+        recorder.onApplicationEvent(event(2, "UPDATE"));
+        recorder.onApplicationEvent(event("3", "CREATE"));
+
+        recorder.assertThat()
+            .fromEventsWithAction("CREATE")
+            .fromEventsWithPayloadType(Integer.class)
+            .exactlyOneEventWasEmittedWithPayload(1)
+            .and().fromEventsWithOneOfTheActions("CREATE", "UPDATE").numberOfEventsEmitted(3)
+            .and().fromEventsWithAction("DELETE").noEventHasBeenEmitted();
+    }
+
+    @Test
+    void whenNarrowedByIdOnlyThatEventIsIncluded() {
+        final var recorder = new BusinessEventRecorder();
+        final var event = event("payload");
+        recorder.onApplicationEvent(event("other"));
+        recorder.onApplicationEvent(event);
+
+        recorder.assertThat().fromEventWithId(event.getId()).exactlyOneEventWasEmittedWithPayload("payload")
+            .and().fromEventWithId(UUID.randomUUID()).noEventHasBeenEmitted();
+    }
+
+    @Test
+    void whenEventIsRecordedMoreThanOnceNarrowingByIdIncludesEveryRecording() {
+        final var recorder = new BusinessEventRecorder();
+        final var event = event("payload");
+        recorder.onApplicationEvent(event);
+        recorder.onApplicationEvent(event("other"));
+        recorder.onApplicationEvent(new BusinessEvent(this, event.getEventData()));
+
+        recorder.assertThat().fromEventWithId(event.getId()).numberOfEventsEmitted(2)
+            .and().fromEventsMatching(recorded -> event.getId().equals(recorded.getId())).numberOfEventsEmitted(2);
+    }
+
+    @Test
+    void whenEventsAreRecordedAfterAssertionsWereCreatedTheyAreNotIncluded() {
+        final var recorder = new BusinessEventRecorder();
+        final var first = event(1, "CREATE");
+        recorder.onApplicationEvent(first);
+        final var assertions = recorder.assertThat();
+
+        recorder.onApplicationEvent(event(2, "CREATE"));
+        recorder.onApplicationEvent(first);
+
+        assertions.exactlyOneEventWasEmittedWithPayload(1)
+            .and().fromEventsWithPayloadType(Integer.class).exactlyOneEventWasEmittedWithPayload(1)
+            .and().fromEventsWithAction("CREATE").exactlyOneEventWasEmittedWithPayload(1)
+            .and().fromEventWithId(first.getId()).oneEventHasBeenEmitted();
+        recorder.assertThat().numberOfEventsEmitted(3);
+    }
+
+    @Test
+    void whenCapacityIsExceededDiscardedEventsAreRemovedFromTheIndices() {
+        final var recorder = new BusinessEventRecorder(2);
+        final var discarded = event(1, "CREATE");
+        recorder.onApplicationEvent(discarded);
+        recorder.onApplicationEvent(event(2, "UPDATE"));
+        recorder.onApplicationEvent(event(3, "UPDATE"));
+
+        recorder.assertThatAllEventsWithPayloadType(Integer.class).eventsWhereEmittedWithPayloads(2, 3)
+            .and().fromEventsWithAction("CREATE").noEventHasBeenEmitted()
+            .and().fromEventWithId(discarded.getId()).noEventHasBeenEmitted();
+    }
+
+    private static BusinessEvent event(Object payload, String action) {
+        return BusinessEvent.withPayload(payload).action(action).build();
+    }
+
+    private static BusinessEvent event(Object payload) {
+        return BusinessEvent.withPayload(payload).build();
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.autoconfigure.DeferEventsUntilCommitIT.SynchronizingTransactionManager;
+import de.gcoding.boot.businessevents.test.BusinessEventRecorder;
+import de.gcoding.boot.businessevents.test.BusinessEventsTest;
+import de.gcoding.boot.businessevents.test.EventEmittingService;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.stereotype.Component;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {BusinessEventsAutoConfiguration.class, SynchronizingTransactionManager.class, AopAutoConfiguration.class})
+@TestPropertySource(
+    properties = {
+        "gcoding.business-events.emission.transaction.defer-until-commit=true"
+    }
+)
+@BusinessEventsTest
+@EnableTransactionManagement
+class DeferEventsUntilCommitIT {
+    @Autowired
+    EventEmittingService eventEmittingService;
+    @Autowired
+    BusinessEventRecorder businessEventRecorder;
+    @Autowired
+    SynchronizingTransactionManager transactionManager;
+
+    @BeforeEach
+    void beforeEach() {
+        businessEventRecorder.reset();
+        transactionManager.committed.set(false);
+    }
+
+    @Test
+    void whenNoTransactionIsActiveEventIsEmittedImmediately() {
+        final var expectedPayload = eventEmittingService.emitSimpleEvent("payload");
+
+        businessEventRecorder.assertThat().exactlyOneEventWasEmittedWithPayload(expectedPayload);
+    }
+
+    @Test
+    void whenTransactionCommitsEventIsEmittedAfterCommit() {
+        final var eventWasEmittedAfterCommit = new AtomicBoolean(false);
+        businessEventRecorder.addBusinessEventListener(event ->
+            eventWasEmittedAfterCommit.set(transactionManager.hasCommitted()));
+
+        final var expectedPayload = eventEmittingService.emitEventWithinSpringTransactional("payload");
+
+        assertThat(eventWasEmittedAfterCommit).isTrue();
+        businessEventRecorder.assertThat().exactlyOneEventWasEmittedWithPayload(expectedPayload);
+    }
+
+    @Test
+    void whenTransactionIsStillRunningNoEventHasBeenEmittedYet() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventEmittingService.emitSimpleEvent("first");
+            eventEmittingService.emitSimpleEvent("second");
+
+            businessEventRecorder.assertThat().noEventHasBeenEmitted();
+        });
+
+        businessEventRecorder.assertThat().eventsWhereEmittedWithPayloads("first", "second");
+    }
+
+    @Test
+    void whenTransactionIsRolledBackNoEventIsEmitted() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventEmittingService.emitSimpleEvent("payload");
+            status.setRollbackOnly();
+        });
+
+        businessEventRecorder.assertThat().noEventHasBeenEmitted();
+    }
+
+    @Component
+    public static class SynchronizingTransactionManager extends AbstractPlatformTransactionManager {
+        private final AtomicBoolean committed = new AtomicBoolean(false);
+
+        public boolean hasCommitted() {
+            return committed.get();
+        }
+
+        @Nonnull
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(@Nonnull Object transaction, @Nonnull TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(@Nonnull DefaultTransactionStatus status) {
+            committed.set(true);
+        }
+
+        @Override
+        protected void doRollback(@Nonnull DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package de.gcoding.boot.businessevents.autoconfigure;
 
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
 import de.gcoding.boot.businessevents.autoconfigure.EmitBusinessEventsIT.MockTransactionManager;
 import de.gcoding.boot.businessevents.test.BusinessEventRecorder;
 import de.gcoding.boot.businessevents.test.BusinessEventsTest;
@@ -28,6 +29,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -93,6 +95,41 @@ class EmitBusinessEventsIT {
         businessEventRecorder.assertThat().eventsWhereEmittedWithPayloads(expectedPayloads);
     }
 
+    @Test
+    void whenCompletableFutureIsReturnedEventIsEmittedOnCompletion() {
+        final var future = new CompletableFuture<String>();
+        final var returnedFuture = eventEmittingService.emitEventOnCompletion(future);
+
+        businessEventRecorder.assertThat().noEventHasBeenEmitted();
+
+        future.complete("test");
+
+        assertThat(returnedFuture).isCompletedWithValue("test");
+        businessEventRecorder.assertThat().exactlyOneEventWasEmittedWithPayload("test");
+    }
+
+    @Test
+    void whenStreamIsReturnedEventsAreEmittedForEachConsumedEntry() {
+        final var stream = eventEmittingService.emitEventsForEachConsumedStreamItem(List.of("first", "second", "third"));
+
+        businessEventRecorder.assertThat().noEventHasBeenEmitted();
+
+        final var expectedPayloads = stream.limit(2).toList();
+
+        businessEventRecorder.assertThat().eventsWhereEmittedWithPayloads(expectedPayloads);
+    }
+
+    @Test
+    void whenBatchIsConfiguredASingleBatchEventIsEmittedForAllListEntries() {
+        final var expectedPayloads = eventEmittingService.emitBatchEventForAllListItems(List.of("first", "second", "third"));
+
+        businessEventRecorder.assertThat()
+            .oneEventHasBeenEmitted()
+            .allEventsSatisfy(event -> assertThat(event)
+                .isInstanceOfSatisfying(BatchBusinessEvent.class, batch ->
+                    assertThat(batch.getPayloads()).containsExactlyElementsOf(expectedPayloads)));
+    }
+
     @Test
     void whenUsedWithSpringTransactionEventIsEmittedWithinTransaction() {
         final var noTransactionWasInitiallyActive = !isActualTransactionActive();
@@ -0,0 +1,194 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.BusinessEventDataProvider;
+import de.gcoding.boot.businessevents.autoconfigure.EmitBusinessEventsToOutboxIT.OutboxITConfiguration;
+import de.gcoding.boot.businessevents.emission.outbox.BusinessEventOutbox;
+import de.gcoding.boot.businessevents.emission.outbox.OutboxRelay;
+import de.gcoding.boot.businessevents.test.BusinessEventRecorder;
+import de.gcoding.boot.businessevents.test.BusinessEventsTest;
+import de.gcoding.boot.businessevents.test.EventEmittingService;
+import de.gcoding.boot.database.model.AbstractBaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = OutboxITConfiguration.class)
+@TestPropertySource(
+    properties = {
+        "gcoding.business-events.emission.outbox.enabled=true",
+        "gcoding.business-events.emission.outbox.initialize-schema=true",
+        "gcoding.business-events.emission.outbox.relay.poll-interval=1h"
+    }
+)
+@BusinessEventsTest
+class EmitBusinessEventsToOutboxIT {
+    @Autowired
+    EventEmittingService eventEmittingService;
+    @Autowired
+    BusinessEventRecorder businessEventRecorder;
+    @Autowired
+    BusinessEventOutbox outbox;
+    @Autowired
+    OutboxRelay relay;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    ApplicationEventPublisher applicationEventPublisher;
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        relay.relayPending();
+        businessEventRecorder.reset();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void outboxIsWrittenWithinJpaTransaction() {
+        assertThat(transactionManager).isInstanceOf(JpaTransactionManager.class);
+    }
+
+    @Test
+    void whenTransactionCommitsEntityAndEventAreStoredTogetherAndEventIsRelayedAfterwards() {
+        final var ordersBefore = countOrders();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.persist(new OrderEntity("order"));
+            eventEmittingService.emitSimpleEvent("order placed");
+        });
+
+        businessEventRecorder.assertThat().noEventHasBeenEmitted();
+        assertThat(outbox.countPending()).isOne();
+        assertThat(countOrders()).isEqualTo(ordersBefore + 1);
+
+        relay.relayPending();
+
+        businessEventRecorder.assertThat().exactlyOneEventWasEmittedWithPayload("order placed");
+        assertThat(outbox.countPending()).isZero();
+    }
+
+    @Test
+    void whenTransactionIsRolledBackNeitherEntityNorEventAreStored() {
+        final var rowsBefore = countOutboxRows();
+        final var ordersBefore = countOrders();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.persist(new OrderEntity("order"));
+            eventEmittingService.emitSimpleEvent("order placed");
+            status.setRollbackOnly();
+        });
+        relay.relayPending();
+
+        assertThat(countOutboxRows()).isEqualTo(rowsBefore);
+        assertThat(countOrders()).isEqualTo(ordersBefore);
+        businessEventRecorder.assertThat().noEventHasBeenEmitted();
+    }
+
+    @Test
+    void whenTransactionalMethodEmitsEventItIsStoredWithTheTransaction() {
+        eventEmittingService.emitEventWithinSpringTransactional("payload");
+
+        assertThat(outbox.countPending()).isOne();
+
+        relay.relayPending();
+
+        businessEventRecorder.assertThat().exactlyOneEventWasEmittedWithPayload("payload");
+    }
+
+    @Test
+    void whenNoTransactionIsActiveEventIsStoredImmediately() {
+        eventEmittingService.emitEventsForEachListItem(List.of("first", "second"));
+
+        assertThat(outbox.countPending()).isEqualTo(2);
+
+        relay.relayPending();
+
+        businessEventRecorder.assertThat().eventsWhereEmittedWithPayloads("first", "second");
+    }
+
+    @Test
+    void multipleRelaysDrainOutboxInParallelDeliveringEachEventOnce() {
+        final var payloads = IntStream.range(0, 500).mapToObj(i -> "payload-" + i).toList();
+        eventEmittingService.emitEventsForEachListItem(payloads);
+        final var relays = new ArrayList<OutboxRelay>();
+
+        for (var i = 0; i < 4; i++) {
+            relays.add(new OutboxRelay(
+                outbox,
+                applicationEventPublisher,
+                transactionTemplate,
+                20,
+                Duration.ofHours(1),
+                OutboxRelay.DEFAULT_MAX_ATTEMPTS,
+                OutboxRelay.defaultThreadFactory()
+            ));
+        }
+
+        final var futures = relays.stream()
+            .map(other -> CompletableFuture.supplyAsync(other::relayPending))
+            .toList();
+        final var relayed = futures.stream().mapToLong(CompletableFuture::join).sum();
+        relay.relayPending();
+
+        assertThat(relayed + relay.getRelayedCount()).isGreaterThanOrEqualTo(payloads.size());
+        assertThat(businessEventRecorder.getRecordedEvents())
+            .extracting(BusinessEventDataProvider::getPayload)
+            .containsExactlyInAnyOrderElementsOf(payloads);
+        assertThat(outbox.countPending()).isZero();
+    }
+
+    private long countOrders() {
+        return entityManager.createQuery("select count(o) from EmitBusinessEventsToOutboxIT$OrderEntity o", Long.class)
+            .getSingleResult();
+    }
+
+    private long countOutboxRows() {
+        final var count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM business_event_outbox", Long.class);
+        return count != null ? count : 0;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = OrderEntity.class)
+    public static class OutboxITConfiguration {
+    }
+
+    @Entity
+    public static class OrderEntity extends AbstractBaseEntity {
+        @Column
+        @SuppressWarnings("unused")
+        private String name;
+
+        protected OrderEntity() {
+        }
+
+        public OrderEntity(String name) {
+            this.name = name;
+        }
+    }
+}
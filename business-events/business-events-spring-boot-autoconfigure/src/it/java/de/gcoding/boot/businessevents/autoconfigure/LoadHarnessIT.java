@@ -0,0 +1,137 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.listen.BusinessEventListener;
+import de.gcoding.boot.businessevents.test.load.LoadHarness;
+import de.gcoding.boot.businessevents.test.load.LoadPayload;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadHarnessIT {
+    @Test
+    void whenDrivenAtTargetRateCallsAndDeliveriesAreMeasured() {
+        final var report = LoadHarness.withSources(BusinessEventsAutoConfiguration.class, AopAutoConfiguration.class)
+            .listeners(2, Duration.of(10, ChronoUnit.MICROS))
+            .threads(2)
+            .targetRate(2_000)
+            .warmup(Duration.ofMillis(200))
+            .duration(Duration.ofMillis(500))
+            .build()
+            .run();
+
+        assertThat(report.calls()).isBetween(500L, 1_100L);
+        assertThat(report.errors()).isZero();
+        assertThat(report.deliveries()).isEqualTo(report.calls() * 2);
+        assertThat(report.expectedDeliveries()).isEqualTo(report.deliveries());
+        assertThat(report.lostDeliveries()).isZero();
+        assertThat(report.callLatency().getTotalCount()).isEqualTo(report.calls());
+        assertThat(report.callsElapsed()).isGreaterThanOrEqualTo(Duration.ofMillis(500));
+        assertThat(report.deliveriesElapsed()).isGreaterThanOrEqualTo(report.callsElapsed());
+        assertThat(report.deliveryLatencyAt(50)).isPositive();
+        assertThat(report.summary()).contains("calls:", "p99.9=");
+    }
+
+    @Test
+    void whenCallsFallBehindTheTargetRateThroughputIsBasedOnTheElapsedTime() {
+        final var report = LoadHarness.withSources(BusinessEventsAutoConfiguration.class, AopAutoConfiguration.class)
+            .listeners(1, Duration.ofMillis(2))
+            .threads(1)
+            .targetRate(1_000)
+            .warmup(Duration.ZERO)
+            .duration(Duration.ofMillis(200))
+            .build()
+            .run();
+
+        assertThat(report.callsElapsed()).isGreaterThan(Duration.ofMillis(300));
+        assertThat(report.callsPerSecond()).isLessThan(700);
+    }
+
+    @Test
+    void whenEventsAreDeliveredAsynchronouslyAllDeliveriesAreAwaited() {
+        final var report = LoadHarness.withSources(BusinessEventsAutoConfiguration.class, AopAutoConfiguration.class)
+            .properties("gcoding.business-events.emission.async.enabled=true")
+            .payloadsPerCall(3)
+            .threads(4)
+            .virtualThreads(true)
+            .warmup(Duration.ZERO)
+            .duration(Duration.ofMillis(300))
+            .build()
+            .run();
+
+        assertThat(report.calls()).isPositive();
+        assertThat(report.deliveries()).isEqualTo(report.calls() * 3);
+        assertThat(report.lostDeliveries()).isZero();
+    }
+
+    @Test
+    void whenDeliveriesDoNotArriveWithinTheDrainTimeoutTheyAreReportedAsLost() {
+        final var report = LoadHarness.withSources(BusinessEventsAutoConfiguration.class, AopAutoConfiguration.class)
+            .properties("gcoding.business-events.emission.async.enabled=true")
+            .listeners(1, Duration.ofMillis(2))
+            .threads(2)
+            .targetRate(1_000)
+            .warmup(Duration.ZERO)
+            .duration(Duration.ofMillis(200))
+            .drainTimeout(Duration.ZERO)
+            .build()
+            .run();
+
+        assertThat(report.expectedDeliveries()).isEqualTo(report.calls());
+        assertThat(report.lostDeliveries()).isPositive();
+        assertThat(report.deliveries() + report.lostDeliveries()).isEqualTo(report.expectedDeliveries());
+        assertThat(report.summary()).contains("expected lost");
+    }
+
+    @Test
+    void whenCallsFailTheirLatencyIsMeasuredSeparately() {
+        final var report = LoadHarness.withSources(
+                BusinessEventsAutoConfiguration.class,
+                AopAutoConfiguration.class,
+                FailingListenerConfiguration.class
+            )
+            .listeners(0, Duration.ZERO)
+            .threads(2)
+            .targetRate(2_000)
+            .warmup(Duration.ZERO)
+            .duration(Duration.ofMillis(300))
+            .build()
+            .run();
+
+        assertThat(report.errors()).isPositive();
+        assertThat(report.errorLatency().getTotalCount()).isEqualTo(report.errors());
+        assertThat(report.callLatency().getTotalCount()).isEqualTo(report.calls());
+        assertThat(report.errorLatencyAt(50)).isPositive();
+        assertThat(report.summary()).contains("error latency");
+    }
+
+    @Test
+    void whenEmittingServiceIsNotProxiedHarnessFails() {
+        final var harness = LoadHarness.withSources(AopAutoConfiguration.class).build();
+
+        assertThrows(IllegalStateException.class, harness::run);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class FailingListenerConfiguration {
+        @Bean
+        FailingListener failingListener() {
+            return new FailingListener();
+        }
+    }
+
+    static class FailingListener {
+        @BusinessEventListener(payloadType = LoadPayload.class)
+        public void onEvent(LoadPayload payload) {
+            if (payload.sequence() % 2 == 0) {
+                throw new IllegalStateException("failed to process event " + payload.sequence());
+            }
+        }
+    }
+}
@@ -9,7 +9,11 @@ import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsPropert
 
 @AutoConfiguration
 @ConditionalOnProperty(value = PROPERTIES_PATH + ".enabled", havingValue = "true", matchIfMissing = true)
-@ImportAutoConfiguration({BusinessEventsEmissionAutoConfiguration.class, BusinessEventsListenAutoConfiguration.class})
+@ImportAutoConfiguration({
+    BusinessEventsEmissionAutoConfiguration.class,
+    BusinessEventsListenAutoConfiguration.class,
+    BusinessEventsJournalAutoConfiguration.class
+})
 @EnableConfigurationProperties(BusinessEventsProperties.class)
 public class BusinessEventsAutoConfiguration {
 }
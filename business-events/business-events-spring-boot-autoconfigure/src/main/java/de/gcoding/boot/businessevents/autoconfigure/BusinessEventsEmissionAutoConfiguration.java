@@ -1,59 +1,184 @@
 package de.gcoding.boot.businessevents.autoconfigure;
 
+import de.gcoding.boot.businessevents.BatchEventPublisher;
 import de.gcoding.boot.businessevents.autoconfigure.diagnostics.AopStartupFailureAutoConfiguration;
 import de.gcoding.boot.businessevents.emission.BusinessEventFactory;
 import de.gcoding.boot.businessevents.emission.BusinessEventFactoryImpl;
 import de.gcoding.boot.businessevents.emission.BusinessEventsFactory;
 import de.gcoding.boot.businessevents.emission.BusinessEventsFactoryImpl;
 import de.gcoding.boot.businessevents.emission.aspect.BusinessEventEmitterAspect;
+import de.gcoding.boot.businessevents.emission.outbox.OutboxBusinessEventPublisher;
+import de.gcoding.boot.businessevents.emission.publisher.AsyncBusinessEventPublisher;
+import de.gcoding.boot.businessevents.emission.publisher.TransactionalBusinessEventPublisher;
+import de.gcoding.boot.businessevents.emission.unwrapper.DeferredEventPayloadUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.EventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.id.EventIdGenerator;
+import de.gcoding.boot.businessevents.id.RandomEventIdGenerator;
+import de.gcoding.boot.businessevents.id.TimeOrderedEventIdGenerator;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptionRegistrar;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptionRegistry;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptions;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import de.gcoding.boot.businessevents.time.EventClock;
+import de.gcoding.boot.businessevents.time.SystemEventClock;
+import de.gcoding.boot.businessevents.time.TickingEventClock;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.expression.BeanResolver;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
+import java.time.Clock;
+import java.util.concurrent.ThreadFactory;
+
 import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsEmissionProperties.PROPERTIES_PATH;
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsMetricsAutoConfiguration.METRICS_BEAN_NAME;
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsUnwrappingAutoConfiguration.PRIMARY_DEFERRED_UNWRAPPER_BEAN_NAME;
 import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsUnwrappingAutoConfiguration.PRIMARY_UNWRAPPER_BEAN_NAME;
+import static org.springframework.context.support.AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME;
 
 @AutoConfiguration
 @ConditionalOnProperty(value = PROPERTIES_PATH + ".enabled", havingValue = "true", matchIfMissing = true)
 @EnableConfigurationProperties(BusinessEventsEmissionProperties.class)
-@ImportAutoConfiguration({BusinessEventsUnwrappingAutoConfiguration.class, AopStartupFailureAutoConfiguration.class})
+@ImportAutoConfiguration({
+    BusinessEventsUnwrappingAutoConfiguration.class,
+    BusinessEventsOutboxAutoConfiguration.class,
+    AopStartupFailureAutoConfiguration.class
+})
 public class BusinessEventsEmissionAutoConfiguration {
     public static final String EXPRESSION_PARSER_BEAN_NAME = "businessEventsExpressionParser";
     public static final String BEAN_RESOLVER_BEAN_NAME = "businessEventsBeanResolver";
+    public static final String ASYNC_EVENT_PUBLISHER_BEAN_NAME = "businessEventsAsyncEventPublisher";
+    public static final String TRANSACTIONAL_EVENT_PUBLISHER_BEAN_NAME = "businessEventsTransactionalEventPublisher";
+    public static final String OUTBOX_EVENT_PUBLISHER_BEAN_NAME = "businessEventsOutboxEventPublisher";
+    public static final String SUBSCRIPTION_REGISTRY_BEAN_NAME = "businessEventsSubscriptionRegistry";
+    private static final String ASYNC_WORKER_THREAD_NAME_PREFIX = "business-events-";
 
     @Bean
     public BusinessEventEmitterAspect businessEventEmitterAspect(
         BusinessEventsFactory businessEventsFactory,
         ApplicationEventPublisher eventPublisher,
+        @Qualifier(ASYNC_EVENT_PUBLISHER_BEAN_NAME) @Autowired(required = false) AsyncBusinessEventPublisher asyncEventPublisher,
+        @Qualifier(TRANSACTIONAL_EVENT_PUBLISHER_BEAN_NAME) @Autowired(required = false) TransactionalBusinessEventPublisher transactionalEventPublisher,
+        @Qualifier(OUTBOX_EVENT_PUBLISHER_BEAN_NAME) @Autowired(required = false) OutboxBusinessEventPublisher outboxEventPublisher,
+        @Qualifier(PRIMARY_DEFERRED_UNWRAPPER_BEAN_NAME) @Autowired(required = false) DeferredEventPayloadUnwrapper deferredEventPayloadUnwrapper,
+        @Qualifier(SUBSCRIPTION_REGISTRY_BEAN_NAME) @Autowired(required = false) BusinessEventSubscriptions subscriptions,
+        @Qualifier(METRICS_BEAN_NAME) @Autowired(required = false) BusinessEventsMetrics metrics,
         BusinessEventsEmissionProperties properties
     ) {
         final var order = properties.getAspect().getOrder();
 
-        return new BusinessEventEmitterAspect(businessEventsFactory, eventPublisher, order);
+        if (outboxEventPublisher != null) {
+            eventPublisher = outboxEventPublisher;
+        } else if (transactionalEventPublisher != null) {
+            eventPublisher = transactionalEventPublisher;
+        } else if (asyncEventPublisher != null) {
+            eventPublisher = asyncEventPublisher;
+        }
+
+        if (deferredEventPayloadUnwrapper == null) {
+            deferredEventPayloadUnwrapper = DeferredEventPayloadUnwrapper.NOOP;
+        }
+
+        if (subscriptions == null) {
+            subscriptions = BusinessEventSubscriptions.ANY;
+        }
+
+        if (metrics == null) {
+            metrics = BusinessEventsMetrics.NOOP;
+        }
+
+        final var streaming = properties.getStreaming();
+
+        return new BusinessEventEmitterAspect(
+            businessEventsFactory,
+            eventPublisher,
+            order,
+            streaming.isEnabled(),
+            streaming.getChunkSize(),
+            deferredEventPayloadUnwrapper,
+            subscriptions,
+            metrics
+        );
+    }
+
+    @Bean(name = TRANSACTIONAL_EVENT_PUBLISHER_BEAN_NAME)
+    @ConditionalOnClass(name = "org.springframework.transaction.support.TransactionSynchronizationManager")
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".transaction.defer-until-commit", havingValue = "true")
+    public TransactionalBusinessEventPublisher businessEventsTransactionalEventPublisher(
+        ApplicationEventPublisher eventPublisher,
+        @Qualifier(ASYNC_EVENT_PUBLISHER_BEAN_NAME) @Autowired(required = false) AsyncBusinessEventPublisher asyncEventPublisher,
+        @Qualifier(APPLICATION_EVENT_MULTICASTER_BEAN_NAME) @Autowired(required = false) ApplicationEventMulticaster eventMulticaster
+    ) {
+        if (asyncEventPublisher != null) {
+            return new TransactionalBusinessEventPublisher(asyncEventPublisher);
+        }
+
+        if (eventMulticaster instanceof BatchEventPublisher batchEventPublisher) {
+            // committed events are multicast in a single pass instead of publishing each through the context
+            return new TransactionalBusinessEventPublisher(eventPublisher, batchEventPublisher);
+        }
+
+        return new TransactionalBusinessEventPublisher(eventPublisher);
+    }
+
+    @Bean(name = ASYNC_EVENT_PUBLISHER_BEAN_NAME)
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".async.enabled", havingValue = "true")
+    public AsyncBusinessEventPublisher businessEventsAsyncEventPublisher(
+        ApplicationEventPublisher eventPublisher,
+        BusinessEventsEmissionProperties properties,
+        @Qualifier(METRICS_BEAN_NAME) @Autowired(required = false) BusinessEventsMetrics metrics
+    ) {
+        final var async = properties.getAsync();
+        final var publisher = new AsyncBusinessEventPublisher(
+            eventPublisher,
+            async.getQueueCapacity(),
+            async.getWorkers(),
+            createAsyncWorkerThreadFactory(async.isVirtualThreads()),
+            async.getOverflowPolicy(),
+            async.getShutdownTimeout()
+        );
+
+        if (metrics != null) {
+            metrics.asyncPublisherCreated(publisher);
+        }
+
+        return publisher;
     }
 
     @Bean
     @ConditionalOnMissingBean
     public BusinessEventsFactory businessEventsFactory(
         @Autowired(required = false) @Qualifier(PRIMARY_UNWRAPPER_BEAN_NAME) EventPayloadUnwrapper eventPayloadUnwrapper,
+        @Autowired(required = false) @Qualifier(SUBSCRIPTION_REGISTRY_BEAN_NAME) BusinessEventSubscriptions subscriptions,
+        @Autowired(required = false) @Qualifier(METRICS_BEAN_NAME) BusinessEventsMetrics metrics,
         BusinessEventFactory businessEventFactory
     ) {
         if (eventPayloadUnwrapper == null) {
             eventPayloadUnwrapper = EventPayloadUnwrapper.NOOP;
         }
 
-        return new BusinessEventsFactoryImpl(eventPayloadUnwrapper, businessEventFactory);
+        if (subscriptions == null) {
+            subscriptions = BusinessEventSubscriptions.ANY;
+        }
+
+        if (metrics == null) {
+            metrics = BusinessEventsMetrics.NOOP;
+        }
+
+        return new BusinessEventsFactoryImpl(eventPayloadUnwrapper, businessEventFactory, subscriptions, metrics);
     }
 
     @Bean
@@ -61,17 +186,76 @@ public class BusinessEventsEmissionAutoConfiguration {
     public BusinessEventFactory businessEventFactory(
         @Qualifier(EXPRESSION_PARSER_BEAN_NAME) @Autowired(required = false) SpelExpressionParser expressionParser,
         @Qualifier(BEAN_RESOLVER_BEAN_NAME) @Autowired(required = false) BeanResolver beanResolver,
-        BeanFactory beanFactory
+        @Qualifier(METRICS_BEAN_NAME) @Autowired(required = false) BusinessEventsMetrics metrics,
+        BeanFactory beanFactory,
+        EventIdGenerator eventIdGenerator,
+        EventClock eventClock,
+        BusinessEventsEmissionProperties properties
     ) {
+        final var spel = properties.getSpel();
+
         if (expressionParser == null) {
-            expressionParser = new SpelExpressionParser();
+            expressionParser = new SpelExpressionParser(new SpelParserConfiguration(spel.getCompilerMode(), null));
         }
 
         if (beanResolver == null) {
             beanResolver = new BeanFactoryResolver(beanFactory);
         }
 
-        return new BusinessEventFactoryImpl(expressionParser, beanResolver);
+        if (metrics == null) {
+            metrics = BusinessEventsMetrics.NOOP;
+        }
+
+        return new BusinessEventFactoryImpl(
+            expressionParser,
+            beanResolver,
+            spel.getExpressionCacheSize(),
+            eventIdGenerator,
+            eventClock,
+            metrics
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EventIdGenerator businessEventsEventIdGenerator(BusinessEventsEmissionProperties properties) {
+        return switch (properties.getId().getGenerator()) {
+            case RANDOM -> new RandomEventIdGenerator();
+            case TIME_ORDERED -> new TimeOrderedEventIdGenerator();
+        };
+    }
+
+    @Bean(name = SUBSCRIPTION_REGISTRY_BEAN_NAME)
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".subscriptions.short-circuit", havingValue = "true")
+    public static BusinessEventSubscriptionRegistry businessEventsSubscriptionRegistry() {
+        return new BusinessEventSubscriptionRegistry();
     }
 
+    @Bean
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".subscriptions.short-circuit", havingValue = "true")
+    public static BusinessEventSubscriptionRegistrar businessEventsSubscriptionRegistrar(
+        ConfigurableListableBeanFactory beanFactory,
+        @Qualifier(SUBSCRIPTION_REGISTRY_BEAN_NAME) BusinessEventSubscriptionRegistry subscriptionRegistry
+    ) {
+        return new BusinessEventSubscriptionRegistrar(beanFactory, subscriptionRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EventClock businessEventsEventClock(BusinessEventsEmissionProperties properties) {
+        final var clock = properties.getClock();
+
+        return switch (clock.getType()) {
+            case SYSTEM -> new SystemEventClock();
+            case TICKING -> new TickingEventClock(Clock.systemDefaultZone(), clock.getTickInterval());
+        };
+    }
+
+    private static ThreadFactory createAsyncWorkerThreadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(ASYNC_WORKER_THREAD_NAME_PREFIX, 0).factory();
+        }
+
+        return Thread.ofPlatform().name(ASYNC_WORKER_THREAD_NAME_PREFIX, 0).daemon().factory();
+    }
 }
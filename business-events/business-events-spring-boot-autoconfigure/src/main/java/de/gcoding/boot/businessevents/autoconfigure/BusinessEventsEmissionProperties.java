@@ -1,7 +1,16 @@
 package de.gcoding.boot.businessevents.autoconfigure;
 
+import de.gcoding.boot.businessevents.emission.BusinessEventFactoryImpl;
+import de.gcoding.boot.businessevents.emission.outbox.JdbcBusinessEventOutbox;
+import de.gcoding.boot.businessevents.emission.outbox.OutboxDialect;
+import de.gcoding.boot.businessevents.emission.outbox.OutboxRelay;
+import de.gcoding.boot.businessevents.emission.publisher.OverflowPolicy;
+import de.gcoding.boot.businessevents.time.TickingEventClock;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.Ordered;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+import java.time.Duration;
 
 import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsEmissionProperties.PROPERTIES_PATH;
 
@@ -35,6 +44,110 @@ public class BusinessEventsEmissionProperties {
         this.aspect = aspect;
     }
 
+    /**
+     * Configuration properties to configure asynchronous event publication
+     */
+    private AsyncProperties async = new AsyncProperties();
+
+    public AsyncProperties getAsync() {
+        return async;
+    }
+
+    public void setAsync(AsyncProperties async) {
+        this.async = async;
+    }
+
+    /**
+     * Configuration properties to configure how events emitted within transactions are published
+     */
+    private TransactionProperties transaction = new TransactionProperties();
+
+    public TransactionProperties getTransaction() {
+        return transaction;
+    }
+
+    public void setTransaction(TransactionProperties transaction) {
+        this.transaction = transaction;
+    }
+
+    /**
+     * Configuration properties to configure the transactional outbox for emitted events
+     */
+    private OutboxProperties outbox = new OutboxProperties();
+
+    public OutboxProperties getOutbox() {
+        return outbox;
+    }
+
+    public void setOutbox(OutboxProperties outbox) {
+        this.outbox = outbox;
+    }
+
+    /**
+     * Configuration properties to configure the evaluation of action expressions
+     */
+    private SpelProperties spel = new SpelProperties();
+
+    public SpelProperties getSpel() {
+        return spel;
+    }
+
+    public void setSpel(SpelProperties spel) {
+        this.spel = spel;
+    }
+
+    /**
+     * Configuration properties to configure streaming emission of events
+     */
+    private StreamingProperties streaming = new StreamingProperties();
+
+    public StreamingProperties getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(StreamingProperties streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Configuration properties to configure the generation of event ids
+     */
+    private IdProperties id = new IdProperties();
+
+    public IdProperties getId() {
+        return id;
+    }
+
+    public void setId(IdProperties id) {
+        this.id = id;
+    }
+
+    /**
+     * Configuration properties to configure the timestamps of emitted events
+     */
+    private ClockProperties clock = new ClockProperties();
+
+    public ClockProperties getClock() {
+        return clock;
+    }
+
+    public void setClock(ClockProperties clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Configuration properties to configure how subscriptions of listeners affect the emission of events
+     */
+    private SubscriptionsProperties subscriptions = new SubscriptionsProperties();
+
+    public SubscriptionsProperties getSubscriptions() {
+        return subscriptions;
+    }
+
+    public void setSubscriptions(SubscriptionsProperties subscriptions) {
+        this.subscriptions = subscriptions;
+    }
+
     public static class AspectProperties {
         /**
          * The order for the {@code @EmitBusinessEvent} annotation. By default, the order is set to the lowest precedence,
@@ -50,4 +163,366 @@ public class BusinessEventsEmissionProperties {
             this.order = order;
         }
     }
+
+    public static class AsyncProperties {
+        /**
+         * If enabled, events emitted through the {@code @EmitBusinessEvent} annotation are handed over to a bounded
+         * queue and published by dedicated worker threads instead of the thread that invoked the annotated method.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of events that can wait in the queue for being published
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * The number of worker threads draining the queue. Events are only guaranteed to be published in the order
+         * they were emitted if a single worker is used.
+         */
+        private int workers = 1;
+
+        /**
+         * Use virtual threads for the workers. If disabled, platform daemon threads are used instead.
+         */
+        private boolean virtualThreads = true;
+
+        /**
+         * What should happen if the queue is full when another event is emitted
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+        /**
+         * The maximum time to wait for queued events to be published when the application shuts down
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public Duration getShutdownTimeout() {
+            return shutdownTimeout;
+        }
+
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+        }
+    }
+
+    public static class TransactionProperties {
+        /**
+         * If enabled, events emitted within a transaction are buffered and only published after the transaction has
+         * been committed successfully. Buffered events are dropped if the transaction is rolled back.
+         */
+        private boolean deferUntilCommit = false;
+
+        public boolean isDeferUntilCommit() {
+            return deferUntilCommit;
+        }
+
+        public void setDeferUntilCommit(boolean deferUntilCommit) {
+            this.deferUntilCommit = deferUntilCommit;
+        }
+    }
+
+    public static class OutboxProperties {
+        /**
+         * If enabled, events emitted through the {@code @EmitBusinessEvent} annotation are written to an outbox table
+         * within the transaction of the annotated method and are published to listeners by a relay afterward. This
+         * guarantees that events survive crashes and are delivered at least once.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The name of the outbox table, optionally qualified by a schema
+         */
+        private String tableName = JdbcBusinessEventOutbox.DEFAULT_TABLE_NAME;
+
+        /**
+         * The SQL dialect used to access the outbox table. Detected from the data source if not set
+         */
+        private OutboxDialect dialect;
+
+        /**
+         * Create the outbox table on startup, unless it exists already. Not supported for the {@code GENERIC}
+         * dialect
+         */
+        private boolean initializeSchema = false;
+
+        /**
+         * Configuration properties to configure the relay publishing events from the outbox
+         */
+        private RelayProperties relay = new RelayProperties();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        public void setTableName(String tableName) {
+            this.tableName = tableName;
+        }
+
+        public OutboxDialect getDialect() {
+            return dialect;
+        }
+
+        public void setDialect(OutboxDialect dialect) {
+            this.dialect = dialect;
+        }
+
+        public boolean isInitializeSchema() {
+            return initializeSchema;
+        }
+
+        public void setInitializeSchema(boolean initializeSchema) {
+            this.initializeSchema = initializeSchema;
+        }
+
+        public RelayProperties getRelay() {
+            return relay;
+        }
+
+        public void setRelay(RelayProperties relay) {
+            this.relay = relay;
+        }
+
+        public static class RelayProperties {
+            /**
+             * If enabled, this application publishes the events stored in the outbox to its listeners. Disable it for
+             * nodes that should only write to the outbox
+             */
+            private boolean enabled = true;
+
+            /**
+             * The maximum number of events claimed, published and marked as processed within one transaction
+             */
+            private int batchSize = 100;
+
+            /**
+             * The interval in which the outbox is polled for pending events
+             */
+            private Duration pollInterval = Duration.ofSeconds(1);
+
+            /**
+             * The number of failed attempts to relay an event after which the event is parked. Parked events are no
+             * longer relayed, so they do not block the events appended after them
+             */
+            private int maxAttempts = OutboxRelay.DEFAULT_MAX_ATTEMPTS;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public Duration getPollInterval() {
+                return pollInterval;
+            }
+
+            public void setPollInterval(Duration pollInterval) {
+                this.pollInterval = pollInterval;
+            }
+
+            public int getMaxAttempts() {
+                return maxAttempts;
+            }
+
+            public void setMaxAttempts(int maxAttempts) {
+                this.maxAttempts = maxAttempts;
+            }
+        }
+    }
+
+    public static class SpelProperties {
+        /**
+         * The compiler mode used for {@code actionSpEL} expressions. Compiled expressions are evaluated considerably
+         * faster. In {@code MIXED} mode, expressions that cannot be compiled are still evaluated in interpreted mode.
+         * Only applies if no custom expression parser is provided.
+         */
+        private SpelCompilerMode compilerMode = SpelCompilerMode.MIXED;
+
+        /**
+         * The maximum number of parsed {@code actionSpEL} expressions to cache
+         */
+        private int expressionCacheSize = BusinessEventFactoryImpl.DEFAULT_EXPRESSION_CACHE_SIZE;
+
+        public SpelCompilerMode getCompilerMode() {
+            return compilerMode;
+        }
+
+        public void setCompilerMode(SpelCompilerMode compilerMode) {
+            this.compilerMode = compilerMode;
+        }
+
+        public int getExpressionCacheSize() {
+            return expressionCacheSize;
+        }
+
+        public void setExpressionCacheSize(int expressionCacheSize) {
+            this.expressionCacheSize = expressionCacheSize;
+        }
+    }
+
+    public static class StreamingProperties {
+        /**
+         * If enabled, events are published while they are created from the return value of an annotated method,
+         * instead of creating all events upfront. This keeps the memory footprint low for methods returning large
+         * collections, but events created before a failing event will already have been published.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The number of events to create before publishing them at once, if streaming is enabled. Publishers capable of
+         * publishing batches, like the asynchronous publisher, hand over each chunk as a single unit of work.
+         */
+        private int chunkSize = 1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    public static class IdProperties {
+        /**
+         * The generator used for the ids of emitted events. {@code RANDOM} generates random UUIDs, while
+         * {@code TIME_ORDERED} generates UUIDs (version 7) that sort by their creation time and can be generated
+         * without contention between threads. Only applies if no custom {@code EventIdGenerator} bean is provided
+         */
+        private Generator generator = Generator.RANDOM;
+
+        public Generator getGenerator() {
+            return generator;
+        }
+
+        public void setGenerator(Generator generator) {
+            this.generator = generator;
+        }
+
+        public enum Generator {
+            RANDOM,
+            TIME_ORDERED
+        }
+    }
+
+    public static class ClockProperties {
+        /**
+         * The clock used for the timestamps of emitted events. {@code SYSTEM} reads the current time for every
+         * event, while {@code TICKING} refreshes a cached timestamp once per tick interval on a background thread
+         * and shares it between all events created within the same tick. Only applies if no custom
+         * {@code EventClock} bean is provided
+         */
+        private Type type = Type.SYSTEM;
+
+        /**
+         * The interval in which the {@code TICKING} clock refreshes its timestamp, which is the precision of the
+         * event timestamps
+         */
+        private Duration tickInterval = TickingEventClock.DEFAULT_TICK_INTERVAL;
+
+        public Type getType() {
+            return type;
+        }
+
+        public void setType(Type type) {
+            this.type = type;
+        }
+
+        public Duration getTickInterval() {
+            return tickInterval;
+        }
+
+        public void setTickInterval(Duration tickInterval) {
+            this.tickInterval = tickInterval;
+        }
+
+        public enum Type {
+            SYSTEM,
+            TICKING
+        }
+    }
+
+    public static class SubscriptionsProperties {
+        /**
+         * If enabled, the payload types and actions that listeners subscribed to are tracked and the emission of
+         * events nobody subscribed to is skipped, including unwrapping and action evaluation. Only
+         * {@code @BusinessEventListener} methods, {@code AbstractBusinessEventEventListener} beans and listeners that
+         * may receive a {@code BusinessEvent} are taken into account
+         */
+        private boolean shortCircuit = false;
+
+        public boolean isShortCircuit() {
+            return shortCircuit;
+        }
+
+        public void setShortCircuit(boolean shortCircuit) {
+            this.shortCircuit = shortCircuit;
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.codec.BusinessEventDataCodec;
+import de.gcoding.boot.businessevents.codec.JavaPayloadSerializer;
+import de.gcoding.boot.businessevents.codec.PayloadSerializer;
+import de.gcoding.boot.businessevents.journal.BusinessEventJournal;
+import de.gcoding.boot.businessevents.journal.BusinessEventJournalListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsJournalProperties.PROPERTIES_PATH;
+
+@AutoConfiguration
+@ConditionalOnProperty(value = PROPERTIES_PATH + ".enabled", havingValue = "true")
+@EnableConfigurationProperties(BusinessEventsJournalProperties.class)
+public class BusinessEventsJournalAutoConfiguration {
+    public static final String JOURNAL_BEAN_NAME = "businessEventsJournal";
+    public static final String JOURNAL_PAYLOAD_SERIALIZER_BEAN_NAME = "businessEventsJournalPayloadSerializer";
+
+    @Bean(name = JOURNAL_BEAN_NAME)
+    @ConditionalOnMissingBean(name = JOURNAL_BEAN_NAME)
+    public BusinessEventJournal businessEventsJournal(
+        @Qualifier(JOURNAL_PAYLOAD_SERIALIZER_BEAN_NAME) @Autowired(required = false) PayloadSerializer payloadSerializer,
+        BusinessEventsJournalProperties properties
+    ) {
+        return new BusinessEventJournal(
+            properties.getDirectory(),
+            new BusinessEventDataCodec(payloadSerializer != null ? payloadSerializer : new JavaPayloadSerializer()),
+            Math.toIntExact(properties.getSegmentSize().toBytes()),
+            properties.getQueueCapacity(),
+            properties.getMaxBatchSize(),
+            properties.getFsyncPolicy(),
+            properties.getFsyncInterval()
+        );
+    }
+
+    @Bean
+    public BusinessEventJournalListener businessEventsJournalListener(
+        @Qualifier(JOURNAL_BEAN_NAME) BusinessEventJournal journal
+    ) {
+        return new BusinessEventJournalListener(journal);
+    }
+}
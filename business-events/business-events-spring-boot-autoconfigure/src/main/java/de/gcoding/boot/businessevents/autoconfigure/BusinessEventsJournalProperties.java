@@ -0,0 +1,108 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.journal.FsyncPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsJournalProperties.PROPERTIES_PATH;
+
+@ConfigurationProperties(PROPERTIES_PATH)
+public class BusinessEventsJournalProperties {
+    public static final String PROPERTIES_PATH = BusinessEventsProperties.PROPERTIES_PATH + ".journal";
+
+    /**
+     * If enabled, every published business event is appended to a local, memory-mapped journal from which events can
+     * be replayed later on
+     */
+    private boolean enabled = false;
+
+    /**
+     * The directory the journal segments are stored in. Created if it does not exist
+     */
+    private Path directory = Path.of("business-events-journal");
+
+    /**
+     * The size of each journal segment. Once a segment is full, a new one is started
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * The maximum number of events waiting to be written. Publishers block while the queue is full
+     */
+    private int queueCapacity = 8192;
+
+    /**
+     * The maximum number of events the writer thread writes at once
+     */
+    private int maxBatchSize = 512;
+
+    /**
+     * Decides when written events are forced to the storage device
+     */
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.INTERVAL;
+
+    /**
+     * The interval in which written events are forced to the storage device if the {@code INTERVAL} fsync policy is
+     * used
+     */
+    private Duration fsyncInterval = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(DataSize segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    public Duration getFsyncInterval() {
+        return fsyncInterval;
+    }
+
+    public void setFsyncInterval(Duration fsyncInterval) {
+        this.fsyncInterval = fsyncInterval;
+    }
+}
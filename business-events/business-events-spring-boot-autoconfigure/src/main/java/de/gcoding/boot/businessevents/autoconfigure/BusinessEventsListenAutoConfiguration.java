@@ -1,23 +1,57 @@
 package de.gcoding.boot.businessevents.autoconfigure;
 
+import de.gcoding.boot.businessevents.listen.BusinessEventApplicationEventMulticaster;
 import de.gcoding.boot.businessevents.listen.BusinessEventListenerFactory;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptionRegistry;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.context.event.EventListenerFactory;
+import org.springframework.context.support.AbstractApplicationContext;
 
+import java.util.concurrent.Executor;
+
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsEmissionAutoConfiguration.SUBSCRIPTION_REGISTRY_BEAN_NAME;
 import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsListenProperties.PROPERTIES_PATH;
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsMetricsAutoConfiguration.METRICS_BEAN_NAME;
 
 @AutoConfiguration
 @ConditionalOnProperty(value = PROPERTIES_PATH + ".enabled", havingValue = "true", matchIfMissing = true)
 @EnableConfigurationProperties(BusinessEventsListenProperties.class)
 public class BusinessEventsListenAutoConfiguration {
     public static final String EVENT_LISTENER_FACTORY_BEAN_NAME = "businessEventsEventListenerFactory";
+    /**
+     * The name of an optional {@link Executor} bean used by asynchronous listeners that do not name an executor bean
+     */
+    public static final String ASYNC_LISTENER_EXECUTOR_BEAN_NAME = "businessEventsAsyncListenerExecutor";
 
     @Bean(name = EVENT_LISTENER_FACTORY_BEAN_NAME)
-    public EventListenerFactory businessEventsEventListenerFactory(BeanFactory beanFactory) {
-        return new BusinessEventListenerFactory(beanFactory);
+    public EventListenerFactory businessEventsEventListenerFactory(
+        BeanFactory beanFactory,
+        @Qualifier(SUBSCRIPTION_REGISTRY_BEAN_NAME) @Autowired(required = false) BusinessEventSubscriptionRegistry subscriptionRegistry,
+        @Qualifier(ASYNC_LISTENER_EXECUTOR_BEAN_NAME) @Autowired(required = false) Executor asyncListenerExecutor,
+        @Qualifier(METRICS_BEAN_NAME) ObjectProvider<BusinessEventsMetrics> metrics
+    ) {
+        return new BusinessEventListenerFactory(
+            beanFactory,
+            subscriptionRegistry != null ? subscriptionRegistry : new BusinessEventSubscriptionRegistry(),
+            asyncListenerExecutor,
+            () -> metrics.getIfAvailable(() -> BusinessEventsMetrics.NOOP)
+        );
+    }
+
+    @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    @ConditionalOnMissingBean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".routing.enabled", havingValue = "true")
+    public static ApplicationEventMulticaster applicationEventMulticaster(BeanFactory beanFactory) {
+        return new BusinessEventApplicationEventMulticaster(beanFactory);
     }
 }
@@ -9,6 +9,7 @@ public class BusinessEventsListenProperties {
     public static final String PROPERTIES_PATH = BusinessEventsProperties.PROPERTIES_PATH + ".listen";
 
     private boolean enabled = true;
+    private RoutingProperties routing = new RoutingProperties();
 
     public boolean isEnabled() {
         return enabled;
@@ -17,4 +18,30 @@ public class BusinessEventsListenProperties {
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    public RoutingProperties getRouting() {
+        return routing;
+    }
+
+    public void setRouting(RoutingProperties routing) {
+        this.routing = routing;
+    }
+
+    public static class RoutingProperties {
+        /**
+         * If enabled, a dedicated application event multicaster is registered that delivers business events only to
+         * the {@code @BusinessEventListener} methods and {@code AbstractBusinessEventEventListener} beans interested
+         * in their payload type and action. Has no effect if the application already defines an
+         * {@code applicationEventMulticaster} bean
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
 }
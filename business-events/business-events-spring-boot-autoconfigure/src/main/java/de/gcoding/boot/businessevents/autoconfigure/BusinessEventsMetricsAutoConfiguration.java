@@ -0,0 +1,59 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.listen.AbstractBusinessEventEventListener;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsProperties.PROPERTIES_PATH;
+
+@AutoConfiguration(afterName = "org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(prefix = PROPERTIES_PATH, name = {"enabled", "metrics.enabled"}, havingValue = "true", matchIfMissing = true)
+public class BusinessEventsMetricsAutoConfiguration {
+    public static final String METRICS_BEAN_NAME = "businessEventsMetrics";
+
+    @Bean(name = METRICS_BEAN_NAME)
+    @ConditionalOnMissingBean(name = METRICS_BEAN_NAME)
+    public BusinessEventsMetrics businessEventsMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerBusinessEventsMetrics(meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor businessEventsListenerMetricsPostProcessor(
+        @Qualifier(METRICS_BEAN_NAME) ObjectProvider<BusinessEventsMetrics> metrics
+    ) {
+        return new ListenerMetricsPostProcessor(metrics);
+    }
+
+    /**
+     * Hands the metrics to all {@link AbstractBusinessEventEventListener} beans
+     */
+    static class ListenerMetricsPostProcessor implements BeanPostProcessor {
+        private final ObjectProvider<BusinessEventsMetrics> metrics;
+
+        ListenerMetricsPostProcessor(ObjectProvider<BusinessEventsMetrics> metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(@Nonnull Object bean, @Nonnull String beanName) {
+            if (bean instanceof AbstractBusinessEventEventListener<?> listener) {
+                metrics.ifAvailable(listener::setBusinessEventsMetrics);
+            }
+
+            return bean;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.codec.JavaPayloadSerializer;
+import de.gcoding.boot.businessevents.codec.PayloadSerializer;
+import de.gcoding.boot.businessevents.emission.outbox.BusinessEventOutbox;
+import de.gcoding.boot.businessevents.emission.outbox.JdbcBusinessEventOutbox;
+import de.gcoding.boot.businessevents.emission.outbox.OutboxBusinessEventPublisher;
+import de.gcoding.boot.businessevents.emission.outbox.OutboxDialect;
+import de.gcoding.boot.businessevents.emission.outbox.OutboxRelay;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsEmissionAutoConfiguration.OUTBOX_EVENT_PUBLISHER_BEAN_NAME;
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsEmissionProperties.PROPERTIES_PATH;
+
+@AutoConfiguration
+@ConditionalOnClass(name = {
+    "org.springframework.jdbc.core.JdbcTemplate",
+    "org.springframework.transaction.support.TransactionSynchronizationManager"
+})
+@ConditionalOnProperty(value = PROPERTIES_PATH + ".outbox.enabled", havingValue = "true")
+public class BusinessEventsOutboxAutoConfiguration {
+    public static final String OUTBOX_BEAN_NAME = "businessEventsOutbox";
+    public static final String OUTBOX_PAYLOAD_SERIALIZER_BEAN_NAME = "businessEventsOutboxPayloadSerializer";
+
+    @Bean(name = OUTBOX_BEAN_NAME)
+    @ConditionalOnMissingBean(name = OUTBOX_BEAN_NAME)
+    public BusinessEventOutbox businessEventsOutbox(
+        DataSource dataSource,
+        @Qualifier(OUTBOX_PAYLOAD_SERIALIZER_BEAN_NAME) @Autowired(required = false) PayloadSerializer payloadSerializer,
+        BusinessEventsEmissionProperties properties
+    ) {
+        final var outboxProperties = properties.getOutbox();
+        var dialect = outboxProperties.getDialect();
+
+        if (payloadSerializer == null) {
+            payloadSerializer = new JavaPayloadSerializer();
+        }
+
+        if (dialect == null) {
+            dialect = JdbcBusinessEventOutbox.detectDialect(dataSource);
+        }
+
+        final var outbox = new JdbcBusinessEventOutbox(
+            new JdbcTemplate(dataSource),
+            payloadSerializer,
+            dialect,
+            outboxProperties.getTableName()
+        );
+
+        if (outboxProperties.isInitializeSchema()) {
+            outbox.createSchema();
+        }
+
+        return outbox;
+    }
+
+    @Bean(name = OUTBOX_EVENT_PUBLISHER_BEAN_NAME)
+    public OutboxBusinessEventPublisher businessEventsOutboxEventPublisher(
+        @Qualifier(OUTBOX_BEAN_NAME) BusinessEventOutbox outbox,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        return new OutboxBusinessEventPublisher(outbox, eventPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay businessEventsOutboxRelay(
+        @Qualifier(OUTBOX_BEAN_NAME) BusinessEventOutbox outbox,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager,
+        BusinessEventsEmissionProperties properties
+    ) {
+        // the relay always publishes synchronously, so events are only marked as processed once listeners handled them
+        final var relay = properties.getOutbox().getRelay();
+
+        return new OutboxRelay(
+            outbox,
+            eventPublisher,
+            new TransactionTemplate(transactionManager),
+            relay.getBatchSize(),
+            relay.getPollInterval(),
+            relay.getMaxAttempts(),
+            OutboxRelay.defaultThreadFactory()
+        );
+    }
+}
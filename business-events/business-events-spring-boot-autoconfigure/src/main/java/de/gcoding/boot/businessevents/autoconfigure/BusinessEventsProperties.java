@@ -14,6 +14,7 @@ public class BusinessEventsProperties {
      * will have no effect
      */
     private boolean enabled = true;
+    private MetricsProperties metrics = new MetricsProperties();
 
     public boolean isEnabled() {
         return enabled;
@@ -22,4 +23,28 @@ public class BusinessEventsProperties {
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    public MetricsProperties getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(MetricsProperties metrics) {
+        this.metrics = metrics;
+    }
+
+    public static class MetricsProperties {
+        /**
+         * If enabled and Micrometer is on the classpath, emitted events, unwrapping, action evaluations and listener
+         * invocations are recorded at the application's {@code MeterRegistry}
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
 }
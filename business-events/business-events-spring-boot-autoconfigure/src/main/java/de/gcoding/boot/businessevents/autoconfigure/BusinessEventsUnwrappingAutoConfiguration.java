@@ -1,10 +1,20 @@
 package de.gcoding.boot.businessevents.autoconfigure;
 
+import de.gcoding.boot.businessevents.emission.unwrapper.ArrayUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.CollectionUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.CompletionStageUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.CompositeDeferredEventPayloadUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.CompositeEventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.DeferredEventPayloadUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.EventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.IterableUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.MapValuesUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.OptionalUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.ReactorUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.SliceUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.StreamUnwrapper;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -20,12 +30,16 @@ import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsUnwrapp
 @EnableConfigurationProperties(BusinessEventsUnwrappingProperties.class)
 public class BusinessEventsUnwrappingAutoConfiguration {
     public static final String PRIMARY_UNWRAPPER_BEAN_NAME = "primaryEventPayloadUnwrapper";
+    public static final String PRIMARY_DEFERRED_UNWRAPPER_BEAN_NAME = "primaryDeferredEventPayloadUnwrapper";
 
     @Primary
     @Bean(name = PRIMARY_UNWRAPPER_BEAN_NAME)
     @ConditionalOnMissingBean(name = PRIMARY_UNWRAPPER_BEAN_NAME)
-    public EventPayloadUnwrapper primaryEventPayloadUnwrapper(List<EventPayloadUnwrapper> unwrapper) {
-        return new CompositeEventPayloadUnwrapper(unwrapper);
+    public EventPayloadUnwrapper primaryEventPayloadUnwrapper(
+        List<EventPayloadUnwrapper> unwrapper,
+        BusinessEventsUnwrappingProperties properties
+    ) {
+        return new CompositeEventPayloadUnwrapper(unwrapper, properties.getMaxDepth());
     }
 
     @Bean
@@ -39,4 +53,55 @@ public class BusinessEventsUnwrappingAutoConfiguration {
     public EventPayloadUnwrapper collectionEventPayloadUnwrapper() {
         return new CollectionUnwrapper();
     }
+
+    @Bean
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".unwrap.arrays", havingValue = "true")
+    public EventPayloadUnwrapper arrayEventPayloadUnwrapper() {
+        return new ArrayUnwrapper();
+    }
+
+    @Bean
+    @ConditionalOnClass(name = "org.springframework.data.domain.Slice")
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".unwrap.slices", havingValue = "true")
+    public EventPayloadUnwrapper sliceEventPayloadUnwrapper() {
+        return new SliceUnwrapper();
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".unwrap.iterables", havingValue = "true")
+    public EventPayloadUnwrapper iterableEventPayloadUnwrapper() {
+        return new IterableUnwrapper();
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".unwrap.maps", havingValue = "true")
+    public EventPayloadUnwrapper mapValuesEventPayloadUnwrapper() {
+        return new MapValuesUnwrapper();
+    }
+
+    @Primary
+    @Bean(name = PRIMARY_DEFERRED_UNWRAPPER_BEAN_NAME)
+    @ConditionalOnMissingBean(name = PRIMARY_DEFERRED_UNWRAPPER_BEAN_NAME)
+    public DeferredEventPayloadUnwrapper primaryDeferredEventPayloadUnwrapper(List<DeferredEventPayloadUnwrapper> unwrapper) {
+        return new CompositeDeferredEventPayloadUnwrapper(unwrapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".unwrap.futures", havingValue = "true", matchIfMissing = true)
+    public DeferredEventPayloadUnwrapper completionStageEventPayloadUnwrapper() {
+        return new CompletionStageUnwrapper();
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".unwrap.streams", havingValue = "true", matchIfMissing = true)
+    public DeferredEventPayloadUnwrapper streamEventPayloadUnwrapper() {
+        return new StreamUnwrapper();
+    }
+
+    @Bean
+    @ConditionalOnClass(name = "reactor.core.publisher.Flux")
+    @ConditionalOnProperty(value = PROPERTIES_PATH + ".unwrap.reactive-types", havingValue = "true", matchIfMissing = true)
+    public DeferredEventPayloadUnwrapper reactorEventPayloadUnwrapper() {
+        return new ReactorUnwrapper();
+    }
 }
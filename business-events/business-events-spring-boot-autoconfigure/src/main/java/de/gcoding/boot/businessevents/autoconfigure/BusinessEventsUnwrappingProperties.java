@@ -15,6 +15,12 @@ public class BusinessEventsUnwrappingProperties {
      */
     private boolean enabled = true;
 
+    /**
+     * The maximum number of times a return value is unwrapped. Increase it to flatten nested return values, e.g. with
+     * a depth of {@code 2}, a {@code Optional<List<T>>} results in an event for each element of the list
+     */
+    private int maxDepth = 1;
+
     /**
      * Used to enable or disable specific payload unwrapper
      */
@@ -28,6 +34,14 @@ public class BusinessEventsUnwrappingProperties {
         this.enabled = enabled;
     }
 
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
     public UnwrapProperties getUnwrap() {
         return unwrap;
     }
@@ -47,6 +61,47 @@ public class BusinessEventsUnwrappingProperties {
          */
         private boolean collections = true;
 
+        /**
+         * Enables or disables unwrapping for object array typed return values
+         */
+        private boolean arrays = false;
+
+        /**
+         * Enables or disables unwrapping for {@code Iterable} typed return values, such as the results of
+         * {@code CrudRepository#saveAll}. Elements are iterated lazily without copying the iterable
+         */
+        private boolean iterables = false;
+
+        /**
+         * Enables or disables unwrapping for {@code Map} typed return values. Events are emitted for each value of
+         * the map
+         */
+        private boolean maps = false;
+
+        /**
+         * Enables or disables unwrapping for Spring Data's {@code Slice} and {@code Page} typed return values.
+         * Events are emitted for each element of the content without copying it
+         */
+        private boolean slices = false;
+
+        /**
+         * Enables or disables unwrapping for {@code CompletionStage} typed return values like
+         * {@code CompletableFuture}. Events are emitted once the future completes successfully
+         */
+        private boolean futures = true;
+
+        /**
+         * Enables or disables unwrapping for {@code Stream} typed return values. Events are emitted for each element
+         * while the stream is consumed by the caller
+         */
+        private boolean streams = true;
+
+        /**
+         * Enables or disables unwrapping for Project Reactor's {@code Mono} and {@code Flux} typed return values.
+         * Events are emitted for each element when it is signalled to a subscriber
+         */
+        private boolean reactiveTypes = true;
+
         public boolean isOptionals() {
             return optionals;
         }
@@ -62,5 +117,61 @@ public class BusinessEventsUnwrappingProperties {
         public void setCollections(boolean collections) {
             this.collections = collections;
         }
+
+        public boolean isArrays() {
+            return arrays;
+        }
+
+        public void setArrays(boolean arrays) {
+            this.arrays = arrays;
+        }
+
+        public boolean isIterables() {
+            return iterables;
+        }
+
+        public void setIterables(boolean iterables) {
+            this.iterables = iterables;
+        }
+
+        public boolean isMaps() {
+            return maps;
+        }
+
+        public void setMaps(boolean maps) {
+            this.maps = maps;
+        }
+
+        public boolean isSlices() {
+            return slices;
+        }
+
+        public void setSlices(boolean slices) {
+            this.slices = slices;
+        }
+
+        public boolean isFutures() {
+            return futures;
+        }
+
+        public void setFutures(boolean futures) {
+            this.futures = futures;
+        }
+
+        public boolean isStreams() {
+            return streams;
+        }
+
+        public void setStreams(boolean streams) {
+            this.streams = streams;
+        }
+
+        public boolean isReactiveTypes() {
+            return reactiveTypes;
+        }
+
+        public void setReactiveTypes(boolean reactiveTypes) {
+            this.reactiveTypes = reactiveTypes;
+        }
     }
 }
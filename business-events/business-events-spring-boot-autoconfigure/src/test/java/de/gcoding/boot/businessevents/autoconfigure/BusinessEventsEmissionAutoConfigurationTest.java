@@ -9,14 +9,28 @@ import de.gcoding.boot.businessevents.emission.BusinessEventsFactory;
 import de.gcoding.boot.businessevents.emission.BusinessEventsFactoryImpl;
 import de.gcoding.boot.businessevents.emission.aspect.BusinessEventEmitterAspect;
 import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.emission.publisher.AsyncBusinessEventPublisher;
+import de.gcoding.boot.businessevents.emission.publisher.OverflowPolicy;
+import de.gcoding.boot.businessevents.emission.publisher.TransactionalBusinessEventPublisher;
+import de.gcoding.boot.businessevents.emission.unwrapper.CompositeDeferredEventPayloadUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.CompositeEventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.DeferredEventPayloadUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.EventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.id.EventIdGenerator;
+import de.gcoding.boot.businessevents.id.RandomEventIdGenerator;
+import de.gcoding.boot.businessevents.id.TimeOrderedEventIdGenerator;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptionRegistry;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptions;
+import de.gcoding.boot.businessevents.time.EventClock;
+import de.gcoding.boot.businessevents.time.SystemEventClock;
+import de.gcoding.boot.businessevents.time.TickingEventClock;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -24,12 +38,19 @@ import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.Ordered;
 import org.springframework.expression.BeanResolver;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsEmissionAutoConfiguration.ASYNC_EVENT_PUBLISHER_BEAN_NAME;
 import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsEmissionAutoConfiguration.BEAN_RESOLVER_BEAN_NAME;
 import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsEmissionAutoConfiguration.EXPRESSION_PARSER_BEAN_NAME;
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsEmissionAutoConfiguration.TRANSACTIONAL_EVENT_PUBLISHER_BEAN_NAME;
 import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsUnwrappingAutoConfiguration.PRIMARY_UNWRAPPER_BEAN_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -107,6 +128,78 @@ class BusinessEventsEmissionAutoConfigurationTest {
             .hasFieldOrPropertyWithValue("order", order));
     }
 
+    @Test
+    void whenStreamingIsEnabledItIsUsedInAspectBean() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.streaming.enabled=true",
+            "gcoding.business-events.emission.streaming.chunk-size=100"
+        ).run(context -> assertThat(context)
+            .getBean(BusinessEventEmitterAspect.class)
+            .hasFieldOrPropertyWithValue("streaming", true)
+            .hasFieldOrPropertyWithValue("chunkSize", 100));
+    }
+
+    @Test
+    void whenAsyncIsNotEnabledNoAsyncPublisherIsAvailable() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(AsyncBusinessEventPublisher.class);
+
+            assertThat(context)
+                .getBean(BusinessEventEmitterAspect.class)
+                .extracting("eventPublisher")
+                .isNotInstanceOf(AsyncBusinessEventPublisher.class);
+        });
+    }
+
+    @Test
+    void whenAsyncIsEnabledAsyncPublisherIsUsedByAspect() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.async.enabled=true",
+            "gcoding.business-events.emission.async.queue-capacity=42",
+            "gcoding.business-events.emission.async.overflow-policy=drop-oldest"
+        ).run(context -> {
+            final var asyncPublisher = context.getBean(ASYNC_EVENT_PUBLISHER_BEAN_NAME, AsyncBusinessEventPublisher.class);
+
+            assertThat(asyncPublisher.getQueueCapacity()).isEqualTo(42);
+            assertThat(asyncPublisher.getOverflowPolicy()).isEqualTo(OverflowPolicy.DROP_OLDEST);
+
+            assertThat(context)
+                .getBean(BusinessEventEmitterAspect.class)
+                .extracting("eventPublisher")
+                .isSameAs(asyncPublisher);
+        });
+    }
+
+    @Test
+    void whenDeferUntilCommitIsNotEnabledNoTransactionalPublisherIsAvailable() {
+        contextRunner.run(context -> assertThat(context)
+            .doesNotHaveBean(TransactionalBusinessEventPublisher.class));
+    }
+
+    @Test
+    void whenDeferUntilCommitIsEnabledTransactionalPublisherIsUsedByAspect() {
+        contextRunner.withPropertyValues("gcoding.business-events.emission.transaction.defer-until-commit=true")
+            .run(context -> {
+                final var transactionalPublisher = context.getBean(TRANSACTIONAL_EVENT_PUBLISHER_BEAN_NAME, TransactionalBusinessEventPublisher.class);
+
+                assertThat(context)
+                    .getBean(BusinessEventEmitterAspect.class)
+                    .extracting("eventPublisher")
+                    .isSameAs(transactionalPublisher);
+            });
+    }
+
+    @Test
+    void whenDeferUntilCommitAndAsyncAreEnabledTransactionalPublisherDelegatesToAsyncPublisher() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.transaction.defer-until-commit=true",
+            "gcoding.business-events.emission.async.enabled=true"
+        ).run(context -> assertThat(context)
+            .getBean(TransactionalBusinessEventPublisher.class)
+            .extracting("delegate")
+            .isSameAs(context.getBean(AsyncBusinessEventPublisher.class)));
+    }
+
     @Test
     void whenCustomBusinessEventsFactoryIsSpecifiedItIsUsedInstead() {
         contextRunner.withBean(BusinessEventsFactory.class, CustomEventsFactory::new).run(context -> {
@@ -158,6 +251,118 @@ class BusinessEventsEmissionAutoConfigurationTest {
                 .isEqualTo(EventPayloadUnwrapper.NOOP));
     }
 
+    @Test
+    void whenEnabledAspectUsesPrimaryDeferredUnwrapper() {
+        contextRunner.run(context -> assertThat(context)
+            .getBean(BusinessEventEmitterAspect.class)
+            .extracting("deferredEventPayloadUnwrapper")
+            .isInstanceOf(CompositeDeferredEventPayloadUnwrapper.class));
+    }
+
+    @Test
+    void whenUnwrappingIsDisabledANoopDeferredUnwrapperIsUsedByAspect() {
+        contextRunner.withPropertyValues("gcoding.business-events.emission.unwrapping.enabled=false")
+            .run(context -> assertThat(context)
+                .doesNotHaveBean(DeferredEventPayloadUnwrapper.class)
+                .getBean(BusinessEventEmitterAspect.class)
+                .extracting("deferredEventPayloadUnwrapper")
+                .isEqualTo(DeferredEventPayloadUnwrapper.NOOP));
+    }
+
+    @Test
+    void whenNoIdGeneratorIsSpecifiedRandomIdsAreUsed() {
+        contextRunner.run(context -> assertThat(context)
+            .getBean(BusinessEventFactory.class)
+            .extracting("eventIdGenerator")
+            .isInstanceOf(RandomEventIdGenerator.class));
+    }
+
+    @Test
+    void whenTimeOrderedIdGeneratorIsSpecifiedItIsUsedInBusinessEventFactory() {
+        contextRunner.withPropertyValues("gcoding.business-events.emission.id.generator=time-ordered")
+            .run(context -> assertThat(context)
+                .getBean(BusinessEventFactory.class)
+                .extracting("eventIdGenerator")
+                .isInstanceOf(TimeOrderedEventIdGenerator.class));
+    }
+
+    @Test
+    void whenCustomIdGeneratorIsPresentItIsUsedInBusinessEventFactory() {
+        final EventIdGenerator customGenerator = UUID::randomUUID;
+
+        contextRunner.withBean(EventIdGenerator.class, () -> customGenerator)
+            .run(context -> assertThat(context)
+                .getBean(BusinessEventFactory.class)
+                .extracting("eventIdGenerator")
+                .isSameAs(customGenerator));
+    }
+
+    @Test
+    void whenShortCircuitIsNotEnabledEventsAreEmittedRegardlessOfSubscriptions() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(BusinessEventSubscriptionRegistry.class);
+            assertThat(context).getBean(BusinessEventEmitterAspect.class)
+                .extracting("subscriptions")
+                .isSameAs(BusinessEventSubscriptions.ANY);
+        });
+    }
+
+    @Test
+    void whenShortCircuitIsEnabledSubscriptionRegistryIsUsedAndActivated() {
+        contextRunner.withPropertyValues("gcoding.business-events.emission.subscriptions.short-circuit=true")
+            .run(context -> {
+                final var registry = context.getBean(BusinessEventSubscriptionRegistry.class);
+
+                assertThat(registry.isActive()).isTrue();
+                assertThat(context).getBean(BusinessEventEmitterAspect.class)
+                    .extracting("subscriptions")
+                    .isSameAs(registry);
+                assertThat(context).getBean(BusinessEventsFactory.class)
+                    .extracting("subscriptions")
+                    .isSameAs(registry);
+            });
+    }
+
+    @Test
+    void whenNoEventClockIsSpecifiedSystemClockIsUsed() {
+        contextRunner.run(context -> assertThat(context)
+            .getBean(BusinessEventFactory.class)
+            .extracting("eventClock")
+            .isInstanceOf(SystemEventClock.class));
+    }
+
+    @Test
+    void whenTickingEventClockIsSpecifiedItIsUsedInBusinessEventFactory() {
+        contextRunner.withPropertyValues("gcoding.business-events.emission.clock.type=ticking")
+            .run(context -> assertThat(context)
+                .getBean(BusinessEventFactory.class)
+                .extracting("eventClock")
+                .isInstanceOf(TickingEventClock.class));
+    }
+
+    @Test
+    void whenContextIsClosedTickingEventClockIsClosed() {
+        final var eventClock = new AtomicReference<EventClock>();
+
+        contextRunner.withPropertyValues("gcoding.business-events.emission.clock.type=ticking")
+            .run(context -> eventClock.set(context.getBean(EventClock.class)));
+
+        assertThat(eventClock.get())
+            .extracting("ticker", InstanceOfAssertFactories.type(ExecutorService.class))
+            .returns(true, ExecutorService::isShutdown);
+    }
+
+    @Test
+    void whenCustomEventClockIsPresentItIsUsedInBusinessEventFactory() {
+        final EventClock customClock = ZonedDateTime::now;
+
+        contextRunner.withBean(EventClock.class, () -> customClock)
+            .run(context -> assertThat(context)
+                .getBean(BusinessEventFactory.class)
+                .extracting("eventClock")
+                .isSameAs(customClock));
+    }
+
     @Test
     void whenEnabledBusinessEventFactoryBeanIsAvailableAndConfiguredProperly() {
         contextRunner.run(context -> {
@@ -175,6 +380,32 @@ class BusinessEventsEmissionAutoConfigurationTest {
         });
     }
 
+    @Test
+    void whenNoCompilerModeIsSpecifiedDefaultParserUsesMixedMode() {
+        contextRunner.run(context -> assertThat(context)
+            .getBean(BusinessEventFactory.class)
+            .extracting("parser.configuration.compilerMode")
+            .isEqualTo(SpelCompilerMode.MIXED));
+    }
+
+    @Test
+    void whenSpelPropertiesAreSpecifiedTheyAreUsedInBusinessEventFactory() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.spel.compiler-mode=off",
+            "gcoding.business-events.emission.spel.expression-cache-size=8"
+        ).run(context -> {
+            final var beanAssertions = assertThat(context).getBean(BusinessEventFactory.class);
+
+            beanAssertions
+                .extracting("parser.configuration.compilerMode")
+                .isEqualTo(SpelCompilerMode.OFF);
+
+            beanAssertions
+                .extracting("expressionCache.maxSize")
+                .isEqualTo(8);
+        });
+    }
+
     @Test
     void whenCustomExpressionParserIsPresentWithSpecificBeanNameItWillBeUsedAccordingly() {
         contextRunner.withBean(EXPRESSION_PARSER_BEAN_NAME, SpelExpressionParser.class, CustomExpressionParser::new)
@@ -0,0 +1,93 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.codec.JavaPayloadSerializer;
+import de.gcoding.boot.businessevents.codec.PayloadSerializer;
+import de.gcoding.boot.businessevents.journal.BusinessEventJournal;
+import de.gcoding.boot.businessevents.journal.BusinessEventJournalListener;
+import de.gcoding.boot.businessevents.journal.FsyncPolicy;
+import de.gcoding.boot.businessevents.journal.JournalReplayStart;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsJournalAutoConfiguration.JOURNAL_PAYLOAD_SERIALIZER_BEAN_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessEventsJournalAutoConfigurationTest {
+    final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            BusinessEventsAutoConfiguration.class,
+            AopAutoConfiguration.class
+        ));
+    @TempDir
+    Path directory;
+
+    @Test
+    void whenJournalIsNotEnabledNoJournalIsAvailable() {
+        contextRunner.run(context -> assertThat(context)
+            .doesNotHaveBean(BusinessEventsJournalAutoConfiguration.class)
+            .doesNotHaveBean(BusinessEventJournal.class)
+            .doesNotHaveBean(BusinessEventJournalListener.class));
+    }
+
+    @Test
+    void whenJournalIsEnabledJournalIsConfiguredFromProperties() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.journal.enabled=true",
+            "gcoding.business-events.journal.directory=" + directory,
+            "gcoding.business-events.journal.segment-size=1MB",
+            "gcoding.business-events.journal.fsync-policy=every-batch"
+        ).run(context -> {
+            assertThat(context).hasSingleBean(BusinessEventJournalListener.class);
+            assertThat(context).getBean(BusinessEventJournal.class)
+                .satisfies(journal -> assertThat(journal.getDirectory()).isEqualTo(directory))
+                .hasFieldOrPropertyWithValue("segmentSize", 1024 * 1024)
+                .hasFieldOrPropertyWithValue("fsyncPolicy", FsyncPolicy.EVERY_BATCH)
+                .extracting("codec.payloadSerializer")
+                .isInstanceOf(JavaPayloadSerializer.class);
+        });
+    }
+
+    @Test
+    void whenCustomPayloadSerializerIsSpecifiedItIsUsedByJournal() {
+        contextRunner.withBean(JOURNAL_PAYLOAD_SERIALIZER_BEAN_NAME, PayloadSerializer.class, CustomPayloadSerializer::new)
+            .withPropertyValues(
+                "gcoding.business-events.journal.enabled=true",
+                "gcoding.business-events.journal.directory=" + directory
+            ).run(context -> assertThat(context)
+                .getBean(BusinessEventJournal.class)
+                .extracting("codec.payloadSerializer")
+                .isInstanceOf(CustomPayloadSerializer.class));
+    }
+
+    @Test
+    void whenJournalIsEnabledPublishedEventsAreJournaled() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.journal.enabled=true",
+            "gcoding.business-events.journal.directory=" + directory
+        ).run(context -> {
+            final var eventData = new BusinessEventData(UUID.randomUUID(), "payload", "CREATED", ZonedDateTime.now(), Map.of());
+            final var journal = context.getBean(BusinessEventJournal.class);
+            final var replayed = new ArrayList<BusinessEventData>();
+
+            context.publishEvent(new BusinessEvent(this, eventData));
+            journal.flush();
+            journal.replay(JournalReplayStart.beginning(), replayed::add);
+
+            assertThat(replayed).containsExactly(eventData);
+        });
+    }
+
+    static class CustomPayloadSerializer extends JavaPayloadSerializer {
+    }
+}
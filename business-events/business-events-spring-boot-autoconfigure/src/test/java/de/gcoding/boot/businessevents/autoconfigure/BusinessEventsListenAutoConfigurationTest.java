@@ -1,12 +1,30 @@
 package de.gcoding.boot.businessevents.autoconfigure;
 
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.listen.BusinessEventApplicationEventMulticaster;
+import de.gcoding.boot.businessevents.listen.BusinessEventListener;
 import de.gcoding.boot.businessevents.listen.BusinessEventListenerFactory;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptionRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.EventListenerFactory;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsListenAutoConfiguration.ASYNC_LISTENER_EXECUTOR_BEAN_NAME;
 import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsListenAutoConfiguration.EVENT_LISTENER_FACTORY_BEAN_NAME;
+import static org.springframework.context.support.AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class BusinessEventsListenAutoConfigurationTest {
@@ -49,4 +67,146 @@ class BusinessEventsListenAutoConfigurationTest {
         contextRunner.withPropertyValues("gcoding.business-events.listen.enabled=false").run(context -> assertThat(context)
             .doesNotHaveBean(EVENT_LISTENER_FACTORY_BEAN_NAME));
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenShortCircuitIsEnabledListenerSubscriptionsAreRegistered() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(BusinessEventsAutoConfiguration.class, AopAutoConfiguration.class))
+            .withPropertyValues("gcoding.business-events.emission.subscriptions.short-circuit=true")
+            .withBean(StringListener.class)
+            .run(context -> assertThat(context.getBean(BusinessEventSubscriptionRegistry.class).getSubscriptions())
+                .containsExactly(new BusinessEventSubscriptionRegistry.Subscription(String.class, Set.of(EventActions.CREATE))));
+    }
+
+    @Test
+    void whenShortCircuitIsEnabledEventsAreEmittedForLambdaListenerBeans() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(BusinessEventsAutoConfiguration.class, AopAutoConfiguration.class))
+            .withPropertyValues("gcoding.business-events.emission.subscriptions.short-circuit=true")
+            .withUserConfiguration(LambdaListenerConfiguration.class)
+            .withBean(Emitter.class)
+            .run(context -> {
+                context.getBean(Emitter.class).emit();
+
+                assertThat(context.getBean(BusinessEventSubscriptionRegistry.class).isActive()).isTrue();
+                assertThat(context.getBean(LambdaListenerConfiguration.class).received).containsExactly("payload");
+            });
+    }
+
+    @Test
+    void whenRoutingIsNotEnabledDefaultMulticasterIsUsed() {
+        contextRunner.run(context -> assertThat(context.getBean(APPLICATION_EVENT_MULTICASTER_BEAN_NAME))
+            .isNotInstanceOf(BusinessEventApplicationEventMulticaster.class));
+    }
+
+    @Test
+    void whenRoutingIsEnabledBusinessEventMulticasterIsUsed() {
+        contextRunner.withPropertyValues("gcoding.business-events.listen.routing.enabled=true").run(context -> assertThat(context)
+            .getBean(APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+            .isInstanceOf(BusinessEventApplicationEventMulticaster.class));
+    }
+
+    @Test
+    void whenRoutingIsEnabledButMulticasterIsDefinedByApplicationItIsKept() {
+        contextRunner.withPropertyValues("gcoding.business-events.listen.routing.enabled=true")
+            .withBean(APPLICATION_EVENT_MULTICASTER_BEAN_NAME, SimpleApplicationEventMulticaster.class)
+            .run(context -> assertThat(context.getBean(APPLICATION_EVENT_MULTICASTER_BEAN_NAME))
+                .isExactlyInstanceOf(SimpleApplicationEventMulticaster.class));
+    }
+
+    @Test
+    void whenRoutingIsEnabledEventsAreDeliveredToMatchingListenersOnly() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(BusinessEventsAutoConfiguration.class, AopAutoConfiguration.class))
+            .withPropertyValues("gcoding.business-events.listen.routing.enabled=true")
+            .withBean(StringListener.class)
+            .run(context -> {
+                context.publishEvent(BusinessEvent.withPayload("created").action(EventActions.CREATE).build(this));
+                context.publishEvent(BusinessEvent.withPayload("updated").action(EventActions.UPDATE).build(this));
+                context.publishEvent(BusinessEvent.withPayload(42).action(EventActions.CREATE).build(this));
+
+                assertThat(context.getBean(StringListener.class).received).containsExactly("created");
+            });
+    }
+
+    @Test
+    void whenAsyncListenerExecutorIsDefinedAsyncListenersUseIt() {
+        final var executedTasks = new ArrayList<Runnable>();
+
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(BusinessEventsAutoConfiguration.class, AopAutoConfiguration.class))
+            .withBean(ASYNC_LISTENER_EXECUTOR_BEAN_NAME, Executor.class, () -> task -> {
+                executedTasks.add(task);
+                task.run();
+            })
+            .withBean(AsyncStringListener.class)
+            .run(context -> {
+                context.publishEvent(BusinessEvent.withPayload("payload").build(this));
+
+                assertThat(executedTasks).hasSize(1);
+                assertThat(context.getBean(AsyncStringListener.class).received).containsExactly("payload");
+            });
+    }
+
+    @Test
+    void whenContextIsClosedPendingMicroBatchesAreFlushed() {
+        final var listener = new MicroBatchingListener();
+
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(BusinessEventsAutoConfiguration.class, AopAutoConfiguration.class))
+            .withBean(MicroBatchingListener.class, () -> listener)
+            .run(context -> {
+                for (var i = 0; i < 3; i++) {
+                    context.publishEvent(BusinessEvent.withPayload("payload-" + i).build(this));
+                }
+
+                assertThat(listener.batches).containsExactly(List.of("payload-0", "payload-1"));
+            });
+
+        assertThat(listener.batches).containsExactly(List.of("payload-0", "payload-1"), List.of("payload-2"));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    public static class LambdaListenerConfiguration {
+        final List<Object> received = new ArrayList<>();
+
+        @Bean
+        public ApplicationListener<BusinessEvent> lambdaListener() {
+            return event -> received.add(event.getPayload());
+        }
+    }
+
+    public static class Emitter {
+        @EmitBusinessEvent
+        public String emit() {
+            return "payload";
+        }
+    }
+
+    public static class MicroBatchingListener {
+        final List<List<String>> batches = new ArrayList<>();
+
+        @BusinessEventListener(payloadType = String.class, maxBatchSize = 2, maxLatency = "1h")
+        public void onEvents(List<String> payloads) {
+            batches.add(payloads);
+        }
+    }
+
+    public static class AsyncStringListener {
+        final List<String> received = new ArrayList<>();
+
+        @BusinessEventListener(payloadType = String.class, async = true)
+        public void onEvent(String payload) {
+            received.add(payload);
+        }
+    }
+
+    public static class StringListener {
+        final List<String> received = new ArrayList<>();
+
+        @BusinessEventListener(payloadType = String.class, actions = EventActions.CREATE)
+        public void onCreate(String payload) {
+            received.add(payload);
+        }
+    }
+}
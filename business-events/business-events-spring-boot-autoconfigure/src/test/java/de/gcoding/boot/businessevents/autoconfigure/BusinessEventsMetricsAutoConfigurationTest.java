@@ -0,0 +1,163 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.listen.AbstractBusinessEventEventListener;
+import de.gcoding.boot.businessevents.listen.BusinessEventListener;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsMetricsAutoConfiguration.METRICS_BEAN_NAME;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.ACTION_EVALUATION;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.ASYNC_QUEUE_CAPACITY;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.ASYNC_QUEUE_DEPTH;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.ASYNC_REJECTED;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.EVENTS_EMITTED;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.LISTENER_BATCH_FAILURES;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.LISTENER_BATCH_PENDING;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.LISTENER_INVOCATIONS;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.UNWRAP_FAN_OUT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessEventsMetricsAutoConfigurationTest {
+    final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            BusinessEventsAutoConfiguration.class,
+            BusinessEventsMetricsAutoConfiguration.class,
+            AopAutoConfiguration.class
+        ));
+
+    @Test
+    void whenMeterRegistryIsAvailableMetricsAreAvailable() {
+        contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new).run(context -> assertThat(context)
+            .getBean(METRICS_BEAN_NAME, BusinessEventsMetrics.class)
+            .isInstanceOf(MicrometerBusinessEventsMetrics.class));
+    }
+
+    @Test
+    void whenNoMeterRegistryIsAvailableMetricsAreNotAvailable() {
+        contextRunner.run(context -> assertThat(context)
+            .doesNotHaveBean(BusinessEventsMetricsAutoConfiguration.class)
+            .doesNotHaveBean(BusinessEventsMetrics.class));
+    }
+
+    @Test
+    void whenMetricsAreDisabledMetricsAreNotAvailable() {
+        contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues("gcoding.business-events.metrics.enabled=false")
+            .run(context -> assertThat(context)
+                .doesNotHaveBean(BusinessEventsMetricsAutoConfiguration.class)
+                .doesNotHaveBean(BusinessEventsMetrics.class));
+    }
+
+    @Test
+    void whenMicrometerIsNotOnClasspathMetricsAreNotAvailable() {
+        contextRunner.withClassLoader(new FilteredClassLoader("io.micrometer.core"))
+            .run(context -> assertThat(context)
+                .hasNotFailed()
+                .doesNotHaveBean(BusinessEventsMetricsAutoConfiguration.class));
+    }
+
+    @Test
+    void whenCustomMetricsAreDefinedTheyAreUsed() {
+        contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(METRICS_BEAN_NAME, BusinessEventsMetrics.class, () -> BusinessEventsMetrics.NOOP)
+            .run(context -> assertThat(context)
+                .getBean(METRICS_BEAN_NAME, BusinessEventsMetrics.class)
+                .isSameAs(BusinessEventsMetrics.NOOP));
+    }
+
+    @Test
+    void whenMetricsAreAvailableEmissionAndListenersAreRecorded() {
+        contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(Emitter.class)
+            .withBean(StringListener.class)
+            .withBean(CreatedListener.class)
+            .run(context -> {
+                context.getBean(Emitter.class).emit();
+
+                final var registry = context.getBean(MeterRegistry.class);
+
+                assertThat(registry.get(EVENTS_EMITTED).tag("payload.type", String.class.getName()).tag("action", "CREATE")
+                    .counter().count()).isEqualTo(2);
+                assertThat(registry.get(UNWRAP_FAN_OUT).summary().totalAmount()).isEqualTo(2);
+                assertThat(registry.get(ACTION_EVALUATION).timer().count()).isEqualTo(2);
+                assertThat(registry.get(LISTENER_INVOCATIONS).tag("listener", StringListener.class.getName() + "#onEvent")
+                    .tag("outcome", "success").timer().count()).isEqualTo(2);
+                assertThat(registry.get(LISTENER_INVOCATIONS).tag("listener", CreatedListener.class.getName())
+                    .tag("outcome", "success").timer().count()).isEqualTo(2);
+            });
+    }
+
+    @Test
+    void whenAsyncIsEnabledTheQueueOfThePublisherIsObserved() {
+        contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                "gcoding.business-events.emission.async.enabled=true",
+                "gcoding.business-events.emission.async.queue-capacity=42"
+            )
+            .run(context -> {
+                final var registry = context.getBean(MeterRegistry.class);
+
+                assertThat(registry.get(ASYNC_QUEUE_DEPTH).gauge().value()).isZero();
+                assertThat(registry.get(ASYNC_QUEUE_CAPACITY).gauge().value()).isEqualTo(42);
+                assertThat(registry.get(ASYNC_REJECTED).functionCounter().count()).isZero();
+            });
+    }
+
+    @Test
+    void whenListenerBatchesEventsItsPendingAndFailedBatchesAreObserved() {
+        contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(Emitter.class)
+            .withBean(BatchingListener.class)
+            .run(context -> {
+                context.getBean(Emitter.class).emit();
+
+                final var registry = context.getBean(MeterRegistry.class);
+                final var listenerName = BatchingListener.class.getName() + "#onEvents";
+
+                assertThat(registry.get(LISTENER_BATCH_PENDING).tag("listener", listenerName).gauge().value())
+                    .isEqualTo(2);
+                assertThat(registry.get(LISTENER_BATCH_FAILURES).tag("listener", listenerName).functionCounter()
+                    .count()).isZero();
+            });
+    }
+
+    public static class Emitter {
+        @EmitBusinessEvent(actionSpEL = "'CREATE'")
+        public List<String> emit() {
+            return List.of("first", "second");
+        }
+    }
+
+    public static class StringListener {
+        @BusinessEventListener(payloadType = String.class)
+        public void onEvent(String payload) {
+        }
+    }
+
+    public static class CreatedListener extends AbstractBusinessEventEventListener<String> {
+        public CreatedListener() {
+            super(String.class);
+        }
+
+        @Override
+        protected void onCreate(String entity, BusinessEvent event) {
+        }
+    }
+
+    public static class BatchingListener {
+        @BusinessEventListener(payloadType = String.class, maxBatchSize = 10, maxLatency = "1h")
+        public void onEvents(List<String> payloads) {
+        }
+    }
+}
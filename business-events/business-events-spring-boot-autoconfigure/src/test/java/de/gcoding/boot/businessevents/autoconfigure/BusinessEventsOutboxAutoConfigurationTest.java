@@ -0,0 +1,178 @@
+package de.gcoding.boot.businessevents.autoconfigure;
+
+import de.gcoding.boot.businessevents.codec.JavaPayloadSerializer;
+import de.gcoding.boot.businessevents.codec.PayloadSerializer;
+import de.gcoding.boot.businessevents.emission.aspect.BusinessEventEmitterAspect;
+import de.gcoding.boot.businessevents.emission.outbox.BusinessEventOutbox;
+import de.gcoding.boot.businessevents.emission.outbox.JdbcBusinessEventOutbox;
+import de.gcoding.boot.businessevents.emission.outbox.OutboxBusinessEventPublisher;
+import de.gcoding.boot.businessevents.emission.outbox.OutboxDialect;
+import de.gcoding.boot.businessevents.emission.outbox.OutboxRelay;
+import de.gcoding.boot.businessevents.emission.publisher.AsyncBusinessEventPublisher;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsOutboxAutoConfiguration.OUTBOX_PAYLOAD_SERIALIZER_BEAN_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessEventsOutboxAutoConfigurationTest {
+    final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            BusinessEventsEmissionAutoConfiguration.class,
+            AopAutoConfiguration.class
+        ))
+        .withUserConfiguration(DatabaseConfiguration.class);
+
+    @Test
+    void whenOutboxIsNotEnabledNoOutboxIsAvailable() {
+        contextRunner.run(context -> assertThat(context)
+            .doesNotHaveBean(BusinessEventsOutboxAutoConfiguration.class)
+            .doesNotHaveBean(BusinessEventOutbox.class)
+            .doesNotHaveBean(OutboxBusinessEventPublisher.class)
+            .doesNotHaveBean(OutboxRelay.class));
+    }
+
+    @Test
+    void whenJdbcIsNotOnClasspathNoOutboxIsAvailable() {
+        contextRunner.withClassLoader(new FilteredClassLoader("org.springframework.jdbc"))
+            .withPropertyValues("gcoding.business-events.emission.outbox.enabled=true")
+            .run(context -> assertThat(context).doesNotHaveBean(BusinessEventsOutboxAutoConfiguration.class));
+    }
+
+    @Test
+    void whenOutboxIsEnabledOutboxPublisherIsUsedByAspect() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.outbox.enabled=true",
+            "gcoding.business-events.emission.transaction.defer-until-commit=true"
+        ).run(context -> assertThat(context)
+            .getBean(BusinessEventEmitterAspect.class)
+            .extracting("eventPublisher")
+            .isSameAs(context.getBean(OutboxBusinessEventPublisher.class)));
+    }
+
+    @Test
+    void whenOutboxIsEnabledOutboxIsConfiguredFromProperties() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.outbox.enabled=true",
+            "gcoding.business-events.emission.outbox.table-name=custom_outbox",
+            "gcoding.business-events.emission.outbox.dialect=generic"
+        ).run(context -> assertThat(context)
+            .getBean(BusinessEventOutbox.class)
+            .isInstanceOfSatisfying(JdbcBusinessEventOutbox.class, outbox -> {
+                assertThat(outbox.getTableName()).isEqualTo("custom_outbox");
+                assertThat(outbox.getDialect()).isEqualTo(OutboxDialect.GENERIC);
+            })
+            .extracting("payloadSerializer")
+            .isInstanceOf(JavaPayloadSerializer.class));
+    }
+
+    @Test
+    void whenNoDialectIsConfiguredItIsDetectedFromDataSource() {
+        contextRunner.withPropertyValues("gcoding.business-events.emission.outbox.enabled=true")
+            .run(context -> assertThat(context)
+                .getBean(JdbcBusinessEventOutbox.class)
+                .extracting(JdbcBusinessEventOutbox::getDialect)
+                .isEqualTo(OutboxDialect.H2));
+    }
+
+    @Test
+    void whenInitializeSchemaIsEnabledOutboxTableIsCreated() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.outbox.enabled=true",
+            "gcoding.business-events.emission.outbox.initialize-schema=true"
+        ).run(context -> assertThat(context.getBean(BusinessEventOutbox.class).countPending()).isZero());
+    }
+
+    @Test
+    void whenCustomPayloadSerializerIsSpecifiedItIsUsedByOutbox() {
+        contextRunner.withPropertyValues("gcoding.business-events.emission.outbox.enabled=true")
+            .withBean(OUTBOX_PAYLOAD_SERIALIZER_BEAN_NAME, PayloadSerializer.class, CustomPayloadSerializer::new)
+            .run(context -> assertThat(context)
+                .getBean(BusinessEventOutbox.class)
+                .extracting("payloadSerializer")
+                .isInstanceOf(CustomPayloadSerializer.class));
+    }
+
+    @Test
+    void whenRelayIsEnabledItIsRunningAndConfiguredFromProperties() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.outbox.enabled=true",
+            "gcoding.business-events.emission.outbox.initialize-schema=true",
+            "gcoding.business-events.emission.outbox.relay.batch-size=7",
+            "gcoding.business-events.emission.outbox.relay.poll-interval=250ms",
+            "gcoding.business-events.emission.outbox.relay.max-attempts=3"
+        ).run(context -> assertThat(context)
+            .getBean(OutboxRelay.class)
+            .satisfies(relay -> assertThat(relay.isRunning()).isTrue())
+            .hasFieldOrPropertyWithValue("batchSize", 7)
+            .hasFieldOrPropertyWithValue("pollInterval", Duration.ofMillis(250))
+            .hasFieldOrPropertyWithValue("maxAttempts", 3));
+    }
+
+    @Test
+    void whenRelayIsDisabledNoRelayIsAvailable() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.outbox.enabled=true",
+            "gcoding.business-events.emission.outbox.relay.enabled=false"
+        ).run(context -> assertThat(context)
+            .hasSingleBean(OutboxBusinessEventPublisher.class)
+            .doesNotHaveBean(OutboxRelay.class));
+    }
+
+    @Test
+    void whenAsyncIsEnabledRelayStillPublishesSynchronously() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.outbox.enabled=true",
+            "gcoding.business-events.emission.outbox.initialize-schema=true",
+            "gcoding.business-events.emission.async.enabled=true"
+        ).run(context -> assertThat(context)
+            .getBean(OutboxRelay.class)
+            .extracting("delegate")
+            .isNotInstanceOf(AsyncBusinessEventPublisher.class)
+            .isSameAs(context.getSourceApplicationContext()));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    public static class DatabaseConfiguration {
+        @Bean
+        public EmbeddedDatabase dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        }
+
+        @Bean
+        public PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+
+    public static class CustomPayloadSerializer implements PayloadSerializer {
+        @Nonnull
+        @Override
+        public byte[] serialize(@Nonnull Object payload) {
+            return new byte[0];
+        }
+
+        @Nonnull
+        @Override
+        public Object deserialize(@Nonnull byte[] data, @Nonnull String payloadType) {
+            return payloadType;
+        }
+    }
+}
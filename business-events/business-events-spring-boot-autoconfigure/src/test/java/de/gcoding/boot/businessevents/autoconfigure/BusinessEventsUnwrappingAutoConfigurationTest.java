@@ -1,20 +1,35 @@
 package de.gcoding.boot.businessevents.autoconfigure;
 
 import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.emission.unwrapper.ArrayUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.CollectionUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.CompletionStageUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.CompositeDeferredEventPayloadUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.CompositeEventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.DeferredEventPayloadUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.EventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.IterableUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.MapValuesUnwrapper;
 import de.gcoding.boot.businessevents.emission.unwrapper.OptionalUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.ReactorUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.SliceUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.StreamUnwrapper;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Flux;
 
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsUnwrappingAutoConfiguration.PRIMARY_DEFERRED_UNWRAPPER_BEAN_NAME;
 import static de.gcoding.boot.businessevents.autoconfigure.BusinessEventsUnwrappingAutoConfiguration.PRIMARY_UNWRAPPER_BEAN_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -82,6 +97,84 @@ class BusinessEventsUnwrappingAutoConfigurationTest {
             .anyMatch(OptionalUnwrapper.class::isInstance));
     }
 
+    @Test
+    void whenNotEnabledExplicitlyAdditionalUnwrappersAreNotUsed() {
+        contextRunner.run(context -> assertThat(context)
+            .doesNotHaveBean(ArrayUnwrapper.class)
+            .doesNotHaveBean(IterableUnwrapper.class)
+            .doesNotHaveBean(MapValuesUnwrapper.class)
+            .doesNotHaveBean(SliceUnwrapper.class)
+            .getBean(PRIMARY_UNWRAPPER_BEAN_NAME)
+            .extracting("maxDepth")
+            .isEqualTo(1));
+    }
+
+    @Test
+    void whenAdditionalUnwrappersAreEnabledTheyAreUsed() {
+        contextRunner.withPropertyValues(
+            "gcoding.business-events.emission.unwrapping.unwrap.arrays=true",
+            "gcoding.business-events.emission.unwrapping.unwrap.iterables=true",
+            "gcoding.business-events.emission.unwrapping.unwrap.maps=true",
+            "gcoding.business-events.emission.unwrapping.unwrap.slices=true"
+        ).run(context -> assertThat(context)
+            .getBean(EventPayloadUnwrapper.class)
+            .extracting("delegates").asList()
+            .anyMatch(ArrayUnwrapper.class::isInstance)
+            .anyMatch(IterableUnwrapper.class::isInstance)
+            .anyMatch(MapValuesUnwrapper.class::isInstance)
+            .anyMatch(SliceUnwrapper.class::isInstance));
+    }
+
+    @Test
+    void whenSpringDataIsNotOnClasspathSliceUnwrapperIsNotUsed() {
+        contextRunner.withClassLoader(new FilteredClassLoader(Slice.class))
+            .withPropertyValues("gcoding.business-events.emission.unwrapping.unwrap.slices=true")
+            .run(context -> assertThat(context)
+                .doesNotHaveBean(SliceUnwrapper.class));
+    }
+
+    @Test
+    void whenMaxDepthIsSpecifiedItIsUsedByPrimaryUnwrapper() {
+        contextRunner.withPropertyValues("gcoding.business-events.emission.unwrapping.max-depth=3").run(context -> assertThat(context)
+            .getBean(PRIMARY_UNWRAPPER_BEAN_NAME)
+            .extracting("maxDepth")
+            .isEqualTo(3));
+    }
+
+    @Test
+    void whenEnabledPrimaryDeferredUnwrapperIsConfiguredProperly() {
+        contextRunner.run(context -> assertThat(context)
+            .hasSingleBean(CompletionStageUnwrapper.class)
+            .hasSingleBean(StreamUnwrapper.class)
+            .hasSingleBean(ReactorUnwrapper.class)
+            .hasBean(PRIMARY_DEFERRED_UNWRAPPER_BEAN_NAME)
+            .getBean(DeferredEventPayloadUnwrapper.class)
+            .isInstanceOf(CompositeDeferredEventPayloadUnwrapper.class)
+            .extracting("delegates").asList()
+            .anyMatch(CompletionStageUnwrapper.class::isInstance)
+            .anyMatch(StreamUnwrapper.class::isInstance)
+            .anyMatch(ReactorUnwrapper.class::isInstance));
+    }
+
+    @Test
+    void whenReactorIsNotOnClasspathReactorUnwrapperIsNotUsed() {
+        contextRunner.withClassLoader(new FilteredClassLoader(Flux.class)).run(context -> assertThat(context)
+            .doesNotHaveBean(ReactorUnwrapper.class)
+            .getBean(DeferredEventPayloadUnwrapper.class)
+            .extracting("delegates").asList()
+            .noneMatch(ReactorUnwrapper.class::isInstance)
+            .anyMatch(CompletionStageUnwrapper.class::isInstance));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"futures", "streams", "reactive-types"})
+    void whenDeferredUnwrapperIsDisabledItIsNotUsed(String unwrap) {
+        contextRunner.withPropertyValues("gcoding.business-events.emission.unwrapping.unwrap." + unwrap + "=false").run(context -> assertThat(context)
+            .getBean(DeferredEventPayloadUnwrapper.class)
+            .extracting("delegates").asList()
+            .hasSize(2));
+    }
+
     @Test
     void whenCustomUnwrapperBeanExistsWithNameSameAsPrimaryTheDefaultPrimaryUnwrapperIsOverridden() {
         contextRunner.withBean(PRIMARY_UNWRAPPER_BEAN_NAME, EventPayloadUnwrapper.class, CustomEventPayloadUnwrapper::new)
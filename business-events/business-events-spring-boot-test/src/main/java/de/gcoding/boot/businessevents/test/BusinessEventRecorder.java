@@ -8,23 +8,81 @@ import org.assertj.core.api.ThrowingConsumer;
 import org.springframework.context.ApplicationListener;
 import org.springframework.lang.NonNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class BusinessEventRecorder implements ApplicationListener<BusinessEvent> {
-    private final List<BusinessEventDataProvider> recordedEvents = Collections.synchronizedList(new ArrayList<>());
+/**
+ * <p>
+ * Records all business events published in the application context, so that tests can make assertions on them.
+ * </p>
+ * <p>
+ * Events are appended to a lock-free linked log, so that publishing threads never block each other, and can be
+ * iterated or streamed without copying them first. By default, all events are retained until {@link #reset()} is
+ * called. If the recorder is created with a capacity, only the most recent events are retained, which keeps the memory
+ * footprint bounded in tests that publish millions of events.
+ * </p>
+ * <p>
+ * While recording, the events are indexed by payload type, including its superclasses and interfaces, by action and
+ * by id. The assertions returned by {@link #assertThat()} narrow down the events through these indices instead of
+ * filtering and copying all recorded events for every chained call. They apply to the events recorded up to the call of
+ * {@link #assertThat()}, so that events recorded while asserting do not change the outcome.
+ * </p>
+ * <p>
+ * Tests that publish events asynchronously can use {@link #awaitEvents(int, Duration)} to block until the expected
+ * events have been recorded. Waiting threads are woken up whenever an event is recorded instead of polling.
+ * </p>
+ */
+public class BusinessEventRecorder implements ApplicationListener<BusinessEvent>, Iterable<BusinessEventDataProvider> {
+    private final int capacity;
+    private final Set<Thread> waitingThreads = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<BusinessEventDataProvider>> businessEventListeners = new CopyOnWriteArrayList<>();
+    private volatile EventIndex index;
 
-    private final List<Consumer<BusinessEventDataProvider>> businessEventListeners = new LinkedList<>();
+    /**
+     * Creates a recorder that retains all events until it is reset
+     */
+    public BusinessEventRecorder() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a recorder that only retains the most recent events
+     *
+     * @param capacity The maximum number of events to retain. Older events are discarded once it is exceeded
+     */
+    public BusinessEventRecorder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive, but was " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.index = new EventIndex(capacity);
+    }
 
     @Override
     public void onApplicationEvent(@NonNull BusinessEvent event) {
-        recordedEvents.add(event);
+        index.record(event);
+
+        if (!waitingThreads.isEmpty()) {
+            waitingThreads.forEach(LockSupport::unpark);
+        }
+
         businessEventListeners.forEach(listener -> listener.accept(event));
     }
 
@@ -34,58 +92,250 @@ public class BusinessEventRecorder implements ApplicationListener<BusinessEvent>
     }
 
     public List<BusinessEventDataProvider> getRecordedEvents() {
-        return List.copyOf(recordedEvents);
+        final var events = index.events();
+        final var copy = new ArrayList<BusinessEventDataProvider>(events.size());
+        events.forEach(copy::add);
+
+        return Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * Iterates over the retained events in the order they were recorded without copying them. The iterator is weakly
+     * consistent: it never fails because of concurrently recorded events and may or may not return them.
+     *
+     * @return An iterator over the retained events
+     */
+    @Override
+    @NonNull
+    public Iterator<BusinessEventDataProvider> iterator() {
+        return index.events().iterator();
     }
 
+    /**
+     * @return A sequential stream over the retained events, see {@link #iterator()}
+     */
+    public Stream<BusinessEventDataProvider> stream() {
+        return stream(index.events());
+    }
+
+    /**
+     * Discards all recorded events and listeners. Threads waiting in {@link #awaitEvents(Predicate, int, Duration)}
+     * continue to wait for events recorded after the reset
+     */
     public void reset() {
-        recordedEvents.clear();
+        index = new EventIndex(capacity);
         businessEventListeners.clear();
+        waitingThreads.forEach(LockSupport::unpark);
     }
 
+    /**
+     * @return The number of events recorded since the recorder was created or last reset, including the events that
+     * were discarded because the capacity was exceeded
+     */
     public int getNumEmitted() {
-        return recordedEvents.size();
+        return index.getNumRecorded();
+    }
+
+    /**
+     * Waits until at least {@code count} events have been recorded
+     *
+     * @param count   The number of events to wait for
+     * @param timeout The maximum time to wait
+     * @return This recorder to continue with assertions
+     * @throws AssertionError If fewer events have been recorded when the timeout elapses
+     */
+    public BusinessEventRecorder awaitEvents(int count, @NonNull Duration timeout) {
+        return awaitEvents(event -> true, count, timeout);
+    }
+
+    /**
+     * Waits until at least {@code count} events matching the given predicate have been recorded. Events recorded
+     * before this method was called are taken into account, as long as they are still retained. If the recorder is
+     * reset while waiting, only the events recorded after the reset are counted.
+     *
+     * @param predicate The predicate that recorded events must match to be counted
+     * @param count     The number of matching events to wait for
+     * @param timeout   The maximum time to wait
+     * @return This recorder to continue with assertions
+     * @throws AssertionError If fewer matching events have been recorded when the timeout elapses or the waiting thread
+     *                        is interrupted
+     */
+    public BusinessEventRecorder awaitEvents(
+        @NonNull Predicate<BusinessEventDataProvider> predicate,
+        int count,
+        @NonNull Duration timeout
+    ) {
+        final var deadline = System.nanoTime() + timeout.toNanos();
+        final var thread = Thread.currentThread();
+
+        // register before reading the log, so that no event recorded in between can be missed
+        waitingThreads.add(thread);
+
+        try {
+            var currentIndex = index;
+            var cursor = currentIndex.events().cursor();
+            var matched = 0;
+
+            while (true) {
+                if (currentIndex != index) {
+                    // the recorder has been reset, the events of the previous log no longer count
+                    currentIndex = index;
+                    cursor = currentIndex.events().cursor();
+                    matched = 0;
+                }
+
+                for (var entry = cursor.advance(); entry != null && matched < count; entry = cursor.advance()) {
+                    if (predicate.test(entry.event())) {
+                        matched++;
+                    }
+                }
+
+                if (matched >= count) {
+                    return this;
+                }
+
+                final var remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0 || thread.isInterrupted()) {
+                    throw new AssertionError("Expected " + count + " matching business events to be recorded within "
+                        + timeout + ", but only " + matched + " were recorded");
+                }
+
+                LockSupport.parkNanos(this, remaining);
+            }
+        } finally {
+            waitingThreads.remove(thread);
+        }
     }
 
+    /**
+     * Creates assertions on the events recorded up to this call. Events recorded afterward are not taken into account,
+     * even by assertions chained later on. Events that are discarded afterward because the capacity of the recorder is
+     * exceeded are no longer taken into account either.
+     *
+     * @return Assertions on the events recorded so far
+     */
     public BusinessEventsAssertions<Object> assertThat() {
-        return new BusinessEventsAssertions<>(getRecordedEvents());
+        final var currentIndex = index;
+        final var events = currentIndex.events();
+        final var lastSequence = events.lastSequence();
+
+        return new BusinessEventsAssertions<>(
+            null,
+            currentIndex,
+            lastSequence,
+            events.upTo(lastSequence),
+            events.size(),
+            event -> true
+        );
     }
 
     public <T> BusinessEventsAssertions<T> assertThatAllEventsWithPayloadType(Class<T> payloadType) {
         return assertThat().fromEventsWithPayloadType(payloadType);
     }
 
+    private static Stream<BusinessEventDataProvider> stream(Iterable<BusinessEventDataProvider> events) {
+        final var spliterator = Spliterators.spliteratorUnknownSize(events.iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * <p>
+     * Fluent assertions on recorded events. Each {@code fromEvents...} call narrows down the events that following
+     * assertions apply to without copying them. If the assertions were created by a {@link BusinessEventRecorder},
+     * narrowing by payload type, action or id looks up the matching events in the recorder's indices and only the
+     * remaining conditions are checked for each of them.
+     * </p>
+     * <p>
+     * The events are not copied when narrowing. Assertions created by a {@link BusinessEventRecorder} only see the
+     * events recorded up to the call of {@link BusinessEventRecorder#assertThat()}, no matter when they are made.
+     * Assertions created from a list see the elements of the list at the moment each assertion is made.
+     * </p>
+     *
+     * @param <T> The payload type of the events the assertions apply to
+     */
     public static class BusinessEventsAssertions<T> {
         private final BusinessEventsAssertions<Object> root;
-        private final List<BusinessEventDataProvider> recordedEvents;
+        private final EventIndex index;
+        private final long lastSequence;
+        private final Iterable<BusinessEventDataProvider> candidates;
+        private final int numCandidates;
+        private final Predicate<BusinessEventDataProvider> filter;
 
         public BusinessEventsAssertions(List<BusinessEventDataProvider> recordedEvents) {
             this(null, recordedEvents);
         }
 
         public BusinessEventsAssertions(BusinessEventsAssertions<Object> root, List<BusinessEventDataProvider> recordedEvents) {
+            this(root, null, Long.MAX_VALUE, recordedEvents, recordedEvents.size(), event -> true);
+        }
+
+        private BusinessEventsAssertions(
+            BusinessEventsAssertions<Object> root,
+            EventIndex index,
+            long lastSequence,
+            Iterable<BusinessEventDataProvider> candidates,
+            int numCandidates,
+            Predicate<BusinessEventDataProvider> filter
+        ) {
             this.root = root;
-            this.recordedEvents = recordedEvents;
+            this.index = index;
+            this.lastSequence = lastSequence;
+            this.candidates = candidates;
+            this.numCandidates = numCandidates;
+            this.filter = filter;
         }
 
         @SuppressWarnings("unchecked")
         public <S> BusinessEventsAssertions<S> fromEventsWithPayloadType(Class<S> type) {
-            return (BusinessEventsAssertions<S>) fromEventsMatching(event -> event.getPayload().getClass() == type);
+            final Predicate<BusinessEventDataProvider> predicate = event -> type.isInstance(event.getPayload());
+
+            if (index == null) {
+                return (BusinessEventsAssertions<S>) fromEventsMatching(predicate);
+            }
+
+            final var eventsWithPayloadType = index.eventsWithPayloadType(type);
+            return (BusinessEventsAssertions<S>) narrow(
+                predicate,
+                eventsWithPayloadType.upTo(lastSequence),
+                eventsWithPayloadType.size()
+            );
         }
 
         public BusinessEventsAssertions<T> fromEventsWithAction(String action) {
-            return fromEventsWithOneOfTheActions(action);
+            if (index == null) {
+                return fromEventsWithOneOfTheActions(action);
+            }
+
+            final var eventsWithAction = index.eventsWithAction(action);
+            return narrow(
+                event -> action.equals(event.getAction()),
+                eventsWithAction.upTo(lastSequence),
+                eventsWithAction.size()
+            );
         }
 
         public BusinessEventsAssertions<T> fromEventsWithOneOfTheActions(String... actions) {
-            return fromEventsMatching(event -> Arrays.asList(actions).contains(event.getAction()));
+            if (index != null && actions.length == 1) {
+                return fromEventsWithAction(actions[0]);
+            }
+
+            final var acceptedActions = Set.of(actions);
+            return fromEventsMatching(event -> acceptedActions.contains(event.getAction()));
         }
 
-        public BusinessEventsAssertions<T> fromEventsMatching(Predicate<BusinessEventDataProvider> predicate) {
-            final var filtered = recordedEvents.stream()
-                .filter(predicate)
-                .toList();
+        public BusinessEventsAssertions<T> fromEventWithId(UUID id) {
+            final Predicate<BusinessEventDataProvider> predicate = event -> id.equals(event.getId());
+
+            if (index == null) {
+                return fromEventsMatching(predicate);
+            }
 
-            return new BusinessEventsAssertions<>(and(), filtered);
+            return narrow(predicate, index.eventsWithId(id, lastSequence), index.countEventsWithId(id));
+        }
+
+        public BusinessEventsAssertions<T> fromEventsMatching(Predicate<BusinessEventDataProvider> predicate) {
+            return narrow(predicate, candidates, numCandidates);
         }
 
         @SuppressWarnings("unchecked")
@@ -94,7 +344,7 @@ public class BusinessEventRecorder implements ApplicationListener<BusinessEvent>
         }
 
         public BusinessEventsAssertions<T> allEventsSatisfy(ThrowingConsumer<BusinessEventDataProvider> requirements) {
-            recordedEvents.forEach(requirements);
+            events().forEach(requirements);
             return this;
         }
 
@@ -131,7 +381,7 @@ public class BusinessEventRecorder implements ApplicationListener<BusinessEvent>
         }
 
         public BusinessEventsAssertions<T> numberOfEventsEmitted(int expectedNumberOfEvents) {
-            Assertions.assertThat(recordedEvents).hasSize(expectedNumberOfEvents);
+            Assertions.assertThat(events().toList()).hasSize(expectedNumberOfEvents);
             return this;
         }
 
@@ -142,5 +392,27 @@ public class BusinessEventRecorder implements ApplicationListener<BusinessEvent>
         public BusinessEventsAssertions<T> oneEventHasBeenEmitted() {
             return numberOfEventsEmitted(1);
         }
+
+        private BusinessEventsAssertions<T> narrow(
+            Predicate<BusinessEventDataProvider> predicate,
+            Iterable<BusinessEventDataProvider> indexedCandidates,
+            int numIndexedCandidates
+        ) {
+            // the filter contains all conditions, so the smallest set of candidates that satisfies one of them suffices
+            final var useIndexedCandidates = numIndexedCandidates < numCandidates;
+
+            return new BusinessEventsAssertions<>(
+                and(),
+                index,
+                lastSequence,
+                useIndexedCandidates ? indexedCandidates : candidates,
+                useIndexedCandidates ? numIndexedCandidates : numCandidates,
+                filter.and(predicate)
+            );
+        }
+
+        private Stream<BusinessEventDataProvider> events() {
+            return stream(candidates).filter(filter);
+        }
     }
 }
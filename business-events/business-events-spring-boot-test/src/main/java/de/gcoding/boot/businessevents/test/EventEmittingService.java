@@ -8,6 +8,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public class EventEmittingService {
     private final EventActionService eventActionService;
@@ -41,6 +43,21 @@ public class EventEmittingService {
         return payloads;
     }
 
+    @EmitBusinessEvent
+    public CompletableFuture<String> emitEventOnCompletion(CompletableFuture<String> payload) {
+        return payload;
+    }
+
+    @EmitBusinessEvent
+    public Stream<String> emitEventsForEachConsumedStreamItem(List<String> payloads) {
+        return payloads.stream();
+    }
+
+    @EmitBusinessEvent(batch = true)
+    public List<String> emitBatchEventForAllListItems(List<String> payloads) {
+        return payloads;
+    }
+
     @Transactional
     @EmitBusinessEvent
     public String emitEventWithinSpringTransactional(String payload) {
@@ -0,0 +1,132 @@
+package de.gcoding.boot.businessevents.test;
+
+import de.gcoding.boot.businessevents.BusinessEventDataProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * All events recorded by a {@link BusinessEventRecorder}, together with indices by payload type, action and event id
+ * that are kept up to date as events are recorded. Events recorded more than once are indexed under their id once per
+ * recording, just like they are matched by a predicate on their id. An event is indexed under the class of its payload and all of its
+ * superclasses and interfaces, so that the events of a payload type can be looked up without scanning all events.
+ */
+final class EventIndex {
+    private static final ClassValue<List<Class<?>>> PAYLOAD_TYPES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            final var types = new LinkedHashSet<Class<?>>();
+
+            for (var current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                addWithInterfaces(current, types);
+            }
+
+            return List.copyOf(types);
+        }
+    };
+    private final int capacity;
+    private final EventLog events;
+    private final Map<Class<?>, EventLog> eventsByPayloadType = new ConcurrentHashMap<>();
+    private final Map<String, EventLog> eventsByAction = new ConcurrentHashMap<>();
+    private final Map<UUID, List<EventLog.Entry>> eventsById = new ConcurrentHashMap<>();
+    private final LongAdder recorded = new LongAdder();
+
+    EventIndex(int capacity) {
+        this.capacity = capacity;
+        this.events = new EventLog(capacity, this::discard);
+    }
+
+    void record(BusinessEventDataProvider event) {
+        final var entry = events.append(event, null);
+
+        for (final var payloadType : PAYLOAD_TYPES.get(event.getPayload().getClass())) {
+            eventsWithPayloadType(payloadType).append(event, entry);
+        }
+
+        eventsWithAction(event.getAction()).append(event, entry);
+        // the same event might be recorded more than once, e.g. if it is published again by a journal or an outbox
+        eventsById.compute(event.getId(), (id, entries) -> appendEntry(entries, entry));
+        recorded.increment();
+    }
+
+    int getNumRecorded() {
+        return recorded.intValue();
+    }
+
+    EventLog events() {
+        return events;
+    }
+
+    /**
+     * @return The events whose payload is an instance of the given type, including events recorded later on
+     */
+    EventLog eventsWithPayloadType(Class<?> payloadType) {
+        if (payloadType == Object.class) {
+            return events;
+        }
+
+        return eventsByPayloadType.computeIfAbsent(payloadType, type -> new EventLog(capacity));
+    }
+
+    /**
+     * @return The events with the given action, including events recorded later on
+     */
+    EventLog eventsWithAction(String action) {
+        return eventsByAction.computeIfAbsent(action, key -> new EventLog(capacity));
+    }
+
+    /**
+     * @param lastSequence The sequence number of the last recording to include, see {@link EventLog#lastSequence()}
+     * @return The events with the given id in the order they were recorded up to the given sequence number, as far as
+     * they are still retained at the time the returned iterable is iterated
+     */
+    Iterable<BusinessEventDataProvider> eventsWithId(UUID id, long lastSequence) {
+        return () -> eventsById.getOrDefault(id, List.of()).stream()
+            .filter(entry -> !entry.isDiscarded() && entry.sequence() <= lastSequence)
+            .map(EventLog.Entry::event)
+            .iterator();
+    }
+
+    /**
+     * @return The number of retained events with the given id
+     */
+    int countEventsWithId(UUID id) {
+        return eventsById.getOrDefault(id, List.of()).size();
+    }
+
+    private void discard(EventLog.Entry entry) {
+        entry.markDiscarded();
+        eventsById.computeIfPresent(entry.event().getId(), (id, entries) -> removeEntry(entries, entry));
+    }
+
+    private static List<EventLog.Entry> appendEntry(List<EventLog.Entry> entries, EventLog.Entry entry) {
+        if (entries == null) {
+            return List.of(entry);
+        }
+
+        final var appended = new ArrayList<EventLog.Entry>(entries.size() + 1);
+        appended.addAll(entries);
+        appended.add(entry);
+
+        return List.copyOf(appended);
+    }
+
+    private static List<EventLog.Entry> removeEntry(List<EventLog.Entry> entries, EventLog.Entry entry) {
+        final var remaining = entries.stream().filter(other -> other != entry).toList();
+        return remaining.isEmpty() ? null : remaining;
+    }
+
+    private static void addWithInterfaces(Class<?> type, Set<Class<?>> types) {
+        if (types.add(type)) {
+            for (final var implementedInterface : type.getInterfaces()) {
+                addWithInterfaces(implementedInterface, types);
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package de.gcoding.boot.businessevents.test;
+
+import de.gcoding.boot.businessevents.BusinessEventDataProvider;
+import org.springframework.lang.NonNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Lock-free, append-only log of recorded events. Appending claims the tail with a single atomic exchange, so
+ * publishing threads never block each other, and readers walk the log without copying it. If more events than the
+ * capacity are appended, the oldest ones are discarded by advancing the head of the log. Each event appended without
+ * an origin is numbered in the order of its recording, so that readers can leave out events recorded after a snapshot.
+ */
+final class EventLog implements Iterable<BusinessEventDataProvider> {
+    private static final Consumer<Entry> NOOP_DISCARD_LISTENER = entry -> {
+    };
+    private final int capacity;
+    private final Consumer<Entry> discardListener;
+    private final AtomicReference<Entry> head;
+    private final AtomicReference<Entry> tail;
+    private final AtomicInteger retained = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    EventLog(int capacity) {
+        this(capacity, NOOP_DISCARD_LISTENER);
+    }
+
+    EventLog(int capacity, Consumer<Entry> discardListener) {
+        final var sentinel = new Entry(null, null, 0);
+        this.capacity = capacity;
+        this.discardListener = discardListener;
+        this.head = new AtomicReference<>(sentinel);
+        this.tail = new AtomicReference<>(sentinel);
+    }
+
+    /**
+     * Appends an event to the log
+     *
+     * @param event  The event to append
+     * @param origin The entry of the event in the log that holds all recorded events, or {@code null} if this is that
+     *               log. Iterators skip the event once its origin has been discarded
+     * @return The entry of the appended event
+     */
+    Entry append(BusinessEventDataProvider event, Entry origin) {
+        final var entry = new Entry(event, origin, origin == null ? sequence.incrementAndGet() : origin.sequence);
+        // the entry becomes visible to readers once its predecessor links to it
+        tail.getAndSet(entry).next = entry;
+
+        if (retained.incrementAndGet() > capacity) {
+            discardOldest();
+        }
+
+        return entry;
+    }
+
+    /**
+     * @return The number of entries in the log, including entries whose origin has already been discarded
+     */
+    int size() {
+        return retained.get();
+    }
+
+    /**
+     * @return The sequence number of the event that was appended last without an origin
+     */
+    long lastSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * @param lastSequence The sequence number of the last event to include, see {@link #lastSequence()}
+     * @return The retained events whose origin was appended up to the given sequence number, as far as they are still
+     * retained at the time the returned iterable is iterated
+     */
+    Iterable<BusinessEventDataProvider> upTo(long lastSequence) {
+        return () -> new EventIterator(cursor(), lastSequence);
+    }
+
+    /**
+     * @return A cursor positioned before the oldest retained event, which also returns events appended later
+     */
+    Cursor cursor() {
+        return new Cursor(head.get());
+    }
+
+    @Override
+    @NonNull
+    public Iterator<BusinessEventDataProvider> iterator() {
+        return new EventIterator(cursor(), Long.MAX_VALUE);
+    }
+
+    private void discardOldest() {
+        while (retained.get() > capacity) {
+            final var oldest = head.get();
+            final var next = oldest.next;
+
+            if (next == null) {
+                return;
+            }
+
+            // the first retained entry becomes the new sentinel, its event is no longer visible through the head
+            if (head.compareAndSet(oldest, next)) {
+                retained.decrementAndGet();
+                discardListener.accept(next);
+            }
+        }
+    }
+
+    static final class Entry {
+        private final BusinessEventDataProvider event;
+        private final Entry origin;
+        private final long sequence;
+        private volatile boolean discarded;
+        private volatile Entry next;
+
+        private Entry(BusinessEventDataProvider event, Entry origin, long sequence) {
+            this.event = event;
+            this.origin = origin == null ? this : origin;
+            this.sequence = sequence;
+        }
+
+        BusinessEventDataProvider event() {
+            return event;
+        }
+
+        long sequence() {
+            return sequence;
+        }
+
+        boolean isDiscarded() {
+            return origin.discarded;
+        }
+
+        void markDiscarded() {
+            discarded = true;
+        }
+    }
+
+    static final class Cursor {
+        private Entry position;
+
+        private Cursor(Entry position) {
+            this.position = position;
+        }
+
+        /**
+         * @return The next entry of the log, or {@code null} if no further entry has been appended yet. The cursor
+         * stays in place in that case, so it can be advanced again later
+         */
+        Entry advance() {
+            final var next = position.next;
+
+            if (next != null) {
+                position = next;
+            }
+
+            return next;
+        }
+    }
+
+    private static final class EventIterator implements Iterator<BusinessEventDataProvider> {
+        private final Cursor cursor;
+        private final long lastSequence;
+        private Entry next;
+
+        private EventIterator(Cursor cursor, long lastSequence) {
+            this.cursor = cursor;
+            this.lastSequence = lastSequence;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                final var entry = cursor.advance();
+
+                if (entry == null) {
+                    return false;
+                }
+
+                // events recorded concurrently may be appended to an index in a different order, so keep looking
+                if (!entry.isDiscarded() && entry.sequence <= lastSequence) {
+                    next = entry;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public BusinessEventDataProvider next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final var event = next.event;
+            next = null;
+
+            return event;
+        }
+    }
+}
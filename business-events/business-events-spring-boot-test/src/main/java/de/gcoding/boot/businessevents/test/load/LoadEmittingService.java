@@ -0,0 +1,28 @@
+package de.gcoding.boot.businessevents.test.load;
+
+import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The service the {@link LoadHarness} calls to emit events through the {@code @EmitBusinessEvent} aspect
+ */
+public class LoadEmittingService {
+    @EmitBusinessEvent(action = EventActions.CREATE)
+    public LoadPayload emit(LoadPayload payload) {
+        return payload;
+    }
+
+    @EmitBusinessEvent(action = EventActions.CREATE)
+    public List<LoadPayload> emitAll(LoadPayload payload, int count) {
+        final var payloads = new ArrayList<LoadPayload>(count);
+
+        for (var i = 0; i < count; i++) {
+            payloads.add(payload);
+        }
+
+        return payloads;
+    }
+}
@@ -0,0 +1,375 @@
+package de.gcoding.boot.businessevents.test.load;
+
+import jakarta.annotation.Nonnull;
+import org.HdrHistogram.Recorder;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Drives {@code @EmitBusinessEvent} calls through the real aspect, proxy and multicaster path of an application
+ * context and measures throughput and latency, e.g. to size deployments:
+ * </p>
+ * <pre>{@code
+ * LoadReport report = LoadHarness.withSources(BusinessEventsAutoConfiguration.class, AopAutoConfiguration.class)
+ *     .listeners(4, Duration.of(50, ChronoUnit.MICROS))
+ *     .threads(16)
+ *     .virtualThreads(true)
+ *     .targetRate(20_000)
+ *     .build()
+ *     .run();
+ * }</pre>
+ * <p>
+ * The harness boots a non-web context from the given sources, adds a {@link LoadEmittingService} and the configured
+ * number of {@link LoadListener}s, calls the service from the configured number of threads and closes the context
+ * afterward. With a target rate, the calls are scheduled at fixed intervals and latencies are measured from the time a
+ * call was supposed to start, so a stalled call also accounts for the calls queued up behind it. Without a target
+ * rate, each thread calls the service as fast as it can.
+ * </p>
+ */
+public class LoadHarness {
+    private static final long PARK_THRESHOLD_NANOS = 50_000;
+
+    private final Class<?>[] sources;
+    private final String[] properties;
+    private final int listenerCount;
+    private final Duration listenerCost;
+    private final int threads;
+    private final boolean virtualThreads;
+    private final long targetRate;
+    private final int payloadsPerCall;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration drainTimeout;
+
+    private LoadHarness(Builder builder) {
+        this.sources = builder.sources.clone();
+        this.properties = builder.properties.clone();
+        this.listenerCount = builder.listenerCount;
+        this.listenerCost = builder.listenerCost;
+        this.threads = builder.threads;
+        this.virtualThreads = builder.virtualThreads;
+        this.targetRate = builder.targetRate;
+        this.payloadsPerCall = builder.payloadsPerCall;
+        this.warmup = builder.warmup;
+        this.duration = builder.duration;
+        this.drainTimeout = builder.drainTimeout;
+    }
+
+    /**
+     * Starts configuring a harness
+     *
+     * @param sources The sources of the application context, which must enable AOP and the business events
+     *                auto-configuration
+     * @return A builder to configure the harness with
+     */
+    public static Builder withSources(@Nonnull Class<?>... sources) {
+        return new Builder(requireNonNull(sources, "sources must not be null"));
+    }
+
+    /**
+     * Boots the application context, drives the load and closes the context again
+     *
+     * @return The measured throughput and latencies
+     */
+    public LoadReport run() {
+        final var measurement = new Measurement();
+
+        try (var context = startContext(measurement)) {
+            final var service = context.getBean(LoadEmittingService.class);
+
+            if (!AopUtils.isAopProxy(service)) {
+                throw new IllegalStateException("LoadEmittingService is not proxied, make sure the sources enable AOP " +
+                    "and the business events auto-configuration");
+            }
+
+            return drive(service, measurement);
+        }
+    }
+
+    private ConfigurableApplicationContext startContext(Measurement measurement) {
+        return new SpringApplicationBuilder(sources)
+            .web(WebApplicationType.NONE)
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .properties(properties)
+            .initializers(context -> registerBeans((GenericApplicationContext) context, measurement))
+            .run();
+    }
+
+    private void registerBeans(GenericApplicationContext context, Measurement measurement) {
+        context.registerBean("loadEmittingService", LoadEmittingService.class, LoadEmittingService::new);
+
+        for (var i = 0; i < listenerCount; i++) {
+            context.registerBean("loadListener" + i, LoadListener.class,
+                () -> new LoadListener(listenerCost, measurement.deliveryLatency, measurement.deliveries));
+        }
+    }
+
+    private LoadReport drive(LoadEmittingService service, Measurement measurement) {
+        final var start = System.nanoTime();
+        final var measureStart = start + warmup.toNanos();
+        final var end = measureStart + duration.toNanos();
+        final var threadFactory = createThreadFactory();
+        final var workers = new ArrayList<Thread>(threads);
+
+        for (var i = 0; i < threads; i++) {
+            final var threadIndex = i;
+            workers.add(threadFactory.newThread(() -> callRepeatedly(service, measurement, threadIndex, start, measureStart, end)));
+        }
+
+        workers.forEach(Thread::start);
+        workers.forEach(LoadHarness::join);
+        // the last calls may return well after the end of the schedule, e.g. if the publisher is saturated
+        final var callsEnd = System.nanoTime();
+        final var expectedDeliveries = measurement.calls.sum() * payloadsPerCall * listenerCount;
+        awaitDeliveries(measurement, expectedDeliveries);
+        final var deliveriesEnd = System.nanoTime();
+
+        return new LoadReport(
+            elapsedSince(measureStart, callsEnd),
+            elapsedSince(measureStart, deliveriesEnd),
+            measurement.calls.sum(),
+            measurement.errors.sum(),
+            measurement.deliveries.sum(),
+            expectedDeliveries,
+            measurement.callLatency.getIntervalHistogram(),
+            measurement.errorLatency.getIntervalHistogram(),
+            measurement.deliveryLatency.getIntervalHistogram()
+        );
+    }
+
+    private void callRepeatedly(LoadEmittingService service, Measurement measurement, int threadIndex, long start, long measureStart, long end) {
+        final var nanosPerCall = targetRate > 0 ? 1_000_000_000.0 / targetRate : 0;
+
+        for (long sequence = 0; ; sequence++) {
+            final long intendedStart;
+
+            if (nanosPerCall > 0) {
+                // the calls of all threads are interleaved, so together they are spread evenly at the target rate
+                intendedStart = start + (long) ((sequence * threads + threadIndex) * nanosPerCall);
+                awaitNanoTime(intendedStart);
+            } else {
+                intendedStart = System.nanoTime();
+            }
+
+            if (intendedStart >= end) {
+                return;
+            }
+
+            final var measured = intendedStart >= measureStart;
+            final var payload = new LoadPayload(sequence, intendedStart, measured);
+
+            try {
+                if (payloadsPerCall == 1) {
+                    service.emit(payload);
+                } else {
+                    service.emitAll(payload, payloadsPerCall);
+                }
+            } catch (RuntimeException e) {
+                // failed calls take time as well, leaving them out would hide e.g. timeouts of a saturated publisher
+                if (measured) {
+                    measurement.errorLatency.recordValue(System.nanoTime() - intendedStart);
+                    measurement.errors.increment();
+                }
+
+                continue;
+            }
+
+            if (measured) {
+                measurement.callLatency.recordValue(System.nanoTime() - intendedStart);
+                measurement.calls.increment();
+            }
+        }
+    }
+
+    private void awaitDeliveries(Measurement measurement, long expected) {
+        // asynchronous listeners may still be processing events after the last call returned
+        final var deadline = System.nanoTime() + drainTimeout.toNanos();
+
+        while (measurement.deliveries.sum() < expected && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(1_000_000);
+        }
+    }
+
+    private static Duration elapsedSince(long startNanos, long endNanos) {
+        return Duration.ofNanos(Math.max(0, endNanos - startNanos));
+    }
+
+    private ThreadFactory createThreadFactory() {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name("business-events-load-", 0).factory();
+        }
+
+        return Thread.ofPlatform().name("business-events-load-", 0).daemon().factory();
+    }
+
+    private static void awaitNanoTime(long nanoTime) {
+        for (var remaining = nanoTime - System.nanoTime(); remaining > 0; remaining = nanoTime - System.nanoTime()) {
+            if (remaining > PARK_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - PARK_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the load to complete", e);
+        }
+    }
+
+    private static class Measurement {
+        final Recorder callLatency = new Recorder(3);
+        final Recorder errorLatency = new Recorder(3);
+        final Recorder deliveryLatency = new Recorder(3);
+        final LongAdder calls = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder deliveries = new LongAdder();
+    }
+
+    public static final class Builder {
+        private final Class<?>[] sources;
+        private String[] properties = new String[0];
+        private int listenerCount = 1;
+        private Duration listenerCost = Duration.ZERO;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private boolean virtualThreads;
+        private long targetRate;
+        private int payloadsPerCall = 1;
+        private Duration warmup = Duration.ofSeconds(1);
+        private Duration duration = Duration.ofSeconds(5);
+        private Duration drainTimeout = Duration.ofSeconds(5);
+
+        private Builder(Class<?>[] sources) {
+            this.sources = sources;
+        }
+
+        /**
+         * Sets properties of the application context, e.g. to enable asynchronous publishing
+         *
+         * @param properties The properties in the form {@code key=value}
+         * @return This builder
+         */
+        public Builder properties(@Nonnull String... properties) {
+            this.properties = requireNonNull(properties, "properties must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the number of {@code @BusinessEventListener}s receiving the emitted events and how long each of them
+         * spins for each event to simulate work. One listener without cost by default
+         *
+         * @param count The number of listeners
+         * @param cost  The time each listener spends on each event
+         * @return This builder
+         */
+        public Builder listeners(int count, @Nonnull Duration cost) {
+            if (count < 0) {
+                throw new IllegalArgumentException("count must not be negative, but was " + count);
+            }
+
+            this.listenerCount = count;
+            this.listenerCost = requireNonNull(cost, "cost must not be null");
+            return this;
+        }
+
+        /**
+         * @param threads The number of threads calling the service, the number of processors by default
+         * @return This builder
+         */
+        public Builder threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("threads must be positive, but was " + threads);
+            }
+
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * @param virtualThreads {@code true}, to call the service from virtual threads instead of platform threads
+         * @return This builder
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * @param callsPerSecond The number of calls per second of all threads together, or {@code 0} (the default) to
+         *                       call the service as fast as possible
+         * @return This builder
+         */
+        public Builder targetRate(long callsPerSecond) {
+            if (callsPerSecond < 0) {
+                throw new IllegalArgumentException("callsPerSecond must not be negative, but was " + callsPerSecond);
+            }
+
+            this.targetRate = callsPerSecond;
+            return this;
+        }
+
+        /**
+         * @param payloadsPerCall The number of payloads each call returns, which are unwrapped into an event each. One
+         *                        by default
+         * @return This builder
+         */
+        public Builder payloadsPerCall(int payloadsPerCall) {
+            if (payloadsPerCall < 1) {
+                throw new IllegalArgumentException("payloadsPerCall must be positive, but was " + payloadsPerCall);
+            }
+
+            this.payloadsPerCall = payloadsPerCall;
+            return this;
+        }
+
+        /**
+         * @param warmup The time the service is called before measuring starts, one second by default
+         * @return This builder
+         */
+        public Builder warmup(@Nonnull Duration warmup) {
+            this.warmup = requireNonNull(warmup, "warmup must not be null");
+            return this;
+        }
+
+        /**
+         * @param duration The time the calls are measured for, five seconds by default
+         * @return This builder
+         */
+        public Builder duration(@Nonnull Duration duration) {
+            this.duration = requireNonNull(duration, "duration must not be null");
+            return this;
+        }
+
+        /**
+         * @param drainTimeout The maximum time to wait for asynchronous listeners to process the remaining events
+         *                     after the last call, five seconds by default
+         * @return This builder
+         */
+        public Builder drainTimeout(@Nonnull Duration drainTimeout) {
+            this.drainTimeout = requireNonNull(drainTimeout, "drainTimeout must not be null");
+            return this;
+        }
+
+        public LoadHarness build() {
+            return new LoadHarness(this);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package de.gcoding.boot.businessevents.test.load;
+
+import de.gcoding.boot.businessevents.listen.BusinessEventListener;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A listener registered by the {@link LoadHarness}. Simulates work by spinning for a fixed time for every received
+ * event and records the latency from the intended start of the emitting call until the event has been processed.
+ */
+public class LoadListener {
+    private final long costNanos;
+    private final Recorder deliveryLatency;
+    private final LongAdder deliveries;
+
+    LoadListener(Duration cost, Recorder deliveryLatency, LongAdder deliveries) {
+        this.costNanos = cost.toNanos();
+        this.deliveryLatency = deliveryLatency;
+        this.deliveries = deliveries;
+    }
+
+    @BusinessEventListener(payloadType = LoadPayload.class)
+    public void onEvent(LoadPayload payload) {
+        if (costNanos > 0) {
+            spin(costNanos);
+        }
+
+        if (payload.measured()) {
+            deliveryLatency.recordValue(System.nanoTime() - payload.intendedStartNanos());
+            deliveries.increment();
+        }
+    }
+
+    static void spin(long nanos) {
+        final var end = System.nanoTime() + nanos;
+
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package de.gcoding.boot.businessevents.test.load;
+
+/**
+ * The payload of the events emitted by the {@link LoadHarness}
+ *
+ * @param sequence           The number of the call within the thread that emitted the event
+ * @param intendedStartNanos The {@link System#nanoTime()} at which the emitting call was supposed to start
+ * @param measured           {@code false}, if the event was emitted during the warmup
+ */
+public record LoadPayload(long sequence, long intendedStartNanos, boolean measured) {
+}
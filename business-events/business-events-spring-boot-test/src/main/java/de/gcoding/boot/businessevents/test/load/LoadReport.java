@@ -0,0 +1,125 @@
+package de.gcoding.boot.businessevents.test.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * The results of a {@link LoadHarness} run. Latencies are recorded in nanoseconds and measured from the time a call
+ * was supposed to start according to the target rate, so that calls delayed by slow predecessors are not hidden
+ * (coordinated omission). Throughput is calculated from the measured elapsed time instead of the configured duration,
+ * as calls and deliveries may take longer than scheduled. Deliveries that did not arrive before the harness stopped
+ * waiting for them are reported as lost, instead of only lowering the delivery throughput.
+ *
+ * @param callsElapsed       The time from the end of the warmup until the last call returned
+ * @param deliveriesElapsed  The time from the end of the warmup until the listeners processed the last event or the
+ *                           harness stopped waiting for them
+ * @param calls              The number of {@code @EmitBusinessEvent} calls completed during the measurement
+ * @param errors             The number of calls that failed
+ * @param deliveries         The number of events processed by the listeners, counted once per listener
+ * @param expectedDeliveries The number of deliveries the completed calls should have caused, i.e. the number of
+ *                           their events times the number of listeners
+ * @param callLatency        The latency of the completed {@code @EmitBusinessEvent} calls, including all synchronous
+ *                           listeners
+ * @param errorLatency       The latency of the calls that failed, until they failed
+ * @param deliveryLatency    The latency from the intended start of a call until a listener processed its event
+ */
+public record LoadReport(
+    Duration callsElapsed,
+    Duration deliveriesElapsed,
+    long calls,
+    long errors,
+    long deliveries,
+    long expectedDeliveries,
+    Histogram callLatency,
+    Histogram errorLatency,
+    Histogram deliveryLatency
+) {
+    /**
+     * @return The number of completed calls per second
+     */
+    public double callsPerSecond() {
+        return perSecond(calls, callsElapsed);
+    }
+
+    /**
+     * @return The number of events processed by the listeners per second
+     */
+    public double deliveriesPerSecond() {
+        return perSecond(deliveries, deliveriesElapsed);
+    }
+
+    /**
+     * @return The number of expected deliveries that did not arrive at the listeners before the harness stopped
+     * waiting for them, e.g. because asynchronous publishing dropped events or could not keep up
+     */
+    public long lostDeliveries() {
+        return Math.max(0, expectedDeliveries - deliveries);
+    }
+
+    /**
+     * @param percentile The percentile, e.g. {@code 99.9}
+     * @return The call latency at the given percentile
+     */
+    public Duration callLatencyAt(double percentile) {
+        return Duration.ofNanos(callLatency.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * @param percentile The percentile, e.g. {@code 99.9}
+     * @return The latency of the failed calls at the given percentile
+     */
+    public Duration errorLatencyAt(double percentile) {
+        return Duration.ofNanos(errorLatency.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * @param percentile The percentile, e.g. {@code 99.9}
+     * @return The delivery latency at the given percentile
+     */
+    public Duration deliveryLatencyAt(double percentile) {
+        return Duration.ofNanos(deliveryLatency.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * @return A human-readable summary of the throughput and the latency percentiles in microseconds
+     */
+    public String summary() {
+        return String.format(
+            Locale.ROOT,
+            """
+                calls:      %,d in %s (%,.0f/s), %,d errors
+                deliveries: %,d in %s (%,.0f/s), %,d of %,d expected lost
+                call latency     [us] %s
+                error latency    [us] %s
+                delivery latency [us] %s""",
+            calls, callsElapsed, callsPerSecond(), errors,
+            deliveries, deliveriesElapsed, deliveriesPerSecond(), lostDeliveries(), expectedDeliveries,
+            percentiles(callLatency),
+            percentiles(errorLatency),
+            percentiles(deliveryLatency)
+        );
+    }
+
+    private static double perSecond(long count, Duration elapsed) {
+        return elapsed.isZero() ? 0 : count * 1_000_000_000.0 / elapsed.toNanos();
+    }
+
+    private static String percentiles(Histogram histogram) {
+        return String.format(
+            Locale.ROOT,
+            "p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f",
+            histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(90) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0,
+            histogram.getValueAtPercentile(99.9) / 1000.0,
+            histogram.getMaxValue() / 1000.0
+        );
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
@@ -2,6 +2,9 @@ package de.gcoding.boot.businessevents.emission.aspect;
 
 import de.gcoding.boot.businessevents.BusinessEvent;
 import de.gcoding.boot.businessevents.emission.BusinessEventsFactory;
+import de.gcoding.boot.businessevents.emission.unwrapper.DeferredEventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptions;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -118,7 +121,16 @@ public class BusinessEventEmitterAspectIT {
             BusinessEventsFactory businessEventsFactory,
             ApplicationEventPublisher eventPublisher
         ) {
-            return new BusinessEventEmitterAspect(businessEventsFactory, eventPublisher, order);
+            return new BusinessEventEmitterAspect(
+                businessEventsFactory,
+                eventPublisher,
+                order,
+                false,
+                1,
+                DeferredEventPayloadUnwrapper.NOOP,
+                BusinessEventSubscriptions.ANY,
+                BusinessEventsMetrics.NOOP
+            );
         }
 
         @Bean
@@ -0,0 +1,153 @@
+package de.gcoding.boot.businessevents;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <p>
+ * A business event that carries multiple payloads at once, all sharing the same action, timestamp and metadata.
+ * Batch events are emitted by methods annotated with {@code @EmitBusinessEvent(batch = true)} and avoid creating
+ * a separate event for each element of bulk return values.
+ * </p>
+ * <p>
+ * The payload of a batch event is the unmodifiable list of all payloads (see {@link #getPayloads()}). Listeners that
+ * are not interested in batches can consume the batch element-wise through {@link #getElementEvents()}, which is done
+ * automatically for {@link de.gcoding.boot.businessevents.listen.BusinessEventListener} annotated methods and
+ * {@link de.gcoding.boot.businessevents.listen.AbstractBusinessEventEventListener} subclasses.
+ * </p>
+ *
+ * @see EmitBusinessEvent#batch()
+ */
+public class BatchBusinessEvent extends BusinessEvent {
+    /**
+     * The metadata key under which the element events of a batch reference the id of the batch they belong to
+     */
+    public static final String BATCH_ID_METADATA_KEY = "batchId";
+    private Map<String, String> elementMetadata;
+
+    /**
+     * Creates a new {@link BatchBusinessEvent}
+     *
+     * @param source    The source object that emitted the event
+     * @param eventData The business event data, whose payload must be the {@link List} of payloads
+     * @throws IllegalArgumentException If the payload of the event data is not a list
+     */
+    public BatchBusinessEvent(@Nonnull Object source, @Nonnull BusinessEventData eventData) {
+        super(source, eventData);
+
+        if (!(eventData.payload() instanceof List<?>)) {
+            throw new IllegalArgumentException("payload of a batch business event must be a list, but was " +
+                eventData.payload().getClass());
+        }
+    }
+
+    /**
+     * Returns all payloads carried by this batch
+     *
+     * @return The payloads of this batch
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public List<Object> getPayloads() {
+        return (List<Object>) getPayload();
+    }
+
+    /**
+     * Returns the payloads carried by this batch as the desired type. Note that the caller must ensure that all
+     * payloads can be cast to the desired type, otherwise a {@link ClassCastException} is thrown when accessing them
+     *
+     * @param type The desired type of the payloads
+     * @return The payloads of this batch in the desired type
+     */
+    @Nonnull
+    @SuppressWarnings({"unchecked", "unused"})
+    public <T> List<T> getPayloadsAs(@Nonnull Class<T> type) {
+        return (List<T>) getPayload();
+    }
+
+    /**
+     * @return The number of payloads carried by this batch
+     */
+    public int size() {
+        return getPayloads().size();
+    }
+
+    /**
+     * Returns a view on this batch that contains a single {@link BusinessEvent} for each payload. The element events
+     * share the action, timestamp, metadata and source of this batch and are created lazily when accessed. See
+     * {@link #getElementEventData(int)} for their ids.
+     *
+     * @return The element-wise view on this batch
+     */
+    @Nonnull
+    public List<BusinessEvent> getElementEvents() {
+        return new ElementEvents();
+    }
+
+    /**
+     * Returns the event data of the element event at the given index. Each element has its own id, which is derived
+     * from the id of this batch and the index of the element, so that it is the same whenever the element is accessed
+     * and distinct from the ids of all other elements. The id of the batch is kept in the metadata of the element
+     * under {@link #BATCH_ID_METADATA_KEY}.
+     *
+     * @param index The index of the payload within this batch
+     * @return The event data of the element event
+     * @throws IndexOutOfBoundsException If there is no payload at the given index
+     */
+    @Nonnull
+    public BusinessEventData getElementEventData(int index) {
+        final var eventData = getEventData();
+        final var payload = getPayloads().get(index);
+
+        return new BusinessEventData(
+            elementId(eventData.id(), index),
+            payload,
+            eventData.action(),
+            eventData.timestamp(),
+            getElementMetadata()
+        );
+    }
+
+    private Map<String, String> getElementMetadata() {
+        // racy but idempotent, the metadata is immutable and equal for all threads
+        var metadata = elementMetadata;
+
+        if (metadata == null) {
+            final var withBatchId = new HashMap<>(getMetadata());
+            withBatchId.put(BATCH_ID_METADATA_KEY, getId().toString());
+            metadata = Map.copyOf(withBatchId);
+            elementMetadata = metadata;
+        }
+
+        return metadata;
+    }
+
+    private static UUID elementId(UUID batchId, int index) {
+        final var name = ByteBuffer.allocate(Long.BYTES * 2 + Integer.BYTES)
+            .putLong(batchId.getMostSignificantBits())
+            .putLong(batchId.getLeastSignificantBits())
+            .putInt(index)
+            .array();
+
+        return UUID.nameUUIDFromBytes(name);
+    }
+
+    private final class ElementEvents extends AbstractList<BusinessEvent> {
+        @Override
+        public BusinessEvent get(int index) {
+            return new BusinessEvent(getSource(), getElementEventData(index));
+        }
+
+        @Override
+        public int size() {
+            return BatchBusinessEvent.this.size();
+        }
+    }
+}
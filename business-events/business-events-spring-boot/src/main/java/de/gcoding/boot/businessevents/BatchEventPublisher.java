@@ -0,0 +1,50 @@
+package de.gcoding.boot.businessevents;
+
+import jakarta.annotation.Nonnull;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Publishes multiple events at once, e.g. all events buffered during a transaction. Implementations can use this to
+ * resolve listeners only once for the whole batch or to hand over the batch as a single unit of work.
+ */
+@FunctionalInterface
+public interface BatchEventPublisher {
+    /**
+     * Publishes the given events in the order they are given
+     *
+     * @param events The events to publish
+     */
+    void publishEvents(@Nonnull List<?> events);
+
+    /**
+     * Returns the given publisher if it is capable of publishing batches or a {@link BatchEventPublisher} that
+     * publishes the events one by one through the given publisher otherwise. Application events are published through
+     * {@link ApplicationEventPublisher#publishEvent(ApplicationEvent)}, as if they were published directly
+     *
+     * @param publisher The publisher to publish the events with
+     * @return A batch publisher for the given publisher
+     */
+    @Nonnull
+    static BatchEventPublisher of(@Nonnull ApplicationEventPublisher publisher) {
+        requireNonNull(publisher, "publisher must not be null");
+
+        if (publisher instanceof BatchEventPublisher batchEventPublisher) {
+            return batchEventPublisher;
+        }
+
+        return events -> {
+            for (final var event : events) {
+                if (event instanceof ApplicationEvent applicationEvent) {
+                    publisher.publishEvent(applicationEvent);
+                } else {
+                    publisher.publishEvent(event);
+                }
+            }
+        };
+    }
+}
@@ -6,11 +6,15 @@ import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * <p>
  * A business event is a spring application event that carries a domain objects or entities model as payload as
@@ -36,13 +40,7 @@ public class BusinessEvent extends ApplicationEvent implements BusinessEventData
      *                  well as metadata.
      */
     public BusinessEvent(@Nonnull Object source, @Nonnull BusinessEventData eventData) {
-        super(
-            source,
-            Clock.fixed(
-                eventData.timestamp().toInstant(),
-                eventData.timestamp().getZone()
-            )
-        );
+        super(source, new TimestampClock(eventData.timestamp()));
         this.eventData = eventData;
     }
 
@@ -95,20 +93,30 @@ public class BusinessEvent extends ApplicationEvent implements BusinessEventData
     }
 
     /**
-     * A Builder that builds {@link BusinessEvent}s
+     * A Builder that builds {@link BusinessEvent}s. The builder only collects the individual properties and creates
+     * a single {@link BusinessEventData} instance when the event is built. The metadata is only copied if it is
+     * actually modified.
      */
     public static final class Builder {
-        private BusinessEventData eventData;
-        private final Map<String, String> metadata;
+        private UUID id;
+        private Object payload;
+        private String action;
+        private ZonedDateTime timestamp;
+        private Map<String, String> metadata;
+        private boolean metadataModifiable;
 
         private Builder(@Nonnull Object payload) {
-            eventData = new BusinessEventData(payload);
-            metadata = new HashMap<>();
+            this.payload = payload;
+            this.action = EventActions.NONE;
+            this.metadata = Map.of();
         }
 
         private Builder(@Nonnull BusinessEventData initialEventData) {
-            eventData = initialEventData;
-            metadata = new HashMap<>(eventData.metadata());
+            this.id = initialEventData.id();
+            this.payload = initialEventData.payload();
+            this.action = initialEventData.action();
+            this.timestamp = initialEventData.timestamp();
+            this.metadata = initialEventData.metadata();
         }
 
         /**
@@ -119,7 +127,7 @@ public class BusinessEvent extends ApplicationEvent implements BusinessEventData
          */
         @Nonnull
         public Builder payload(@Nonnull Object payload) {
-            eventData = eventData.withPayload(payload);
+            this.payload = requireNonNull(payload, "payload must not be null");
             return this;
         }
 
@@ -132,7 +140,7 @@ public class BusinessEvent extends ApplicationEvent implements BusinessEventData
          */
         @Nonnull
         public Builder timestamp(@Nonnull ZonedDateTime timestamp) {
-            eventData = eventData.withTimestamp(timestamp);
+            this.timestamp = requireNonNull(timestamp, "timestamp must not be null");
             return this;
         }
 
@@ -158,7 +166,7 @@ public class BusinessEvent extends ApplicationEvent implements BusinessEventData
          */
         @Nonnull
         public Builder action(@Nonnull String action) {
-            eventData = eventData.withAction(action);
+            this.action = requireNonNull(action, "action must not be null");
             return this;
         }
 
@@ -171,7 +179,7 @@ public class BusinessEvent extends ApplicationEvent implements BusinessEventData
          */
         @Nonnull
         public Builder id(@Nonnull UUID id) {
-            eventData = eventData.withId(id);
+            this.id = requireNonNull(id, "id must not be null");
             return this;
         }
 
@@ -198,8 +206,8 @@ public class BusinessEvent extends ApplicationEvent implements BusinessEventData
          */
         @Nonnull
         public Builder metadata(@Nonnull Map<String, String> metadata) {
-            this.metadata.clear();
-            addMetadata(metadata);
+            this.metadata = new HashMap<>(metadata);
+            this.metadataModifiable = true;
             return this;
         }
 
@@ -213,7 +221,7 @@ public class BusinessEvent extends ApplicationEvent implements BusinessEventData
          */
         @Nonnull
         public Builder addMetadata(@Nonnull String metadataKey, @Nonnull String value) {
-            metadata.put(metadataKey, value);
+            modifiableMetadata().put(metadataKey, value);
             return this;
         }
 
@@ -227,7 +235,10 @@ public class BusinessEvent extends ApplicationEvent implements BusinessEventData
          */
         @Nonnull
         public Builder addMetadata(@Nonnull Map<String, String> additionalMetadata) {
-            metadata.putAll(additionalMetadata);
+            if (!additionalMetadata.isEmpty()) {
+                modifiableMetadata().putAll(additionalMetadata);
+            }
+
             return this;
         }
 
@@ -250,9 +261,56 @@ public class BusinessEvent extends ApplicationEvent implements BusinessEventData
          */
         @Nonnull
         public BusinessEvent build(@Nonnull Object source) {
-            final var data = eventData.withMetadata(metadata);
+            final var data = new BusinessEventData(
+                id != null ? id : UUID.randomUUID(),
+                payload,
+                action,
+                timestamp != null ? timestamp : ZonedDateTime.now(),
+                metadata.isEmpty() ? Map.of() : metadata
+            );
 
             return new BusinessEvent(source, data);
         }
+
+        private Map<String, String> modifiableMetadata() {
+            if (!metadataModifiable) {
+                metadata = new HashMap<>(metadata);
+                metadataModifiable = true;
+            }
+
+            return metadata;
+        }
+    }
+
+    /**
+     * Passes the timestamp of the event data to {@link ApplicationEvent#getTimestamp()} without converting it to an
+     * {@link java.time.Instant} or creating a fixed clock for every event
+     */
+    private static final class TimestampClock extends Clock {
+        private final ZonedDateTime timestamp;
+
+        private TimestampClock(ZonedDateTime timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        @Override
+        public long millis() {
+            return timestamp.toEpochSecond() * 1000 + timestamp.getNano() / 1_000_000;
+        }
+
+        @Override
+        public Instant instant() {
+            return timestamp.toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return timestamp.getZone();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new TimestampClock(timestamp.withZoneSameInstant(zone));
+        }
     }
 }
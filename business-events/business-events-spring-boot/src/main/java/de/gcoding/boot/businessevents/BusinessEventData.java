@@ -32,6 +32,7 @@ public record BusinessEventData(
         requireNonNull(timestamp, "timestamp must not be null");
         requireNonNull(metadata, "metadata must not be null");
 
+        // does not copy maps that are unmodifiable already, so records derived from each other share their metadata
         metadata = Map.copyOf(metadata);
     }
 
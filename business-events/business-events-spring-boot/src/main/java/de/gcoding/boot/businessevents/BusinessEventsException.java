@@ -4,4 +4,8 @@ public class BusinessEventsException extends RuntimeException {
     public BusinessEventsException(String message) {
         super(message);
     }
+
+    public BusinessEventsException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
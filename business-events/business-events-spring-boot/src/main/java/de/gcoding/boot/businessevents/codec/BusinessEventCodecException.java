@@ -0,0 +1,13 @@
+package de.gcoding.boot.businessevents.codec;
+
+import de.gcoding.boot.businessevents.BusinessEventsException;
+
+public class BusinessEventCodecException extends BusinessEventsException {
+    public BusinessEventCodecException(String message) {
+        super(message);
+    }
+
+    public BusinessEventCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,435 @@
+package de.gcoding.boot.businessevents.codec;
+
+import de.gcoding.boot.businessevents.BusinessEventData;
+import jakarta.annotation.Nonnull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Encodes {@link BusinessEventData} into a compact, versioned binary format and back. The format starts with a fixed
+ * size header, so that the id and the timestamp of an encoded event can be read without decoding it entirely:
+ * </p>
+ * <pre>
+ * byte   version
+ * long   id (most significant bits)
+ * long   id (least significant bits)
+ * long   timestamp (nanoseconds since the epoch)
+ * string zone id
+ * string action
+ * varint number of metadata entries, followed by a key and a value string per entry
+ * string payload type
+ * varint payload length, followed by the payload as serialized by the {@link PayloadSerializer}
+ * </pre>
+ * <p>
+ * Numbers are written in big-endian byte order, regardless of the order of the buffer. Strings contained in the
+ * {@link CodecDictionary} are written as a reference to their dictionary entry, all other strings as their length
+ * followed by their UTF-8 encoded characters. Both the reference and the length are written as an unsigned variable
+ * length integer, whose lowest bit tells them apart.
+ * </p>
+ * <p>
+ * Encoding into a {@link ByteBuffer} writes the event directly into the buffer without allocating intermediate
+ * buffers, except for the serialized payload. Timestamps must be within about 292 years of the epoch to be
+ * representable in nanoseconds. Codecs are thread safe.
+ * </p>
+ */
+public class BusinessEventDataCodec {
+    public static final byte VERSION = 1;
+    /**
+     * The size of the fixed size part at the beginning of every encoded event
+     */
+    public static final int HEADER_SIZE = 25;
+    private static final int ID_OFFSET = 1;
+    private static final int TIMESTAMP_OFFSET = 17;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private final PayloadSerializer payloadSerializer;
+    private final CodecDictionary dictionary;
+    private final Map<String, ZoneId> zones = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link BusinessEventDataCodec} that uses the {@link CodecDictionary#defaults() default dictionary}
+     *
+     * @param payloadSerializer The serializer used for the payloads of the events
+     */
+    public BusinessEventDataCodec(@Nonnull PayloadSerializer payloadSerializer) {
+        this(payloadSerializer, CodecDictionary.defaults());
+    }
+
+    /**
+     * Creates a new {@link BusinessEventDataCodec}
+     *
+     * @param payloadSerializer The serializer used for the payloads of the events
+     * @param dictionary        The dictionary of strings encoded as references
+     */
+    public BusinessEventDataCodec(@Nonnull PayloadSerializer payloadSerializer, @Nonnull CodecDictionary dictionary) {
+        this.payloadSerializer = requireNonNull(payloadSerializer, "payloadSerializer must not be null");
+        this.dictionary = requireNonNull(dictionary, "dictionary must not be null");
+    }
+
+    /**
+     * Encodes the given event at the current position of the buffer and advances the position, if the encoded event
+     * fits into the remaining space of the buffer
+     *
+     * @param eventData The event to encode
+     * @param target    The buffer to write to
+     * @return The number of bytes written, or {@code -1} if the event does not fit and nothing was written
+     * @throws BusinessEventCodecException   If the timestamp of the event cannot be represented
+     * @throws PayloadSerializationException If the payload cannot be serialized
+     */
+    public int encode(@Nonnull BusinessEventData eventData, @Nonnull ByteBuffer target) {
+        requireNonNull(eventData, "eventData must not be null");
+        requireNonNull(target, "target must not be null");
+
+        final var payload = payloadSerializer.serialize(eventData.payload());
+        final var size = encodedSize(eventData, payload);
+
+        if (target.remaining() < size) {
+            return -1;
+        }
+
+        write(eventData, payload, target);
+        return size;
+    }
+
+    /**
+     * Encodes the given event into a new byte array
+     *
+     * @param eventData The event to encode
+     * @return The encoded event
+     * @throws BusinessEventCodecException   If the timestamp of the event cannot be represented
+     * @throws PayloadSerializationException If the payload cannot be serialized
+     */
+    @Nonnull
+    public byte[] encode(@Nonnull BusinessEventData eventData) {
+        requireNonNull(eventData, "eventData must not be null");
+
+        final var payload = payloadSerializer.serialize(eventData.payload());
+        final var bytes = new byte[encodedSize(eventData, payload)];
+        write(eventData, payload, ByteBuffer.wrap(bytes));
+
+        return bytes;
+    }
+
+    /**
+     * Decodes the event at the current position of the buffer and advances the position behind it
+     *
+     * @param source The buffer to read from
+     * @return The decoded event
+     * @throws BusinessEventCodecException   If the buffer does not contain a valid event
+     * @throws PayloadSerializationException If the payload cannot be deserialized
+     */
+    @Nonnull
+    public BusinessEventData decode(@Nonnull ByteBuffer source) {
+        requireNonNull(source, "source must not be null");
+
+        try {
+            final var start = source.position();
+            verifyVersion(source.get());
+
+            final var id = readId(source, start);
+            final var timestamp = readTimestamp(source, start);
+            source.position(start + HEADER_SIZE);
+
+            final var zone = zoneOf(readString(source));
+            final var action = readString(source);
+            final var metadata = readMetadata(source);
+            final var payloadType = readString(source);
+            final var payload = new byte[readLength(source)];
+            source.get(payload);
+
+            return new BusinessEventData(
+                id,
+                payloadSerializer.deserialize(payload, payloadType),
+                action,
+                ZonedDateTime.ofInstant(timestamp, zone),
+                metadata
+            );
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new BusinessEventCodecException("encoded business event is truncated", e);
+        } catch (DateTimeException | IllegalArgumentException e) {
+            throw new BusinessEventCodecException("encoded business event is invalid", e);
+        }
+    }
+
+    /**
+     * Decodes the event contained in the given bytes
+     *
+     * @param data The encoded event
+     * @return The decoded event
+     * @throws BusinessEventCodecException   If the bytes do not contain a valid event
+     * @throws PayloadSerializationException If the payload cannot be deserialized
+     */
+    @Nonnull
+    public BusinessEventData decode(@Nonnull byte[] data) {
+        requireNonNull(data, "data must not be null");
+        return decode(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Reads the id of the event encoded at the given index, without decoding the event or changing the position of
+     * the buffer
+     *
+     * @param buffer The buffer to read from
+     * @param index  The index the encoded event starts at
+     * @return The id of the event
+     */
+    @Nonnull
+    public static UUID readId(@Nonnull ByteBuffer buffer, int index) {
+        return new UUID(getLong(buffer, index + ID_OFFSET), getLong(buffer, index + ID_OFFSET + 8));
+    }
+
+    /**
+     * Reads the timestamp of the event encoded at the given index, without decoding the event or changing the
+     * position of the buffer
+     *
+     * @param buffer The buffer to read from
+     * @param index  The index the encoded event starts at
+     * @return The timestamp of the event
+     */
+    @Nonnull
+    public static Instant readTimestamp(@Nonnull ByteBuffer buffer, int index) {
+        final var nanos = getLong(buffer, index + TIMESTAMP_OFFSET);
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND));
+    }
+
+    @Nonnull
+    public PayloadSerializer getPayloadSerializer() {
+        return payloadSerializer;
+    }
+
+    @Nonnull
+    public CodecDictionary getDictionary() {
+        return dictionary;
+    }
+
+    private int encodedSize(BusinessEventData eventData, byte[] payload) {
+        var size = HEADER_SIZE +
+            stringSize(eventData.timestamp().getZone().getId()) +
+            stringSize(eventData.action()) +
+            varintSize(eventData.metadata().size()) +
+            stringSize(eventData.payload().getClass().getName()) +
+            varintSize(payload.length) + payload.length;
+
+        for (final var entry : eventData.metadata().entrySet()) {
+            size += stringSize(entry.getKey()) + stringSize(entry.getValue());
+        }
+
+        return size;
+    }
+
+    private void write(BusinessEventData eventData, byte[] payload, ByteBuffer target) {
+        final var instant = eventData.timestamp().toInstant();
+        final long nanos;
+
+        try {
+            nanos = Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+        } catch (ArithmeticException e) {
+            throw new BusinessEventCodecException("timestamp " + eventData.timestamp() + " of business event " +
+                eventData.id() + " cannot be represented in nanoseconds since the epoch", e);
+        }
+
+        target.put(VERSION);
+        putLong(target, eventData.id().getMostSignificantBits());
+        putLong(target, eventData.id().getLeastSignificantBits());
+        putLong(target, nanos);
+        writeString(target, eventData.timestamp().getZone().getId());
+        writeString(target, eventData.action());
+        writeVarint(target, eventData.metadata().size());
+
+        for (final var entry : eventData.metadata().entrySet()) {
+            writeString(target, entry.getKey());
+            writeString(target, entry.getValue());
+        }
+
+        writeString(target, eventData.payload().getClass().getName());
+        writeVarint(target, payload.length);
+        target.put(payload);
+    }
+
+    private int stringSize(String value) {
+        final var index = dictionary.indexOf(value);
+
+        if (index >= 0) {
+            return varintSize(index << 1 | 1);
+        }
+
+        final var length = utf8Length(value);
+        return varintSize(length << 1) + length;
+    }
+
+    private void writeString(ByteBuffer target, String value) {
+        final var index = dictionary.indexOf(value);
+
+        if (index >= 0) {
+            writeVarint(target, index << 1 | 1);
+        } else {
+            writeVarint(target, utf8Length(value) << 1);
+            writeUtf8(target, value);
+        }
+    }
+
+    private String readString(ByteBuffer source) {
+        final var tag = readVarint(source);
+
+        if ((tag & 1) == 1) {
+            return dictionary.get(tag >>> 1);
+        }
+
+        final var length = tag >>> 1;
+        final String value;
+
+        if (length > source.remaining()) {
+            throw new BusinessEventCodecException("encoded business event is truncated");
+        }
+
+        if (source.hasArray()) {
+            value = new String(source.array(), source.arrayOffset() + source.position(), length, UTF_8);
+            source.position(source.position() + length);
+        } else {
+            final var bytes = new byte[length];
+            source.get(bytes);
+            value = new String(bytes, UTF_8);
+        }
+
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> readMetadata(ByteBuffer source) {
+        final var size = readLength(source);
+
+        if (size == 0) {
+            return Map.of();
+        }
+
+        final var entries = new Map.Entry[size];
+
+        for (var i = 0; i < size; i++) {
+            entries[i] = Map.entry(readString(source), readString(source));
+        }
+
+        // Map.ofEntries creates an unmodifiable map, which is not copied again by BusinessEventData
+        return Map.ofEntries(entries);
+    }
+
+    private ZoneId zoneOf(String zoneId) {
+        final var zone = zones.get(zoneId);
+        return zone != null ? zone : zones.computeIfAbsent(zoneId, ZoneId::of);
+    }
+
+    private static int readLength(ByteBuffer source) {
+        final var length = readVarint(source);
+
+        if (length < 0 || length > source.remaining()) {
+            throw new BusinessEventCodecException("encoded business event is truncated");
+        }
+
+        return length;
+    }
+
+    private static void verifyVersion(byte version) {
+        if (version != VERSION) {
+            throw new BusinessEventCodecException("unsupported business event encoding version " + version +
+                ", expected " + VERSION);
+        }
+    }
+
+    private static int utf8Length(String value) {
+        final var length = value.length();
+        var bytes = length;
+
+        for (var i = 0; i < length; i++) {
+            final var c = value.charAt(i);
+
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            }
+        }
+
+        return bytes;
+    }
+
+    private static void writeUtf8(ByteBuffer target, String value) {
+        final var length = value.length();
+
+        for (var i = 0; i < length; i++) {
+            final var c = value.charAt(i);
+
+            if (c < 0x80) {
+                target.put((byte) c);
+            } else if (c < 0x800) {
+                target.put((byte) (0xC0 | c >> 6));
+                target.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target.put((byte) (0xF0 | codePoint >> 18));
+                target.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                target.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                target.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogates are replaced just like String#getBytes does
+                target.put((byte) '?');
+            } else {
+                target.put((byte) (0xE0 | c >> 12));
+                target.put((byte) (0x80 | c >> 6 & 0x3F));
+                target.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private static int varintSize(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    private static void writeVarint(ByteBuffer target, int value) {
+        while ((value & ~0x7F) != 0) {
+            target.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+
+        target.put((byte) value);
+    }
+
+    private static int readVarint(ByteBuffer source) {
+        var value = 0;
+
+        for (var shift = 0; shift < 35; shift += 7) {
+            final var b = source.get();
+            value |= (b & 0x7F) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new BusinessEventCodecException("encoded business event contains a malformed number");
+    }
+
+    private static void putLong(ByteBuffer target, long value) {
+        target.putLong(target.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value));
+    }
+
+    private static long getLong(ByteBuffer buffer, int index) {
+        final var value = buffer.getLong(index);
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+    }
+}
@@ -0,0 +1,119 @@
+package de.gcoding.boot.businessevents.codec;
+
+import de.gcoding.boot.businessevents.EventActions;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * An ordered list of strings that the {@link BusinessEventDataCodec} encodes as a short reference instead of their
+ * characters, typically actions, metadata keys, zone ids and payload class names. Decoded references resolve to the
+ * very same string instance, so that decoding frequently used strings does not allocate.
+ * </p>
+ * <p>
+ * Encoded data can only be decoded with a dictionary that contains the same entries at the same positions. Hence,
+ * dictionaries must only ever be extended by appending entries through {@link #with(String...)}, once data encoded
+ * with them has been stored or sent somewhere. Dictionaries are immutable and thread safe.
+ * </p>
+ */
+public final class CodecDictionary {
+    private static final CodecDictionary DEFAULTS = new CodecDictionary(List.of(
+        EventActions.CREATE,
+        EventActions.UPDATE,
+        EventActions.DELETE,
+        EventActions.NONE,
+        "Z",
+        "UTC",
+        String.class.getName()
+    ));
+    private final String[] entries;
+    private final Map<String, Integer> indexes;
+
+    private CodecDictionary(List<String> entries) {
+        this.entries = entries.toArray(String[]::new);
+        this.indexes = HashMap.newHashMap(this.entries.length);
+
+        for (var i = 0; i < this.entries.length; i++) {
+            final var entry = requireNonNull(this.entries[i], "dictionary entries must not be null");
+
+            if (indexes.putIfAbsent(entry, i) != null) {
+                throw new IllegalArgumentException("dictionary contains entry '" + entry + "' more than once");
+            }
+        }
+    }
+
+    /**
+     * @return The dictionary containing the actions of {@link EventActions}, the zone ids {@code Z} and {@code UTC} as
+     * well as the class name of {@link String}
+     */
+    @Nonnull
+    public static CodecDictionary defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Creates a new dictionary that consists of the entries of this dictionary followed by the given entries
+     *
+     * @param additionalEntries The entries to append
+     * @return The extended dictionary
+     * @throws IllegalArgumentException If an entry is contained more than once
+     */
+    @Nonnull
+    public CodecDictionary with(@Nonnull String... additionalEntries) {
+        requireNonNull(additionalEntries, "additionalEntries must not be null");
+
+        final var combined = new ArrayList<>(Arrays.asList(entries));
+        combined.addAll(Arrays.asList(additionalEntries));
+
+        return new CodecDictionary(combined);
+    }
+
+    /**
+     * @return The position of the given string, or {@code -1} if it is not part of this dictionary
+     */
+    public int indexOf(@Nonnull String value) {
+        final var index = indexes.get(value);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @return The entry at the given position
+     * @throws BusinessEventCodecException If there is no such entry
+     */
+    @Nonnull
+    public String get(int index) {
+        if (index < 0 || index >= entries.length) {
+            throw new BusinessEventCodecException("dictionary reference " + index + " is out of range, the data " +
+                "has probably been encoded with a different dictionary");
+        }
+
+        return entries[index];
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return this == o || o instanceof CodecDictionary other && Arrays.equals(entries, other.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(entries);
+    }
+
+    @Override
+    public String toString() {
+        return "CodecDictionary" + Arrays.toString(entries);
+    }
+}
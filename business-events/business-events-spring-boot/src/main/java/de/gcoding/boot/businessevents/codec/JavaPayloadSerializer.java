@@ -0,0 +1,103 @@
+package de.gcoding.boot.businessevents.codec;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link PayloadSerializer} based on Java serialization. It requires payloads to implement {@link Serializable} and
+ * does not need any additional library. Classes are resolved through the given class loader, which defaults to the
+ * class loader Spring uses by default.
+ * <p>
+ * Note that Java serialization is only safe for data the application has written itself. Provide a different
+ * {@link PayloadSerializer} if serialized payloads may originate from untrusted sources.
+ * </p>
+ */
+public class JavaPayloadSerializer implements PayloadSerializer {
+    private final ClassLoader classLoader;
+
+    /**
+     * Creates a new {@link JavaPayloadSerializer} that uses Spring's default class loader
+     */
+    public JavaPayloadSerializer() {
+        this(null);
+    }
+
+    /**
+     * Creates a new {@link JavaPayloadSerializer}
+     *
+     * @param classLoader The class loader used to resolve payload classes, or {@code null} to use Spring's default
+     *                    class loader
+     */
+    public JavaPayloadSerializer(@Nullable ClassLoader classLoader) {
+        this.classLoader = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+    }
+
+    @Nonnull
+    @Override
+    public byte[] serialize(@Nonnull Object payload) {
+        requireNonNull(payload, "payload must not be null");
+
+        if (!(payload instanceof Serializable)) {
+            throw new PayloadSerializationException("payload of type " + payload.getClass().getName() +
+                " cannot be serialized as it does not implement java.io.Serializable");
+        }
+
+        final var bytes = new ByteArrayOutputStream(256);
+
+        try (final var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(payload);
+        } catch (IOException e) {
+            throw new PayloadSerializationException("failed to serialize payload of type " +
+                payload.getClass().getName(), e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @Nonnull
+    @Override
+    public Object deserialize(@Nonnull byte[] data, @Nonnull String payloadType) {
+        requireNonNull(data, "data must not be null");
+        requireNonNull(payloadType, "payloadType must not be null");
+
+        try (final var in = new ClassLoaderObjectInputStream(new ByteArrayInputStream(data), classLoader)) {
+            return requireNonNull(in.readObject(), "deserialized payload must not be null");
+        } catch (IOException | ClassNotFoundException e) {
+            throw new PayloadSerializationException("failed to deserialize payload of type " + payloadType, e);
+        }
+    }
+
+    private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+        private final ClassLoader classLoader;
+
+        private ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (classLoader == null) {
+                return super.resolveClass(desc);
+            }
+
+            try {
+                return ClassUtils.forName(desc.getName(), classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
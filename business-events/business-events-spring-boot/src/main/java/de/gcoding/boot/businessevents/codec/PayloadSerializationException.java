@@ -0,0 +1,13 @@
+package de.gcoding.boot.businessevents.codec;
+
+import de.gcoding.boot.businessevents.BusinessEventsException;
+
+public class PayloadSerializationException extends BusinessEventsException {
+    public PayloadSerializationException(String message) {
+        super(message);
+    }
+
+    public PayloadSerializationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,30 @@
+package de.gcoding.boot.businessevents.codec;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Converts the payload of a business event into bytes and back, so that events can be stored durably or handed over
+ * to other processes. Implementations must be thread safe.
+ */
+public interface PayloadSerializer {
+    /**
+     * Serializes the given payload
+     *
+     * @param payload The payload to serialize
+     * @return The serialized payload
+     * @throws PayloadSerializationException If the payload cannot be serialized
+     */
+    @Nonnull
+    byte[] serialize(@Nonnull Object payload);
+
+    /**
+     * Deserializes a payload that has been serialized by {@link #serialize(Object)}
+     *
+     * @param data        The serialized payload
+     * @param payloadType The fully qualified class name of the payload at the time it was serialized
+     * @return The deserialized payload
+     * @throws PayloadSerializationException If the payload cannot be deserialized
+     */
+    @Nonnull
+    Object deserialize(@Nonnull byte[] data, @Nonnull String payloadType);
+}
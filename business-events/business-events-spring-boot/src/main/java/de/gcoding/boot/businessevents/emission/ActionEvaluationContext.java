@@ -0,0 +1,35 @@
+package de.gcoding.boot.businessevents.emission;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * Describes the properties available to the action expressions of {@link EmitBusinessEvent#actionSpEL()}. The root
+ * object of each evaluation implements this interface, which allows the expressions to be compiled.
+ */
+public interface ActionEvaluationContext {
+    /**
+     * @return The (unwrapped) payload of the event, or the list of payloads for batch events
+     */
+    Object payload();
+
+    /**
+     * @return The original return value of the annotated method
+     */
+    Object wrappedPayload();
+
+    /**
+     * @return The instance the annotated method was invoked on
+     */
+    Object emittingSource();
+
+    /**
+     * @return The signature of the annotated method
+     */
+    MethodSignature methodSignature();
+
+    /**
+     * @return The annotation instance found on the method
+     */
+    EmitBusinessEvent configuration();
+}
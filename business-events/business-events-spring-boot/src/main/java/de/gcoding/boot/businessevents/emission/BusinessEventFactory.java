@@ -1,10 +1,13 @@
 package de.gcoding.boot.businessevents.emission;
 
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
 import de.gcoding.boot.businessevents.BusinessEvent;
 import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
 import jakarta.annotation.Nonnull;
 import org.aspectj.lang.reflect.MethodSignature;
 
+import java.util.List;
+
 @FunctionalInterface
 public interface BusinessEventFactory {
     @Nonnull
@@ -25,4 +28,76 @@ public interface BusinessEventFactory {
         @Nonnull MethodSignature methodSignature,
         @Nonnull EmitBusinessEvent configuration
     );
+
+    /**
+     * Creates a single {@link BatchBusinessEvent} carrying all the given payloads. The default implementation creates
+     * a regular event with the list of payloads as its payload and converts it into a batch event.
+     *
+     * @param payloads        The (unwrapped) payloads to be carried by the batch
+     * @param wrappedPayload  The original return value of the annotated method
+     * @param emittingSource  The instance the annotated method was invoked on
+     * @param methodSignature The signature of the annotated method
+     * @param configuration   The annotation instance found on the method
+     * @return The batch event
+     */
+    @Nonnull
+    default BatchBusinessEvent createBatchBusinessEvent(
+        @Nonnull List<Object> payloads,
+        @Nonnull Object wrappedPayload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        final var event = createBusinessEvent(payloads, wrappedPayload, emittingSource, methodSignature, configuration);
+        return new BatchBusinessEvent(event.getSource(), event.getEventData());
+    }
+
+    /**
+     * Same as {@link #createBusinessEvent(Object, Object, Object, MethodSignature, EmitBusinessEvent)}, but with the
+     * {@link EmissionPlan} already resolved for the intercepted call, so that it does not have to be resolved again
+     * for each event. The default implementation ignores the plan.
+     *
+     * @param payload         The (unwrapped) payload of the event
+     * @param wrappedPayload  The original return value of the annotated method
+     * @param emittingSource  The instance the annotated method was invoked on
+     * @param methodSignature The signature of the annotated method
+     * @param configuration   The annotation instance found on the method
+     * @param plan            The emission plan of the annotated method
+     * @return The event
+     */
+    @Nonnull
+    default BusinessEvent createBusinessEvent(
+        @Nonnull Object payload,
+        @Nonnull Object wrappedPayload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration,
+        @Nonnull EmissionPlan plan
+    ) {
+        return createBusinessEvent(payload, wrappedPayload, emittingSource, methodSignature, configuration);
+    }
+
+    /**
+     * Same as {@link #createBatchBusinessEvent(List, Object, Object, MethodSignature, EmitBusinessEvent)}, but with
+     * the {@link EmissionPlan} already resolved for the intercepted call. The default implementation ignores the plan.
+     *
+     * @param payloads        The (unwrapped) payloads to be carried by the batch
+     * @param wrappedPayload  The original return value of the annotated method
+     * @param emittingSource  The instance the annotated method was invoked on
+     * @param methodSignature The signature of the annotated method
+     * @param configuration   The annotation instance found on the method
+     * @param plan            The emission plan of the annotated method
+     * @return The batch event
+     */
+    @Nonnull
+    default BatchBusinessEvent createBatchBusinessEvent(
+        @Nonnull List<Object> payloads,
+        @Nonnull Object wrappedPayload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration,
+        @Nonnull EmissionPlan plan
+    ) {
+        return createBatchBusinessEvent(payloads, wrappedPayload, emittingSource, methodSignature, configuration);
+    }
 }
@@ -1,31 +1,77 @@
 package de.gcoding.boot.businessevents.emission;
 
 
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
 import de.gcoding.boot.businessevents.BusinessEvent;
-import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.BusinessEventData;
 import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.id.EventIdGenerator;
+import de.gcoding.boot.businessevents.jfr.ActionEvaluationJfrEvent;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import de.gcoding.boot.businessevents.time.EventClock;
 import jakarta.annotation.Nonnull;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
 import org.springframework.expression.Expression;
+import org.springframework.expression.IndexAccessor;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.StringUtils;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.util.Objects.requireNonNull;
 
 public class BusinessEventFactoryImpl implements BusinessEventFactory {
-    private static final Map<String, Expression> EXPRESSIONS_CACHE = new ConcurrentHashMap<>();
+    public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 256;
+    private static final Logger LOG = LoggerFactory.getLogger(BusinessEventFactoryImpl.class);
     private final SpelExpressionParser parser;
     private final BeanResolver beanResolver;
+    private final ExpressionCache expressionCache;
+    private final EvaluationDelegates evaluationDelegates;
+    private final EventIdGenerator eventIdGenerator;
+    private final EventClock eventClock;
+    private final BusinessEventsMetrics metrics;
+    private final LongAdder compiledEvaluationFailures = new LongAdder();
 
-    public BusinessEventFactoryImpl(@Nonnull SpelExpressionParser parser, @Nonnull BeanResolver beanResolver) {
+    /**
+     * Creates a new {@link BusinessEventFactoryImpl}
+     *
+     * @param parser              The parser used for action expressions. Configure it with a
+     *                            {@link org.springframework.expression.spel.SpelCompilerMode} other than {@code OFF}
+     *                            to have frequently evaluated expressions compiled to bytecode
+     * @param beanResolver        The resolver used for bean references within action expressions
+     * @param expressionCacheSize The maximum number of parsed action expressions to keep
+     * @param eventIdGenerator    The generator used to create the ids of the events
+     * @param eventClock          The clock used to create the timestamps of the events
+     * @param metrics             Records how long the evaluation of action expressions takes
+     */
+    public BusinessEventFactoryImpl(
+        @Nonnull SpelExpressionParser parser,
+        @Nonnull BeanResolver beanResolver,
+        int expressionCacheSize,
+        @Nonnull EventIdGenerator eventIdGenerator,
+        @Nonnull EventClock eventClock,
+        @Nonnull BusinessEventsMetrics metrics
+    ) {
         this.parser = requireNonNull(parser, "parser must not be null");
         this.beanResolver = requireNonNull(beanResolver, "beanResolver must not be null");
+        this.expressionCache = new ExpressionCache(parser, expressionCacheSize);
+        this.evaluationDelegates = EvaluationDelegates.of(beanResolver);
+        this.eventIdGenerator = requireNonNull(eventIdGenerator, "eventIdGenerator must not be null");
+        this.eventClock = requireNonNull(eventClock, "eventClock must not be null");
+        this.metrics = requireNonNull(metrics, "metrics must not be null");
     }
 
     @Override
@@ -36,75 +82,180 @@ public class BusinessEventFactoryImpl implements BusinessEventFactory {
         @Nonnull MethodSignature methodSignature,
         @Nonnull EmitBusinessEvent configuration
     ) {
-        final var actionResolver = new ActionEvaluator(payload, wrappedPayload, emittingSource, methodSignature, configuration);
-        final var action = actionResolver.resolveAction();
+        final var plan = EmissionPlan.of(methodSignature, configuration);
+        return createBusinessEvent(payload, wrappedPayload, emittingSource, methodSignature, configuration, plan);
+    }
 
-        return BusinessEvent.withPayload(payload)
-            .action(action)
-            .build(emittingSource);
+    @Override
+    public @Nonnull BusinessEvent createBusinessEvent(
+        @Nonnull Object payload,
+        @Nonnull Object wrappedPayload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration,
+        @Nonnull EmissionPlan plan
+    ) {
+        final var action = resolveAction(plan, payload, wrappedPayload, emittingSource, methodSignature, configuration);
+
+        return new BusinessEvent(emittingSource, createEventData(payload, action));
     }
 
-    private class ActionEvaluator {
-        private final Object payload;
-        private final Object wrappedPayload;
-        private final Object emittingSource;
-        private final MethodSignature methodSignature;
-        private final EmitBusinessEvent configuration;
-
-        private ActionEvaluator(Object payload, Object wrappedPayload, Object emittingSource, MethodSignature methodSignature, EmitBusinessEvent configuration) {
-            this.payload = payload;
-            this.wrappedPayload = wrappedPayload;
-            this.emittingSource = emittingSource;
-            this.methodSignature = methodSignature;
-            this.configuration = configuration;
-        }
+    @Override
+    public @Nonnull BatchBusinessEvent createBatchBusinessEvent(
+        @Nonnull List<Object> payloads,
+        @Nonnull Object wrappedPayload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        final var plan = EmissionPlan.of(methodSignature, configuration);
+        return createBatchBusinessEvent(payloads, wrappedPayload, emittingSource, methodSignature, configuration, plan);
+    }
 
-        public String resolveAction() {
-            return Optional.ofNullable(configuration.actionSpEL())
-                .filter(StringUtils::hasText)
-                .map(this::evaluateActionAsSpEL)
-                .filter(StringUtils::hasText)
-                .orElseGet(this::resolveStaticAction);
-        }
+    @Override
+    public @Nonnull BatchBusinessEvent createBatchBusinessEvent(
+        @Nonnull List<Object> payloads,
+        @Nonnull Object wrappedPayload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration,
+        @Nonnull EmissionPlan plan
+    ) {
+        final var action = resolveAction(plan, payloads, wrappedPayload, emittingSource, methodSignature, configuration);
 
-        private String resolveStaticAction() {
-            return Optional.ofNullable(configuration.action())
-                .filter(StringUtils::hasText)
-                .orElse(EventActions.NONE);
-        }
+        return new BatchBusinessEvent(emittingSource, createEventData(payloads, action));
+    }
+
+    /**
+     * @return The cache holding the parsed action expressions of this factory
+     */
+    @Nonnull
+    public ExpressionCache getExpressionCache() {
+        return expressionCache;
+    }
+
+    /**
+     * Returns how often a compiled action expression failed and the expression had to be evaluated in interpreted
+     * mode instead
+     *
+     * @return The number of failed compiled evaluations
+     */
+    public long getCompiledEvaluationFailureCount() {
+        return compiledEvaluationFailures.sum();
+    }
 
-        private String evaluateActionAsSpEL(String actionSpEL) {
-            final var expression = createExpression(actionSpEL);
-            final var context = createEvaluationContext();
+    private BusinessEventData createEventData(Object payload, String action) {
+        return new BusinessEventData(eventIdGenerator.generateId(), payload, action, eventClock.now());
+    }
 
-            return expression.getValue(context, String.class);
+    private String resolveAction(
+        EmissionPlan plan,
+        Object payload,
+        Object wrappedPayload,
+        Object emittingSource,
+        MethodSignature methodSignature,
+        EmitBusinessEvent configuration
+    ) {
+        return plan.hasActionExpression()
+            ? evaluateAction(plan, payload, wrappedPayload, emittingSource, methodSignature, configuration)
+            : plan.staticAction();
+    }
+
+    private String evaluateAction(
+        EmissionPlan plan,
+        Object payload,
+        Object wrappedPayload,
+        Object emittingSource,
+        MethodSignature methodSignature,
+        EmitBusinessEvent configuration
+    ) {
+        final var expression = expressionCache.get(plan.actionSpEL());
+        final var root = new ActionEvaluationRoot(payload, wrappedPayload, emittingSource, methodSignature, configuration);
+        final var jfrEvent = new ActionEvaluationJfrEvent();
+        jfrEvent.begin();
+        final var start = System.nanoTime();
+        final var action = evaluate(expression, root);
+        metrics.actionEvaluated(System.nanoTime() - start);
+
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.setExpression(plan.actionSpEL());
+            jfrEvent.setAction(action);
+            jfrEvent.commit();
         }
 
-        private Expression createExpression(String actionSpEL) {
-            return EXPRESSIONS_CACHE.computeIfAbsent(actionSpEL, parser::parseExpression);
+        return StringUtils.hasText(action) ? action : plan.staticAction();
+    }
+
+    private String evaluate(Expression expression, ActionEvaluationRoot root) {
+        final var evaluationContext = evaluationDelegates.createContext(root);
+
+        try {
+            return expression.getValue(evaluationContext, String.class);
+        } catch (SpelEvaluationException e) {
+            if (e.getMessageCode() != SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION
+                || !(expression instanceof SpelExpression spelExpression)) {
+                throw e;
+            }
+
+            compiledEvaluationFailures.increment();
+            LOG.debug("Compiled action expression '{}' failed, falling back to interpretation",
+                expression.getExpressionString(), e);
+            spelExpression.revertToInterpreted();
+
+            return expression.getValue(evaluationContext, String.class);
         }
+    }
+
+    /**
+     * The resolvers and accessors of an evaluation context. They are created once and shared between all evaluations,
+     * so that their caches are retained, while each evaluation gets its own cheap, mutable context.
+     */
+    private record EvaluationDelegates(
+        BeanResolver beanResolver,
+        List<PropertyAccessor> propertyAccessors,
+        List<IndexAccessor> indexAccessors,
+        List<ConstructorResolver> constructorResolvers,
+        List<MethodResolver> methodResolvers,
+        TypeLocator typeLocator,
+        TypeConverter typeConverter
+    ) {
+        static EvaluationDelegates of(BeanResolver beanResolver) {
+            final var defaults = new StandardEvaluationContext();
 
-        private StandardEvaluationContext createEvaluationContext() {
-            final var context = new StandardEvaluationContext();
-            final var rootObject = asActionEvaluationRoot();
+            return new EvaluationDelegates(
+                beanResolver,
+                List.copyOf(defaults.getPropertyAccessors()),
+                List.copyOf(defaults.getIndexAccessors()),
+                List.copyOf(defaults.getConstructorResolvers()),
+                List.copyOf(defaults.getMethodResolvers()),
+                defaults.getTypeLocator(),
+                defaults.getTypeConverter()
+            );
+        }
 
+        StandardEvaluationContext createContext(Object root) {
+            final var context = new StandardEvaluationContext(root);
             context.setBeanResolver(beanResolver);
-            context.setRootObject(rootObject);
+            context.setPropertyAccessors(propertyAccessors);
+            context.setIndexAccessors(indexAccessors);
+            context.setConstructorResolvers(constructorResolvers);
+            context.setMethodResolvers(methodResolvers);
+            context.setTypeLocator(typeLocator);
+            context.setTypeConverter(typeConverter);
 
             return context;
         }
-
-        private ActionEvaluationRoot asActionEvaluationRoot() {
-            return new ActionEvaluationRoot(payload, wrappedPayload, emittingSource, methodSignature, configuration);
-        }
     }
 
-    private record ActionEvaluationRoot(
+    /**
+     * The root object available to action expressions
+     */
+    record ActionEvaluationRoot(
         Object payload,
         Object wrappedPayload,
         Object emittingSource,
         MethodSignature methodSignature,
         EmitBusinessEvent configuration
-    ) {
+    ) implements ActionEvaluationContext {
     }
 }
@@ -7,6 +7,7 @@ import jakarta.annotation.Nullable;
 import org.aspectj.lang.reflect.MethodSignature;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @FunctionalInterface
 public interface BusinessEventsFactory {
@@ -17,4 +18,70 @@ public interface BusinessEventsFactory {
         @Nonnull MethodSignature methodSignature,
         @Nonnull EmitBusinessEvent configuration
     );
+
+    /**
+     * Creates the business events for the given payload lazily. Implementations should only create an event when it
+     * is consumed from the returned stream, so that large payloads do not have to be materialized as a whole. The
+     * default implementation simply streams the result of {@link #createBusinessEvents}.
+     *
+     * @param payload         The return value of the method annotated with {@link EmitBusinessEvent}
+     * @param emittingSource  The instance the annotated method was invoked on
+     * @param methodSignature The signature of the annotated method
+     * @param configuration   The annotation instance found on the method
+     * @return A stream of the business events to emit
+     */
+    @Nonnull
+    default Stream<BusinessEvent> streamBusinessEvents(
+        @Nullable Object payload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        return createBusinessEvents(payload, emittingSource, methodSignature, configuration).stream();
+    }
+
+    /**
+     * Same as {@link #createBusinessEvents(Object, Object, MethodSignature, EmitBusinessEvent)}, but with the
+     * {@link EmissionPlan} already resolved for the intercepted call, so that it does not have to be resolved again.
+     * The default implementation ignores the plan.
+     *
+     * @param payload         The return value of the method annotated with {@link EmitBusinessEvent}
+     * @param emittingSource  The instance the annotated method was invoked on
+     * @param methodSignature The signature of the annotated method
+     * @param configuration   The annotation instance found on the method
+     * @param plan            The emission plan of the annotated method
+     * @return The business events to emit
+     */
+    @Nonnull
+    default List<BusinessEvent> createBusinessEvents(
+        @Nullable Object payload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration,
+        @Nonnull EmissionPlan plan
+    ) {
+        return createBusinessEvents(payload, emittingSource, methodSignature, configuration);
+    }
+
+    /**
+     * Same as {@link #streamBusinessEvents(Object, Object, MethodSignature, EmitBusinessEvent)}, but with the
+     * {@link EmissionPlan} already resolved for the intercepted call. The default implementation ignores the plan.
+     *
+     * @param payload         The return value of the method annotated with {@link EmitBusinessEvent}
+     * @param emittingSource  The instance the annotated method was invoked on
+     * @param methodSignature The signature of the annotated method
+     * @param configuration   The annotation instance found on the method
+     * @param plan            The emission plan of the annotated method
+     * @return A stream of the business events to emit
+     */
+    @Nonnull
+    default Stream<BusinessEvent> streamBusinessEvents(
+        @Nullable Object payload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration,
+        @Nonnull EmissionPlan plan
+    ) {
+        return streamBusinessEvents(payload, emittingSource, methodSignature, configuration);
+    }
 }
@@ -3,6 +3,8 @@ package de.gcoding.boot.businessevents.emission;
 import de.gcoding.boot.businessevents.BusinessEvent;
 import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
 import de.gcoding.boot.businessevents.emission.unwrapper.EventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptions;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import org.aspectj.lang.reflect.MethodSignature;
@@ -15,10 +17,27 @@ import static java.util.Objects.requireNonNull;
 public class BusinessEventsFactoryImpl implements BusinessEventsFactory {
     private final EventPayloadUnwrapper eventPayloadUnwrapper;
     private final BusinessEventFactory businessEventFactory;
+    private final BusinessEventSubscriptions subscriptions;
+    private final BusinessEventsMetrics metrics;
 
-    public BusinessEventsFactoryImpl(@Nonnull EventPayloadUnwrapper eventPayloadUnwrapper, @Nonnull BusinessEventFactory businessEventFactory) {
+    /**
+     * Creates a new {@link BusinessEventsFactoryImpl}
+     *
+     * @param eventPayloadUnwrapper The unwrapper used to extract the payloads from return values
+     * @param businessEventFactory  The factory used to create a single event for each payload
+     * @param subscriptions         Used to skip the creation of events for payloads that no listener subscribed to
+     * @param metrics               Records into how many payloads return values are unwrapped
+     */
+    public BusinessEventsFactoryImpl(
+        @Nonnull EventPayloadUnwrapper eventPayloadUnwrapper,
+        @Nonnull BusinessEventFactory businessEventFactory,
+        @Nonnull BusinessEventSubscriptions subscriptions,
+        @Nonnull BusinessEventsMetrics metrics
+    ) {
         this.eventPayloadUnwrapper = requireNonNull(eventPayloadUnwrapper);
         this.businessEventFactory = requireNonNull(businessEventFactory);
+        this.subscriptions = requireNonNull(subscriptions, "subscriptions must not be null");
+        this.metrics = requireNonNull(metrics, "metrics must not be null");
     }
 
     @Override
@@ -29,25 +48,134 @@ public class BusinessEventsFactoryImpl implements BusinessEventsFactory {
         @Nonnull MethodSignature methodSignature,
         @Nonnull EmitBusinessEvent configuration
     ) {
-        if (payload != null) {
-            return unwrapEventPayloads(payload, emittingSource, methodSignature, configuration)
-                .map(singlePayload -> businessEventFactory.createBusinessEvent(singlePayload, payload, emittingSource, methodSignature, configuration))
-                .toList();
+        return createBusinessEvents(payload, emittingSource, methodSignature, configuration, EmissionPlan.of(methodSignature, configuration));
+    }
+
+    @Override
+    @Nonnull
+    public List<BusinessEvent> createBusinessEvents(
+        @Nullable Object payload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration,
+        @Nonnull EmissionPlan plan
+    ) {
+        if (payload == null) {
+            return List.of();
+        }
+
+        if (plan.batch()) {
+            return createBatchBusinessEvent(plan, payload, emittingSource, methodSignature, configuration);
+        }
+
+        if (!plan.unwrap()) {
+            return createBusinessEvent(plan, payload, payload, emittingSource, methodSignature, configuration);
         }
 
-        return List.of();
+        try (var events = streamBusinessEvents(payload, emittingSource, methodSignature, configuration, plan)) {
+            return events.toList();
+        }
     }
 
-    private Stream<Object> unwrapEventPayloads(
+    @Override
+    @Nonnull
+    public Stream<BusinessEvent> streamBusinessEvents(
+        @Nullable Object payload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        return streamBusinessEvents(payload, emittingSource, methodSignature, configuration, EmissionPlan.of(methodSignature, configuration));
+    }
+
+    @Override
+    @Nonnull
+    public Stream<BusinessEvent> streamBusinessEvents(
+        @Nullable Object payload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration,
+        @Nonnull EmissionPlan plan
+    ) {
+        if (payload == null) {
+            return Stream.empty();
+        }
+
+        if (plan.batch()) {
+            return createBatchBusinessEvent(plan, payload, emittingSource, methodSignature, configuration).stream();
+        }
+
+        final var payloads = plan.unwrap()
+            ? countPayloads(unwrapEventPayloads(payload, emittingSource, methodSignature, configuration))
+            : Stream.of(payload);
+
+        return payloads.mapMulti((singlePayload, events) ->
+            createBusinessEvent(plan, singlePayload, payload, emittingSource, methodSignature, configuration).forEach(events));
+    }
+
+    private List<BusinessEvent> createBusinessEvent(
+        EmissionPlan plan,
         Object payload,
+        Object wrappedPayload,
         Object emittingSource,
         MethodSignature methodSignature,
         EmitBusinessEvent configuration
     ) {
-        if (configuration.skipUnwrap()) {
-            return Stream.of(payload);
+        final var payloadType = payload.getClass();
+
+        if (!subscriptions.hasSubscribers(payloadType, plan.knownAction())) {
+            return List.of();
+        }
+
+        final var event = businessEventFactory.createBusinessEvent(payload, wrappedPayload, emittingSource, methodSignature, configuration, plan);
+
+        if (plan.hasActionExpression() && !subscriptions.hasSubscribers(payloadType, event.getAction())) {
+            return List.of();
         }
 
+        return List.of(event);
+    }
+
+    private List<BusinessEvent> createBatchBusinessEvent(
+        EmissionPlan plan,
+        Object payload,
+        Object emittingSource,
+        MethodSignature methodSignature,
+        EmitBusinessEvent configuration
+    ) {
+        final var payloads = plan.unwrap()
+            ? unwrapEventPayloads(payload, emittingSource, methodSignature, configuration).toList()
+            : List.of(payload);
+
+        if (plan.unwrap()) {
+            metrics.payloadsUnwrapped(payloads.size());
+        }
+
+        if (payloads.isEmpty()) {
+            return List.of();
+        }
+
+        return List.of(businessEventFactory.createBatchBusinessEvent(payloads, payload, emittingSource, methodSignature, configuration, plan));
+    }
+
+    /**
+     * Counts the payloads while they are consumed and records their number once the stream is closed
+     */
+    private Stream<Object> countPayloads(Stream<Object> payloads) {
+        if (metrics == BusinessEventsMetrics.NOOP) {
+            return payloads;
+        }
+
+        final var count = new int[1];
+        return payloads.peek(payload -> count[0]++).onClose(() -> metrics.payloadsUnwrapped(count[0]));
+    }
+
+    private Stream<Object> unwrapEventPayloads(
+        Object payload,
+        Object emittingSource,
+        MethodSignature methodSignature,
+        EmitBusinessEvent configuration
+    ) {
         return eventPayloadUnwrapper.unwrap(payload, emittingSource, methodSignature, configuration)
             .orElseGet(() -> Stream.of(payload));
     }
@@ -0,0 +1,144 @@
+package de.gcoding.boot.businessevents.emission;
+
+import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Holds everything about an event emission that is fixed for a method annotated with {@link EmitBusinessEvent}, such
+ * as the resolved static action or whether the return value should be unwrapped. Plans are computed once per
+ * {@link Method} and cached, so that intercepted calls only need to execute the plan instead of inspecting the
+ * method and its configuration over and over again. The cache is attached to the class declaring the method, so
+ * that plans do not keep classes from being unloaded, e.g. when an application context is restarted.
+ */
+public final class EmissionPlan {
+    private static final ClassValue<Map<Method, EmissionPlan>> PLANS = new ClassValue<>() {
+        @Override
+        protected Map<Method, EmissionPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final EmitBusinessEvent configuration;
+    private final boolean returnsValue;
+    private final boolean unwrap;
+    private final boolean batch;
+    private final String staticAction;
+    private final String actionSpEL;
+    private final Class<?> declaredPayloadType;
+
+    private EmissionPlan(MethodSignature methodSignature, EmitBusinessEvent configuration) {
+        final var returnType = methodSignature.getReturnType();
+
+        this.configuration = configuration;
+        this.returnsValue = returnType != Void.class && returnType != void.class;
+        this.unwrap = !configuration.skipUnwrap();
+        this.batch = configuration.batch();
+        this.staticAction = StringUtils.hasText(configuration.action()) ? configuration.action() : EventActions.NONE;
+        this.actionSpEL = StringUtils.hasText(configuration.actionSpEL()) ? configuration.actionSpEL() : null;
+        this.declaredPayloadType = unwrap || returnType == null ? Object.class : ClassUtils.resolvePrimitiveIfNecessary(returnType);
+    }
+
+    /**
+     * Returns the plan for the method described by the given signature. If possible, the plan is taken from the cache,
+     * otherwise it is computed and cached for subsequent calls. Callers should resolve the plan once per intercepted
+     * call and pass it on instead of resolving it again.
+     *
+     * @param methodSignature The signature of the method annotated with {@link EmitBusinessEvent}
+     * @param configuration   The annotation instance found on the method
+     * @return The emission plan for the method
+     */
+    @Nonnull
+    public static EmissionPlan of(@Nonnull MethodSignature methodSignature, @Nonnull EmitBusinessEvent configuration) {
+        requireNonNull(methodSignature, "methodSignature must not be null");
+        requireNonNull(configuration, "configuration must not be null");
+
+        final var method = methodSignature.getMethod();
+
+        if (method == null) {
+            return new EmissionPlan(methodSignature, configuration);
+        }
+
+        final var plans = PLANS.get(method.getDeclaringClass());
+        final var cachedPlan = plans.get(method);
+
+        if (cachedPlan != null && cachedPlan.configuration == configuration) {
+            return cachedPlan;
+        }
+
+        final var plan = new EmissionPlan(methodSignature, configuration);
+        plans.put(method, plan);
+
+        return plan;
+    }
+
+    /**
+     * @return {@code true}, if the method has a return type that can be used as event payload
+     */
+    public boolean returnsValue() {
+        return returnsValue;
+    }
+
+    /**
+     * @return {@code true}, if the return value should be unwrapped before creating events
+     */
+    public boolean unwrap() {
+        return unwrap;
+    }
+
+    /**
+     * @return {@code true}, if all payloads should be emitted as a single batch event
+     */
+    public boolean batch() {
+        return batch;
+    }
+
+    /**
+     * @return The configured action or {@link EventActions#NONE}, if the configured action is blank
+     */
+    @Nonnull
+    public String staticAction() {
+        return staticAction;
+    }
+
+    /**
+     * @return {@code true}, if the action must be evaluated from {@link #actionSpEL()} for every event
+     */
+    public boolean hasActionExpression() {
+        return actionSpEL != null;
+    }
+
+    /**
+     * @return The SpEL to evaluate the action with or {@code null}, if no (or a blank) SpEL was configured
+     */
+    @Nullable
+    public String actionSpEL() {
+        return actionSpEL;
+    }
+
+    /**
+     * @return The static action or {@code null}, if the action must be evaluated for every event
+     */
+    @Nullable
+    public String knownAction() {
+        return hasActionExpression() ? null : staticAction;
+    }
+
+    /**
+     * @return The type all payloads of the method are known to be assignable to. If the return value is unwrapped,
+     * the payloads can be of any type
+     */
+    @Nonnull
+    public Class<?> declaredPayloadType() {
+        return declaredPayloadType;
+    }
+}
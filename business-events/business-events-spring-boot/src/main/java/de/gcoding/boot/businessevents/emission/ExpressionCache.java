@@ -0,0 +1,142 @@
+package de.gcoding.boot.businessevents.emission;
+
+import jakarta.annotation.Nonnull;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded cache for parsed expressions that evicts the least recently used expression once its maximum size is
+ * reached. Lookups are lock-free: a hit only stamps the entry with the current value of a logical clock, which is
+ * advanced by every newly parsed expression. Entries used since the last miss thus share a stamp, which is precise
+ * enough to tell hot expressions from stale ones. As the number of distinct expressions is typically limited by the
+ * number of annotated methods, evictions should be rare and are counted to detect a cache that is too small.
+ */
+public class ExpressionCache {
+    private final Map<String, Entry> expressions = new ConcurrentHashMap<>();
+    private final Lock insertionLock = new ReentrantLock();
+    private final AtomicLong clock = new AtomicLong();
+    private final ExpressionParser parser;
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new {@link ExpressionCache}
+     *
+     * @param parser  The parser used to parse expressions that are not cached yet
+     * @param maxSize The maximum number of expressions kept in the cache
+     */
+    public ExpressionCache(@Nonnull ExpressionParser parser, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than 0, but was " + maxSize);
+        }
+
+        this.parser = requireNonNull(parser, "parser must not be null");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the parsed expression for the given expression string, parsing it if it is not cached yet
+     *
+     * @param expressionString The expression to parse
+     * @return The parsed expression
+     */
+    @Nonnull
+    public Expression get(@Nonnull String expressionString) {
+        final var cached = expressions.get(expressionString);
+
+        if (cached != null) {
+            hits.increment();
+            return cached.touch(clock.get());
+        }
+
+        misses.increment();
+        final var expression = parser.parseExpression(expressionString);
+
+        insertionLock.lock();
+        try {
+            final var existing = expressions.get(expressionString);
+
+            if (existing != null) {
+                return existing.touch(clock.get());
+            }
+
+            if (expressions.size() >= maxSize) {
+                evictLeastRecentlyUsed();
+            }
+
+            expressions.put(expressionString, new Entry(expression, clock.getAndIncrement()));
+            return expression;
+        } finally {
+            insertionLock.unlock();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        String leastRecentlyUsed = null;
+        var oldestAccess = Long.MAX_VALUE;
+
+        for (final var entry : expressions.entrySet()) {
+            final var lastAccess = entry.getValue().lastAccess;
+
+            if (lastAccess < oldestAccess) {
+                oldestAccess = lastAccess;
+                leastRecentlyUsed = entry.getKey();
+            }
+        }
+
+        if (leastRecentlyUsed != null) {
+            expressions.remove(leastRecentlyUsed);
+            evictions.increment();
+        }
+    }
+
+    public int size() {
+        return expressions.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private static final class Entry {
+        private final Expression expression;
+        private volatile long lastAccess;
+
+        private Entry(Expression expression, long lastAccess) {
+            this.expression = expression;
+            this.lastAccess = lastAccess;
+        }
+
+        private Expression touch(long now) {
+            // skip the write if the entry was already used since the last miss to keep hot entries' lines shared
+            if (lastAccess != now) {
+                lastAccess = now;
+            }
+
+            return expression;
+        }
+    }
+}
@@ -1,6 +1,14 @@
 package de.gcoding.boot.businessevents.emission.aspect;
 
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
+import de.gcoding.boot.businessevents.BatchEventPublisher;
+import de.gcoding.boot.businessevents.BusinessEvent;
 import de.gcoding.boot.businessevents.emission.BusinessEventsFactory;
+import de.gcoding.boot.businessevents.emission.EmissionPlan;
+import de.gcoding.boot.businessevents.emission.unwrapper.DeferredEventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.jfr.BusinessEventEmissionJfrEvent;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptions;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
 import jakarta.annotation.Nullable;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -12,6 +20,10 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.Ordered;
 import org.springframework.lang.NonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 import static java.util.Objects.requireNonNull;
 
 @Aspect
@@ -19,16 +31,55 @@ public class BusinessEventEmitterAspect implements Ordered {
     private static final Logger LOG = LoggerFactory.getLogger(BusinessEventEmitterAspect.class);
     private final BusinessEventsFactory businessEventsFactory;
     private final ApplicationEventPublisher eventPublisher;
+    private final BatchEventPublisher batchEventPublisher;
     private final int order;
+    private final boolean streaming;
+    private final int chunkSize;
+    private final DeferredEventPayloadUnwrapper deferredEventPayloadUnwrapper;
+    private final BusinessEventSubscriptions subscriptions;
+    private final BusinessEventsMetrics metrics;
 
+    /**
+     * Creates a new {@link BusinessEventEmitterAspect}
+     *
+     * @param businessEventsFactory         The factory used to create the events from the return values of annotated
+     *                                      methods
+     * @param eventPublisher                The publisher used to publish the created events
+     * @param order                         The order of the aspect
+     * @param streaming                     If {@code true}, events are published while they are created instead of
+     *                                      creating all events of a method call upfront. This keeps the memory
+     *                                      footprint low for methods returning large collections
+     * @param chunkSize                     The number of events to create before publishing them at once, if
+     *                                      streaming is enabled
+     * @param deferredEventPayloadUnwrapper Used to decorate return values whose payloads are not available yet when
+     *                                      the method returns, so that events are emitted once the payloads arrive
+     * @param subscriptions                 Used to skip the emission altogether for methods whose events no listener
+     *                                      subscribed to
+     * @param metrics                       Records the emitted events per payload type and action
+     */
     public BusinessEventEmitterAspect(
         @NonNull BusinessEventsFactory businessEventsFactory,
         @NonNull ApplicationEventPublisher eventPublisher,
-        int order
+        int order,
+        boolean streaming,
+        int chunkSize,
+        @NonNull DeferredEventPayloadUnwrapper deferredEventPayloadUnwrapper,
+        @NonNull BusinessEventSubscriptions subscriptions,
+        @NonNull BusinessEventsMetrics metrics
     ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0, but was " + chunkSize);
+        }
+
         this.businessEventsFactory = requireNonNull(businessEventsFactory);
         this.eventPublisher = requireNonNull(eventPublisher);
+        this.batchEventPublisher = BatchEventPublisher.of(eventPublisher);
         this.order = order;
+        this.streaming = streaming;
+        this.chunkSize = chunkSize;
+        this.deferredEventPayloadUnwrapper = requireNonNull(deferredEventPayloadUnwrapper);
+        this.subscriptions = requireNonNull(subscriptions);
+        this.metrics = requireNonNull(metrics, "metrics must not be null");
     }
 
     @Around("target(emittingSource) && @annotation(configuration)")
@@ -37,10 +88,24 @@ public class BusinessEventEmitterAspect implements Ordered {
 
         if (signature instanceof MethodSignature methodSignature) {
             LOG.debug("@EmitBusinessEvent: intercepted method call to {}", methodSignature);
-            failIfMethodHasNoReturnType(methodSignature);
+            final var plan = EmissionPlan.of(methodSignature, configuration);
+            failIfMethodHasNoReturnType(methodSignature, plan);
 
             final var originalReturnValue = joinPoint.proceed();
-            final var numEmitted = emitEvents(originalReturnValue, emittingSource, methodSignature, configuration);
+
+            if (!hasSubscribers(plan)) {
+                LOG.debug("@EmitBusinessEvent: skipped emission after method call to {}, no listener subscribed to its events", methodSignature);
+                return originalReturnValue;
+            }
+
+            final var deferredReturnValue = deferEvents(originalReturnValue, emittingSource, methodSignature, configuration, plan);
+
+            if (deferredReturnValue.isPresent()) {
+                LOG.debug("@EmitBusinessEvent: deferred emission of events after method call to {}", methodSignature);
+                return deferredReturnValue.get();
+            }
+
+            final var numEmitted = emitEvents(originalReturnValue, emittingSource, methodSignature, configuration, plan);
             LOG.debug("@EmitBusinessEvent: emitted {} events after method call to {}", numEmitted, methodSignature);
 
             return originalReturnValue;
@@ -49,22 +114,125 @@ public class BusinessEventEmitterAspect implements Ordered {
         throw new BusinessEventAspectUsageException("@EmitBusinessEvent annotation can only be used on methods, but was used on signature: " + signature);
     }
 
-    private int emitEvents(@Nullable Object originalReturnValue, Object emittingSource, MethodSignature methodSignature, EmitBusinessEvent configuration) {
-        final var eventsToBeEmitted = businessEventsFactory.createBusinessEvents(
+    private boolean hasSubscribers(EmissionPlan plan) {
+        return subscriptions.mayHaveSubscribers(plan.declaredPayloadType(), plan.knownAction());
+    }
+
+    private Optional<Object> deferEvents(
+        @Nullable Object originalReturnValue,
+        Object emittingSource,
+        MethodSignature methodSignature,
+        EmitBusinessEvent configuration,
+        EmissionPlan plan
+    ) {
+        if (!plan.unwrap()) {
+            return Optional.empty();
+        }
+
+        return deferredEventPayloadUnwrapper.unwrap(
             originalReturnValue,
+            payload -> emitEvents(payload, emittingSource, methodSignature, configuration, plan),
             emittingSource,
             methodSignature,
             configuration
         );
+    }
+
+    private int emitEvents(
+        @Nullable Object originalReturnValue,
+        Object emittingSource,
+        MethodSignature methodSignature,
+        EmitBusinessEvent configuration,
+        EmissionPlan plan
+    ) {
+        final var jfrEvent = new BusinessEventEmissionJfrEvent();
+        jfrEvent.begin();
+
+        final var numEmitted = streaming
+            ? streamEvents(originalReturnValue, emittingSource, methodSignature, configuration, plan)
+            : publishEvents(originalReturnValue, emittingSource, methodSignature, configuration, plan);
 
-        eventsToBeEmitted.forEach(eventPublisher::publishEvent);
-        return eventsToBeEmitted.size();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.setMethod(methodSignature.getDeclaringTypeName() + "#" + methodSignature.getName());
+            jfrEvent.setAction(plan.hasActionExpression() ? plan.actionSpEL() : plan.staticAction());
+            jfrEvent.setEventCount(numEmitted);
+            jfrEvent.commit();
+        }
+
+        return numEmitted;
     }
 
-    private void failIfMethodHasNoReturnType(MethodSignature methodSignature) {
-        final var returnType = methodSignature.getReturnType();
+    private int publishEvents(
+        @Nullable Object originalReturnValue,
+        Object emittingSource,
+        MethodSignature methodSignature,
+        EmitBusinessEvent configuration,
+        EmissionPlan plan
+    ) {
+        final var eventsToBeEmitted = businessEventsFactory.createBusinessEvents(
+            originalReturnValue,
+            emittingSource,
+            methodSignature,
+            configuration,
+            plan
+        );
+
+        return publishChunk(eventsToBeEmitted);
+    }
+
+    private int streamEvents(
+        @Nullable Object originalReturnValue,
+        Object emittingSource,
+        MethodSignature methodSignature,
+        EmitBusinessEvent configuration,
+        EmissionPlan plan
+    ) {
+        var chunk = new ArrayList<BusinessEvent>(chunkSize);
+        var numEmitted = 0;
+
+        try (var events = businessEventsFactory.streamBusinessEvents(originalReturnValue, emittingSource, methodSignature, configuration, plan)) {
+            final var iterator = events.iterator();
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == chunkSize) {
+                    numEmitted += publishChunk(chunk);
+                    // batch publishers might keep the published list, e.g. to publish it asynchronously
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+
+        return numEmitted + publishChunk(chunk);
+    }
+
+    private int publishChunk(List<BusinessEvent> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        batchEventPublisher.publishEvents(chunk);
+
+        for (final var event : chunk) {
+            recordEmitted(event);
+        }
+
+        return chunk.size();
+    }
+
+    private void recordEmitted(BusinessEvent event) {
+        if (event instanceof BatchBusinessEvent batch) {
+            for (final var payload : batch.getPayloads()) {
+                metrics.eventEmitted(payload.getClass(), batch.getAction());
+            }
+        } else {
+            metrics.eventEmitted(event.getPayload().getClass(), event.getAction());
+        }
+    }
 
-        if (returnType == Void.class || returnType == void.class) {
+    private void failIfMethodHasNoReturnType(MethodSignature methodSignature, EmissionPlan plan) {
+        if (!plan.returnsValue()) {
             throw new BusinessEventAspectUsageException(
                 "@EmitBusinessEvent annotation can only be used on methods that return a value, " +
                     "but was used on method with a void return type: " + methodSignature
@@ -69,4 +69,14 @@ public @interface EmitBusinessEvent {
      * @return The SpEL that should be used to evaluate the events action
      */
     String actionSpEL() default "";
+
+    /**
+     * If {@code true}, a single {@link de.gcoding.boot.businessevents.BatchBusinessEvent} carrying all (unwrapped)
+     * payloads is emitted instead of a separate event for each payload. If no payload remains after unwrapping, no
+     * event is emitted at all. When combined with {@link #actionSpEL()}, the expression is evaluated only once for
+     * the whole batch and {@code payload} refers to the list of payloads.
+     *
+     * @return {@code true}, if a single batch event should be emitted, default is {@code false}
+     */
+    boolean batch() default false;
 }
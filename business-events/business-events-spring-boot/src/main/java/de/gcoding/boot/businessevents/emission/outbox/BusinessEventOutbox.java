@@ -0,0 +1,74 @@
+package de.gcoding.boot.businessevents.emission.outbox;
+
+import de.gcoding.boot.businessevents.BusinessEventData;
+import jakarta.annotation.Nonnull;
+
+import java.util.List;
+
+/**
+ * A durable store for business events that have been emitted but not yet been published to listeners. Events are
+ * appended as part of the transaction that emitted them and are later claimed and marked as processed by an
+ * {@link OutboxRelay}. Events that repeatedly fail to be relayed are parked, so they do not block the events appended
+ * after them.
+ */
+public interface BusinessEventOutbox {
+    /**
+     * Appends the given events to the outbox. If a transaction is active, the events are written as part of it.
+     *
+     * @param events The events to append
+     */
+    void append(@Nonnull List<BusinessEventData> events);
+
+    /**
+     * Claims up to {@code limit} pending events in the order they were appended. Claimed events are locked until the
+     * current transaction completes, so this method must be called within a transaction. Events that are currently
+     * locked by other transactions are skipped, if the underlying database supports it.
+     *
+     * @param limit The maximum number of events to claim
+     * @return The claimed events, which may be empty
+     * @throws OutboxEntryException If a pending event cannot be read, so that its failure can be recorded
+     */
+    @Nonnull
+    List<OutboxEntry> claim(int limit);
+
+    /**
+     * Marks the given events as processed, so that they will not be claimed again
+     *
+     * @param entries The entries to mark as processed
+     */
+    void markProcessed(@Nonnull List<OutboxEntry> entries);
+
+    /**
+     * Records a failed attempt to relay the given event. Once the event failed {@code maxAttempts} times, it is
+     * parked: it will neither be claimed again nor be counted as pending. This is done in the current transaction,
+     * if any
+     *
+     * @param entryId     The id of the entry that could not be relayed
+     * @param maxAttempts The number of failed attempts after which the event is parked
+     * @return The number of failed attempts of the event, including this one
+     */
+    int recordFailure(long entryId, int maxAttempts);
+
+    /**
+     * Returns the number of events that have neither been processed nor parked yet
+     *
+     * @return The number of pending events
+     */
+    long countPending();
+
+    /**
+     * Returns the number of events that have been parked because they failed too often
+     *
+     * @return The number of parked events
+     */
+    long countParked();
+
+    /**
+     * An event stored in the outbox
+     *
+     * @param id        The id of the outbox entry, which reflects the order in which events have been appended
+     * @param eventData The stored event data
+     */
+    record OutboxEntry(long id, @Nonnull BusinessEventData eventData) {
+    }
+}
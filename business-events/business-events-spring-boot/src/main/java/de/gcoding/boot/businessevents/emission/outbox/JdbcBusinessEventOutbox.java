@@ -0,0 +1,280 @@
+package de.gcoding.boot.businessevents.emission.outbox;
+
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.codec.PayloadSerializer;
+import jakarta.annotation.Nonnull;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link BusinessEventOutbox} that stores events in a database table through JDBC. As the given
+ * {@link JdbcOperations} obtain their connection from the transaction synchronization, events are written within the
+ * transaction that is currently active for the data source, including transactions managed by a
+ * {@code JpaTransactionManager}.
+ * <p>
+ * Events are appended and marked as processed through JDBC batch updates. Pending events are claimed through
+ * {@code SELECT ... FOR UPDATE}, skipping rows locked by other transactions if the {@link OutboxDialect} supports it,
+ * so that multiple nodes can drain the same outbox in parallel. Failed attempts to relay an event are counted in the
+ * {@code attempts} column, and events that failed too often are parked by setting their {@code parked_at} column.
+ * </p>
+ */
+public class JdbcBusinessEventOutbox implements BusinessEventOutbox {
+    public static final String DEFAULT_TABLE_NAME = "business_event_outbox";
+    private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_ZONED_DATE_TIME;
+    private static final String COLUMNS = "id, event_id, payload_type, payload, action, event_timestamp, metadata";
+    private final JdbcOperations jdbcOperations;
+    private final PayloadSerializer payloadSerializer;
+    private final OutboxDialect dialect;
+    private final String tableName;
+    private final String insertSql;
+    private final String claimSql;
+    private final String markProcessedSql;
+    private final String recordFailureSql;
+    private final String selectAttemptsSql;
+    private final String countPendingSql;
+    private final String countParkedSql;
+    private final RowMapper<OutboxEntry> rowMapper = this::mapEntry;
+
+    /**
+     * Creates a new {@link JdbcBusinessEventOutbox}
+     *
+     * @param jdbcOperations    The JDBC operations used to access the outbox table
+     * @param payloadSerializer The serializer used to store the payloads of the events
+     * @param dialect           The dialect of the database
+     * @param tableName         The name of the outbox table, optionally qualified by a schema
+     * @throws IllegalArgumentException If the table name is not a valid SQL identifier
+     */
+    public JdbcBusinessEventOutbox(
+        @Nonnull JdbcOperations jdbcOperations,
+        @Nonnull PayloadSerializer payloadSerializer,
+        @Nonnull OutboxDialect dialect,
+        @Nonnull String tableName
+    ) {
+        this.jdbcOperations = requireNonNull(jdbcOperations, "jdbcOperations must not be null");
+        this.payloadSerializer = requireNonNull(payloadSerializer, "payloadSerializer must not be null");
+        this.dialect = requireNonNull(dialect, "dialect must not be null");
+        this.tableName = requireNonNull(tableName, "tableName must not be null");
+
+        if (!TABLE_NAME_PATTERN.matcher(tableName).matches()) {
+            throw new IllegalArgumentException("tableName must be a valid SQL identifier, but was: " + tableName);
+        }
+
+        this.insertSql = "INSERT INTO " + tableName +
+            " (event_id, payload_type, payload, action, event_timestamp, metadata) VALUES (?, ?, ?, ?, ?, ?)";
+        this.claimSql = dialect.claimSql(COLUMNS, tableName);
+        this.markProcessedSql = "UPDATE " + tableName + " SET processed_at = CURRENT_TIMESTAMP WHERE id = ?";
+        // parked_at is assigned first, as MySQL evaluates the assignments from left to right using the updated values
+        this.recordFailureSql = "UPDATE " + tableName + " SET " +
+            "parked_at = CASE WHEN attempts + 1 >= ? THEN CURRENT_TIMESTAMP ELSE NULL END, " +
+            "attempts = attempts + 1 WHERE id = ?";
+        this.selectAttemptsSql = "SELECT attempts FROM " + tableName + " WHERE id = ?";
+        this.countPendingSql = "SELECT COUNT(*) FROM " + tableName + " WHERE processed_at IS NULL AND parked_at IS NULL";
+        this.countParkedSql = "SELECT COUNT(*) FROM " + tableName + " WHERE processed_at IS NULL AND parked_at IS NOT NULL";
+    }
+
+    @Override
+    public void append(@Nonnull List<BusinessEventData> events) {
+        requireNonNull(events, "events must not be null");
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        jdbcOperations.batchUpdate(insertSql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(@Nonnull PreparedStatement ps, int i) throws SQLException {
+                final var eventData = events.get(i);
+                final var payload = eventData.payload();
+
+                ps.setString(1, eventData.id().toString());
+                ps.setString(2, payload.getClass().getName());
+                ps.setBytes(3, payloadSerializer.serialize(payload));
+                ps.setString(4, eventData.action());
+                ps.setString(5, TIMESTAMP_FORMAT.format(eventData.timestamp()));
+                ps.setString(6, encodeMetadata(eventData.metadata()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+    }
+
+    @Nonnull
+    @Override
+    public List<OutboxEntry> claim(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be greater than 0, but was " + limit);
+        }
+
+        return jdbcOperations.query(claimSql, rowMapper, limit);
+    }
+
+    @Override
+    public void markProcessed(@Nonnull List<OutboxEntry> entries) {
+        requireNonNull(entries, "entries must not be null");
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        jdbcOperations.batchUpdate(markProcessedSql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(@Nonnull PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, entries.get(i).id());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    @Override
+    public int recordFailure(long entryId, int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be greater than 0, but was " + maxAttempts);
+        }
+
+        jdbcOperations.update(recordFailureSql, maxAttempts, entryId);
+        final var attempts = jdbcOperations.queryForObject(selectAttemptsSql, Integer.class, entryId);
+
+        return attempts != null ? attempts : 0;
+    }
+
+    @Override
+    public long countPending() {
+        final var count = jdbcOperations.queryForObject(countPendingSql, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public long countParked() {
+        final var count = jdbcOperations.queryForObject(countParkedSql, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Creates the outbox table and its index, unless they exist already
+     *
+     * @throws UnsupportedOperationException If the dialect does not know how to create the table
+     */
+    public void createSchema() {
+        final var unqualifiedTableName = tableName.substring(tableName.lastIndexOf('.') + 1);
+
+        for (final var statement : dialect.createSchemaStatements(tableName, unqualifiedTableName + "_pending_idx")) {
+            jdbcOperations.execute(statement);
+        }
+    }
+
+    @Nonnull
+    public OutboxDialect getDialect() {
+        return dialect;
+    }
+
+    @Nonnull
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * Determines the dialect of the database behind the given data source
+     *
+     * @param dataSource The data source to inspect
+     * @return The matching dialect, or {@link OutboxDialect#GENERIC} if the database is unknown
+     * @throws IllegalStateException If the database metadata cannot be read
+     */
+    @Nonnull
+    public static OutboxDialect detectDialect(@Nonnull DataSource dataSource) {
+        requireNonNull(dataSource, "dataSource must not be null");
+
+        try {
+            final String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return productName != null ? OutboxDialect.fromDatabaseProductName(productName) : OutboxDialect.GENERIC;
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("failed to determine the outbox dialect from the data source", e);
+        }
+    }
+
+    private OutboxEntry mapEntry(ResultSet rs, int rowNum) throws SQLException {
+        final var id = rs.getLong("id");
+        final var payloadType = rs.getString("payload_type");
+        final BusinessEventData eventData;
+
+        try {
+            eventData = new BusinessEventData(
+                UUID.fromString(rs.getString("event_id")),
+                payloadSerializer.deserialize(rs.getBytes("payload"), payloadType),
+                rs.getString("action"),
+                ZonedDateTime.parse(rs.getString("event_timestamp"), TIMESTAMP_FORMAT),
+                decodeMetadata(rs.getString("metadata"))
+            );
+        } catch (RuntimeException e) {
+            throw new OutboxEntryException(id, "failed to read outbox entry " + id + " of type " + payloadType, e);
+        }
+
+        return new OutboxEntry(id, eventData);
+    }
+
+    static String encodeMetadata(Map<String, String> metadata) {
+        if (metadata.isEmpty()) {
+            return null;
+        }
+
+        final var encoded = new StringBuilder();
+
+        for (final var entry : metadata.entrySet()) {
+            if (!encoded.isEmpty()) {
+                encoded.append('&');
+            }
+
+            encoded.append(URLEncoder.encode(entry.getKey(), UTF_8))
+                .append('=')
+                .append(URLEncoder.encode(entry.getValue(), UTF_8));
+        }
+
+        return encoded.toString();
+    }
+
+    static Map<String, String> decodeMetadata(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return Map.of();
+        }
+
+        final var metadata = new HashMap<String, String>();
+
+        for (final var pair : encoded.split("&")) {
+            final var separator = pair.indexOf('=');
+            metadata.put(
+                URLDecoder.decode(pair.substring(0, separator), UTF_8),
+                URLDecoder.decode(pair.substring(separator + 1), UTF_8)
+            );
+        }
+
+        return metadata;
+    }
+}
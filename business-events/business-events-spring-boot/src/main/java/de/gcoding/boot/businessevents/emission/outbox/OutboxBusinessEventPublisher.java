@@ -0,0 +1,135 @@
+package de.gcoding.boot.businessevents.emission.outbox;
+
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link ApplicationEventPublisher} that writes business events to a {@link BusinessEventOutbox} instead of
+ * publishing them to listeners. Listeners receive the events once an {@link OutboxRelay} picked them up from the
+ * outbox, which guarantees that events survive crashes and are delivered at least once.
+ * <p>
+ * All business events of a transaction are collected in a transaction-bound buffer and are appended to the outbox
+ * in a single batch right before the transaction commits, so that they are stored atomically with the changes of the
+ * transaction. If the transaction is rolled back, the events are dropped. Business events published while no
+ * transaction synchronization is active, or after the buffer has been written already, are appended to the outbox
+ * immediately. The payloads of a {@link BatchBusinessEvent} are stored as individual events, each with its own id as
+ * returned by {@link BatchBusinessEvent#getElementEventData(int)}, so idempotent listeners can tell them apart.
+ * </p>
+ * <p>
+ * Events that are not business events are passed to the {@code delegate}.
+ * </p>
+ */
+public class OutboxBusinessEventPublisher implements ApplicationEventPublisher {
+    private static final Logger LOG = LoggerFactory.getLogger(OutboxBusinessEventPublisher.class);
+    private final BusinessEventOutbox outbox;
+    private final ApplicationEventPublisher delegate;
+
+    /**
+     * Creates a new {@link OutboxBusinessEventPublisher}
+     *
+     * @param outbox   The outbox the business events are written to
+     * @param delegate The publisher used to publish events that are not business events
+     */
+    public OutboxBusinessEventPublisher(@Nonnull BusinessEventOutbox outbox, @Nonnull ApplicationEventPublisher delegate) {
+        this.outbox = requireNonNull(outbox, "outbox must not be null");
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+    }
+
+    @Override
+    public void publishEvent(@Nonnull Object event) {
+        if (!(event instanceof BusinessEvent businessEvent)) {
+            delegate.publishEvent(event);
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            final var events = new ArrayList<BusinessEventData>();
+            addEventData(businessEvent, events);
+            outbox.append(events);
+            return;
+        }
+
+        final var buffer = getOrBindEventBuffer();
+        addEventData(businessEvent, buffer.events);
+
+        if (buffer.flushed) {
+            // events emitted by other synchronizations after the buffer has been flushed cannot be deferred any further
+            buffer.flush();
+        }
+    }
+
+    private static void addEventData(BusinessEvent event, List<BusinessEventData> target) {
+        if (event instanceof BatchBusinessEvent batch) {
+            for (int i = 0; i < batch.size(); i++) {
+                target.add(batch.getElementEventData(i));
+            }
+        } else {
+            target.add(event.getEventData());
+        }
+    }
+
+    private EventBuffer getOrBindEventBuffer() {
+        var buffer = (EventBuffer) TransactionSynchronizationManager.getResource(this);
+
+        if (buffer == null) {
+            buffer = new EventBuffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+
+        return buffer;
+    }
+
+    private final class EventBuffer implements TransactionSynchronization {
+        private final List<BusinessEventData> events = new ArrayList<>();
+        private boolean flushed;
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(OutboxBusinessEventPublisher.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(OutboxBusinessEventPublisher.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flushed = true;
+            flush();
+        }
+
+        @Override
+        public void flush() {
+            if (!events.isEmpty()) {
+                LOG.debug("Writing {} business events to the outbox", events.size());
+                outbox.append(events);
+                events.clear();
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            flushed = true;
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxBusinessEventPublisher.this);
+
+            if (!events.isEmpty()) {
+                LOG.debug("Dropping {} business events as the transaction did not commit", events.size());
+                events.clear();
+            }
+        }
+    }
+}
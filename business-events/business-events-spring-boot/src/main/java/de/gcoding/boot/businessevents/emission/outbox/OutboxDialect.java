@@ -0,0 +1,153 @@
+package de.gcoding.boot.businessevents.emission.outbox;
+
+import jakarta.annotation.Nonnull;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Locale;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The database specific SQL used by the {@link JdbcBusinessEventOutbox}. Dialects that support
+ * {@code FOR UPDATE SKIP LOCKED} allow multiple relays to claim pending events concurrently without blocking each
+ * other. With the {@link #GENERIC} dialect, relays claiming events at the same time wait for each other instead.
+ */
+public enum OutboxDialect {
+    H2(true) {
+        @Override
+        String claimSql(String columns, String tableName) {
+            // H2 locks all rows read before the limit is applied, so the rows to claim are selected in a subquery
+            return "SELECT " + columns + " FROM " + tableName + " WHERE " + PENDING + " AND id IN (" +
+                "SELECT id FROM " + tableName + " WHERE " + PENDING + " ORDER BY id LIMIT ?" +
+                ") ORDER BY id" + lockClause();
+        }
+
+        @Override
+        List<String> createSchemaStatements(String tableName, String indexName) {
+            return List.of(
+                "CREATE TABLE IF NOT EXISTS " + tableName + " (" +
+                    "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                    "event_id VARCHAR(36) NOT NULL, " +
+                    "payload_type VARCHAR(255) NOT NULL, " +
+                    "payload BLOB NOT NULL, " +
+                    "action VARCHAR(255) NOT NULL, " +
+                    "event_timestamp VARCHAR(64) NOT NULL, " +
+                    "metadata CLOB, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL, " +
+                    "processed_at TIMESTAMP, " +
+                    "attempts INT DEFAULT 0 NOT NULL, " +
+                    "parked_at TIMESTAMP)",
+                "CREATE INDEX IF NOT EXISTS " + indexName + " ON " + tableName + " (processed_at, id)"
+            );
+        }
+    },
+    POSTGRESQL(true) {
+        @Override
+        List<String> createSchemaStatements(String tableName, String indexName) {
+            return List.of(
+                "CREATE TABLE IF NOT EXISTS " + tableName + " (" +
+                    "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                    "event_id VARCHAR(36) NOT NULL, " +
+                    "payload_type VARCHAR(255) NOT NULL, " +
+                    "payload BYTEA NOT NULL, " +
+                    "action VARCHAR(255) NOT NULL, " +
+                    "event_timestamp VARCHAR(64) NOT NULL, " +
+                    "metadata TEXT, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL, " +
+                    "processed_at TIMESTAMP, " +
+                    "attempts INT DEFAULT 0 NOT NULL, " +
+                    "parked_at TIMESTAMP)",
+                "CREATE INDEX IF NOT EXISTS " + indexName + " ON " + tableName + " (id) WHERE " + PENDING
+            );
+        }
+    },
+    MYSQL(true) {
+        @Override
+        List<String> createSchemaStatements(String tableName, String indexName) {
+            return List.of(
+                "CREATE TABLE IF NOT EXISTS " + tableName + " (" +
+                    "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                    "event_id VARCHAR(36) NOT NULL, " +
+                    "payload_type VARCHAR(255) NOT NULL, " +
+                    "payload LONGBLOB NOT NULL, " +
+                    "action VARCHAR(255) NOT NULL, " +
+                    "event_timestamp VARCHAR(64) NOT NULL, " +
+                    "metadata TEXT, " +
+                    "created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) NOT NULL, " +
+                    "processed_at TIMESTAMP(6) NULL, " +
+                    "attempts INT DEFAULT 0 NOT NULL, " +
+                    "parked_at TIMESTAMP(6) NULL, " +
+                    "INDEX " + indexName + " (processed_at, id))"
+            );
+        }
+    },
+    MARIADB(true) {
+        @Override
+        List<String> createSchemaStatements(String tableName, String indexName) {
+            return MYSQL.createSchemaStatements(tableName, indexName);
+        }
+    },
+    GENERIC(false) {
+        @Override
+        String claimSql(String columns, String tableName) {
+            return "SELECT " + columns + " FROM " + tableName + " WHERE " + PENDING + " ORDER BY id" +
+                " FETCH FIRST ? ROWS ONLY" + lockClause();
+        }
+
+        @Override
+        List<String> createSchemaStatements(String tableName, String indexName) {
+            throw new UnsupportedOperationException("the outbox table " + tableName + " cannot be created " +
+                "automatically for this database, please create it manually");
+        }
+    };
+
+    private static final String PENDING = "processed_at IS NULL AND parked_at IS NULL";
+    private final boolean skipLocked;
+
+    OutboxDialect(boolean skipLocked) {
+        this.skipLocked = skipLocked;
+    }
+
+    /**
+     * @return {@code true} if rows locked by other transactions are skipped when claiming events
+     */
+    public boolean supportsSkipLocked() {
+        return skipLocked;
+    }
+
+    String claimSql(String columns, String tableName) {
+        return "SELECT " + columns + " FROM " + tableName + " WHERE " + PENDING + " ORDER BY id LIMIT ?" +
+            lockClause();
+    }
+
+    String lockClause() {
+        return skipLocked ? " FOR UPDATE SKIP LOCKED" : " FOR UPDATE";
+    }
+
+    abstract List<String> createSchemaStatements(String tableName, String indexName);
+
+    /**
+     * Determines the dialect from the given database product name, as reported by
+     * {@link DatabaseMetaData#getDatabaseProductName()}
+     *
+     * @param databaseProductName The name of the database product
+     * @return The matching dialect, or {@link #GENERIC} if the database is unknown
+     */
+    @Nonnull
+    public static OutboxDialect fromDatabaseProductName(@Nonnull String databaseProductName) {
+        final var name = requireNonNull(databaseProductName, "databaseProductName must not be null")
+            .toLowerCase(Locale.ROOT);
+
+        if (name.contains("h2")) {
+            return H2;
+        } else if (name.contains("postgresql")) {
+            return POSTGRESQL;
+        } else if (name.contains("mariadb")) {
+            return MARIADB;
+        } else if (name.contains("mysql")) {
+            return MYSQL;
+        }
+
+        return GENERIC;
+    }
+}
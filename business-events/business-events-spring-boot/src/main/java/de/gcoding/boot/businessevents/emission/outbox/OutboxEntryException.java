@@ -0,0 +1,24 @@
+package de.gcoding.boot.businessevents.emission.outbox;
+
+import de.gcoding.boot.businessevents.BusinessEventsException;
+
+/**
+ * Signals that a single entry of a {@link BusinessEventOutbox} could not be relayed, e.g. because its payload cannot
+ * be deserialized or a listener failed to process it. The {@link OutboxRelay} records the failure for the entry and
+ * parks it once it failed too often, so that it no longer blocks the entries appended after it.
+ */
+public class OutboxEntryException extends BusinessEventsException {
+    private final long entryId;
+
+    public OutboxEntryException(long entryId, String message, Throwable cause) {
+        super(message, cause);
+        this.entryId = entryId;
+    }
+
+    /**
+     * @return The id of the entry that could not be relayed
+     */
+    public long getEntryId() {
+        return entryId;
+    }
+}
@@ -0,0 +1,271 @@
+package de.gcoding.boot.businessevents.emission.outbox;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.emission.outbox.BusinessEventOutbox.OutboxEntry;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Publishes the events stored in a {@link BusinessEventOutbox} to listeners. While running, the relay polls the
+ * outbox in the configured interval and claims pending events in batches. Each batch is claimed, published through
+ * the {@code delegate} and marked as processed within a single transaction, so events are delivered at least once and
+ * listeners should be idempotent. The {@code delegate} must therefore dispatch events synchronously, otherwise events
+ * would be marked as processed before listeners handled them. Note that listeners participating in transactions will
+ * join the transaction of the relay.
+ * <p>
+ * If an event cannot be read or a listener fails, the transaction of the batch is rolled back and the failed attempt
+ * is recorded for the event in a separate transaction. The batch is then relayed again without the failed event, so
+ * the healthy events of the batch are still processed, and events published before the failure are published again.
+ * The failed event is retried by later polls until it failed {@code maxAttempts} times, after which it is parked and
+ * no longer claimed.
+ * </p>
+ * <p>
+ * Multiple relays, e.g. on different nodes, can drain the same outbox in parallel if the database supports skipping
+ * locked rows. Events are published in the order they were appended within a batch, but batches claimed by different
+ * relays are not ordered with respect to each other.
+ * </p>
+ */
+public class OutboxRelay implements SmartLifecycle {
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final Logger LOG = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final String THREAD_NAME = "business-events-outbox-relay";
+    private final BusinessEventOutbox outbox;
+    private final ApplicationEventPublisher delegate;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final ThreadFactory threadFactory;
+    private final LongAdder relayedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder parkedCount = new LongAdder();
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a new {@link OutboxRelay}
+     *
+     * @param outbox                The outbox to drain
+     * @param delegate              The publisher used to publish the claimed events to listeners synchronously
+     * @param transactionOperations The operations used to run each batch within a transaction
+     * @param batchSize             The maximum number of events claimed per batch
+     * @param pollInterval          The interval in which the outbox is polled for pending events
+     * @param maxAttempts           The number of failed attempts after which an event is parked
+     * @param threadFactory         The factory used to create the polling thread, e.g. {@link #defaultThreadFactory()}
+     */
+    public OutboxRelay(
+        @Nonnull BusinessEventOutbox outbox,
+        @Nonnull ApplicationEventPublisher delegate,
+        @Nonnull TransactionOperations transactionOperations,
+        int batchSize,
+        @Nonnull Duration pollInterval,
+        int maxAttempts,
+        @Nonnull ThreadFactory threadFactory
+    ) {
+        this.outbox = requireNonNull(outbox, "outbox must not be null");
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+        this.transactionOperations = requireNonNull(transactionOperations, "transactionOperations must not be null");
+        this.pollInterval = requireNonNull(pollInterval, "pollInterval must not be null");
+        this.threadFactory = requireNonNull(threadFactory, "threadFactory must not be null");
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0, but was " + batchSize);
+        }
+
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be positive, but was " + pollInterval);
+        }
+
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be greater than 0, but was " + maxAttempts);
+        }
+
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * @return A factory creating the polling thread as a daemon thread named after the relay
+     */
+    @Nonnull
+    public static ThreadFactory defaultThreadFactory() {
+        return Thread.ofPlatform().name(THREAD_NAME).daemon().factory();
+    }
+
+    /**
+     * Claims, publishes and marks a single batch of pending events as processed within one transaction. Events that
+     * fail are left out of the batch and their failure is recorded
+     *
+     * @return The number of events that have been published
+     * @throws OutboxEntryException If an event failed again after it has been left out of the batch, e.g. because it
+     *                              cannot be read while the batch is claimed
+     */
+    public int relayBatch() {
+        return relayBatch(new HashSet<>()).relayed();
+    }
+
+    /**
+     * Relays batches of pending events until the outbox has been drained. Events that fail are left out until the
+     * next call
+     *
+     * @return The number of events that have been published
+     * @throws OutboxEntryException If an event failed again after it has been left out, e.g. because it cannot be read
+     *                              while a batch is claimed
+     */
+    public long relayPending() {
+        final var failedEntryIds = new HashSet<Long>();
+        long total = 0;
+        BatchResult result;
+
+        do {
+            result = relayBatch(failedEntryIds);
+            total += result.relayed();
+        } while (result.claimed() == batchSize && result.relayed() > 0 && !Thread.currentThread().isInterrupted());
+
+        return total;
+    }
+
+    /**
+     * @return The total number of events published by this relay
+     */
+    public long getRelayedCount() {
+        return relayedCount.sum();
+    }
+
+    /**
+     * @return The total number of failed attempts to relay an event recorded by this relay
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * @return The total number of events parked by this relay
+     */
+    public long getParkedCount() {
+        return parkedCount.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+
+        final var executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        executor.scheduleWithFixedDelay(this::poll, 0, pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public synchronized void stop() {
+        final var executor = scheduler;
+
+        if (executor == null) {
+            return;
+        }
+
+        scheduler = null;
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(pollInterval.toMillis() + 10_000, TimeUnit.MILLISECONDS)) {
+                LOG.warn("Outbox relay did not finish its current batch in time, the batch will be relayed again");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private BatchResult relayBatch(Set<Long> failedEntryIds) {
+        while (true) {
+            try {
+                final var result = transactionOperations.execute(status -> relayBatchInTransaction(failedEntryIds));
+                final var checkedResult = result != null ? result : new BatchResult(0, 0);
+                relayedCount.add(checkedResult.relayed());
+
+                return checkedResult;
+            } catch (OutboxEntryException e) {
+                if (!failedEntryIds.add(e.getEntryId())) {
+                    throw e;
+                }
+
+                recordFailure(e);
+            }
+        }
+    }
+
+    private BatchResult relayBatchInTransaction(Set<Long> failedEntryIds) {
+        final var entries = outbox.claim(batchSize);
+        final var relayedEntries = new ArrayList<OutboxEntry>(entries.size());
+
+        for (final var entry : entries) {
+            if (failedEntryIds.contains(entry.id())) {
+                continue;
+            }
+
+            try {
+                delegate.publishEvent(new BusinessEvent(this, entry.eventData()));
+            } catch (RuntimeException e) {
+                throw new OutboxEntryException(entry.id(), "failed to relay outbox entry " + entry.id(), e);
+            }
+
+            relayedEntries.add(entry);
+        }
+
+        outbox.markProcessed(relayedEntries);
+        return new BatchResult(entries.size(), relayedEntries.size());
+    }
+
+    private void recordFailure(OutboxEntryException failure) {
+        final var entryId = failure.getEntryId();
+        final Integer attempts = transactionOperations.execute(status -> outbox.recordFailure(entryId, maxAttempts));
+        failedCount.increment();
+
+        if (attempts != null && attempts >= maxAttempts) {
+            parkedCount.increment();
+            LOG.error("Parked outbox entry {} after {} failed attempts to relay it", entryId, attempts, failure);
+        } else {
+            LOG.warn("Failed to relay outbox entry {} (attempt {} of {}), relaying the rest of its batch without it",
+                entryId, attempts, maxAttempts, failure);
+        }
+    }
+
+    private void poll() {
+        try {
+            final var relayed = relayPending();
+
+            if (relayed > 0) {
+                LOG.debug("Relayed {} business events from the outbox", relayed);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to relay business events from the outbox, the events will be relayed again", e);
+        }
+    }
+
+    private record BatchResult(int claimed, int relayed) {
+    }
+}
@@ -0,0 +1,200 @@
+package de.gcoding.boot.businessevents.emission.publisher;
+
+import de.gcoding.boot.businessevents.BatchEventPublisher;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link ApplicationEventPublisher} that hands events over to a bounded queue which is drained by a fixed number
+ * of worker threads. Each worker publishes the events through the given {@code delegate}, so that listeners are no
+ * longer executed on the thread that emitted the event. What happens if the queue is full is decided by the
+ * configured {@link OverflowPolicy}.
+ * <p>
+ * Events are published in the order they were queued, as long as only a single worker is used. Exceptions thrown by
+ * listeners cannot be propagated to the emitting thread anymore and are logged instead. Batches handed over through
+ * {@link #publishEvents(List)} occupy a single slot in the queue and are published by one worker in one go.
+ * </p>
+ */
+public class AsyncBusinessEventPublisher implements ApplicationEventPublisher, BatchEventPublisher, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncBusinessEventPublisher.class);
+    private final ApplicationEventPublisher delegate;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration shutdownTimeout;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Creates a new {@link AsyncBusinessEventPublisher}
+     *
+     * @param delegate        The publisher used by the workers to actually publish the events
+     * @param queueCapacity   The maximum number of events waiting to be published
+     * @param workers         The number of threads draining the queue
+     * @param threadFactory   The factory used to create the worker threads, e.g. a virtual thread factory
+     * @param overflowPolicy  The behavior in case the queue is full
+     * @param shutdownTimeout The maximum time to wait for queued events to be published when closing the publisher
+     */
+    public AsyncBusinessEventPublisher(
+        @Nonnull ApplicationEventPublisher delegate,
+        int queueCapacity,
+        int workers,
+        @Nonnull ThreadFactory threadFactory,
+        @Nonnull OverflowPolicy overflowPolicy,
+        @Nonnull Duration shutdownTimeout
+    ) {
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+        this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+        this.shutdownTimeout = requireNonNull(shutdownTimeout, "shutdownTimeout must not be null");
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            requireNonNull(threadFactory, "threadFactory must not be null"),
+            new OverflowHandler()
+        );
+    }
+
+    @Override
+    public void publishEvent(@Nonnull Object event) {
+        executor.execute(new PublishTask(List.of(event)));
+    }
+
+    @Override
+    public void publishEvents(@Nonnull List<?> events) {
+        if (!events.isEmpty()) {
+            executor.execute(new PublishTask(List.copyOf(events)));
+        }
+    }
+
+    /**
+     * Returns the number of events that are currently waiting to be published
+     *
+     * @return The current queue depth
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Returns the maximum number of events that can wait to be published
+     *
+     * @return The queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns how often an event could not be queued because the queue was full and the {@link OverflowPolicy}
+     * had to be applied
+     *
+     * @return The number of rejections since the publisher was created
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Nonnull
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Stops accepting events for the queue and waits up to the configured shutdown timeout for the queued events to
+     * be published. Events published after closing will be published synchronously on the calling thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                final var unpublished = executor.shutdownNow().stream()
+                    .mapToInt(task -> task instanceof PublishTask publishTask ? publishTask.events.size() : 1)
+                    .sum();
+                LOG.warn("Async business event publisher did not finish within {}, {} events were not published",
+                    shutdownTimeout, unpublished);
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(Object event) {
+        try {
+            delegate.publishEvent(event);
+        } catch (RuntimeException e) {
+            LOG.error("Failed to asynchronously publish business event {}", event, e);
+        }
+    }
+
+    private final class PublishTask implements Runnable {
+        private final List<?> events;
+
+        private PublishTask(List<?> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void run() {
+            events.forEach(AsyncBusinessEventPublisher.this::publish);
+        }
+    }
+
+    private final class OverflowHandler implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                task.run();
+                return;
+            }
+
+            rejectedCount.increment();
+
+            switch (overflowPolicy) {
+                case BLOCK -> enqueueBlocking(task, executor);
+                case DROP_OLDEST -> dropOldestAndRetry(task, executor);
+                case CALLER_RUNS -> task.run();
+                case FAIL -> throw new BusinessEventPublicationRejectedException(
+                    "Business event could not be published, the async publisher queue is full (capacity " +
+                        queueCapacity + ")");
+            }
+        }
+
+        private void enqueueBlocking(Runnable task, ThreadPoolExecutor executor) {
+            try {
+                executor.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for space in the business event queue", e);
+            }
+        }
+
+        private void dropOldestAndRetry(Runnable task, ThreadPoolExecutor executor) {
+            final var dropped = executor.getQueue().poll();
+            if (dropped instanceof PublishTask publishTask) {
+                LOG.warn("Async business event publisher queue is full, dropped oldest events {}", publishTask.events);
+            }
+
+            executor.execute(task);
+        }
+    }
+}
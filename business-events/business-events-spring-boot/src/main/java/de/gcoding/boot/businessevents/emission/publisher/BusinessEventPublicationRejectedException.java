@@ -0,0 +1,9 @@
+package de.gcoding.boot.businessevents.emission.publisher;
+
+import de.gcoding.boot.businessevents.BusinessEventsException;
+
+public class BusinessEventPublicationRejectedException extends BusinessEventsException {
+    public BusinessEventPublicationRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package de.gcoding.boot.businessevents.emission.publisher;
+
+/**
+ * Describes how an {@link AsyncBusinessEventPublisher} behaves when its bounded queue is full and another event
+ * should be published
+ */
+public enum OverflowPolicy {
+    /**
+     * The publishing thread blocks until space becomes available in the queue
+     */
+    BLOCK,
+    /**
+     * The oldest event that is still waiting in the queue is discarded to make room for the new event
+     */
+    DROP_OLDEST,
+    /**
+     * The event is published synchronously on the publishing thread, bypassing the queue
+     */
+    CALLER_RUNS,
+    /**
+     * A {@link BusinessEventPublicationRejectedException} is thrown to the publishing thread
+     */
+    FAIL
+}
@@ -0,0 +1,120 @@
+package de.gcoding.boot.businessevents.emission.publisher;
+
+import de.gcoding.boot.businessevents.BatchEventPublisher;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link ApplicationEventPublisher} that defers the publication of events emitted within a transaction until the
+ * transaction has been committed successfully. All events of a transaction are collected in a transaction-bound
+ * buffer and are handed over as one batch to the {@code batchDelegate} after commit, which can resolve the listeners
+ * once for the whole batch. If the transaction is rolled back, the buffered events are dropped and no listener will
+ * ever see them.
+ * <p>
+ * Events that are published while no transaction synchronization is active are passed to the {@code delegate}
+ * immediately.
+ * </p>
+ */
+public class TransactionalBusinessEventPublisher implements ApplicationEventPublisher {
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionalBusinessEventPublisher.class);
+    private final ApplicationEventPublisher delegate;
+    private final BatchEventPublisher batchDelegate;
+
+    /**
+     * Creates a new {@link TransactionalBusinessEventPublisher}
+     *
+     * @param delegate The publisher used to publish the buffered events after the transaction has been committed
+     */
+    public TransactionalBusinessEventPublisher(@Nonnull ApplicationEventPublisher delegate) {
+        this(delegate, BatchEventPublisher.of(delegate));
+    }
+
+    /**
+     * Creates a new {@link TransactionalBusinessEventPublisher}
+     *
+     * @param delegate      The publisher used for events published while no transaction is active
+     * @param batchDelegate The publisher used to publish all buffered events at once after the transaction has been
+     *                      committed
+     */
+    public TransactionalBusinessEventPublisher(
+        @Nonnull ApplicationEventPublisher delegate,
+        @Nonnull BatchEventPublisher batchDelegate
+    ) {
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+        this.batchDelegate = requireNonNull(batchDelegate, "batchDelegate must not be null");
+    }
+
+    @Override
+    public void publishEvent(@Nonnull Object event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delegate.publishEvent(event);
+            return;
+        }
+
+        final var buffer = getOrBindEventBuffer();
+
+        if (buffer.completed) {
+            // events emitted by listeners during the after commit phase cannot be deferred any further
+            delegate.publishEvent(event);
+        } else {
+            buffer.events.add(event);
+        }
+    }
+
+    private EventBuffer getOrBindEventBuffer() {
+        var buffer = (EventBuffer) TransactionSynchronizationManager.getResource(this);
+
+        if (buffer == null) {
+            buffer = new EventBuffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+
+        return buffer;
+    }
+
+    private final class EventBuffer implements TransactionSynchronization {
+        private final List<Object> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(TransactionalBusinessEventPublisher.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(TransactionalBusinessEventPublisher.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            completed = true;
+            LOG.debug("Publishing {} business events after transaction commit", events.size());
+
+            final var committedEvents = List.copyOf(events);
+            events.clear();
+            batchDelegate.publishEvents(committedEvents);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            completed = true;
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalBusinessEventPublisher.this);
+
+            if (status != STATUS_COMMITTED && !events.isEmpty()) {
+                LOG.debug("Dropping {} business events as the transaction did not commit", events.size());
+                events.clear();
+            }
+        }
+    }
+}
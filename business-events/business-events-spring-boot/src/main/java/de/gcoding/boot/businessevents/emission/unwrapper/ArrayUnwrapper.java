@@ -0,0 +1,42 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Unwraps payloads that are arrays of objects by returning a stream that contains an entry for each element of the
+ * given array. The stream is backed by the array itself, so no copy is created. Arrays of primitive types and all
+ * other payloads are not unwrapped, in which case this unwrapper abstains from unwrapping by returning an empty
+ * optional
+ */
+public class ArrayUnwrapper implements EventPayloadUnwrapper, TypedUnwrapper {
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(Object[].class);
+
+    @Override
+    @Nonnull
+    public Optional<Stream<Object>> unwrap(
+        @Nullable Object payload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        if (payload instanceof Object[] array) {
+            return Optional.of(Arrays.stream(array));
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    @Nonnull
+    public Set<Class<?>> getSupportedTypes() {
+        return SUPPORTED_TYPES;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.lang.NonNull;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -15,7 +16,9 @@ import java.util.stream.Stream;
  * the given payload is not a collection, this unwrapper abstains from unwrapping the payload by returning
  * an empty optional
  */
-public class CollectionUnwrapper implements EventPayloadUnwrapper {
+public class CollectionUnwrapper implements EventPayloadUnwrapper, TypedUnwrapper {
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(Collection.class);
+
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public @NonNull Optional<Stream<Object>> unwrap(
@@ -30,4 +33,10 @@ public class CollectionUnwrapper implements EventPayloadUnwrapper {
 
         return Optional.empty();
     }
+
+    @Override
+    @NonNull
+    public Set<Class<?>> getSupportedTypes() {
+        return SUPPORTED_TYPES;
+    }
 }
@@ -0,0 +1,54 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * Unwraps payloads of type {@link CompletionStage} (e.g. {@link java.util.concurrent.CompletableFuture}) by emitting
+ * events for the result of the stage once it completes successfully. If the stage completes exceptionally, no events
+ * are emitted. The caller receives a dependent stage that completes after the events have been emitted. If the
+ * payload is not a completion stage or the dependent stage cannot be returned by the annotated method, this
+ * unwrapper abstains from unwrapping by returning an empty optional
+ */
+public class CompletionStageUnwrapper implements DeferredEventPayloadUnwrapper, TypedUnwrapper {
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(CompletionStage.class);
+
+    @Override
+    @Nonnull
+    public Optional<Object> unwrap(
+        @Nullable Object payload,
+        @Nonnull Consumer<Object> payloadConsumer,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        if (!(payload instanceof CompletionStage<?> stage)
+            || !methodSignature.getReturnType().isAssignableFrom(getDependentStageType(stage))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(stage.whenComplete((result, failure) -> {
+            if (failure == null) {
+                payloadConsumer.accept(result);
+            }
+        }));
+    }
+
+    private static Class<?> getDependentStageType(CompletionStage<?> stage) {
+        return stage instanceof CompletableFuture<?> ? CompletableFuture.class : CompletionStage.class;
+    }
+
+    @Override
+    @Nonnull
+    public Set<Class<?>> getSupportedTypes() {
+        return SUPPORTED_TYPES;
+    }
+}
@@ -0,0 +1,51 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Contains a list of child deferred unwrapper instances. Will go through each child unwrapper in an ordered fashion
+ * and tries to unwrap the event payload. The return value from the first child unwrapper that does not return
+ * an empty optional will be used as a result. Child unwrappers implementing {@link TypedUnwrapper} are only asked to
+ * unwrap payloads of their supported types, which is resolved once per payload class.
+ */
+public class CompositeDeferredEventPayloadUnwrapper implements DeferredEventPayloadUnwrapper {
+    private final List<DeferredEventPayloadUnwrapper> delegates;
+    private final UnwrapperIndex<DeferredEventPayloadUnwrapper> index;
+
+    /**
+     * Creates a new {@link CompositeDeferredEventPayloadUnwrapper}.
+     *
+     * @param delegates The child unwrapper instances to be used. Order of unwrapper instances in this list is honored
+     *                  during the unwrap process
+     */
+    public CompositeDeferredEventPayloadUnwrapper(@Nonnull List<DeferredEventPayloadUnwrapper> delegates) {
+        this.delegates = List.copyOf(delegates);
+        this.index = new UnwrapperIndex<>(this.delegates);
+    }
+
+    @Override
+    @Nonnull
+    public Optional<Object> unwrap(
+        @Nullable Object payload,
+        @Nonnull Consumer<Object> payloadConsumer,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        for (final var unwrapper : index.getApplicableUnwrappers(payload)) {
+            final var result = unwrapper.unwrap(payload, payloadConsumer, emittingSource, methodSignature, configuration);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+
+        return Optional.empty();
+    }
+}
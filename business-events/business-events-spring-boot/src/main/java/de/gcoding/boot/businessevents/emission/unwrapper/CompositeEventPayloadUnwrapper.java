@@ -13,10 +13,16 @@ import java.util.stream.Stream;
 /**
  * Contains a list of child unwrapper instances. Will go through each child unwrapper in an ordered fashion
  * and tries to unwrap the event payload. The return value from the first child unwrapper that does not return
- * an empty optional will be used as a result.
+ * an empty optional will be used as a result. Child unwrappers implementing {@link TypedUnwrapper} are only asked to
+ * unwrap payloads of their supported types, which is resolved once per payload class. If a maximum depth greater
+ * than one is configured, the unwrapped payloads are unwrapped again, so that nested shapes like
+ * {@code Optional<List<T>>} are flattened lazily.
  */
 public class CompositeEventPayloadUnwrapper implements EventPayloadUnwrapper {
+    public static final int DEFAULT_MAX_DEPTH = 1;
     private final List<EventPayloadUnwrapper> delegates;
+    private final UnwrapperIndex<EventPayloadUnwrapper> index;
+    private final int maxDepth;
 
     /**
      * Creates a new {@link CompositeEventPayloadUnwrapper}.
@@ -25,7 +31,25 @@ public class CompositeEventPayloadUnwrapper implements EventPayloadUnwrapper {
      *                  during the unwrap process
      */
     public CompositeEventPayloadUnwrapper(@NonNull List<EventPayloadUnwrapper> delegates) {
+        this(delegates, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Creates a new {@link CompositeEventPayloadUnwrapper}.
+     *
+     * @param delegates The child unwrapper instances to be used. Order of unwrapper instances in this list is honored
+     *                  during the unwrap process
+     * @param maxDepth  The maximum number of times a payload is unwrapped. With a depth of {@code 2}, a
+     *                  {@code Optional<List<T>>} is unwrapped into the elements of the list, for example
+     */
+    public CompositeEventPayloadUnwrapper(@NonNull List<EventPayloadUnwrapper> delegates, int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth must be greater than 0, but was " + maxDepth);
+        }
+
         this.delegates = List.copyOf(delegates);
+        this.index = new UnwrapperIndex<>(this.delegates);
+        this.maxDepth = maxDepth;
     }
 
     @Override
@@ -36,13 +60,36 @@ public class CompositeEventPayloadUnwrapper implements EventPayloadUnwrapper {
         @NonNull MethodSignature methodSignature,
         @NonNull EmitBusinessEvent configuration
     ) {
-        for (final var unwrapper : delegates) {
+        return unwrap(payload, emittingSource, methodSignature, configuration, 1);
+    }
+
+    private Optional<Stream<Object>> unwrap(
+        Object payload,
+        Object emittingSource,
+        MethodSignature methodSignature,
+        EmitBusinessEvent configuration,
+        int depth
+    ) {
+        for (final var unwrapper : index.getApplicableUnwrappers(payload)) {
             final var result = unwrapper.unwrap(payload, emittingSource, methodSignature, configuration);
             if (result.isPresent()) {
-                return result;
+                return depth < maxDepth
+                    ? result.map(payloads -> flatten(payloads, emittingSource, methodSignature, configuration, depth + 1))
+                    : result;
             }
         }
 
         return Optional.empty();
     }
+
+    private Stream<Object> flatten(
+        Stream<Object> payloads,
+        Object emittingSource,
+        MethodSignature methodSignature,
+        EmitBusinessEvent configuration,
+        int depth
+    ) {
+        return payloads.flatMap(payload -> unwrap(payload, emittingSource, methodSignature, configuration, depth)
+            .orElseGet(() -> Stream.of(payload)));
+    }
 }
@@ -0,0 +1,44 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Allows to unwrap event payloads whose values are not available yet when the @{@link EmitBusinessEvent} annotated
+ * method returns, such as futures, lazy streams or reactive publishers. Instead of materializing the payload, the
+ * unwrapper decorates it so that each value is handed to a consumer as soon as it arrives. The decorated value is
+ * then returned to the caller of the annotated method in place of the original return value.
+ */
+@FunctionalInterface
+public interface DeferredEventPayloadUnwrapper {
+    DeferredEventPayloadUnwrapper NOOP = (payload, payloadConsumer, source, method, config) -> Optional.empty();
+
+    /**
+     * Decorates the given {@code payload}, so that {@code payloadConsumer} is called for each value of the payload
+     * once it becomes available. Implementations must not block and must return a value that is equivalent to
+     * the given payload and assignable to the return type of the annotated method. If this unwrapper does not
+     * support the given {@code payload}, it will return an empty Optional hinting that the next unwrapper
+     * implementation might go ahead and try to unwrap the payload.
+     *
+     * @param payload         The payload that should be unwrapped
+     * @param payloadConsumer The consumer creating and publishing the events for each value of the payload
+     * @param emittingSource  The instance owning the @EmitBusinessEvent annotated method that was invoked
+     * @param methodSignature The method signature of the method that was annotated with @EmitBusinessEvent
+     * @param configuration   The concrete values of the @EmitBusinessEvent annotation that was used
+     * @return The decorated payload that should be returned to the caller or an empty optional in case this unwrapper
+     * does not support unwrapping for the given payload
+     */
+    @Nonnull
+    Optional<Object> unwrap(
+        @Nullable Object payload,
+        @Nonnull Consumer<Object> payloadConsumer,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    );
+}
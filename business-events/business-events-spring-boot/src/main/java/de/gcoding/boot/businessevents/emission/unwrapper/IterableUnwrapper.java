@@ -0,0 +1,43 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Unwraps payloads of {@link Iterable} types, such as the results of {@code CrudRepository#saveAll}, by returning a
+ * stream that contains an entry for each element of the given iterable. The elements are iterated lazily, so the
+ * iterable is not copied. If the payload is not an iterable, this unwrapper abstains from unwrapping by returning an
+ * empty optional
+ */
+public class IterableUnwrapper implements EventPayloadUnwrapper, TypedUnwrapper {
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(Iterable.class);
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Optional<Stream<Object>> unwrap(
+        @Nullable Object payload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        if (payload instanceof Iterable<?> iterable) {
+            return Optional.of(StreamSupport.stream(((Iterable<Object>) iterable).spliterator(), false));
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    @Nonnull
+    public Set<Class<?>> getSupportedTypes() {
+        return SUPPORTED_TYPES;
+    }
+}
@@ -0,0 +1,42 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Unwraps payloads of {@link Map} types by returning a stream that contains an entry for each value of the given map.
+ * The keys are not used as payloads. If the payload is not a map, this unwrapper abstains from unwrapping by
+ * returning an empty optional
+ */
+public class MapValuesUnwrapper implements EventPayloadUnwrapper, TypedUnwrapper {
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(Map.class);
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Optional<Stream<Object>> unwrap(
+        @Nullable Object payload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        if (payload instanceof Map<?, ?> map) {
+            return Optional.of(((Map<?, Object>) map).values().stream());
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    @Nonnull
+    public Set<Class<?>> getSupportedTypes() {
+        return SUPPORTED_TYPES;
+    }
+}
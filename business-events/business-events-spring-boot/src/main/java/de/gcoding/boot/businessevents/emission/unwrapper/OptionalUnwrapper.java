@@ -6,6 +6,7 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.lang.NonNull;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -14,7 +15,9 @@ import java.util.stream.Stream;
  * will be present as a single entry in the returned stream. If the payload is not an optional, this unwrapper
  * abstains from unwrapping by returning an empty optional
  */
-public class OptionalUnwrapper implements EventPayloadUnwrapper {
+public class OptionalUnwrapper implements EventPayloadUnwrapper, TypedUnwrapper {
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(Optional.class);
+
     @Override
     @NonNull
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -30,4 +33,10 @@ public class OptionalUnwrapper implements EventPayloadUnwrapper {
 
         return Optional.empty();
     }
+
+    @Override
+    @NonNull
+    public Set<Class<?>> getSupportedTypes() {
+        return SUPPORTED_TYPES;
+    }
 }
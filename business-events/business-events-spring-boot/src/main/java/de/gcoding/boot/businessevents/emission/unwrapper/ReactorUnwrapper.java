@@ -0,0 +1,51 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.reflect.MethodSignature;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Unwraps payloads of the Project Reactor types {@link Mono} and {@link Flux} by emitting an event for each element
+ * when it is signalled to a subscriber. Nothing is emitted before the caller subscribes and each subscription emits
+ * its own events. If the payload is neither a mono nor a flux, this unwrapper abstains from unwrapping by returning
+ * an empty optional
+ */
+public class ReactorUnwrapper implements DeferredEventPayloadUnwrapper, TypedUnwrapper {
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(Mono.class, Flux.class);
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Optional<Object> unwrap(
+        @Nullable Object payload,
+        @Nonnull Consumer<Object> payloadConsumer,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        final var returnType = methodSignature.getReturnType();
+
+        if (payload instanceof Mono<?> mono && returnType.isAssignableFrom(Mono.class)) {
+            return Optional.of(((Mono<Object>) mono).doOnNext(payloadConsumer));
+        }
+
+        if (payload instanceof Flux<?> flux && returnType.isAssignableFrom(Flux.class)) {
+            return Optional.of(((Flux<Object>) flux).doOnNext(payloadConsumer));
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    @Nonnull
+    public Set<Class<?>> getSupportedTypes() {
+        return SUPPORTED_TYPES;
+    }
+}
@@ -0,0 +1,43 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Unwraps payloads of the Spring Data types {@link Slice} and {@link org.springframework.data.domain.Page} by
+ * returning a stream that contains an entry for each element of the slice's content. The content is streamed
+ * directly, so no copy is created. If the payload is not a slice, this unwrapper abstains from unwrapping by
+ * returning an empty optional
+ */
+public class SliceUnwrapper implements EventPayloadUnwrapper, TypedUnwrapper {
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(Slice.class);
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Optional<Stream<Object>> unwrap(
+        @Nullable Object payload,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        if (payload instanceof Slice<?> slice) {
+            return Optional.of(((Slice<Object>) slice).getContent().stream());
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    @Nonnull
+    public Set<Class<?>> getSupportedTypes() {
+        return SUPPORTED_TYPES;
+    }
+}
@@ -0,0 +1,94 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Unwraps payloads of type {@link Stream} by emitting an event for each element when it is consumed by the caller.
+ * The stream stays lazy, so no events are emitted for elements that are never consumed. If the payload is not a
+ * stream or the method is not declared to return a stream, this unwrapper abstains from unwrapping by returning
+ * an empty optional. The elements are observed through a spliterator that wraps the one of the original stream. As it
+ * does not report a known size, terminal operations such as {@link Stream#count()} cannot skip the traversal and thus
+ * the emission of events.
+ */
+public class StreamUnwrapper implements DeferredEventPayloadUnwrapper, TypedUnwrapper {
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(Stream.class);
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Optional<Object> unwrap(
+        @Nullable Object payload,
+        @Nonnull Consumer<Object> payloadConsumer,
+        @Nonnull Object emittingSource,
+        @Nonnull MethodSignature methodSignature,
+        @Nonnull EmitBusinessEvent configuration
+    ) {
+        if (payload instanceof Stream<?> stream && methodSignature.getReturnType().isAssignableFrom(Stream.class)) {
+            final var source = (Stream<Object>) stream;
+            final var observed = new ObservingSpliterator(source.spliterator(), payloadConsumer);
+
+            return Optional.of(StreamSupport.stream(observed, source.isParallel()).onClose(source::close));
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    @Nonnull
+    public Set<Class<?>> getSupportedTypes() {
+        return SUPPORTED_TYPES;
+    }
+
+    private record ObservingSpliterator(
+        Spliterator<Object> delegate,
+        Consumer<Object> observer
+    ) implements Spliterator<Object> {
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            return delegate.tryAdvance(element -> {
+                observer.accept(element);
+                action.accept(element);
+            });
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Object> action) {
+            delegate.forEachRemaining(element -> {
+                observer.accept(element);
+                action.accept(element);
+            });
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            final var split = delegate.trySplit();
+            return split != null ? new ObservingSpliterator(split, observer) : null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics() & ~(SIZED | SUBSIZED);
+        }
+
+        @Override
+        public Comparator<? super Object> getComparator() {
+            return delegate.getComparator();
+        }
+    }
+}
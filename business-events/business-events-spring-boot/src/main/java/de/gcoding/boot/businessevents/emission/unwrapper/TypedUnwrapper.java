@@ -0,0 +1,23 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Set;
+
+/**
+ * Optional extension for {@link EventPayloadUnwrapper} and {@link DeferredEventPayloadUnwrapper} implementations that
+ * only handle payloads of specific types. Composite unwrappers use the declared types to resolve the applicable
+ * unwrappers once per payload class, so that unwrappers are never invoked for payloads they would abstain from
+ * anyway.
+ */
+public interface TypedUnwrapper {
+    /**
+     * Returns the types this unwrapper is able to unwrap. The unwrapper will only be invoked for payloads that are
+     * instances of at least one of the returned types. It is still allowed to abstain from unwrapping such payloads by
+     * returning an empty optional. The returned types must not change during the lifetime of the unwrapper.
+     *
+     * @return The supported payload types
+     */
+    @Nonnull
+    Set<Class<?>> getSupportedTypes();
+}
@@ -0,0 +1,50 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Resolves the unwrappers that are applicable to a payload. The applicable unwrappers are computed once per concrete
+ * payload class and cached, including the case that no unwrapper applies at all. Unwrappers that do not implement
+ * {@link TypedUnwrapper} are applicable to any payload.
+ *
+ * @param <T> The type of the unwrappers
+ */
+final class UnwrapperIndex<T> {
+    private final List<T> untypedUnwrappers;
+    private final ClassValue<List<T>> applicableUnwrappers;
+
+    UnwrapperIndex(@Nonnull List<T> unwrappers) {
+        this.untypedUnwrappers = unwrappers.stream()
+            .filter(unwrapper -> !(unwrapper instanceof TypedUnwrapper))
+            .toList();
+        this.applicableUnwrappers = new ClassValue<>() {
+            @Override
+            protected List<T> computeValue(Class<?> payloadType) {
+                return unwrappers.stream()
+                    .filter(unwrapper -> isApplicable(unwrapper, payloadType))
+                    .toList();
+            }
+        };
+    }
+
+    /**
+     * @param payload The payload that should be unwrapped
+     * @return The unwrappers to try in order, might be empty if no unwrapper applies to the payload
+     */
+    @Nonnull
+    List<T> getApplicableUnwrappers(@Nullable Object payload) {
+        return payload == null ? untypedUnwrappers : applicableUnwrappers.get(payload.getClass());
+    }
+
+    private static boolean isApplicable(Object unwrapper, Class<?> payloadType) {
+        if (unwrapper instanceof TypedUnwrapper typedUnwrapper) {
+            return typedUnwrapper.getSupportedTypes().stream()
+                .anyMatch(supportedType -> supportedType.isAssignableFrom(payloadType));
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+package de.gcoding.boot.businessevents.id;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.UUID;
+
+/**
+ * Generates the ids of business events emitted through the {@code @EmitBusinessEvent} annotation. Implementations
+ * are called concurrently by all threads emitting events and must therefore be thread-safe.
+ */
+@FunctionalInterface
+public interface EventIdGenerator {
+    /**
+     * @return A new, unique event id
+     */
+    @Nonnull
+    UUID generateId();
+}
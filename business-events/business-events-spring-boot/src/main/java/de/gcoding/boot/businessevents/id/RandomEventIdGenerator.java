@@ -0,0 +1,18 @@
+package de.gcoding.boot.businessevents.id;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.UUID;
+
+/**
+ * Generates random (version 4) UUIDs using {@link UUID#randomUUID()}. The random bits are taken from a shared
+ * {@link java.security.SecureRandom}, which can become a point of contention if many threads emit events at the
+ * same time. Consider using the {@link TimeOrderedEventIdGenerator} in that case.
+ */
+public class RandomEventIdGenerator implements EventIdGenerator {
+    @Override
+    @Nonnull
+    public UUID generateId() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,56 @@
+package de.gcoding.boot.businessevents.id;
+
+import jakarta.annotation.Nonnull;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Generates time-ordered (version 7) UUIDs as specified by RFC 9562. The most significant 48 bits contain the
+ * milliseconds since the unix epoch, followed by 12 bits holding the fraction of the current millisecond. Therefore,
+ * ids sort by their creation time with sub-millisecond precision (if supported by the clock), which keeps indexes
+ * of downstream stores compact.
+ * </p>
+ * <p>
+ * The remaining 62 bits are random and taken from {@link ThreadLocalRandom}. As no state is shared between threads,
+ * ids can be generated without any contention. Note that {@link ThreadLocalRandom} is not cryptographically secure,
+ * so the ids must not be used where unpredictability matters.
+ * </p>
+ */
+public class TimeOrderedEventIdGenerator implements EventIdGenerator {
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_BITS_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private final Clock clock;
+
+    public TimeOrderedEventIdGenerator() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates a new {@link TimeOrderedEventIdGenerator}
+     *
+     * @param clock The clock to take the timestamps of the ids from
+     */
+    public TimeOrderedEventIdGenerator(@Nonnull Clock clock) {
+        this.clock = requireNonNull(clock, "clock must not be null");
+    }
+
+    @Override
+    @Nonnull
+    public UUID generateId() {
+        final var now = clock.instant();
+        final var millis = now.toEpochMilli();
+        final var fractionOfMilli = (long) (now.getNano() % NANOS_PER_MILLI) * 4096 / NANOS_PER_MILLI;
+
+        final var mostSignificantBits = (millis << 16) | VERSION | fractionOfMilli;
+        final var leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_BITS_MASK);
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -0,0 +1,35 @@
+package de.gcoding.boot.businessevents.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event covering the evaluation of an {@code actionSpEL} expression for a single payload
+ */
+@Name(ActionEvaluationJfrEvent.NAME)
+@Label("Business Event Action Evaluation")
+@Description("Evaluation of the action SpEL expression of an @EmitBusinessEvent annotated method")
+@Category({"Business Events"})
+@StackTrace(false)
+public class ActionEvaluationJfrEvent extends Event {
+    public static final String NAME = "de.gcoding.boot.businessevents.ActionEvaluation";
+
+    @Label("Expression")
+    String expression;
+
+    @Label("Action")
+    @Description("The action the expression evaluated to")
+    String action;
+
+    public void setExpression(String expression) {
+        this.expression = expression;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+}
@@ -0,0 +1,46 @@
+package de.gcoding.boot.businessevents.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event covering the emission of business events after a call to a method annotated with
+ * {@code @EmitBusinessEvent}, from creating the events out of the return value until all of them have been published.
+ * Like all JFR events, it is disabled unless a recording enables it and costs next to nothing in that case.
+ */
+@Name(BusinessEventEmissionJfrEvent.NAME)
+@Label("Business Event Emission")
+@Description("Creation and publishing of the business events emitted by an @EmitBusinessEvent annotated method")
+@Category({"Business Events"})
+@StackTrace(false)
+public class BusinessEventEmissionJfrEvent extends Event {
+    public static final String NAME = "de.gcoding.boot.businessevents.Emission";
+
+    @Label("Method")
+    @Description("The annotated method that emitted the events")
+    String method;
+
+    @Label("Action")
+    @Description("The static action or the action SpEL expression of the annotated method")
+    String action;
+
+    @Label("Event Count")
+    @Description("The number of events the return value has been turned into")
+    int eventCount;
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public void setEventCount(int eventCount) {
+        this.eventCount = eventCount;
+    }
+}
@@ -0,0 +1,44 @@
+package de.gcoding.boot.businessevents.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event covering a single invocation of a {@code @BusinessEventListener} annotated method
+ */
+@Name(ListenerInvocationJfrEvent.NAME)
+@Label("Business Event Listener Invocation")
+@Description("Invocation of a @BusinessEventListener annotated method")
+@Category({"Business Events"})
+@StackTrace(false)
+public class ListenerInvocationJfrEvent extends Event {
+    public static final String NAME = "de.gcoding.boot.businessevents.ListenerInvocation";
+
+    @Label("Listener")
+    @Description("The invoked listener method")
+    String listener;
+
+    @Label("Payload Count")
+    @Description("The number of payloads passed to the listener, which is greater than one for batches")
+    int payloadCount;
+
+    @Label("Failed")
+    @Description("Whether the listener threw an exception")
+    boolean failed;
+
+    public void setListener(String listener) {
+        this.listener = listener;
+    }
+
+    public void setPayloadCount(int payloadCount) {
+        this.payloadCount = payloadCount;
+    }
+
+    public void setFailed(boolean failed) {
+        this.failed = failed;
+    }
+}
@@ -0,0 +1,482 @@
+package de.gcoding.boot.businessevents.journal;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.codec.BusinessEventDataCodec;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * An append-only journal of business events stored in segmented, memory-mapped files within a directory. Appended
+ * events are handed over to a bounded queue and written by a dedicated writer thread, which drains the queue in
+ * batches and copies the events directly into the mapped segment. Once a segment is full, the writer continues with a
+ * new segment. When and how often written events are forced to the storage device is decided by the
+ * {@link FsyncPolicy}.
+ * </p>
+ * <p>
+ * Events can be replayed from the beginning, from a specific event id or from a timestamp. Replays read the mapped
+ * segments sequentially and only see events that have been written by the writer thread already, which can be awaited
+ * through {@link #flush()}. Events are replayed in the order they were appended, either to a consumer or, through
+ * {@link #republish(JournalReplayStart, ApplicationEventPublisher)}, to the listeners of the application.
+ * </p>
+ * <p>
+ * Payloads are serialized by the writer thread, so payloads should not be modified after their event was appended.
+ * Segments are never deleted by the journal.
+ * </p>
+ */
+public class BusinessEventJournal implements AutoCloseable {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final Logger LOG = LoggerFactory.getLogger(BusinessEventJournal.class);
+    private static final String WRITER_THREAD_NAME = "business-events-journal-writer";
+    private static final Object SHUTDOWN = new Object();
+    private static final long FULL_QUEUE_RECHECK_MILLIS = 100;
+    private final Path directory;
+    private final BusinessEventDataCodec codec;
+    private final int segmentSize;
+    private final int maxBatchSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final BlockingQueue<Object> queue;
+    private final Thread writer;
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder forceCount = new LongAdder();
+    private volatile WritePosition writePosition;
+    private volatile boolean closed;
+    private volatile boolean terminated;
+    private JournalSegment activeSegment;
+    private boolean dirty;
+    private long lastForce = System.nanoTime();
+
+    /**
+     * Creates a new {@link BusinessEventJournal} and starts its writer thread. If the directory contains segments
+     * already, events are appended to the latest segment.
+     *
+     * @param directory         The directory the segments are stored in, which is created if necessary
+     * @param codec             The codec used to encode the events, including their payloads
+     * @param segmentSize       The size of each segment in bytes
+     * @param queueCapacity     The maximum number of events waiting to be written
+     * @param maxBatchSize      The maximum number of events written by the writer thread at once
+     * @param fsyncPolicy       The policy deciding when written events are forced to the storage device
+     * @param fsyncInterval     The interval in which events are forced with the {@link FsyncPolicy#INTERVAL} policy
+     * @throws UncheckedIOException If the directory or the latest segment cannot be opened
+     */
+    public BusinessEventJournal(
+        @Nonnull Path directory,
+        @Nonnull BusinessEventDataCodec codec,
+        int segmentSize,
+        int queueCapacity,
+        int maxBatchSize,
+        @Nonnull FsyncPolicy fsyncPolicy,
+        @Nonnull Duration fsyncInterval
+    ) {
+        this.directory = requireNonNull(directory, "directory must not be null");
+        this.codec = requireNonNull(codec, "codec must not be null");
+        this.fsyncPolicy = requireNonNull(fsyncPolicy, "fsyncPolicy must not be null");
+        this.fsyncIntervalNanos = requireNonNull(fsyncInterval, "fsyncInterval must not be null").toNanos();
+
+        if (segmentSize <= JournalSegment.FILE_HEADER_SIZE) {
+            throw new IllegalArgumentException("segmentSize must be greater than " + JournalSegment.FILE_HEADER_SIZE +
+                ", but was " + segmentSize);
+        }
+
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive, but was " + maxBatchSize);
+        }
+
+        this.segmentSize = segmentSize;
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        try {
+            Files.createDirectories(directory);
+            activeSegment = openLatestSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to open business event journal in " + directory, e);
+        }
+
+        writePosition = new WritePosition(activeSegment.index(), activeSegment.buffer().position());
+        writer = Thread.ofPlatform().name(WRITER_THREAD_NAME).daemon().start(this::runWriter);
+    }
+
+    /**
+     * Appends the given event to the journal. The event is written asynchronously by the writer thread. If the queue
+     * of the writer is full, this method blocks until there is space again.
+     *
+     * @param eventData The event to append
+     * @throws IllegalStateException If the journal has been closed
+     */
+    public void append(@Nonnull BusinessEventData eventData) {
+        requireNonNull(eventData, "eventData must not be null");
+        enqueue(eventData);
+    }
+
+    /**
+     * Blocks until all events appended before have been written and, unless the {@link FsyncPolicy} is
+     * {@link FsyncPolicy#NEVER}, forced to the storage device. Returns immediately if the journal has been closed
+     * already
+     *
+     * @throws IllegalStateException If the journal has been closed while the flush was requested, in which case the
+     *                               events appended before have been written by {@link #close()}
+     */
+    public void flush() {
+        if (closed) {
+            return;
+        }
+
+        final var request = new FlushRequest(new CountDownLatch(1));
+        enqueue(request);
+
+        try {
+            request.latch().await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Replays the events of the journal to the given consumer, in the order they were appended
+     *
+     * @param start    Where the replay starts
+     * @param consumer The consumer receiving the replayed events
+     * @return The number of replayed events
+     * @throws UncheckedIOException If a segment cannot be read
+     */
+    public long replay(@Nonnull JournalReplayStart start, @Nonnull Consumer<? super BusinessEventData> consumer) {
+        requireNonNull(start, "start must not be null");
+        requireNonNull(consumer, "consumer must not be null");
+
+        final var position = writePosition;
+        final var filterEach = start.filtersEachEvent();
+        var started = false;
+        long replayed = 0;
+
+        for (final var segmentFile : listSegmentFiles()) {
+            final var index = JournalSegment.parseIndex(segmentFile);
+
+            if (index > position.segmentIndex()) {
+                break;
+            }
+
+            final var buffer = mapReadOnly(segmentFile);
+            final var limit = index == position.segmentIndex() ? position.position() : buffer.limit();
+            var offset = JournalSegment.FILE_HEADER_SIZE;
+            int bodyLength;
+
+            while ((bodyLength = JournalRecords.validBodyLength(buffer, offset, limit)) >= 0) {
+                final var body = offset + JournalRecords.RECORD_HEADER_SIZE;
+
+                if (!started || filterEach) {
+                    started = start.startsWith(JournalRecords.readId(buffer, body), JournalRecords.readInstant(buffer, body));
+                }
+
+                if (started) {
+                    consumer.accept(JournalRecords.read(buffer, body, codec));
+                    replayed++;
+                }
+
+                offset = body + bodyLength;
+            }
+        }
+
+        return replayed;
+    }
+
+    /**
+     * Replays the events of the journal by publishing them as {@link BusinessEvent}s with this journal as their
+     * source, in the order they were appended
+     *
+     * @param start     Where the replay starts
+     * @param publisher The publisher used to publish the replayed events to listeners
+     * @return The number of replayed events
+     * @throws UncheckedIOException If a segment cannot be read
+     */
+    public long republish(@Nonnull JournalReplayStart start, @Nonnull ApplicationEventPublisher publisher) {
+        requireNonNull(publisher, "publisher must not be null");
+        return replay(start, eventData -> publisher.publishEvent(new BusinessEvent(this, eventData)));
+    }
+
+    /**
+     * @return The total number of events written by this journal instance
+     */
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    /**
+     * @return The total number of events that could not be written, e.g. because they were larger than a segment
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * @return The number of times written events have been forced to the storage device
+     */
+    public long getForceCount() {
+        return forceCount.sum();
+    }
+
+    /**
+     * @return The number of events waiting to be written
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Nonnull
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Writes all events appended before, forces them to the storage device and stops the writer thread. Events
+     * appended afterward are rejected.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            // once the writer terminated because of a failure, the queue is never drained again and might be full
+            while (!terminated) {
+                if (queue.offer(SHUTDOWN, FULL_QUEUE_RECHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            }
+
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(Object element) {
+        if (closed) {
+            throw new IllegalStateException("business event journal has been closed already");
+        }
+
+        try {
+            // while the queue is full, the writer might terminate, after which the queue is never drained again
+            while (!queue.offer(element, FULL_QUEUE_RECHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (terminated) {
+                    throw new IllegalStateException("business event journal has been closed already");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while appending to the business event journal", e);
+        }
+
+        // the writer drains the queue once more after it terminated, elements enqueued later are never taken
+        if (terminated) {
+            throw new IllegalStateException("business event journal has been closed already");
+        }
+    }
+
+    private void runWriter() {
+        final var batch = new ArrayList<>(maxBatchSize);
+        var running = true;
+
+        try {
+            while (running) {
+                try {
+                    final var first = nextElement();
+
+                    if (first == null) {
+                        force();
+                        continue;
+                    }
+
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatchSize - 1);
+                    // checked before writing, so that the writer also stops if writing the batch fails
+                    running = !batch.contains(SHUTDOWN);
+                    writeBatch(batch);
+                } catch (InterruptedException e) {
+                    running = false;
+                } catch (RuntimeException e) {
+                    LOG.error("Failed to write business events to the journal", e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        } finally {
+            // also reached if the writer fails fatally, so that no appending or flushing thread waits forever
+            drainTerminated(batch);
+
+            try {
+                force();
+            } finally {
+                closeActiveSegment();
+            }
+        }
+    }
+
+    /**
+     * Writes the elements that have been enqueued while the journal was closed or the writer failed. As enqueuing
+     * threads check {@link #terminated} after putting their element into the queue, any element missed by this final
+     * drain is rejected by {@link #enqueue(Object)}, so no flush request is left waiting
+     */
+    private void drainTerminated(List<Object> batch) {
+        terminated = true;
+
+        try {
+            queue.drainTo(batch);
+            writeBatch(batch);
+        } catch (RuntimeException e) {
+            LOG.error("Failed to write business events to the journal", e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private Object nextElement() throws InterruptedException {
+        if (dirty && fsyncPolicy == FsyncPolicy.INTERVAL) {
+            final var remaining = fsyncIntervalNanos - (System.nanoTime() - lastForce);
+            return remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+        }
+
+        return queue.take();
+    }
+
+    private void writeBatch(List<Object> batch) {
+        var flushRequested = false;
+
+        try {
+            for (final var element : batch) {
+                if (element instanceof FlushRequest) {
+                    flushRequested = true;
+                } else if (element != SHUTDOWN) {
+                    write((BusinessEventData) element);
+                }
+            }
+
+            writePosition = new WritePosition(activeSegment.index(), activeSegment.buffer().position());
+
+            if (fsyncPolicy == FsyncPolicy.EVERY_BATCH || flushRequested ||
+                fsyncPolicy == FsyncPolicy.INTERVAL && System.nanoTime() - lastForce >= fsyncIntervalNanos) {
+                force();
+            }
+        } finally {
+            // flushing threads must not wait forever, even if writing or forcing the events failed
+            for (final var element : batch) {
+                if (element instanceof FlushRequest flushRequest) {
+                    flushRequest.latch().countDown();
+                }
+            }
+        }
+    }
+
+    private void write(BusinessEventData eventData) {
+        try {
+            var written = JournalRecords.write(activeSegment.buffer(), eventData, codec);
+
+            if (written < 0 && activeSegment.buffer().position() > JournalSegment.FILE_HEADER_SIZE) {
+                rollSegment();
+                written = JournalRecords.write(activeSegment.buffer(), eventData, codec);
+            }
+
+            if (written < 0) {
+                droppedCount.increment();
+                LOG.error("Business event {} is too large for a journal segment of {} bytes and was dropped",
+                    eventData.id(), segmentSize);
+                return;
+            }
+
+            dirty = true;
+            writtenCount.increment();
+        } catch (RuntimeException e) {
+            droppedCount.increment();
+            LOG.error("Failed to write business event {} to the journal", eventData.id(), e);
+        }
+    }
+
+    private void rollSegment() {
+        force();
+        closeActiveSegment();
+
+        try {
+            activeSegment = JournalSegment.create(directory, activeSegment.index() + 1, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to create a new journal segment in " + directory, e);
+        }
+
+        writePosition = new WritePosition(activeSegment.index(), activeSegment.buffer().position());
+    }
+
+    private void force() {
+        if (dirty && fsyncPolicy != FsyncPolicy.NEVER) {
+            activeSegment.force();
+            forceCount.increment();
+        }
+
+        dirty = false;
+        lastForce = System.nanoTime();
+    }
+
+    private void closeActiveSegment() {
+        try {
+            activeSegment.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close journal segment {}", activeSegment.index(), e);
+        }
+    }
+
+    private JournalSegment openLatestSegment() throws IOException {
+        final var segmentFiles = listSegmentFiles();
+
+        if (segmentFiles.isEmpty()) {
+            return JournalSegment.create(directory, 0, segmentSize);
+        }
+
+        return JournalSegment.openForAppend(segmentFiles.getLast());
+    }
+
+    private List<Path> listSegmentFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(JournalSegment::isSegmentFile).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to list journal segments in " + directory, e);
+        }
+    }
+
+    private static MappedByteBuffer mapReadOnly(Path segmentFile) {
+        try {
+            return JournalSegment.mapReadOnly(segmentFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read journal segment " + segmentFile, e);
+        }
+    }
+
+    private record WritePosition(long segmentIndex, int position) {
+    }
+
+    private record FlushRequest(CountDownLatch latch) {
+    }
+}
@@ -0,0 +1,41 @@
+package de.gcoding.boot.businessevents.journal;
+
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEvent;
+import jakarta.annotation.Nonnull;
+import org.springframework.context.ApplicationListener;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Appends every published {@link BusinessEvent} to a {@link BusinessEventJournal}. The payloads of a
+ * {@link BatchBusinessEvent} are appended as individual events. Events replayed by the journal itself are not
+ * appended again.
+ */
+public class BusinessEventJournalListener implements ApplicationListener<BusinessEvent> {
+    private final BusinessEventJournal journal;
+
+    /**
+     * Creates a new {@link BusinessEventJournalListener}
+     *
+     * @param journal The journal the business events are appended to
+     */
+    public BusinessEventJournalListener(@Nonnull BusinessEventJournal journal) {
+        this.journal = requireNonNull(journal, "journal must not be null");
+    }
+
+    @Override
+    public void onApplicationEvent(@Nonnull BusinessEvent event) {
+        if (event.getSource() == journal) {
+            return;
+        }
+
+        if (event instanceof BatchBusinessEvent batch) {
+            for (var i = 0; i < batch.size(); i++) {
+                journal.append(batch.getElementEventData(i));
+            }
+        } else {
+            journal.append(event.getEventData());
+        }
+    }
+}
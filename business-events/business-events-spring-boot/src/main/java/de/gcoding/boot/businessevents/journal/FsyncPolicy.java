@@ -0,0 +1,22 @@
+package de.gcoding.boot.businessevents.journal;
+
+/**
+ * Decides when the {@link BusinessEventJournal} forces written events to the storage device. Until then, written
+ * events are only held by the page cache of the operating system and may be lost if the machine crashes, while they
+ * survive crashes of the application itself.
+ */
+public enum FsyncPolicy {
+    /**
+     * Forces every batch of events before the writer continues with the next batch. This is the safest, but slowest
+     * policy.
+     */
+    EVERY_BATCH,
+    /**
+     * Forces written events at most once per configured interval
+     */
+    INTERVAL,
+    /**
+     * Never forces written events explicitly and leaves it to the operating system to write them back
+     */
+    NEVER
+}
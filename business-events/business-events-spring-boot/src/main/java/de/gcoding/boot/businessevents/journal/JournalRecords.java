@@ -0,0 +1,104 @@
+package de.gcoding.boot.businessevents.journal;
+
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.codec.BusinessEventDataCodec;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Encodes and decodes the records of journal segments. Each record starts with the length of its body and a CRC32C
+ * checksum of the body, followed by the body itself, which is the event as encoded by the
+ * {@link BusinessEventDataCodec}:
+ * <pre>
+ * int    length
+ * int    checksum
+ * bytes  encoded event
+ * </pre>
+ * A length of {@code 0} marks the end of the records within a segment, as unwritten parts of segments are
+ * zero-filled.
+ */
+final class JournalRecords {
+    static final int RECORD_HEADER_SIZE = 8;
+
+    private JournalRecords() {
+    }
+
+    /**
+     * Writes the given event at the current position of the buffer and advances the position, if the record fits
+     * into the remaining space of the buffer
+     *
+     * @return The number of bytes written, or {@code -1} if the record does not fit and nothing was written
+     */
+    static int write(ByteBuffer buffer, BusinessEventData eventData, BusinessEventDataCodec codec) {
+        final var start = buffer.position();
+
+        if (buffer.remaining() < RECORD_HEADER_SIZE + BusinessEventDataCodec.HEADER_SIZE) {
+            return -1;
+        }
+
+        buffer.position(start + RECORD_HEADER_SIZE);
+        final int bodyLength;
+
+        try {
+            bodyLength = codec.encode(eventData, buffer);
+        } catch (RuntimeException e) {
+            buffer.position(start);
+            throw e;
+        }
+
+        if (bodyLength < 0) {
+            buffer.position(start);
+            return -1;
+        }
+
+        // the length is written last, so that readers never see a length for a record that is incomplete
+        buffer.putInt(start + 4, checksum(buffer, start + RECORD_HEADER_SIZE, bodyLength));
+        buffer.putInt(start, bodyLength);
+
+        return RECORD_HEADER_SIZE + bodyLength;
+    }
+
+    /**
+     * Returns the length of the body of the record starting at the given position, if there is a valid record
+     *
+     * @return The length of the body, or {@code -1} if there is no complete and valid record at the position
+     */
+    static int validBodyLength(ByteBuffer buffer, int position, int limit) {
+        if (position + RECORD_HEADER_SIZE > limit) {
+            return -1;
+        }
+
+        final var bodyLength = buffer.getInt(position);
+
+        if (bodyLength < BusinessEventDataCodec.HEADER_SIZE || bodyLength > limit - position - RECORD_HEADER_SIZE) {
+            return -1;
+        }
+
+        if (buffer.getInt(position + 4) != checksum(buffer, position + RECORD_HEADER_SIZE, bodyLength)) {
+            return -1;
+        }
+
+        return bodyLength;
+    }
+
+    static UUID readId(ByteBuffer buffer, int bodyPosition) {
+        return BusinessEventDataCodec.readId(buffer, bodyPosition);
+    }
+
+    static Instant readInstant(ByteBuffer buffer, int bodyPosition) {
+        return BusinessEventDataCodec.readTimestamp(buffer, bodyPosition);
+    }
+
+    static BusinessEventData read(ByteBuffer buffer, int bodyPosition, BusinessEventDataCodec codec) {
+        return codec.decode(buffer.duplicate().position(bodyPosition));
+    }
+
+    private static int checksum(ByteBuffer buffer, int position, int length) {
+        final var crc = new CRC32C();
+        crc.update(buffer.slice(position, length));
+        return (int) crc.getValue();
+    }
+}
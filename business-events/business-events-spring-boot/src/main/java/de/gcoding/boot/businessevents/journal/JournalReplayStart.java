@@ -0,0 +1,93 @@
+package de.gcoding.boot.businessevents.journal;
+
+import jakarta.annotation.Nonnull;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Describes where a replay of the {@link BusinessEventJournal} starts
+ */
+public sealed interface JournalReplayStart {
+    /**
+     * Replays all events stored in the journal
+     *
+     * @return A start at the beginning of the journal
+     */
+    @Nonnull
+    static JournalReplayStart beginning() {
+        return Beginning.INSTANCE;
+    }
+
+    /**
+     * Replays events starting with the event of the given id. No event is replayed if the journal does not contain an
+     * event with the given id.
+     *
+     * @param eventId The id of the first event to replay
+     * @return A start at the event with the given id
+     */
+    @Nonnull
+    static JournalReplayStart fromEventId(@Nonnull UUID eventId) {
+        return new EventId(requireNonNull(eventId, "eventId must not be null"));
+    }
+
+    /**
+     * Replays all events with a timestamp equal to or after the given instant
+     *
+     * @param timestamp The earliest timestamp of events to replay
+     * @return A start at the given timestamp
+     */
+    @Nonnull
+    static JournalReplayStart fromTimestamp(@Nonnull Instant timestamp) {
+        return new Timestamp(requireNonNull(timestamp, "timestamp must not be null"));
+    }
+
+    /**
+     * Determines whether the replay starts with the given event. Only the id and timestamp of the event are passed,
+     * so that events before the start do not need to be decoded completely.
+     *
+     * @param eventId   The id of the event read from the journal
+     * @param timestamp The timestamp of the event read from the journal
+     * @return {@code true} if the given event and all events after it are to be replayed
+     */
+    boolean startsWith(@Nonnull UUID eventId, @Nonnull Instant timestamp);
+
+    /**
+     * @return {@code true} if every event is checked against {@link #startsWith(UUID, Instant)}, instead of
+     * replaying all events after the first matching one
+     */
+    default boolean filtersEachEvent() {
+        return false;
+    }
+
+    enum Beginning implements JournalReplayStart {
+        INSTANCE;
+
+        @Override
+        public boolean startsWith(@Nonnull UUID eventId, @Nonnull Instant timestamp) {
+            return true;
+        }
+    }
+
+    record EventId(@Nonnull UUID eventId) implements JournalReplayStart {
+        @Override
+        public boolean startsWith(@Nonnull UUID eventId, @Nonnull Instant timestamp) {
+            return this.eventId.equals(eventId);
+        }
+    }
+
+    record Timestamp(@Nonnull Instant timestamp) implements JournalReplayStart {
+        @Override
+        public boolean startsWith(@Nonnull UUID eventId, @Nonnull Instant timestamp) {
+            return !timestamp.isBefore(this.timestamp);
+        }
+
+        @Override
+        public boolean filtersEachEvent() {
+            // timestamps are assigned on emission, so the journal is not strictly ordered by them
+            return true;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package de.gcoding.boot.businessevents.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Pattern;
+
+/**
+ * A file of the journal that is memory-mapped as a whole. Each segment starts with a magic number and the format
+ * version, followed by the records described in {@link JournalRecords}. Version 1 stored the record bodies in a
+ * layout of their own, version 2 stores them as encoded by the
+ * {@link de.gcoding.boot.businessevents.codec.BusinessEventDataCodec}. Segments of other versions are rejected.
+ */
+final class JournalSegment implements AutoCloseable {
+    static final int MAGIC = 0x42454A4E;
+    static final int VERSION = 2;
+    static final int FILE_HEADER_SIZE = 8;
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("(\\d{20})\\.journal");
+    private final long index;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private JournalSegment(long index, FileChannel channel, MappedByteBuffer buffer) {
+        this.index = index;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates a new, zero-filled segment of the given size
+     */
+    static JournalSegment create(Path directory, long index, int size) throws IOException {
+        final var channel = FileChannel.open(
+            directory.resolve(fileName(index)),
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+
+        try {
+            final var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.position(FILE_HEADER_SIZE);
+
+            return new JournalSegment(index, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens an existing segment for appending further records. The position of the segment is set behind its last
+     * valid record, and everything after it is zero-filled again, in case the segment has been written partially
+     * before.
+     */
+    static JournalSegment openForAppend(Path file) throws IOException {
+        final var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            final var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            verifyHeader(buffer, file);
+
+            final var position = endOfRecords(buffer, buffer.limit());
+
+            if (position + 4 <= buffer.limit() && buffer.getInt(position) != 0) {
+                // a record has been written partially, e.g. due to a crash, so the remainder is cleared
+                buffer.put(position, new byte[buffer.limit() - position]);
+            }
+
+            buffer.position(position);
+            return new JournalSegment(parseIndex(file), channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps an existing segment for reading
+     */
+    static MappedByteBuffer mapReadOnly(Path file) throws IOException {
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            verifyHeader(buffer, file);
+
+            return buffer;
+        }
+    }
+
+    /**
+     * Returns the position behind the last valid record before the given limit
+     */
+    static int endOfRecords(MappedByteBuffer buffer, int limit) {
+        var position = FILE_HEADER_SIZE;
+        int bodyLength;
+
+        while ((bodyLength = JournalRecords.validBodyLength(buffer, position, limit)) >= 0) {
+            position += JournalRecords.RECORD_HEADER_SIZE + bodyLength;
+        }
+
+        return position;
+    }
+
+    static String fileName(long index) {
+        return String.format("%020d.journal", index);
+    }
+
+    static boolean isSegmentFile(Path file) {
+        return FILE_NAME_PATTERN.matcher(file.getFileName().toString()).matches();
+    }
+
+    static long parseIndex(Path file) {
+        final var matcher = FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("not a journal segment: " + file);
+        }
+
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static void verifyHeader(MappedByteBuffer buffer, Path file) throws IOException {
+        if (buffer.limit() < FILE_HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("not a journal segment: " + file);
+        }
+
+        final var version = buffer.getInt(4);
+
+        if (version < VERSION) {
+            throw new IOException("journal segment " + file + " has been written in the outdated format version " +
+                version + ", which cannot be read anymore. Move the segments of version " + version +
+                " out of the journal directory to start a new journal");
+        } else if (version != VERSION) {
+            throw new IOException("unsupported version " + version + " of journal segment " + file);
+        }
+    }
+
+    long index() {
+        return index;
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
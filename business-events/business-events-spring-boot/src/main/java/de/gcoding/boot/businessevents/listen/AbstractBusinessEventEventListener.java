@@ -1,26 +1,49 @@
 package de.gcoding.boot.businessevents.listen;
 
 
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
 import de.gcoding.boot.businessevents.BusinessEvent;
 import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics.ListenerMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationListener;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 
 import static java.util.Objects.requireNonNull;
 
-public abstract class AbstractBusinessEventEventListener<T> implements ApplicationListener<BusinessEvent> {
+public abstract class AbstractBusinessEventEventListener<T> implements RoutableBusinessEventListener, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractBusinessEventEventListener.class);
     private final Class<T> desiredPayloadType;
     private final Map<String, BiConsumer<T, BusinessEvent>> callbacks = new HashMap<>();
+    private final KeyedSerialExecutor asyncExecutor;
+    private volatile ListenerMetrics listenerMetrics = ListenerMetrics.NOOP;
 
     protected AbstractBusinessEventEventListener(@NonNull Class<T> desiredPayloadType) {
+        this(desiredPayloadType, null);
+    }
+
+    /**
+     * Creates a listener that invokes its callbacks asynchronously through the given executor, if any. Events with
+     * the same key, as resolved by {@link #resolveKey(Object, BusinessEvent)}, are processed one after another in the
+     * order they were received, while events of different keys are processed in parallel. Exceptions thrown by
+     * asynchronously invoked callbacks are logged.
+     *
+     * @param desiredPayloadType The type of payloads to listen for
+     * @param asyncExecutor      The executor used to invoke the callbacks, e.g.
+     *                           {@link KeyedSerialExecutor#virtualThreadExecutor()}, or {@code null} to invoke them on
+     *                           the publishing thread
+     */
+    protected AbstractBusinessEventEventListener(@NonNull Class<T> desiredPayloadType, @Nullable Executor asyncExecutor) {
         this.desiredPayloadType = requireNonNull(desiredPayloadType);
+        this.asyncExecutor = asyncExecutor != null ? new KeyedSerialExecutor(asyncExecutor) : null;
 
         registerCallback(this::internalOnCreate, EventActions.CREATE);
         registerCallback(this::internalOnUpdate, EventActions.UPDATE);
@@ -30,6 +53,11 @@ public abstract class AbstractBusinessEventEventListener<T> implements Applicati
     @Override
     @SuppressWarnings("unchecked")
     public void onApplicationEvent(BusinessEvent event) {
+        if (event instanceof BatchBusinessEvent batch) {
+            onBatchEvent(batch);
+            return;
+        }
+
         final var payload = event.getPayload();
 
         if (isPayloadOfDesiredType(payload)) {
@@ -37,7 +65,77 @@ public abstract class AbstractBusinessEventEventListener<T> implements Applicati
             final var action = event.getAction();
 
             LOG.debug("Received event with id {} and with action {} that is of desired type {}", event.getId(), action, desiredPayloadType);
-            executeCallbackDependingOnAction(action, typedPayload, event);
+
+            if (asyncExecutor != null) {
+                asyncExecutor.execute(resolveKey(typedPayload, event), () -> executeCallbackDependingOnAction(action, typedPayload, event));
+            } else {
+                executeCallbackDependingOnAction(action, typedPayload, event);
+            }
+        }
+    }
+
+    /**
+     * Resolves the key of an event if callbacks are invoked asynchronously. Events with equal keys are processed in
+     * the order they were received. By default, the id of the payload is used, see {@link PayloadIdEventKeyResolver}.
+     *
+     * @param payload The payload of the event
+     * @param event   The received event
+     * @return The key of the event, or {@code null} if it has none
+     */
+    @Nullable
+    protected Object resolveKey(T payload, BusinessEvent event) {
+        return EventKeyResolver.payloadId().resolveKey(event);
+    }
+
+    @NonNull
+    @Override
+    public Class<?> getPayloadType() {
+        return desiredPayloadType;
+    }
+
+    /**
+     * Returns no actions, as events of actions without registered callback are passed to
+     * {@link #onUnhandledAction(String, Object, BusinessEvent)}
+     *
+     * @return An empty set, meaning that this listener is interested in all actions
+     */
+    @NonNull
+    @Override
+    public Set<String> getActions() {
+        return Set.of();
+    }
+
+    /**
+     * Sets the metrics recording the duration and outcome of each callback invocation of this listener, which is
+     * named after its class. Called by the auto-configuration if metrics are enabled.
+     *
+     * @param metrics The metrics to record the invocations with
+     */
+    public void setBusinessEventsMetrics(@NonNull BusinessEventsMetrics metrics) {
+        this.listenerMetrics = requireNonNull(metrics, "metrics must not be null").listener(getClass().getName());
+    }
+
+    /**
+     * Awaits the pending asynchronous callback invocations, if callbacks are invoked asynchronously. Afterward, events
+     * are no longer accepted for asynchronous processing. Called by Spring when the listener bean is destroyed.
+     */
+    @Override
+    public void close() {
+        if (asyncExecutor != null) {
+            asyncExecutor.close();
+        }
+    }
+
+    /**
+     * Called for each received {@link BatchBusinessEvent}. By default, the batch is processed element-wise, meaning
+     * that the callbacks are invoked for each payload of the batch, just as if a separate event had been received for
+     * each of them. Subclasses can override this method to process batches as a whole.
+     *
+     * @param batch The received batch event
+     */
+    protected void onBatchEvent(BatchBusinessEvent batch) {
+        for (final var event : batch.getElementEvents()) {
+            onApplicationEvent(event);
         }
     }
 
@@ -95,7 +193,23 @@ public abstract class AbstractBusinessEventEventListener<T> implements Applicati
         final var callback = resolveCallback(action);
         LOG.debug("Resolved callback for event with id {} and action {} to {}", event.getId(), action, callback);
 
-        callback.accept(typedPayload, event);
+        final var metrics = listenerMetrics;
+
+        if (metrics == ListenerMetrics.NOOP) {
+            callback.accept(typedPayload, event);
+            return;
+        }
+
+        final var start = System.nanoTime();
+
+        try {
+            callback.accept(typedPayload, event);
+        } catch (RuntimeException | Error e) {
+            metrics.failed(System.nanoTime() - start);
+            throw e;
+        }
+
+        metrics.invoked(System.nanoTime() - start);
     }
 
     private boolean isPayloadOfDesiredType(Object payload) {
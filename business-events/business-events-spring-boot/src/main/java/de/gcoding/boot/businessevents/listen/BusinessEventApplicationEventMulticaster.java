@@ -0,0 +1,266 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
+import de.gcoding.boot.businessevents.BatchEventPublisher;
+import de.gcoding.boot.businessevents.BusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * An application event multicaster that delivers {@link BusinessEvent}s only to the listeners interested in their
+ * payload type and action. Listeners declare their interest by implementing {@link RoutableBusinessEventListener},
+ * as done by {@link BusinessEventListener} annotated methods and {@link AbstractBusinessEventEventListener}s. All
+ * other listeners receive business events as usual.
+ * </p>
+ * <p>
+ * The matching listeners are determined once per concrete event, source and payload class as well as action and
+ * cached for the current generation of registered listeners. Each addition or removal of listeners starts a new
+ * generation, so cached routes of earlier generations are recomputed on their next use. Hence, the cost of dispatching an event scales with the number of
+ * matching listeners instead of the number of all listeners. Batch events and all other application events are
+ * multicast just like {@link SimpleApplicationEventMulticaster} does.
+ * </p>
+ * <p>
+ * Multiple events can be multicast in one pass through {@link #publishEvents(List)}, which resolves the listeners
+ * and their route only once for all events of the same type, source and payload class. Note that these events are
+ * only delivered to the listeners of this multicaster and not propagated to parent application contexts.
+ * </p>
+ */
+public class BusinessEventApplicationEventMulticaster extends SimpleApplicationEventMulticaster implements BatchEventPublisher {
+    /**
+     * The maximum number of distinct actions to cache routes for per payload class. Events of further actions are
+     * routed without caching
+     */
+    public static final int MAX_CACHED_ACTIONS_PER_ROUTE = 64;
+    private static final long UNSTABLE_GENERATION = -1;
+    private final Map<RouteKey, Route> routes = new ConcurrentHashMap<>();
+    /**
+     * Incremented before and after each modification of the registered listeners, so that it is odd while listeners
+     * are being modified. A route is only cached if the generation was even and unchanged while its listeners were
+     * retrieved, which guarantees that all routes of the same generation were computed from the same listeners.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public BusinessEventApplicationEventMulticaster() {
+        super();
+    }
+
+    /**
+     * Creates a new {@link BusinessEventApplicationEventMulticaster}
+     *
+     * @param beanFactory The bean factory to retrieve listener beans from
+     */
+    public BusinessEventApplicationEventMulticaster(@Nonnull BeanFactory beanFactory) {
+        super(beanFactory);
+    }
+
+    @Override
+    public void multicastEvent(@Nonnull ApplicationEvent event, @Nullable ResolvableType eventType) {
+        if (!(event instanceof BusinessEvent businessEvent) || event instanceof BatchBusinessEvent) {
+            super.multicastEvent(event, eventType);
+            return;
+        }
+
+        final var type = eventType != null ? eventType : ResolvableType.forInstance(event);
+        deliver(resolveRoute(businessEvent, type), businessEvent);
+    }
+
+    @Override
+    public void publishEvents(@Nonnull List<?> events) {
+        final var resolvedRoutes = new HashMap<RouteKey, ResolvedRoute>();
+
+        for (final var event : events) {
+            if (!(event instanceof BusinessEvent businessEvent) || event instanceof BatchBusinessEvent) {
+                multicastEvent(asApplicationEvent(event));
+                continue;
+            }
+
+            final var resolvedRoute = resolvedRoutes.computeIfAbsent(
+                RouteKey.of(businessEvent),
+                key -> resolveRoute(businessEvent, ResolvableType.forInstance(businessEvent))
+            );
+
+            deliver(resolvedRoute, businessEvent);
+        }
+    }
+
+    @Override
+    public void addApplicationListener(@Nonnull ApplicationListener<?> listener) {
+        modifyListeners(() -> super.addApplicationListener(listener));
+    }
+
+    @Override
+    public void addApplicationListenerBean(@Nonnull String listenerBeanName) {
+        modifyListeners(() -> super.addApplicationListenerBean(listenerBeanName));
+    }
+
+    @Override
+    public void removeApplicationListener(@Nonnull ApplicationListener<?> listener) {
+        modifyListeners(() -> super.removeApplicationListener(listener));
+    }
+
+    @Override
+    public void removeApplicationListenerBean(@Nonnull String listenerBeanName) {
+        modifyListeners(() -> super.removeApplicationListenerBean(listenerBeanName));
+    }
+
+    @Override
+    public void removeApplicationListeners(@Nonnull Predicate<ApplicationListener<?>> predicate) {
+        modifyListeners(() -> super.removeApplicationListeners(predicate));
+    }
+
+    @Override
+    public void removeApplicationListenerBeans(@Nonnull Predicate<String> predicate) {
+        modifyListeners(() -> super.removeApplicationListenerBeans(predicate));
+    }
+
+    @Override
+    public void removeAllListeners() {
+        modifyListeners(() -> super.removeAllListeners());
+    }
+
+    /**
+     * @return The number of cached routes
+     */
+    public int getRouteCount() {
+        return routes.size();
+    }
+
+    private ResolvedRoute resolveRoute(BusinessEvent event, ResolvableType eventType) {
+        final var listenersGeneration = generation.get();
+        final var listeners = asList(getApplicationListeners(event, eventType));
+        final var stable = (listenersGeneration & 1) == 0 && generation.get() == listenersGeneration;
+
+        return new ResolvedRoute(listeners, findRoute(event, listeners, stable ? listenersGeneration : UNSTABLE_GENERATION));
+    }
+
+    private void deliver(ResolvedRoute resolvedRoute, BusinessEvent event) {
+        final var listeners = resolvedRoute.listeners();
+        final var matchingListeners = resolvedRoute.route().getMatchingListeners(event.getAction(), listeners);
+
+        for (var i = matchingListeners.nextSetBit(0); i >= 0; i = matchingListeners.nextSetBit(i + 1)) {
+            deliver(listeners.get(i), event);
+        }
+    }
+
+    private Route findRoute(BusinessEvent event, List<ApplicationListener<?>> listeners, long listenersGeneration) {
+        final var key = RouteKey.of(event);
+        final var cachedRoute = routes.get(key);
+
+        if (cachedRoute != null && cachedRoute.generation() == listenersGeneration) {
+            return cachedRoute;
+        }
+
+        final var route = Route.of(listenersGeneration, key.payloadType(), listeners);
+
+        if (listenersGeneration != UNSTABLE_GENERATION) {
+            // never replace a route of a newer generation with the one of a lookup that started earlier
+            routes.merge(key, route, (existing, created) -> existing.generation() > created.generation() ? existing : created);
+        }
+
+        return route;
+    }
+
+    private void deliver(ApplicationListener<?> listener, ApplicationEvent event) {
+        final var executor = getTaskExecutor();
+
+        if (executor != null && listener.supportsAsyncExecution()) {
+            try {
+                executor.execute(() -> invokeListener(listener, event));
+            } catch (RejectedExecutionException e) {
+                invokeListener(listener, event);
+            }
+        } else {
+            invokeListener(listener, event);
+        }
+    }
+
+    private void modifyListeners(Runnable modification) {
+        synchronized (generation) {
+            generation.incrementAndGet();
+
+            try {
+                modification.run();
+            } finally {
+                generation.incrementAndGet();
+                routes.clear();
+            }
+        }
+    }
+
+    private ApplicationEvent asApplicationEvent(Object event) {
+        return event instanceof ApplicationEvent applicationEvent ? applicationEvent : new PayloadApplicationEvent<>(this, event);
+    }
+
+    private static List<ApplicationListener<?>> asList(Collection<ApplicationListener<?>> listeners) {
+        return listeners instanceof List<ApplicationListener<?>> list ? list : new ArrayList<>(listeners);
+    }
+
+    private record RouteKey(Class<?> eventType, Class<?> sourceType, Class<?> payloadType) {
+        private static RouteKey of(BusinessEvent event) {
+            return new RouteKey(event.getClass(), event.getSource().getClass(), event.getPayload().getClass());
+        }
+    }
+
+    private record ResolvedRoute(List<ApplicationListener<?>> listeners, Route route) {
+    }
+
+    /**
+     * The listeners matching the payload type of a route, stored as positions in the list of all listeners
+     */
+    private record Route(long generation, BitSet payloadMatches, Map<String, BitSet> actionMatches) {
+        private static Route of(long generation, Class<?> payloadType, List<ApplicationListener<?>> listeners) {
+            final var payloadMatches = new BitSet(listeners.size());
+
+            for (var i = 0; i < listeners.size(); i++) {
+                if (!(listeners.get(i) instanceof RoutableBusinessEventListener routable)
+                    || routable.getPayloadType().isAssignableFrom(payloadType)) {
+                    payloadMatches.set(i);
+                }
+            }
+
+            return new Route(generation, payloadMatches, new ConcurrentHashMap<>());
+        }
+
+        private BitSet getMatchingListeners(String action, List<ApplicationListener<?>> listeners) {
+            final var cachedMatches = actionMatches.get(action);
+
+            if (cachedMatches != null) {
+                return cachedMatches;
+            }
+
+            final var matches = (BitSet) payloadMatches.clone();
+
+            for (var i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                if (listeners.get(i) instanceof RoutableBusinessEventListener routable
+                    && !routable.getActions().isEmpty()
+                    && !routable.getActions().contains(action)) {
+                    matches.clear(i);
+                }
+            }
+
+            if (actionMatches.size() < MAX_CACHED_ACTIONS_PER_ROUTE) {
+                actionMatches.put(action, matches);
+            }
+
+            return matches;
+        }
+    }
+}
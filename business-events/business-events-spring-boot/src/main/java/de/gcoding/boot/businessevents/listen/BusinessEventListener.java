@@ -20,6 +20,15 @@ import java.lang.annotation.Target;
  *     <dd>Will contain the action of the event</dd>
  *     <dt>{@code <T> payload}</dt>
  *     <dd>Will contain the events payload. The type must be the same as specified through {@link #payloadType()}</dd>
+ *     <dt>{@code BatchBusinessEvent} batch</dt>
+ *     <dd>Will contain a received batch event as a whole. Methods with such a parameter are only invoked for batch
+ *     events whose payloads all match the {@link #payloadType()}. Methods without it receive batch events
+ *     element-wise, as if a separate event had been emitted for each payload</dd>
+ *     <dt>{@code List<T>} payloads or {@code List<BusinessEventDataProvider>} events</dt>
+ *     <dd>Turns the method into a micro-batching listener. Matching events are accumulated and the method is invoked
+ *     with their payloads (or the events themselves) once {@link #maxBatchSize()} events were accumulated, once
+ *     {@link #maxLatency()} has passed since the first of them was received, or when the application shuts down.
+ *     Such a list must be the only parameter of the method</dd>
  * </dl>
  * Take the following code snipped as an example:
  * <pre>
@@ -33,6 +42,10 @@ import java.lang.annotation.Target;
  * </pre>
  * The {@code fireOnBusinessEvent} will be invoked for each business event that has one of the action "CREATE" or
  * "DELETE" and which has a payload type (or subtype) of "User"
+ * <p>
+ * Listeners can be invoked asynchronously by setting {@link #async()}. Events with the same {@link #key()} are still
+ * processed in the order they were published, while events of different keys are processed in parallel.
+ * </p>
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
@@ -53,4 +66,47 @@ public @interface BusinessEventListener {
      * @return The actions that events must have in order for this listener to fire
      */
     String[] actions() default {};
+
+    /**
+     * Invoke the annotated method asynchronously instead of on the thread that published the event. Exceptions thrown
+     * by asynchronously invoked methods are logged, as they cannot be propagated to the publisher anymore
+     *
+     * @return Whether the annotated method is invoked asynchronously
+     */
+    boolean async() default false;
+
+    /**
+     * A SpEL expression resolving the key of an event, if {@link #async()} is enabled. Events with equal keys are
+     * processed one after another in the order they were published. The expression can refer to the {@code payload},
+     * {@code action} and {@code event}. If empty, the id of the payload is used as key, as returned by its
+     * {@code getId()} or {@code id()} method. Events without key are processed in order as well
+     *
+     * @return The expression resolving the key of an event
+     */
+    String key() default "";
+
+    /**
+     * The name of the {@link java.util.concurrent.Executor} bean used to invoke the annotated method, if
+     * {@link #async()} is enabled. If empty, the default executor is used, which runs each invocation on a virtual
+     * thread unless configured differently
+     *
+     * @return The name of the executor bean
+     */
+    String executor() default "";
+
+    /**
+     * The maximum number of events passed to a micro-batching method at once. Only applies to methods with a
+     * {@code List} parameter
+     *
+     * @return The maximum batch size
+     */
+    int maxBatchSize() default 500;
+
+    /**
+     * The maximum time an event waits to be passed to a micro-batching method, e.g. {@code 500ms} or {@code 2s}. Only
+     * applies to methods with a {@code List} parameter
+     *
+     * @return The maximum latency
+     */
+    String maxLatency() default "1s";
 }
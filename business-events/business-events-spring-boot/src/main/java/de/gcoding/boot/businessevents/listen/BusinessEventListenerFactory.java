@@ -1,22 +1,90 @@
 package de.gcoding.boot.businessevents.listen;
 
 
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.context.event.EventListenerFactory;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
-public class BusinessEventListenerFactory implements EventListenerFactory, Ordered {
+/**
+ * Creates {@link BusinessEventListenerMethodAdapter}s for {@link BusinessEventListener} annotated methods. Once the
+ * application context is closed, the pending micro batches of all created listeners are flushed, before the beans
+ * declaring the listener methods are destroyed.
+ */
+public class BusinessEventListenerFactory implements EventListenerFactory, ApplicationListener<ContextClosedEvent>, Ordered {
     private final BeanFactory beanFactory;
+    private final BusinessEventSubscriptionRegistry subscriptionRegistry;
+    private final Executor asyncExecutor;
+    private final SingletonSupplier<BusinessEventsMetrics> metrics;
+    private final List<BusinessEventListenerMethodAdapter> closeableListeners = new CopyOnWriteArrayList<>();
 
     public BusinessEventListenerFactory(@NonNull BeanFactory beanFactory) {
+        this(beanFactory, new BusinessEventSubscriptionRegistry());
+    }
+
+    /**
+     * Creates a new {@link BusinessEventListenerFactory}
+     *
+     * @param beanFactory          The bean factory to retrieve the beans declaring the listener methods from
+     * @param subscriptionRegistry The registry at which the subscriptions of the created listeners are registered
+     */
+    public BusinessEventListenerFactory(@NonNull BeanFactory beanFactory, @NonNull BusinessEventSubscriptionRegistry subscriptionRegistry) {
+        this(beanFactory, subscriptionRegistry, null);
+    }
+
+    /**
+     * Creates a new {@link BusinessEventListenerFactory}
+     *
+     * @param beanFactory          The bean factory to retrieve the beans declaring the listener methods from
+     * @param subscriptionRegistry The registry at which the subscriptions of the created listeners are registered
+     * @param asyncExecutor        The executor used by asynchronous listeners that do not name an executor bean. If
+     *                             {@code null}, each invocation runs on a new virtual thread
+     */
+    public BusinessEventListenerFactory(
+        @NonNull BeanFactory beanFactory,
+        @NonNull BusinessEventSubscriptionRegistry subscriptionRegistry,
+        @Nullable Executor asyncExecutor
+    ) {
+        this(beanFactory, subscriptionRegistry, asyncExecutor, () -> BusinessEventsMetrics.NOOP);
+    }
+
+    /**
+     * Creates a new {@link BusinessEventListenerFactory}
+     *
+     * @param beanFactory          The bean factory to retrieve the beans declaring the listener methods from
+     * @param subscriptionRegistry The registry at which the subscriptions of the created listeners are registered
+     * @param asyncExecutor        The executor used by asynchronous listeners that do not name an executor bean. If
+     *                             {@code null}, each invocation runs on a new virtual thread
+     * @param metrics              Supplies the metrics recording the invocations of the created listeners. It is
+     *                             called once the first listener is created, so that the metrics do not have to be
+     *                             initialized as early as this factory
+     */
+    public BusinessEventListenerFactory(
+        @NonNull BeanFactory beanFactory,
+        @NonNull BusinessEventSubscriptionRegistry subscriptionRegistry,
+        @Nullable Executor asyncExecutor,
+        @NonNull Supplier<BusinessEventsMetrics> metrics
+    ) {
         this.beanFactory = requireNonNull(beanFactory);
+        this.subscriptionRegistry = requireNonNull(subscriptionRegistry);
+        this.asyncExecutor = asyncExecutor;
+        this.metrics = SingletonSupplier.of(requireNonNull(metrics, "metrics must not be null"));
     }
 
     @Override
@@ -29,12 +97,47 @@ public class BusinessEventListenerFactory implements EventListenerFactory, Order
     public ApplicationListener<?> createApplicationListener(@NonNull String beanName, @NonNull Class<?> type, @NonNull Method method) {
         final var configuration = AnnotationUtils.findAnnotation(method, BusinessEventListener.class);
         requireNonNull(configuration, "Illegal usage of createApplicationListener, should only be invoked if supportsMethod returns true");
+        subscriptionRegistry.subscribe(configuration.payloadType(), Arrays.asList(configuration.actions()));
 
-        return new BusinessEventListenerMethodAdapter(
+        final var listener = new BusinessEventListenerMethodAdapter(
             configuration,
-            () -> beanFactory.getBean(beanName),
-            method
+            createMethodOwnerSupplier(beanName),
+            method,
+            resolveAsyncExecutor(configuration),
+            metrics.obtain()
         );
+
+        // flushes pending micro batches and awaits pending asynchronous invocations once the context is closed
+        if (listener.getMicroBatcher() != null || configuration.async()) {
+            closeableListeners.add(listener);
+        }
+
+        return listener;
+    }
+
+    @Override
+    public void onApplicationEvent(@NonNull ContextClosedEvent event) {
+        // child contexts propagate their events to this context, but must not flush its listeners
+        if (event.getApplicationContext().getAutowireCapableBeanFactory() == beanFactory) {
+            closeableListeners.forEach(BusinessEventListenerMethodAdapter::close);
+        }
+    }
+
+    private Executor resolveAsyncExecutor(BusinessEventListener configuration) {
+        if (!StringUtils.hasText(configuration.executor())) {
+            return asyncExecutor;
+        }
+
+        // the executor bean is resolved upon the first invocation, as it might not be initialized yet
+        final var executor = SingletonSupplier.of(() -> beanFactory.getBean(configuration.executor(), Executor.class));
+        return task -> executor.obtain().execute(task);
+    }
+
+    private Supplier<Object> createMethodOwnerSupplier(String beanName) {
+        final Supplier<Object> lookup = () -> beanFactory.getBean(beanName);
+
+        // singletons are resolved lazily once, as they might not be fully initialized when the listener is created
+        return beanFactory.containsBean(beanName) && beanFactory.isSingleton(beanName) ? SingletonSupplier.of(lookup) : lookup;
     }
 
     @Override
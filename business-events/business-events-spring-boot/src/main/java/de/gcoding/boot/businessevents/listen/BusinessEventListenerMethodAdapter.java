@@ -1,59 +1,278 @@
 package de.gcoding.boot.businessevents.listen;
 
 
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
 import de.gcoding.boot.businessevents.BusinessEvent;
 import de.gcoding.boot.businessevents.BusinessEventDataProvider;
+import de.gcoding.boot.businessevents.jfr.ListenerInvocationJfrEvent;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics.ListenerMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationListener;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.ResolvableType;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static de.gcoding.boot.common.ExceptionUtils.sneakyThrows;
 
-public class BusinessEventListenerMethodAdapter implements ApplicationListener<BusinessEvent> {
+/**
+ * Adapts a {@link BusinessEventListener} annotated method to an application listener. The arguments of the method are
+ * bound to the business event, its payload and action once upon creation and combined with the method into a single
+ * {@link MethodHandle}, so invoking the method for an event does neither require reflection nor any allocations.
+ * Methods with a {@code List} parameter receive matching events in micro batches, which are flushed when the adapter
+ * is closed at the latest.
+ */
+public class BusinessEventListenerMethodAdapter implements RoutableBusinessEventListener, AutoCloseable {
     public static final Logger LOG = LoggerFactory.getLogger(BusinessEventListenerMethodAdapter.class);
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, BusinessEventDataProvider.class);
+    private static final MethodType MICRO_BATCH_INVOKER_TYPE = MethodType.methodType(void.class, Object.class, List.class);
+    private static final MethodHandle EVENT_EXTRACTOR = MethodHandles.identity(BusinessEventDataProvider.class);
+    private static final MethodHandle PAYLOAD_EXTRACTOR = findEventAccessor("getPayload", Object.class);
+    private static final MethodHandle ACTION_EXTRACTOR = findEventAccessor("getAction", String.class);
     private final BusinessEventListener configuration;
     private final Supplier<Object> methodOwnerSupplier;
     private final Method method;
-    private final Map<Integer, ArgumentValueExtractor> argumentBindings = new HashMap<>();
-
-    public BusinessEventListenerMethodAdapter(BusinessEventListener configuration, Supplier<Object> methodOwnerSupplier, Method method) {
+    private final Map<Integer, MethodHandle> argumentBindings = new HashMap<>();
+    private final Set<String> requestedActions;
+    private final boolean consumesBatches;
+    private final MethodHandle invoker;
+    private final KeyedSerialExecutor asyncExecutor;
+    private final EventKeyResolver keyResolver;
+    private final MicroBatcher<Object> microBatcher;
+    private final boolean batchesEvents;
+    private final String listenerName;
+    private final ListenerMetrics listenerMetrics;
+
+    /**
+     * Creates a new {@link BusinessEventListenerMethodAdapter}
+     *
+     * @param configuration       The annotation of the listener method
+     * @param methodOwnerSupplier Supplies the object to invoke the listener method on
+     * @param method              The listener method
+     * @param asyncExecutor       The executor used to invoke the listener method if it is configured to be invoked
+     *                            asynchronously, and to consume micro batches once their latency has passed. If
+     *                            {@code null}, each invocation runs on a new virtual thread
+     * @param metrics             Records the duration and outcome of each invocation of the listener method, and the
+     *                            reason and size of each flushed micro batch
+     */
+    public BusinessEventListenerMethodAdapter(
+        BusinessEventListener configuration,
+        Supplier<Object> methodOwnerSupplier,
+        Method method,
+        @Nullable Executor asyncExecutor,
+        BusinessEventsMetrics metrics
+    ) {
         this.configuration = configuration;
         this.methodOwnerSupplier = methodOwnerSupplier;
         this.method = method;
+        this.requestedActions = Set.copyOf(Arrays.asList(configuration.actions()));
+        this.consumesBatches = Arrays.asList(method.getParameterTypes()).contains(BatchBusinessEvent.class);
+        this.listenerName = method.getDeclaringClass().getName() + "#" + method.getName();
+        this.listenerMetrics = metrics.listener(listenerName);
+
+        final var microBatchElementType = resolveMicroBatchElementType();
+
+        if (microBatchElementType != null) {
+            this.invoker = unreflectMethod().asType(MICRO_BATCH_INVOKER_TYPE);
+            this.microBatcher = new MicroBatcher<>(
+                configuration.maxBatchSize(),
+                DurationStyle.detectAndParse(configuration.maxLatency()),
+                MicroBatcher.sharedScheduler(),
+                asyncExecutor != null ? asyncExecutor : KeyedSerialExecutor.virtualThreadExecutor(),
+                this::onMicroBatch,
+                listenerMetrics
+            );
+            listenerMetrics.batcherCreated(microBatcher);
+            this.batchesEvents = BusinessEventDataProvider.class.isAssignableFrom(microBatchElementType);
+        } else {
+            createArgumentBindings();
+            this.invoker = createInvoker();
+            this.microBatcher = null;
+            this.batchesEvents = false;
+        }
 
-        createArgumentBindings();
+        this.asyncExecutor = createAsyncExecutor(configuration, asyncExecutor);
+        this.keyResolver = StringUtils.hasText(configuration.key())
+            ? new ExpressionEventKeyResolver(configuration.key())
+            : EventKeyResolver.payloadId();
     }
 
     @Override
     public void onApplicationEvent(@NonNull BusinessEvent event) {
-        if (shouldBeInvokedForEvent(event)) {
+        final var isBatch = event instanceof BatchBusinessEvent;
+
+        if (isBatch && !consumesBatches) {
+            ((BatchBusinessEvent) event).getElementEvents().forEach(this::onApplicationEvent);
+            return;
+        }
+
+        if (isBatch != consumesBatches) {
+            return;
+        }
+
+        if (!shouldBeInvokedForEvent(event)) {
+            return;
+        }
+
+        if (microBatcher != null) {
+            microBatcher.add(batchesEvents ? event : event.getPayload());
+        } else if (asyncExecutor != null) {
+            LOG.debug("Scheduling @BusinessEventListener annotated method {} for BusinessEvent {}", method, event);
+            asyncExecutor.execute(keyResolver.resolveKey(event), () -> invokeAnnotatedMethod(event));
+        } else {
             LOG.debug("Invoking @BusinessEventListener annotated method {} for BusinessEvent {}", method, event);
             invokeAnnotatedMethod(event);
         }
     }
 
+    @NonNull
+    @Override
+    public Class<?> getPayloadType() {
+        return configuration.payloadType();
+    }
+
+    @NonNull
+    @Override
+    public Set<String> getActions() {
+        return requestedActions;
+    }
+
+    /**
+     * Returns the batcher accumulating the events of a micro-batching method, which records how many batches were
+     * flushed for which reason
+     *
+     * @return The micro batcher, or {@code null} if the method does not receive micro batches
+     */
+    @Nullable
+    public MicroBatcher<Object> getMicroBatcher() {
+        return microBatcher;
+    }
+
+    /**
+     * Flushes the pending micro batch, if any. Events received afterward are passed to the method immediately. If the
+     * method is invoked asynchronously, pending invocations are awaited afterward and the method is not invoked for
+     * any further events
+     */
+    @Override
+    public void close() {
+        if (microBatcher != null) {
+            microBatcher.close();
+        }
+
+        if (asyncExecutor != null) {
+            asyncExecutor.close();
+        }
+    }
+
+    private void onMicroBatch(List<Object> batch) {
+        if (asyncExecutor != null) {
+            LOG.debug("Scheduling @BusinessEventListener annotated method {} for micro batch of {} events", method, batch.size());
+            asyncExecutor.execute(null, () -> invokeAnnotatedMethod(batch));
+        } else {
+            LOG.debug("Invoking @BusinessEventListener annotated method {} for micro batch of {} events", method, batch.size());
+            invokeAnnotatedMethod(batch);
+        }
+    }
+
     private boolean shouldBeInvokedForEvent(BusinessEventDataProvider event) {
-        return isPayloadTypeIsRequested(configuration.payloadType(), event.getPayload())
-            && isActionRequested(configuration.actions(), event.getAction());
+        return isPayloadTypeIsRequested(configuration.payloadType(), event)
+            && isActionRequested(event.getAction());
     }
 
     private void invokeAnnotatedMethod(BusinessEventDataProvider event) {
-        final var methodParameterTypes = method.getParameterTypes();
-        final var arguments = createMethodArguments(methodParameterTypes, event);
         final var target = methodOwnerSupplier.get();
+        final var jfrEvent = new ListenerInvocationJfrEvent();
+        jfrEvent.begin();
+        final var start = startTiming();
+
+        final var payloadCount = event instanceof BatchBusinessEvent batch ? batch.size() : 1;
+
+        try {
+            invoker.invokeExact(target, event);
+        } catch (RuntimeException | Error e) {
+            recordFailure(jfrEvent, start, payloadCount);
+            throw e;
+        } catch (Throwable e) {
+            recordFailure(jfrEvent, start, payloadCount);
+            throw asUncheckedException(e);
+        }
+
+        listenerMetrics.invoked(elapsedSince(start));
+        commitJfrEvent(jfrEvent, payloadCount, false);
+    }
+
+    private void invokeAnnotatedMethod(List<Object> batch) {
+        final var target = methodOwnerSupplier.get();
+        final var jfrEvent = new ListenerInvocationJfrEvent();
+        jfrEvent.begin();
+        final var start = startTiming();
+
+        try {
+            invoker.invokeExact(target, batch);
+        } catch (RuntimeException | Error e) {
+            recordFailure(jfrEvent, start, batch.size());
+            throw e;
+        } catch (Throwable e) {
+            recordFailure(jfrEvent, start, batch.size());
+            throw asUncheckedException(e);
+        }
+
+        listenerMetrics.invoked(elapsedSince(start));
+        commitJfrEvent(jfrEvent, batch.size(), false);
+    }
+
+    private void recordFailure(ListenerInvocationJfrEvent jfrEvent, long start, int payloadCount) {
+        listenerMetrics.failed(elapsedSince(start));
+        commitJfrEvent(jfrEvent, payloadCount, true);
+    }
+
+    private void commitJfrEvent(ListenerInvocationJfrEvent jfrEvent, int payloadCount, boolean failed) {
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.setListener(listenerName);
+            jfrEvent.setPayloadCount(payloadCount);
+            jfrEvent.setFailed(failed);
+            jfrEvent.commit();
+        }
+    }
 
-        sneakyThrows(() -> method.invoke(target, arguments));
+    private long startTiming() {
+        return listenerMetrics != ListenerMetrics.NOOP ? System.nanoTime() : 0;
+    }
+
+    private long elapsedSince(long start) {
+        return listenerMetrics != ListenerMetrics.NOOP ? System.nanoTime() - start : 0;
+    }
+
+    private RuntimeException asUncheckedException(Throwable checkedException) {
+        return new UndeclaredThrowableException(checkedException, "@BusinessEventListener annotated method " + method + " failed");
+    }
+
+    private boolean isPayloadTypeIsRequested(Class<?> requestedPayloadType, BusinessEventDataProvider event) {
+        if (event instanceof BatchBusinessEvent batch) {
+            return batch.getPayloads().stream().allMatch(payload -> isPayloadTypeIsRequested(requestedPayloadType, payload));
+        }
+
+        return isPayloadTypeIsRequested(requestedPayloadType, event.getPayload());
     }
 
     private boolean isPayloadTypeIsRequested(Class<?> requestedPayloadType, Object payload) {
@@ -61,28 +280,47 @@ public class BusinessEventListenerMethodAdapter implements ApplicationListener<B
         return requestedPayloadType.isAssignableFrom(payloadType);
     }
 
-    private boolean isActionRequested(String[] requestedActions, String actualAction) {
-        final var allActionsShouldBeIncluded = requestedActions.length == 0;
+    private boolean isActionRequested(String actualAction) {
+        final var allActionsShouldBeIncluded = requestedActions.isEmpty();
         if (allActionsShouldBeIncluded) {
             return true;
         }
 
-        return Arrays.asList(requestedActions).contains(actualAction);
+        return requestedActions.contains(actualAction);
     }
 
-    private Object[] createMethodArguments(Class<?>[] methodParameterTypes, BusinessEventDataProvider event) {
-        final var arguments = new Object[methodParameterTypes.length];
+    /**
+     * Returns the element type of the list parameter of a micro-batching method, or {@code null} if the method does
+     * not receive micro batches. A list parameter is bound to the payload instead, if the payload type is a list
+     */
+    private Class<?> resolveMicroBatchElementType() {
+        final var parameterTypes = method.getParameterTypes();
+        final var isMicroBatching = Arrays.asList(parameterTypes).contains(List.class)
+            && !List.class.isAssignableFrom(configuration.payloadType());
 
-        for (var i = 0; i < arguments.length; i++) {
-            final var binding = argumentBindings.get(i);
-            final var value = binding.extractArgumentValue(event);
-            arguments[i] = value;
+        if (!isMicroBatching) {
+            return null;
         }
 
-        return arguments;
+        if (parameterTypes.length != 1) {
+            throw new IllegalStateException("Illegal usage of @BusinessEventListener annotation. " +
+                "Annotated method " + method + " receives micro batches, so the List must be its only parameter");
+        }
+
+        final var resolvedElementType = ResolvableType.forMethodParameter(method, 0).asCollection().resolveGeneric(0);
+        final var elementType = resolvedElementType != null ? resolvedElementType : Object.class;
+
+        if (!BusinessEventDataProvider.class.isAssignableFrom(elementType) && !elementType.isAssignableFrom(configuration.payloadType())) {
+            throw new IllegalStateException("Illegal usage of @BusinessEventListener annotation. " +
+                "Annotated method " + method + " receives micro batches of " + elementType + ", which cannot be " +
+                "bound to payloads of type " + configuration.payloadType());
+        }
+
+        return elementType;
     }
 
     private void createArgumentBindings() {
+        bindBatchBusinessEventArgument();
         bindBusinessEventArgument();
         bindPayloadArgument();
         bindActionArgument();
@@ -90,20 +328,25 @@ public class BusinessEventListenerMethodAdapter implements ApplicationListener<B
         failIfNotAllArgumentsAreBound();
     }
 
+    private void bindBatchBusinessEventArgument() {
+        final var binder = new PredicateCheckingArgumentBinder(cls -> cls == BatchBusinessEvent.class, EVENT_EXTRACTOR);
+        iterateUnboundMethodParametersAndTryToBindArgument(binder);
+    }
+
     private void bindBusinessEventArgument() {
-        final var binder = new PredicateCheckingArgumentBinder(cls -> cls == BusinessEventDataProvider.class, event -> event);
+        final var binder = new PredicateCheckingArgumentBinder(cls -> cls == BusinessEventDataProvider.class, EVENT_EXTRACTOR);
         iterateUnboundMethodParametersAndTryToBindArgument(binder);
     }
 
     private void bindPayloadArgument() {
         final var payloadType = configuration.payloadType();
 
-        final var binder = new PredicateCheckingArgumentBinder(cls -> cls.isAssignableFrom(payloadType), BusinessEventDataProvider::getPayload);
+        final var binder = new PredicateCheckingArgumentBinder(cls -> cls.isAssignableFrom(payloadType), PAYLOAD_EXTRACTOR);
         iterateUnboundMethodParametersAndTryToBindArgument(binder);
     }
 
     private void bindActionArgument() {
-        final var binder = new PredicateCheckingArgumentBinder(cls -> cls == String.class, BusinessEventDataProvider::getAction);
+        final var binder = new PredicateCheckingArgumentBinder(cls -> cls == String.class, ACTION_EXTRACTOR);
         iterateUnboundMethodParametersAndTryToBindArgument(binder);
     }
 
@@ -146,17 +389,65 @@ public class BusinessEventListenerMethodAdapter implements ApplicationListener<B
         }
     }
 
+    /**
+     * Combines the annotated method with the bound argument extractors into a handle of type
+     * {@code (Object target, BusinessEventDataProvider event) -> void}
+     */
+    private MethodHandle createInvoker() {
+        final var parameterTypes = method.getParameterTypes();
+        final var extractors = new MethodHandle[parameterTypes.length];
+        final var reorder = new int[parameterTypes.length + 1];
+        var handle = unreflectMethod();
+
+        for (var i = 0; i < parameterTypes.length; i++) {
+            extractors[i] = argumentBindings.get(i).asType(MethodType.methodType(parameterTypes[i], BusinessEventDataProvider.class));
+            // every extractor receives the event, which is the second argument of the invoker
+            reorder[i + 1] = 1;
+        }
+
+        handle = MethodHandles.filterArguments(handle, 1, extractors);
+        handle = handle.asType(handle.type().changeReturnType(void.class).changeParameterType(0, Object.class));
+
+        return MethodHandles.permuteArguments(handle, INVOKER_TYPE, reorder);
+    }
+
+    /**
+     * @return A handle of the annotated method that takes the target object as first argument, even if it is static
+     */
+    private MethodHandle unreflectMethod() {
+        ReflectionUtils.makeAccessible(method);
+
+        final var handle = sneakyThrows(() -> MethodHandles.lookup().unreflect(method));
+
+        return Modifier.isStatic(method.getModifiers())
+            ? MethodHandles.dropArguments(handle, 0, Object.class)
+            : handle;
+    }
+
+    private static KeyedSerialExecutor createAsyncExecutor(BusinessEventListener configuration, Executor executor) {
+        if (!configuration.async()) {
+            return null;
+        }
+
+        return executor != null ? new KeyedSerialExecutor(executor) : new KeyedSerialExecutor();
+    }
+
+    private static MethodHandle findEventAccessor(String name, Class<?> returnType) {
+        return sneakyThrows(() -> MethodHandles.publicLookup()
+            .findVirtual(BusinessEventDataProvider.class, name, MethodType.methodType(returnType)));
+    }
+
     @FunctionalInterface
     private interface ArgumentBinder {
-        Optional<ArgumentValueExtractor> tryToBindToArgumentOfType(Class<?> parameterType);
+        Optional<MethodHandle> tryToBindToArgumentOfType(Class<?> parameterType);
     }
 
     private record PredicateCheckingArgumentBinder(
         Predicate<Class<?>> canBeBoundTest,
-        ArgumentValueExtractor argumentValueExtractor
+        MethodHandle argumentValueExtractor
     ) implements ArgumentBinder {
         @Override
-        public Optional<ArgumentValueExtractor> tryToBindToArgumentOfType(Class<?> parameterType) {
+        public Optional<MethodHandle> tryToBindToArgumentOfType(Class<?> parameterType) {
             if (canBeBoundTest.test(parameterType)) {
                 return Optional.of(argumentValueExtractor);
             }
@@ -164,9 +455,4 @@ public class BusinessEventListenerMethodAdapter implements ApplicationListener<B
             return Optional.empty();
         }
     }
-
-    @FunctionalInterface
-    private interface ArgumentValueExtractor {
-        Object extractArgumentValue(BusinessEventDataProvider event);
-    }
 }
@@ -0,0 +1,171 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Registers subscriptions for all listeners of business events that are not created by the
+ * {@link BusinessEventListenerFactory} and activates the {@link BusinessEventSubscriptionRegistry} once the
+ * application context has been refreshed. The following listeners are considered:
+ * </p>
+ * <ul>
+ *     <li>{@link AbstractBusinessEventEventListener} beans subscribe to all actions of their payload type</li>
+ *     <li>{@link ApplicationListener} beans for {@link BusinessEvent}, a subtype or a supertype of it subscribe to all
+ *     events. This includes listeners whose event type cannot be resolved, e.g. lambdas declared as
+ *     {@code ApplicationListener<BusinessEvent>} by a {@code @Bean} method whose generics are only known from its
+ *     return type. {@link GenericApplicationListener} beans subscribe to all events if they support
+ *     {@link BusinessEvent}</li>
+ *     <li>{@link EventListener} annotated methods for {@link BusinessEvent} (or a subtype) subscribe to all events</li>
+ * </ul>
+ * <p>
+ * As listeners that might receive business events are subscribed to all of them, no event is skipped that a listener
+ * would have received. Listeners registered programmatically must register their subscriptions at the registry
+ * themselves.
+ * </p>
+ */
+public class BusinessEventSubscriptionRegistrar implements ApplicationListener<ContextRefreshedEvent> {
+    private static final Logger LOG = LoggerFactory.getLogger(BusinessEventSubscriptionRegistrar.class);
+    private static final ResolvableType BUSINESS_EVENT_TYPE = ResolvableType.forClass(BusinessEvent.class);
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final BusinessEventSubscriptionRegistry registry;
+
+    /**
+     * Creates a new {@link BusinessEventSubscriptionRegistrar}
+     *
+     * @param beanFactory The bean factory to search for listeners
+     * @param registry    The registry to register the found subscriptions at
+     */
+    public BusinessEventSubscriptionRegistrar(
+        @Nonnull ConfigurableListableBeanFactory beanFactory,
+        @Nonnull BusinessEventSubscriptionRegistry registry
+    ) {
+        this.beanFactory = requireNonNull(beanFactory, "beanFactory must not be null");
+        this.registry = requireNonNull(registry, "registry must not be null");
+    }
+
+    @Override
+    public void onApplicationEvent(@Nonnull ContextRefreshedEvent event) {
+        if (registry.isActive() || event.getApplicationContext().getAutowireCapableBeanFactory() != beanFactory) {
+            return;
+        }
+
+        for (final var beanName : beanFactory.getBeanNamesForType(ApplicationListener.class, true, false)) {
+            registerListenerBean(beanName);
+        }
+
+        for (final var beanName : beanFactory.getBeanDefinitionNames()) {
+            registerEventListenerMethods(beanFactory.getType(beanName, false));
+        }
+
+        registry.activate();
+        LOG.debug("Activated business event subscriptions: {}", registry.getSubscriptions());
+    }
+
+    private void registerListenerBean(String beanName) {
+        final var listenerType = beanFactory.getType(beanName, false);
+
+        if (listenerType == null) {
+            return;
+        }
+
+        if (AbstractBusinessEventEventListener.class.isAssignableFrom(listenerType)) {
+            final var payloadType = ResolvableType.forClass(listenerType)
+                .as(AbstractBusinessEventEventListener.class)
+                .getGeneric(0)
+                .resolve(Object.class);
+
+            registry.subscribe(payloadType, Set.of());
+            return;
+        }
+
+        if (GenericApplicationListener.class.isAssignableFrom(listenerType) && beanFactory.isSingleton(beanName)) {
+            // generic listeners, e.g. of the infrastructure, decide by themselves which events they are interested in
+            final var listener = beanFactory.getBean(beanName, GenericApplicationListener.class);
+
+            if (listener.supportsEventType(BUSINESS_EVENT_TYPE)) {
+                registry.subscribeAll();
+            }
+
+            return;
+        }
+
+        final var eventType = resolveEventType(beanName, listenerType);
+
+        // listeners for unknown event types or supertypes of business events might receive business events as well
+        if (eventType == null || eventType.isAssignableFrom(BusinessEvent.class)
+            || BusinessEvent.class.isAssignableFrom(eventType)) {
+            registry.subscribeAll();
+        }
+    }
+
+    private Class<?> resolveEventType(String beanName, Class<?> listenerType) {
+        final var classEventType = resolveEventType(ResolvableType.forClass(listenerType));
+
+        if (!beanFactory.containsBeanDefinition(beanName)) {
+            return classEventType;
+        }
+
+        // lambdas only implement the raw interface, but the return type of the factory method declaring them does not
+        final var declaredType = beanFactory.getMergedBeanDefinition(beanName).getResolvableType();
+        final var declaredEventType = resolveEventType(declaredType);
+
+        if (classEventType == null || declaredEventType == null) {
+            return classEventType == null ? declaredEventType : classEventType;
+        }
+
+        return classEventType.isAssignableFrom(declaredEventType) ? declaredEventType : classEventType;
+    }
+
+    private static Class<?> resolveEventType(ResolvableType listenerType) {
+        // falls back to the bound of the type variable, which is ApplicationEvent, if the generic is unknown
+        return listenerType.as(ApplicationListener.class).getGeneric(0).resolve();
+    }
+
+    private void registerEventListenerMethods(Class<?> beanType) {
+        if (beanType == null || !AnnotationUtils.isCandidateClass(beanType, EventListener.class)) {
+            return;
+        }
+
+        final var listenerMethods = MethodIntrospector.selectMethods(
+            ClassUtils.getUserClass(beanType),
+            (MethodIntrospector.MetadataLookup<EventListener>) method ->
+                AnnotatedElementUtils.findMergedAnnotation(method, EventListener.class)
+        );
+
+        listenerMethods.forEach((method, configuration) -> {
+            final var isHandledByListenerFactory = AnnotatedElementUtils.hasAnnotation(method, BusinessEventListener.class);
+
+            if (!isHandledByListenerFactory && listensForBusinessEvents(method, configuration)) {
+                registry.subscribeAll();
+            }
+        });
+    }
+
+    private static boolean listensForBusinessEvents(Method method, EventListener configuration) {
+        final var eventTypes = configuration.classes().length > 0
+            ? Arrays.stream(configuration.classes())
+            : Stream.of(method.getParameterTypes()).limit(1);
+
+        return eventTypes.anyMatch(BusinessEvent.class::isAssignableFrom);
+    }
+}
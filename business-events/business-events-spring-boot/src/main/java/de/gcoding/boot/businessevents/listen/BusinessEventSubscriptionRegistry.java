@@ -0,0 +1,154 @@
+package de.gcoding.boot.businessevents.listen;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Keeps track of the payload types and actions listeners subscribed to. Subscriptions are registered by the
+ * {@link BusinessEventListenerFactory} for each {@link BusinessEventListener} annotated method and by the
+ * {@link BusinessEventSubscriptionRegistrar} for all other listeners of business events.
+ * </p>
+ * <p>
+ * As long as the registry is not {@link #activate() activated}, it claims that every event has subscribers. This
+ * ensures that no events are lost while the application starts up and not all listeners are registered yet.
+ * </p>
+ */
+public class BusinessEventSubscriptionRegistry implements BusinessEventSubscriptions {
+    private volatile Index index = new Index(List.of());
+    private volatile boolean active;
+
+    /**
+     * Registers a subscription for events whose payloads are of the given type or a subtype of it
+     *
+     * @param payloadType The type of payloads to subscribe to
+     * @param actions     The actions to subscribe to. If empty, events of all actions are subscribed to
+     */
+    public synchronized void subscribe(@Nonnull Class<?> payloadType, @Nonnull Collection<String> actions) {
+        final var subscription = new Subscription(payloadType, Set.copyOf(actions));
+        final var subscriptions = new ArrayList<>(index.subscriptions());
+        subscriptions.add(subscription);
+
+        // replace the whole index, so that concurrent lookups never cache results of outdated subscriptions
+        index = new Index(List.copyOf(subscriptions));
+    }
+
+    /**
+     * Registers a subscription for all business events, regardless of their payload type and action
+     */
+    public void subscribeAll() {
+        subscribe(Object.class, Set.of());
+    }
+
+    /**
+     * Activates the registry. From now on, events without subscribers are reported as such
+     */
+    public void activate() {
+        active = true;
+    }
+
+    /**
+     * @return {@code true}, if the registry has been activated
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return All registered subscriptions
+     */
+    @Nonnull
+    public List<Subscription> getSubscriptions() {
+        return index.subscriptions();
+    }
+
+    @Override
+    public boolean hasSubscribers(@Nonnull Class<?> payloadType, @Nullable String action) {
+        if (!active) {
+            return true;
+        }
+
+        return anyIncludesAction(index.getSubscriptionsForPayloadType(payloadType), action);
+    }
+
+    @Override
+    public boolean mayHaveSubscribers(@Nonnull Class<?> declaredPayloadType, @Nullable String action) {
+        if (!active) {
+            return true;
+        }
+
+        return anyIncludesAction(index.getSubscriptionsForDeclaredPayloadType(declaredPayloadType), action);
+    }
+
+    private static boolean anyIncludesAction(List<Subscription> subscriptions, @Nullable String action) {
+        for (final var subscription : subscriptions) {
+            if (subscription.includesAction(action)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean mayBeAssignable(Class<?> subscribedType, Class<?> declaredType) {
+        final var declaredObjectType = ClassUtils.resolvePrimitiveIfNecessary(declaredType);
+
+        if (subscribedType.isAssignableFrom(declaredObjectType) || declaredObjectType.isAssignableFrom(subscribedType)) {
+            return true;
+        }
+
+        // a subclass of one type may still implement the other type, if that one is an interface
+        return (subscribedType.isInterface() && !Modifier.isFinal(declaredObjectType.getModifiers()))
+            || (declaredObjectType.isInterface() && !Modifier.isFinal(subscribedType.getModifiers()));
+    }
+
+    private record Index(
+        List<Subscription> subscriptions,
+        Map<Class<?>, List<Subscription>> subscriptionsByPayloadType,
+        Map<Class<?>, List<Subscription>> subscriptionsByDeclaredPayloadType
+    ) {
+        private Index(List<Subscription> subscriptions) {
+            this(subscriptions, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        private List<Subscription> getSubscriptionsForPayloadType(Class<?> payloadType) {
+            return subscriptionsByPayloadType.computeIfAbsent(payloadType, type -> subscriptions.stream()
+                .filter(subscription -> subscription.payloadType().isAssignableFrom(type))
+                .toList());
+        }
+
+        private List<Subscription> getSubscriptionsForDeclaredPayloadType(Class<?> declaredPayloadType) {
+            return subscriptionsByDeclaredPayloadType.computeIfAbsent(declaredPayloadType, type -> subscriptions.stream()
+                .filter(subscription -> mayBeAssignable(subscription.payloadType(), type))
+                .toList());
+        }
+    }
+
+    /**
+     * A subscription for events of a certain payload type
+     *
+     * @param payloadType The type of payloads subscribed to, including its subtypes
+     * @param actions     The actions subscribed to. If empty, all actions are subscribed to
+     */
+    public record Subscription(@Nonnull Class<?> payloadType, @Nonnull Set<String> actions) {
+        public Subscription {
+            requireNonNull(payloadType, "payloadType must not be null");
+            requireNonNull(actions, "actions must not be null");
+        }
+
+        private boolean includesAction(@Nullable String action) {
+            return action == null || actions.isEmpty() || actions.contains(action);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package de.gcoding.boot.businessevents.listen;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Answers whether any listener is interested in business events with a certain payload type and action. The
+ * {@code @EmitBusinessEvent} aspect uses the answer to skip unwrapping, action evaluation and event creation
+ * altogether if nobody would receive the events anyway.
+ */
+public interface BusinessEventSubscriptions {
+    /**
+     * Subscriptions that claim that every event has subscribers, so that no emission is ever skipped
+     */
+    BusinessEventSubscriptions ANY = new BusinessEventSubscriptions() {
+        @Override
+        public boolean hasSubscribers(@Nonnull Class<?> payloadType, @Nullable String action) {
+            return true;
+        }
+
+        @Override
+        public boolean mayHaveSubscribers(@Nonnull Class<?> declaredPayloadType, @Nullable String action) {
+            return true;
+        }
+    };
+
+    /**
+     * Checks whether there are subscribers for events with a payload of exactly the given type
+     *
+     * @param payloadType The actual type of the payload
+     * @param action      The action of the event or {@code null}, if the action is not known yet and subscribers
+     *                    for any action should be considered
+     * @return {@code true}, if at least one listener would receive such an event
+     */
+    boolean hasSubscribers(@Nonnull Class<?> payloadType, @Nullable String action);
+
+    /**
+     * Checks whether there might be subscribers for events with payloads of the given declared type. In contrast to
+     * {@link #hasSubscribers(Class, String)}, the actual payloads can be any subtype of the declared type, so this
+     * method also considers subscribers for subtypes of the declared type.
+     *
+     * @param declaredPayloadType The declared type of the payloads, such as the return type of a method
+     * @param action              The action of the events or {@code null}, if the action is not known yet and
+     *                            subscribers for any action should be considered
+     * @return {@code true}, if at least one listener might receive such an event
+     */
+    boolean mayHaveSubscribers(@Nonnull Class<?> declaredPayloadType, @Nullable String action);
+}
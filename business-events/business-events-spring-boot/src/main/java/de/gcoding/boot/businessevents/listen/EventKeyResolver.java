@@ -0,0 +1,29 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.BusinessEventDataProvider;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Resolves the key of a business event. Asynchronous listeners process events with equal keys in the order they were
+ * received, while events with different keys are processed in parallel.
+ */
+@FunctionalInterface
+public interface EventKeyResolver {
+    /**
+     * Resolves the key of the given event
+     *
+     * @param event The event to resolve the key for
+     * @return The key of the event, or {@code null} if the event has no key
+     */
+    @Nullable
+    Object resolveKey(@Nonnull BusinessEventDataProvider event);
+
+    /**
+     * @return A resolver that uses the id of the payload as key, see {@link PayloadIdEventKeyResolver}
+     */
+    @Nonnull
+    static EventKeyResolver payloadId() {
+        return PayloadIdEventKeyResolver.INSTANCE;
+    }
+}
@@ -0,0 +1,50 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.BusinessEventDataProvider;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Resolves the key of an event by evaluating a SpEL expression. The expression is evaluated against a
+ * {@link KeyEvaluationRoot}, so that it can refer to the {@code payload}, {@code action} and {@code event}, e.g.
+ * {@code payload.customerId}. Expressions may read properties and call methods of these objects only.
+ */
+public class ExpressionEventKeyResolver implements EventKeyResolver {
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+        new SpelParserConfiguration(SpelCompilerMode.MIXED, ExpressionEventKeyResolver.class.getClassLoader()));
+    private static final EvaluationContext EVALUATION_CONTEXT = SimpleEvaluationContext.forReadOnlyDataBinding()
+        .withInstanceMethods()
+        .build();
+    private final Expression expression;
+
+    /**
+     * Creates a new {@link ExpressionEventKeyResolver}
+     *
+     * @param expression The SpEL expression to evaluate for each event
+     */
+    public ExpressionEventKeyResolver(@Nonnull String expression) {
+        this.expression = PARSER.parseExpression(requireNonNull(expression, "expression must not be null"));
+    }
+
+    @Nullable
+    @Override
+    public Object resolveKey(@Nonnull BusinessEventDataProvider event) {
+        final var root = new KeyEvaluationRoot(event.getPayload(), event.getAction(), event);
+
+        return expression.getValue(EVALUATION_CONTEXT, root);
+    }
+
+    /**
+     * The root object available to key expressions. It is public so that expressions accessing it can be compiled.
+     */
+    public record KeyEvaluationRoot(Object payload, String action, BusinessEventDataProvider event) {
+    }
+}
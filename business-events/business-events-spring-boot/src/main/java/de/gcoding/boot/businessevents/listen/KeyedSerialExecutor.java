@@ -0,0 +1,245 @@
+package de.gcoding.boot.businessevents.listen;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Executes tasks asynchronously through a delegate {@link Executor}, while tasks submitted for the same key are
+ * executed one after another in the order they were submitted. Tasks of different keys run in parallel. Tasks
+ * submitted without a key share a single key, so they are executed in order as well.
+ * </p>
+ * <p>
+ * The tasks of a key are queued and drained by a single runner that is handed to the delegate once the key becomes
+ * busy. The runner executes the queued tasks in a loop and hands itself back to the delegate after
+ * {@value #MAX_TASKS_PER_RUN} tasks, so that a busy key does not monopolize a thread of the delegate. If the delegate
+ * rejects the runner, it drains the queue on the thread that submitted the task or that ran the preceding tasks.
+ * Either way, the tasks of a key never run nested within one another.
+ * </p>
+ * <p>
+ * Exceptions thrown by tasks cannot be propagated to the submitting thread and are logged instead. They do not
+ * prevent subsequent tasks of the same key from being executed. Once {@link #close() closed}, no more tasks are
+ * accepted and the pending tasks are awaited for a limited time, after which the remaining tasks are discarded.
+ * </p>
+ */
+public class KeyedSerialExecutor implements AutoCloseable {
+    public static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    static final int MAX_TASKS_PER_RUN = 64;
+    private static final Logger LOG = LoggerFactory.getLogger(KeyedSerialExecutor.class);
+    private static final Object NO_KEY = new Object();
+    private final Executor executor;
+    private final ConcurrentHashMap<Object, SerialQueue> queues = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * Creates a new {@link KeyedSerialExecutor} that executes each task on a new virtual thread
+     */
+    public KeyedSerialExecutor() {
+        this(virtualThreadExecutor());
+    }
+
+    /**
+     * Creates a new {@link KeyedSerialExecutor}
+     *
+     * @param executor The executor used to run the tasks
+     */
+    public KeyedSerialExecutor(@Nonnull Executor executor) {
+        this.executor = requireNonNull(executor, "executor must not be null");
+    }
+
+    /**
+     * Executes the given task once all tasks previously submitted for the same key have completed
+     *
+     * @param key  The key the task belongs to, or {@code null} if it has none
+     * @param task The task to execute
+     * @throws RejectedExecutionException If this executor is closed
+     */
+    public void execute(@Nullable Object key, @Nonnull Runnable task) {
+        requireNonNull(task, "task must not be null");
+
+        final var mapKey = key != null ? key : NO_KEY;
+
+        while (true) {
+            if (closed) {
+                throw new RejectedExecutionException("KeyedSerialExecutor is closed");
+            }
+
+            final var queue = queues.computeIfAbsent(mapKey, SerialQueue::new);
+
+            // a queue that just drained its last task is retired, the task then belongs to the queue replacing it
+            if (queue.offer(task)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys that currently have tasks waiting or running
+     *
+     * @return The number of busy keys
+     */
+    public int getActiveKeyCount() {
+        return queues.size();
+    }
+
+    /**
+     * Stops accepting new tasks and waits up to {@link #DEFAULT_SHUTDOWN_TIMEOUT} for the pending tasks to complete
+     */
+    @Override
+    public void close() {
+        close(DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * Stops accepting new tasks and waits up to the given timeout for the pending tasks to complete. Tasks that have not
+     * been started by then are discarded
+     *
+     * @param timeout The maximum time to wait for the pending tasks
+     * @return {@code true} if all pending tasks completed, {@code false} if tasks had to be discarded
+     */
+    public boolean close(@Nonnull Duration timeout) {
+        requireNonNull(timeout, "timeout must not be null");
+        closed = true;
+
+        final var deadline = System.nanoTime() + timeout.toNanos();
+
+        for (final var queue : queues.values()) {
+            if (!queue.awaitDrained(deadline)) {
+                break;
+            }
+        }
+
+        var discarded = 0;
+
+        for (final var queue : queues.values()) {
+            discarded += queue.discard();
+        }
+
+        if (discarded > 0) {
+            LOG.warn("Discarded {} pending business event listener tasks, as they did not complete within {}", discarded, timeout);
+        }
+
+        return discarded == 0;
+    }
+
+    /**
+     * @return An executor that runs each task on a new virtual thread
+     */
+    @Nonnull
+    public static Executor virtualThreadExecutor() {
+        final var threadFactory = Thread.ofVirtual().name("business-events-listener-", 0).factory();
+
+        return task -> threadFactory.newThread(task).start();
+    }
+
+    private final class SerialQueue implements Runnable {
+        private final Object key;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private final CountDownLatch drained = new CountDownLatch(1);
+        private boolean running;
+        private boolean retired;
+
+        private SerialQueue(Object key) {
+            this.key = key;
+        }
+
+        private boolean offer(Runnable task) {
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+
+                tasks.add(task);
+
+                if (running) {
+                    return true;
+                }
+
+                running = true;
+            }
+
+            if (!trySubmit()) {
+                run();
+            }
+
+            return true;
+        }
+
+        @Override
+        public void run() {
+            for (var executed = 0; ; executed++) {
+                if (executed == MAX_TASKS_PER_RUN && trySubmit()) {
+                    return;
+                }
+
+                final Runnable task;
+
+                synchronized (this) {
+                    task = tasks.poll();
+
+                    if (task == null) {
+                        retire();
+                        return;
+                    }
+                }
+
+                runGuarded(task);
+            }
+        }
+
+        private int discard() {
+            synchronized (this) {
+                final var discarded = tasks.size();
+                tasks.clear();
+                return discarded;
+            }
+        }
+
+        private boolean awaitDrained(long deadline) {
+            try {
+                return drained.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void retire() {
+            running = false;
+            retired = true;
+            queues.remove(key, this);
+            drained.countDown();
+        }
+
+        private boolean trySubmit() {
+            try {
+                executor.execute(this);
+                return true;
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Executor rejected business event listener task, running it on the current thread", e);
+                return false;
+            }
+        }
+
+        private void runGuarded(Runnable task) {
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                LOG.error("Asynchronous execution of business event listener for key {} failed", key == NO_KEY ? null : key, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics.ListenerMetrics;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Accumulates items and hands them over to a consumer in batches. A batch is flushed as soon as it reaches the
+ * maximum batch size, once the maximum latency has passed since its first item was added, or when the batcher is
+ * closed. Batches are handed over one after another in the order their items were added.
+ * </p>
+ * <p>
+ * Flushed batches are queued and handed over to the consumer after the lock guarding the current batch is released,
+ * so items can be added while a batch is consumed. A single thread consumes the queued batches at a time: the thread
+ * that flushed a batch consumes it unless another thread is already consuming, in which case that thread takes over
+ * the batch. The scheduler only triggers latency based flushes, which are then consumed on a separate executor, so
+ * that a slow consumer does not delay the flushes of other batchers sharing the scheduler.
+ * </p>
+ * <p>
+ * Exceptions of the consumer are propagated to the consuming thread, unless the batch is consumed on the executor.
+ * Such failures are logged together with the size of the failed batch. All failed batches are counted, as are the
+ * flushes per {@link FlushReason} and the number of batched items. The reason and size of each flush are also recorded
+ * with the given {@link ListenerMetrics}.
+ * </p>
+ *
+ * @param <T> The type of the batched items
+ */
+public class MicroBatcher<T> implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(MicroBatcher.class);
+    private final int maxBatchSize;
+    private final Duration maxLatency;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final Consumer<List<T>> consumer;
+    private final ListenerMetrics metrics;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition consumed = lock.newCondition();
+    private final Queue<List<T>> flushedBatches = new ArrayDeque<>();
+    private final Map<FlushReason, LongAdder> flushCounts = new EnumMap<>(FlushReason.class);
+    private final LongAdder batchedCount = new LongAdder();
+    private final LongAdder failedBatchCount = new LongAdder();
+    private List<T> buffer;
+    private ScheduledFuture<?> scheduledFlush;
+    private long generation;
+    private boolean closed;
+    private Thread consumingThread;
+
+    /**
+     * Creates a new {@link MicroBatcher}
+     *
+     * @param maxBatchSize The maximum number of items per batch
+     * @param maxLatency   The maximum time an item waits before its batch is flushed
+     * @param scheduler    The scheduler used to trigger the flush of batches once their latency has passed
+     * @param executor     The executor used to consume batches flushed due to their latency. If it rejects a batch,
+     *                     the batch is consumed by the thread of the scheduler
+     * @param consumer     The consumer of the flushed batches
+     * @param metrics      Records the reason and size of each flushed batch
+     */
+    public MicroBatcher(
+        int maxBatchSize,
+        @Nonnull Duration maxLatency,
+        @Nonnull ScheduledExecutorService scheduler,
+        @Nonnull Executor executor,
+        @Nonnull Consumer<List<T>> consumer,
+        @Nonnull ListenerMetrics metrics
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive, but was " + maxBatchSize);
+        }
+
+        if (maxLatency.isNegative() || maxLatency.isZero()) {
+            throw new IllegalArgumentException("maxLatency must be positive, but was " + maxLatency);
+        }
+
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatency = maxLatency;
+        this.scheduler = requireNonNull(scheduler, "scheduler must not be null");
+        this.executor = requireNonNull(executor, "executor must not be null");
+        this.consumer = requireNonNull(consumer, "consumer must not be null");
+        this.metrics = requireNonNull(metrics, "metrics must not be null");
+        this.buffer = new ArrayList<>();
+
+        for (final var reason : FlushReason.values()) {
+            flushCounts.put(reason, new LongAdder());
+        }
+    }
+
+    /**
+     * Adds an item to the current batch. If the batcher is already closed, the item is flushed immediately as a
+     * batch of its own
+     *
+     * @param item The item to add
+     */
+    public void add(@Nonnull T item) {
+        final boolean flushed;
+        lock.lock();
+
+        try {
+            buffer.add(item);
+
+            if (closed) {
+                flushed = flush(FlushReason.SHUTDOWN);
+            } else if (buffer.size() >= maxBatchSize) {
+                flushed = flush(FlushReason.SIZE);
+            } else {
+                flushed = false;
+
+                if (scheduledFlush == null) {
+                    final var scheduledGeneration = generation;
+                    scheduledFlush = scheduler.schedule(() -> triggerLatencyFlush(scheduledGeneration), maxLatency.toNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (flushed) {
+            consumeFlushedBatches(true);
+        }
+    }
+
+    /**
+     * Flushes the current batch and flushes all items added afterward immediately. Returns once all flushed batches
+     * have been consumed
+     */
+    @Override
+    public void close() {
+        lock.lock();
+
+        try {
+            closed = true;
+            flush(FlushReason.SHUTDOWN);
+        } finally {
+            lock.unlock();
+        }
+
+        do {
+            consumeFlushedBatches(true);
+        } while (!awaitConsumed());
+    }
+
+    /**
+     * @param reason The reason of the flushes to count
+     * @return The number of batches flushed for the given reason
+     */
+    public long getFlushCount(@Nonnull FlushReason reason) {
+        return flushCounts.get(reason).sum();
+    }
+
+    /**
+     * @return The total number of items handed over in batches
+     */
+    public long getBatchedCount() {
+        return batchedCount.sum();
+    }
+
+    /**
+     * @return The number of batches whose consumer threw an exception
+     */
+    public long getFailedBatchCount() {
+        return failedBatchCount.sum();
+    }
+
+    /**
+     * @return The number of items waiting in the current batch
+     */
+    public int getPendingCount() {
+        lock.lock();
+
+        try {
+            return buffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void triggerLatencyFlush(long scheduledGeneration) {
+        try {
+            executor.execute(() -> flushOnLatency(scheduledGeneration));
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Executor rejected micro batch flush, flushing it on the scheduler thread", e);
+            flushOnLatency(scheduledGeneration);
+        }
+    }
+
+    private void flushOnLatency(long scheduledGeneration) {
+        lock.lock();
+
+        try {
+            // the batch the flush was scheduled for might already have been flushed due to its size
+            if (scheduledGeneration != generation || !flush(FlushReason.LATENCY)) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        consumeFlushedBatches(false);
+    }
+
+    /**
+     * Moves the current batch to the queue of flushed batches. Must be called while holding the lock
+     *
+     * @param reason The reason of the flush
+     * @return {@code true} if a batch was flushed, {@code false} if the current batch was empty
+     */
+    private boolean flush(FlushReason reason) {
+        generation++;
+
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+
+        if (buffer.isEmpty()) {
+            return false;
+        }
+
+        final var batch = buffer;
+        buffer = new ArrayList<>();
+        flushCounts.get(reason).increment();
+        batchedCount.add(batch.size());
+        metrics.batchFlushed(reason.name(), batch.size());
+        flushedBatches.add(Collections.unmodifiableList(batch));
+
+        return true;
+    }
+
+    /**
+     * Hands the flushed batches over to the consumer in the order they were flushed, unless another thread is already
+     * doing so. All batches are handed over even if the consumer throws an exception. If it throws an error, the
+     * remaining batches are left to the next consuming thread
+     *
+     * @param propagateFailures If {@code true}, the first failure is rethrown once all batches were handed over,
+     *                          otherwise failures are logged
+     */
+    private void consumeFlushedBatches(boolean propagateFailures) {
+        RuntimeException failure = null;
+        var consumedAll = false;
+        List<T> batch;
+
+        try {
+            while ((batch = nextFlushedBatch()) != null) {
+                try {
+                    consumer.accept(batch);
+                } catch (RuntimeException e) {
+                    failedBatchCount.increment();
+
+                    if (!propagateFailures) {
+                        LOG.error("Failed to consume micro batch of {} items after its latency passed",
+                            batch.size(), e);
+                    } else if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+
+            consumedAll = true;
+        } finally {
+            if (!consumedAll) {
+                releaseConsumingThread();
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Nullable
+    private List<T> nextFlushedBatch() {
+        final var currentThread = Thread.currentThread();
+        lock.lock();
+
+        try {
+            // a single thread consumes at a time, other threads leave their batches to it
+            if (consumingThread != null && consumingThread != currentThread) {
+                return null;
+            }
+
+            final var batch = flushedBatches.poll();
+
+            if (batch == null) {
+                consumingThread = null;
+                consumed.signalAll();
+            } else {
+                consumingThread = currentThread;
+            }
+
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the consuming thread after the consumer threw an error, so that other threads do not wait for it forever
+     */
+    private void releaseConsumingThread() {
+        lock.lock();
+
+        try {
+            if (consumingThread == Thread.currentThread()) {
+                consumingThread = null;
+                consumed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until no other thread is consuming batches anymore
+     *
+     * @return {@code false} if flushed batches were left behind by a consuming thread that failed, which the calling
+     * thread then has to consume on its own
+     */
+    private boolean awaitConsumed() {
+        final var currentThread = Thread.currentThread();
+        lock.lock();
+
+        try {
+            // the consumer itself might close the batcher, it then consumes the remaining batches on its own
+            while (consumingThread != currentThread && (consumingThread != null || !flushedBatches.isEmpty())) {
+                if (consumingThread == null) {
+                    return false;
+                }
+
+                consumed.awaitUninterruptibly();
+            }
+
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The reason a batch was flushed for
+     */
+    public enum FlushReason {
+        /**
+         * The batch reached its maximum size
+         */
+        SIZE,
+        /**
+         * The maximum latency of the batch passed
+         */
+        LATENCY,
+        /**
+         * The batcher was closed
+         */
+        SHUTDOWN
+    }
+
+    /**
+     * @return The daemon scheduler shared by the batchers of all listener methods
+     */
+    static ScheduledExecutorService sharedScheduler() {
+        return SharedScheduler.INSTANCE;
+    }
+
+    private static final class SharedScheduler {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(task -> {
+            final var thread = new Thread(task, "business-events-micro-batcher");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+}
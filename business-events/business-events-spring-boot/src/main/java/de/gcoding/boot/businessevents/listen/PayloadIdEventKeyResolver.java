@@ -0,0 +1,52 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.BusinessEventDataProvider;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Uses the id of the payload as the key of an event, which is the value returned by a public {@code getId()} or
+ * {@code id()} method of the payload, as declared by entities and records. Events whose payload has no such method
+ * have no key. The accessor is looked up once per payload class.
+ */
+public final class PayloadIdEventKeyResolver implements EventKeyResolver {
+    static final PayloadIdEventKeyResolver INSTANCE = new PayloadIdEventKeyResolver();
+    private static final ClassValue<Optional<Method>> ID_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Optional<Method> computeValue(@Nonnull Class<?> type) {
+            return findIdAccessor(type);
+        }
+    };
+
+    private PayloadIdEventKeyResolver() {
+        // use EventKeyResolver.payloadId() instead
+    }
+
+    @Nullable
+    @Override
+    public Object resolveKey(@Nonnull BusinessEventDataProvider event) {
+        final var payload = event.getPayload();
+
+        return ID_ACCESSORS.get(payload.getClass())
+            .map(accessor -> ReflectionUtils.invokeMethod(accessor, payload))
+            .orElse(null);
+    }
+
+    private static Optional<Method> findIdAccessor(Class<?> type) {
+        for (final var name : new String[]{"getId", "id"}) {
+            final var accessor = ClassUtils.getMethodIfAvailable(type, name);
+
+            if (accessor != null && accessor.getReturnType() != void.class) {
+                ReflectionUtils.makeAccessible(accessor);
+                return Optional.of(accessor);
+            }
+        }
+
+        return Optional.empty();
+    }
+}
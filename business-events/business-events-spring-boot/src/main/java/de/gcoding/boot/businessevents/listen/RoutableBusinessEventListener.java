@@ -0,0 +1,27 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import jakarta.annotation.Nonnull;
+import org.springframework.context.ApplicationListener;
+
+import java.util.Set;
+
+/**
+ * A listener for business events that declares upfront which events it is interested in. The
+ * {@link BusinessEventApplicationEventMulticaster} uses these declarations to deliver events only to the listeners
+ * that are interested in them, instead of letting each listener reject unwanted events by itself. Implementations
+ * must still handle (and ignore) events they are not interested in, as other multicasters deliver all events.
+ */
+public interface RoutableBusinessEventListener extends ApplicationListener<BusinessEvent> {
+    /**
+     * @return The type of payloads this listener is interested in, including its subtypes
+     */
+    @Nonnull
+    Class<?> getPayloadType();
+
+    /**
+     * @return The actions this listener is interested in. If empty, the listener is interested in all actions
+     */
+    @Nonnull
+    Set<String> getActions();
+}
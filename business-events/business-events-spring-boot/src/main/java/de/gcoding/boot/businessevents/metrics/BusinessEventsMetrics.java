@@ -0,0 +1,146 @@
+package de.gcoding.boot.businessevents.metrics;
+
+import de.gcoding.boot.businessevents.emission.publisher.AsyncBusinessEventPublisher;
+import de.gcoding.boot.businessevents.listen.MicroBatcher;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Records what happens within the business event pipeline, such as emitted events, unwrapped payloads, action
+ * evaluations and listener invocations. Implementations are called on the hot path for every event, so they should
+ * resolve everything they need upfront and must be thread safe. Components that keep their own state, such as the
+ * queue of the {@link AsyncBusinessEventPublisher} or the pending items of a {@link MicroBatcher}, are handed over once
+ * upon creation, so that implementations can observe them without being called for each event.
+ */
+public interface BusinessEventsMetrics {
+    /**
+     * Metrics that record nothing
+     */
+    BusinessEventsMetrics NOOP = new BusinessEventsMetrics() {
+        @Override
+        public void eventEmitted(@Nonnull Class<?> payloadType, @Nonnull String action) {
+            // records nothing
+        }
+
+        @Override
+        public void payloadsUnwrapped(int payloadCount) {
+            // records nothing
+        }
+
+        @Override
+        public void actionEvaluated(long durationNanos) {
+            // records nothing
+        }
+
+        @Override
+        public void asyncPublisherCreated(@Nonnull AsyncBusinessEventPublisher publisher) {
+            // records nothing
+        }
+
+        @Nonnull
+        @Override
+        public ListenerMetrics listener(@Nonnull String listenerName) {
+            return ListenerMetrics.NOOP;
+        }
+    };
+
+    /**
+     * Records that an event has been emitted by the {@code @EmitBusinessEvent} aspect. Batch events are recorded once
+     * for each of their payloads
+     *
+     * @param payloadType The type of the payload of the event
+     * @param action      The action of the event
+     */
+    void eventEmitted(@Nonnull Class<?> payloadType, @Nonnull String action);
+
+    /**
+     * Records into how many payloads the return value of an {@code @EmitBusinessEvent} annotated method has been
+     * unwrapped
+     *
+     * @param payloadCount The number of payloads
+     */
+    void payloadsUnwrapped(int payloadCount);
+
+    /**
+     * Records the time it took to evaluate an action expression
+     *
+     * @param durationNanos The duration of the evaluation in nanoseconds
+     */
+    void actionEvaluated(long durationNanos);
+
+    /**
+     * Observes the queue of an asynchronous publisher, e.g. its depth and how often it rejected events
+     *
+     * @param publisher The publisher that has been created
+     */
+    void asyncPublisherCreated(@Nonnull AsyncBusinessEventPublisher publisher);
+
+    /**
+     * Returns the metrics of a single listener. Listeners call this method once upon creation and keep the result
+     *
+     * @param listenerName The name of the listener
+     * @return The metrics of the listener
+     */
+    @Nonnull
+    ListenerMetrics listener(@Nonnull String listenerName);
+
+    /**
+     * Records the invocations and micro batches of a single listener
+     */
+    interface ListenerMetrics {
+        /**
+         * Metrics that record nothing
+         */
+        ListenerMetrics NOOP = new ListenerMetrics() {
+            @Override
+            public void invoked(long durationNanos) {
+                // records nothing
+            }
+
+            @Override
+            public void failed(long durationNanos) {
+                // records nothing
+            }
+
+            @Override
+            public void batchFlushed(@Nonnull String reason, int batchSize) {
+                // records nothing
+            }
+
+            @Override
+            public void batcherCreated(@Nonnull MicroBatcher<?> batcher) {
+                // records nothing
+            }
+        };
+
+        /**
+         * Records a successful invocation of the listener
+         *
+         * @param durationNanos The duration of the invocation in nanoseconds
+         */
+        void invoked(long durationNanos);
+
+        /**
+         * Records an invocation of the listener that threw an exception
+         *
+         * @param durationNanos The duration of the invocation in nanoseconds
+         */
+        void failed(long durationNanos);
+
+        /**
+         * Records that a micro batch of the listener has been flushed
+         *
+         * @param reason    The reason the batch was flushed for, which is the name of a
+         *                  {@link MicroBatcher.FlushReason}
+         * @param batchSize The number of items in the batch
+         */
+        void batchFlushed(@Nonnull String reason, int batchSize);
+
+        /**
+         * Observes the micro batcher of the listener, e.g. the number of items waiting in its current batch and of
+         * failed batches
+         *
+         * @param batcher The batcher that has been created
+         */
+        void batcherCreated(@Nonnull MicroBatcher<?> batcher);
+    }
+}
@@ -0,0 +1,225 @@
+package de.gcoding.boot.businessevents.metrics;
+
+import de.gcoding.boot.businessevents.emission.publisher.AsyncBusinessEventPublisher;
+import de.gcoding.boot.businessevents.listen.MicroBatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nonnull;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Records the metrics of the business event pipeline with Micrometer. The following meters are registered:
+ * </p>
+ * <ul>
+ *     <li>{@value #EVENTS_EMITTED}: counter of emitted events, tagged with {@code payload.type} and {@code action}</li>
+ *     <li>{@value #UNWRAP_FAN_OUT}: distribution of the number of payloads a return value is unwrapped into</li>
+ *     <li>{@value #ACTION_EVALUATION}: timer of action expression evaluations</li>
+ *     <li>{@value #LISTENER_INVOCATIONS}: timer of listener invocations, tagged with {@code listener} and
+ *     {@code outcome}, which is either {@code success} or {@code failure}</li>
+ *     <li>{@value #LISTENER_BATCH_FLUSHES}: counter of flushed micro batches, tagged with {@code listener} and
+ *     {@code reason}, which is either {@code size}, {@code latency} or {@code shutdown}</li>
+ *     <li>{@value #LISTENER_BATCH_SIZE}: distribution of the number of events per micro batch, tagged with
+ *     {@code listener}</li>
+ *     <li>{@value #LISTENER_BATCH_PENDING}: gauge of the number of events waiting in the current micro batch, tagged
+ *     with {@code listener}</li>
+ *     <li>{@value #LISTENER_BATCH_FAILURES}: counter of micro batches whose listener threw an exception, tagged with
+ *     {@code listener}</li>
+ *     <li>{@value #ASYNC_QUEUE_DEPTH}: gauge of the number of events waiting in the queue of the asynchronous
+ *     publisher</li>
+ *     <li>{@value #ASYNC_QUEUE_CAPACITY}: gauge of the capacity of the queue of the asynchronous publisher</li>
+ *     <li>{@value #ASYNC_REJECTED}: counter of events the asynchronous publisher could not queue, tagged with
+ *     {@code overflow.policy}</li>
+ * </ul>
+ * <p>
+ * The gauges and the counters of the asynchronous publisher and of the micro batchers read the state the components
+ * keep anyway when the registry is scraped, and only hold weak references to them.
+ * </p>
+ * <p>
+ * All meters are registered once and cached, so recording does not allocate tags for each event. To keep the number
+ * of time series bounded, at most {@value #MAX_ACTIONS_PER_PAYLOAD_TYPE} distinct actions are tagged per payload
+ * type, further actions are counted with the action {@value #OTHER_ACTION}.
+ * </p>
+ */
+public class MicrometerBusinessEventsMetrics implements BusinessEventsMetrics {
+    public static final String EVENTS_EMITTED = "business.events.emitted";
+    public static final String UNWRAP_FAN_OUT = "business.events.unwrap.fan.out";
+    public static final String ACTION_EVALUATION = "business.events.action.evaluation";
+    public static final String LISTENER_INVOCATIONS = "business.events.listener.invocations";
+    public static final String LISTENER_BATCH_FLUSHES = "business.events.listener.batch.flushes";
+    public static final String LISTENER_BATCH_SIZE = "business.events.listener.batch.size";
+    public static final String LISTENER_BATCH_PENDING = "business.events.listener.batch.pending";
+    public static final String LISTENER_BATCH_FAILURES = "business.events.listener.batch.failures";
+    public static final String ASYNC_QUEUE_DEPTH = "business.events.async.queue.depth";
+    public static final String ASYNC_QUEUE_CAPACITY = "business.events.async.queue.capacity";
+    public static final String ASYNC_REJECTED = "business.events.async.rejected";
+    public static final int MAX_ACTIONS_PER_PAYLOAD_TYPE = 64;
+    public static final String OTHER_ACTION = "OTHER";
+    private final MeterRegistry registry;
+    private final DistributionSummary unwrapFanOut;
+    private final Timer actionEvaluation;
+    private final ClassValue<Map<String, Counter>> emittedCounters = new ClassValue<>() {
+        @Override
+        protected Map<String, Counter> computeValue(@Nonnull Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Creates a new {@link MicrometerBusinessEventsMetrics}
+     *
+     * @param registry The registry to register the meters at
+     */
+    public MicrometerBusinessEventsMetrics(@Nonnull MeterRegistry registry) {
+        this.registry = requireNonNull(registry, "registry must not be null");
+        this.unwrapFanOut = DistributionSummary.builder(UNWRAP_FAN_OUT)
+            .description("The number of payloads the return value of an @EmitBusinessEvent method is unwrapped into")
+            .baseUnit("payloads")
+            .register(registry);
+        this.actionEvaluation = Timer.builder(ACTION_EVALUATION)
+            .description("The time it takes to evaluate action expressions")
+            .register(registry);
+    }
+
+    @Override
+    public void eventEmitted(@Nonnull Class<?> payloadType, @Nonnull String action) {
+        final var counters = emittedCounters.get(payloadType);
+        var counter = counters.get(action);
+
+        if (counter == null) {
+            counter = registerEmittedCounter(counters, payloadType, action);
+        }
+
+        counter.increment();
+    }
+
+    @Override
+    public void payloadsUnwrapped(int payloadCount) {
+        unwrapFanOut.record(payloadCount);
+    }
+
+    @Override
+    public void actionEvaluated(long durationNanos) {
+        actionEvaluation.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void asyncPublisherCreated(@Nonnull AsyncBusinessEventPublisher publisher) {
+        requireNonNull(publisher, "publisher must not be null");
+
+        Gauge.builder(ASYNC_QUEUE_DEPTH, publisher, AsyncBusinessEventPublisher::getQueueDepth)
+            .description("The number of events waiting in the queue of the asynchronous business event publisher")
+            .baseUnit("events")
+            .register(registry);
+        Gauge.builder(ASYNC_QUEUE_CAPACITY, publisher, AsyncBusinessEventPublisher::getQueueCapacity)
+            .description("The maximum number of events that can wait in the queue of the asynchronous publisher")
+            .baseUnit("events")
+            .register(registry);
+        FunctionCounter.builder(ASYNC_REJECTED, publisher, AsyncBusinessEventPublisher::getRejectedCount)
+            .description("The number of events the asynchronous business event publisher could not queue")
+            .baseUnit("events")
+            .tag("overflow.policy", publisher.getOverflowPolicy().name().toLowerCase(Locale.ROOT))
+            .register(registry);
+    }
+
+    @Nonnull
+    @Override
+    public ListenerMetrics listener(@Nonnull String listenerName) {
+        requireNonNull(listenerName, "listenerName must not be null");
+
+        return new MeterListenerMetrics(listenerName);
+    }
+
+    private Counter registerEmittedCounter(Map<String, Counter> counters, Class<?> payloadType, String action) {
+        if (counters.size() >= MAX_ACTIONS_PER_PAYLOAD_TYPE) {
+            // further actions are not cached, as they would let the cache and the number of time series grow unbounded
+            return counters.computeIfAbsent(OTHER_ACTION, key -> emittedCounter(payloadType, OTHER_ACTION));
+        }
+
+        return counters.computeIfAbsent(action, key -> emittedCounter(payloadType, action));
+    }
+
+    private Counter emittedCounter(Class<?> payloadType, String action) {
+        return Counter.builder(EVENTS_EMITTED)
+            .description("The number of emitted business events")
+            .tag("payload.type", payloadType.getName())
+            .tag("action", action)
+            .register(registry);
+    }
+
+    private Timer listenerTimer(String listenerName, String outcome) {
+        return Timer.builder(LISTENER_INVOCATIONS)
+            .description("The time it takes to invoke business event listeners")
+            .tag("listener", listenerName)
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private final class MeterListenerMetrics implements ListenerMetrics {
+        private final String listenerName;
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary batchSize;
+        private final Map<String, Counter> flushes = new ConcurrentHashMap<>();
+
+        private MeterListenerMetrics(String listenerName) {
+            this.listenerName = listenerName;
+            this.success = listenerTimer(listenerName, "success");
+            this.failure = listenerTimer(listenerName, "failure");
+            this.batchSize = DistributionSummary.builder(LISTENER_BATCH_SIZE)
+                .description("The number of events per micro batch handed over to business event listeners")
+                .baseUnit("events")
+                .tag("listener", listenerName)
+                .register(registry);
+        }
+
+        @Override
+        public void invoked(long durationNanos) {
+            success.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void failed(long durationNanos) {
+            failure.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void batchFlushed(@Nonnull String reason, int batchSize) {
+            flushes.computeIfAbsent(reason, this::flushCounter).increment();
+            this.batchSize.record(batchSize);
+        }
+
+        @Override
+        public void batcherCreated(@Nonnull MicroBatcher<?> batcher) {
+            requireNonNull(batcher, "batcher must not be null");
+
+            Gauge.builder(LISTENER_BATCH_PENDING, batcher, MicroBatcher::getPendingCount)
+                .description("The number of events waiting in the current micro batch of business event listeners")
+                .baseUnit("events")
+                .tag("listener", listenerName)
+                .register(registry);
+            FunctionCounter.builder(LISTENER_BATCH_FAILURES, batcher, MicroBatcher::getFailedBatchCount)
+                .description("The number of micro batches whose business event listener threw an exception")
+                .tag("listener", listenerName)
+                .register(registry);
+        }
+
+        private Counter flushCounter(String reason) {
+            return Counter.builder(LISTENER_BATCH_FLUSHES)
+                .description("The number of micro batches flushed for business event listeners")
+                .tag("listener", listenerName)
+                .tag("reason", reason.toLowerCase(Locale.ROOT))
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package de.gcoding.boot.businessevents.time;
+
+import jakarta.annotation.Nonnull;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Provides the timestamps of business events emitted through the {@code @EmitBusinessEvent} annotation.
+ * Implementations are called concurrently by all threads emitting events and must therefore be thread-safe.
+ */
+@FunctionalInterface
+public interface EventClock {
+    /**
+     * @return The timestamp to use for an event that is created right now
+     */
+    @Nonnull
+    ZonedDateTime now();
+}
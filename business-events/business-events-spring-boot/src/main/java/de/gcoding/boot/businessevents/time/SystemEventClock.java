@@ -0,0 +1,35 @@
+package de.gcoding.boot.businessevents.time;
+
+import jakarta.annotation.Nonnull;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads the current time from a {@link Clock} for every event. This provides the most precise timestamps, but
+ * allocates a new {@link ZonedDateTime} for each event.
+ */
+public class SystemEventClock implements EventClock {
+    private final Clock clock;
+
+    public SystemEventClock() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a new {@link SystemEventClock}
+     *
+     * @param clock The clock to read the current time from
+     */
+    public SystemEventClock(@Nonnull Clock clock) {
+        this.clock = requireNonNull(clock, "clock must not be null");
+    }
+
+    @Override
+    @Nonnull
+    public ZonedDateTime now() {
+        return ZonedDateTime.now(clock);
+    }
+}
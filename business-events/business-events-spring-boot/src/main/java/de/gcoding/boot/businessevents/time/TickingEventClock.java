@@ -0,0 +1,102 @@
+package de.gcoding.boot.businessevents.time;
+
+import jakarta.annotation.Nonnull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * A coarse-grained clock that reads the current time only once per tick on a dedicated background thread and hands
+ * out the cached {@link ZonedDateTime} to all events created within the same tick. Creating an event timestamp is
+ * therefore reduced to a volatile read without any allocation.
+ * </p>
+ * <p>
+ * The precision of the timestamps is bounded by the tick interval, so events created within the same tick share
+ * the same timestamp. Use the {@link SystemEventClock} if events must carry exact timestamps. The clock must be
+ * {@link #close() closed} to stop the background thread.
+ * </p>
+ */
+public class TickingEventClock implements EventClock, AutoCloseable {
+    public static final Duration DEFAULT_TICK_INTERVAL = Duration.ofMillis(1);
+    private static final String TICKER_THREAD_NAME = "business-events-clock";
+    private final Clock clock;
+    private final ScheduledExecutorService ticker;
+    private volatile ZonedDateTime now;
+
+    public TickingEventClock() {
+        this(Clock.systemDefaultZone(), DEFAULT_TICK_INTERVAL);
+    }
+
+    /**
+     * Creates a new {@link TickingEventClock} and starts ticking immediately
+     *
+     * @param clock        The clock to read the current time from on every tick
+     * @param tickInterval The interval in which the current time is refreshed. Must be positive
+     */
+    public TickingEventClock(@Nonnull Clock clock, @Nonnull Duration tickInterval) {
+        this(clock, tickInterval, Thread.ofPlatform().name(TICKER_THREAD_NAME).daemon().factory());
+    }
+
+    /**
+     * Creates a new {@link TickingEventClock} and starts ticking immediately
+     *
+     * @param clock         The clock to read the current time from on every tick
+     * @param tickInterval  The interval in which the current time is refreshed. Must be positive
+     * @param threadFactory The factory used to create the background thread refreshing the time
+     */
+    public TickingEventClock(@Nonnull Clock clock, @Nonnull Duration tickInterval, @Nonnull ThreadFactory threadFactory) {
+        this(clock, tickInterval, Executors.newSingleThreadScheduledExecutor(
+            requireNonNull(threadFactory, "threadFactory must not be null")));
+    }
+
+    /**
+     * Creates a new {@link TickingEventClock} and starts ticking immediately
+     *
+     * @param clock        The clock to read the current time from on every tick
+     * @param tickInterval The interval in which the current time is refreshed. Must be positive
+     * @param ticker       The executor the ticks are scheduled on. It is owned by the clock and shut down when the
+     *                     clock is closed
+     */
+    public TickingEventClock(@Nonnull Clock clock, @Nonnull Duration tickInterval, @Nonnull ScheduledExecutorService ticker) {
+        requireNonNull(tickInterval, "tickInterval must not be null");
+        requireNonNull(ticker, "ticker must not be null");
+
+        if (tickInterval.isNegative() || tickInterval.isZero()) {
+            ticker.shutdownNow();
+            throw new IllegalArgumentException("tickInterval must be positive, but was " + tickInterval);
+        }
+
+        this.clock = requireNonNull(clock, "clock must not be null");
+        this.now = ZonedDateTime.now(clock);
+        this.ticker = ticker;
+
+        final var tickNanos = tickInterval.toNanos();
+        ticker.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    @Nonnull
+    public ZonedDateTime now() {
+        return now;
+    }
+
+    /**
+     * Stops refreshing the current time. After closing, {@link #now()} keeps returning the last cached time
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void tick() {
+        now = ZonedDateTime.now(clock);
+    }
+}
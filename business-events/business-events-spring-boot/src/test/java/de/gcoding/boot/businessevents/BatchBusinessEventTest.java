@@ -0,0 +1,62 @@
+package de.gcoding.boot.businessevents;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchBusinessEventTest {
+    static final BusinessEventData BATCH_DATA = new BusinessEventData(List.of("first", "second"), EventActions.CREATE)
+        .withMetadata(Map.of("key", "value"));
+
+    @Test
+    void whenBatchIsCreatedPayloadsAreAvailableAsList() {
+        final var batch = new BatchBusinessEvent(this, BATCH_DATA);
+
+        assertThat(batch.getPayloads()).containsExactly("first", "second");
+        assertThat(batch.getPayloadsAs(String.class)).containsExactly("first", "second");
+        assertThat(batch.size()).isEqualTo(2);
+    }
+
+    @Test
+    void whenPayloadIsNotAListAnExceptionIsThrown() {
+        final var eventData = new BusinessEventData("payload");
+
+        assertThrows(IllegalArgumentException.class, () -> new BatchBusinessEvent(this, eventData));
+    }
+
+    @Test
+    void whenElementEventsAreAccessedTheyShareTheBatchData() {
+        final var batch = new BatchBusinessEvent(this, BATCH_DATA);
+
+        final var elementEvents = batch.getElementEvents();
+
+        assertThat(elementEvents).hasSize(2);
+        assertThat(elementEvents).extracting(BusinessEvent::getPayload).containsExactly("first", "second");
+        assertThat(elementEvents).allSatisfy(event -> {
+            assertThat(event).isNotInstanceOf(BatchBusinessEvent.class);
+            assertThat(event.getSource()).isSameAs(this);
+            assertThat(event.getAction()).isEqualTo(EventActions.CREATE);
+            assertThat(event.getEventDataTimestamp()).isEqualTo(batch.getEventDataTimestamp());
+            assertThat(event.getMetadata()).containsEntry("key", "value");
+        });
+    }
+
+    @Test
+    void whenElementEventsAreAccessedEachHasItsOwnStableIdReferencingTheBatch() {
+        final var batch = new BatchBusinessEvent(this, BATCH_DATA);
+
+        final var elementEvents = batch.getElementEvents();
+
+        assertThat(elementEvents).extracting(BusinessEvent::getId)
+            .doesNotHaveDuplicates()
+            .doesNotContain(batch.getId())
+            .containsExactlyElementsOf(batch.getElementEvents().stream().map(BusinessEvent::getId).toList());
+        assertThat(elementEvents).allSatisfy(event ->
+            assertThat(event.getMetadata()).containsEntry(BatchBusinessEvent.BATCH_ID_METADATA_KEY, batch.getId().toString()));
+        assertThat(batch.getMetadata()).doesNotContainKey(BatchBusinessEvent.BATCH_ID_METADATA_KEY);
+    }
+}
@@ -255,4 +255,40 @@ class BusinessEventTest {
         assertThat(copied.getMetadata()).isEqualTo(original.getMetadata());
         assertThat(copied.getPayload()).isEqualTo(original.getPayload());
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenEventIsBuildFromExistingEventWithoutChangingMetadataTheMetadataMapIsShared() {
+        final var original = BusinessEvent.withPayload(STRING_PAYLOAD)
+            .metadata(Map.of("existing", "metadata"))
+            .build();
+
+        final var copied = BusinessEvent.fromEvent(original).action(EventActions.DELETE).build();
+
+        assertThat(copied.getMetadata()).isSameAs(original.getMetadata());
+    }
+
+    @Test
+    void whenMetadataIsAddedToEventBuildFromExistingEventTheOriginalMetadataIsNotChanged() {
+        final var original = BusinessEvent.withPayload(STRING_PAYLOAD)
+            .metadata(Map.of("existing", "metadata"))
+            .build();
+
+        final var copied = BusinessEvent.fromEvent(original).addMetadata("other", "metadata").build();
+
+        assertThat(original.getMetadata()).containsOnlyKeys("existing");
+        assertThat(copied.getMetadata()).containsOnlyKeys("existing", "other");
+    }
+
+    @Test
+    void whenNoMetadataIsPassedTheSharedEmptyMapIsUsed() {
+        final var event = BusinessEvent.withPayload(STRING_PAYLOAD).metadata(new HashMap<>()).build();
+        assertThat(event.getMetadata()).isSameAs(Map.of());
+    }
+
+    @Test
+    void whenTimestampHasNanosecondsSpringTimestampIsTruncatedToMillis() {
+        final var timestamp = ZonedDateTime.parse("1960-01-01T10:15:30.123999999-05:00");
+        final var event = BusinessEvent.withPayload(STRING_PAYLOAD).timestamp(timestamp).build();
+        assertThat(event.getTimestamp()).isEqualTo(timestamp.toInstant().toEpochMilli());
+    }
+}
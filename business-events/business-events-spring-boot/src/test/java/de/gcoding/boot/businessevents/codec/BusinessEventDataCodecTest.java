@@ -0,0 +1,205 @@
+package de.gcoding.boot.businessevents.codec;
+
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.EventActions;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BusinessEventDataCodecTest {
+    static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2024, 5, 17, 12, 30, 15, 123456789, ZoneId.of("Europe/Berlin"));
+    final BusinessEventDataCodec codec = new BusinessEventDataCodec(new JavaPayloadSerializer());
+
+    @Test
+    void encodedEventCanBeDecoded() {
+        final var eventData = new BusinessEventData(
+            UUID.randomUUID(),
+            "payload",
+            EventActions.CREATE,
+            TIMESTAMP,
+            Map.of("tenant", "acme", "trace", "4bf92f3577b34da6")
+        );
+
+        final var decoded = codec.decode(codec.encode(eventData));
+
+        assertThat(decoded).isEqualTo(eventData);
+        assertThat(decoded.timestamp().getZone()).isEqualTo(TIMESTAMP.getZone());
+    }
+
+    @Test
+    void encodedEventWithDictionaryIsSmallerThanItsTextualRepresentation() {
+        final var dictionaryCodec = new BusinessEventDataCodec(new Utf8PayloadSerializer(), CodecDictionary.defaults().with("tenant"));
+        final var eventData = new BusinessEventData(
+            UUID.randomUUID(),
+            "order-4711",
+            EventActions.CREATE,
+            ZonedDateTime.of(2024, 5, 17, 12, 30, 15, 123456789, ZoneOffset.UTC),
+            Map.of("tenant", "acme")
+        );
+        final var textual = eventData.id() + eventData.action() + eventData.timestamp() + "tenant" + "acme" +
+            String.class.getName() + eventData.payload();
+
+        final var encoded = dictionaryCodec.encode(eventData);
+
+        assertThat(encoded.length).isLessThanOrEqualTo(48).isLessThan(textual.getBytes(UTF_8).length / 2);
+        assertThat(dictionaryCodec.decode(encoded)).isEqualTo(eventData);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "ascii", "Grüße", "価格", "emoji 🚀", "unpaired \uD800 surrogate"})
+    void stringsAreEncodedAsUtf8(String value) {
+        final var eventData = new BusinessEventData(UUID.randomUUID(), value, value, TIMESTAMP, Map.of("key " + value, value));
+
+        final var decoded = codec.decode(codec.encode(eventData));
+        final var expected = new String(value.getBytes(UTF_8), UTF_8);
+
+        assertThat(decoded.action()).isEqualTo(expected);
+        assertThat(decoded.payload()).isEqualTo(value);
+        assertThat(decoded.metadata()).containsEntry("key " + expected, expected);
+    }
+
+    @Test
+    void timestampsBeforeEpochAreEncoded() {
+        final var timestamp = ZonedDateTime.of(1901, 3, 4, 5, 6, 7, 8, ZoneOffset.ofHours(-5));
+        final var eventData = new BusinessEventData(UUID.randomUUID(), "payload", EventActions.NONE, timestamp);
+
+        assertThat(codec.decode(codec.encode(eventData)).timestamp()).isEqualTo(timestamp);
+    }
+
+    @Test
+    void encodingTimestampThatCannotBeRepresentedInNanosFails() {
+        final var timestamp = ZonedDateTime.of(2300, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        final var eventData = new BusinessEventData(UUID.randomUUID(), "payload", EventActions.NONE, timestamp);
+
+        assertThatThrownBy(() -> codec.encode(eventData))
+            .isInstanceOf(BusinessEventCodecException.class)
+            .hasMessageContaining("2300");
+    }
+
+    @Test
+    void dictionaryEntriesAreEncodedAsReferencesAndDecodedToSameInstance() {
+        final var dictionary = CodecDictionary.defaults().with("tenant", "Europe/Berlin");
+        final var dictionaryCodec = new BusinessEventDataCodec(new JavaPayloadSerializer(), dictionary);
+        final var eventData = new BusinessEventData(UUID.randomUUID(), "payload", EventActions.UPDATE, TIMESTAMP, Map.of("tenant", "acme"));
+
+        final var encoded = dictionaryCodec.encode(eventData);
+        final var decoded = dictionaryCodec.decode(encoded);
+
+        assertThat(encoded.length).isEqualTo(codec.encode(eventData).length - "tenant".length() - "Europe/Berlin".length());
+        assertThat(decoded).isEqualTo(eventData);
+        assertThat(decoded.action()).isSameAs(EventActions.UPDATE);
+        assertThat(decoded.metadata().keySet()).singleElement().isSameAs(dictionary.get(dictionary.indexOf("tenant")));
+    }
+
+    @Test
+    void decodingWithSmallerDictionaryFails() {
+        final var dictionaryCodec = new BusinessEventDataCodec(new JavaPayloadSerializer(), CodecDictionary.defaults().with("SHIPPED"));
+        final var encoded = dictionaryCodec.encode(new BusinessEventData("payload", "SHIPPED"));
+
+        assertThatThrownBy(() -> codec.decode(encoded))
+            .isInstanceOf(BusinessEventCodecException.class)
+            .hasMessageContaining("different dictionary");
+    }
+
+    @Test
+    void encodingIntoBufferAdvancesPositionByEncodedSize() {
+        final var buffer = ByteBuffer.allocateDirect(1024);
+        final var first = new BusinessEventData("first", EventActions.CREATE);
+        final var second = new BusinessEventData("second", EventActions.DELETE);
+
+        final var firstSize = codec.encode(first, buffer);
+        final var secondSize = codec.encode(second, buffer);
+
+        assertThat(buffer.position()).isEqualTo(firstSize + secondSize);
+        assertThat(firstSize).isEqualTo(codec.encode(first).length);
+
+        buffer.flip();
+        assertThat(codec.decode(buffer)).isEqualTo(first);
+        assertThat(codec.decode(buffer)).isEqualTo(second);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void encodingIntoBufferThatIsTooSmallWritesNothing() {
+        final var eventData = new BusinessEventData("payload");
+        final var size = codec.encode(eventData).length;
+        final var buffer = ByteBuffer.allocate(size + 9).position(10);
+
+        assertThat(codec.encode(eventData, buffer)).isEqualTo(-1);
+        assertThat(buffer.position()).isEqualTo(10);
+        assertThat(Arrays.equals(buffer.array(), new byte[size + 9])).isTrue();
+    }
+
+    @Test
+    void encodingDoesNotDependOnByteOrderOfBuffer() {
+        final var eventData = new BusinessEventData("payload");
+        final var buffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+
+        final var size = codec.encode(eventData, buffer);
+
+        assertThat(Arrays.copyOf(buffer.array(), size)).isEqualTo(codec.encode(eventData));
+        assertThat(BusinessEventDataCodec.readId(buffer, 0)).isEqualTo(eventData.id());
+        assertThat(codec.decode(buffer.flip())).isEqualTo(eventData);
+    }
+
+    @Test
+    void idAndTimestampCanBeReadWithoutDecoding() {
+        final var eventData = new BusinessEventData(UUID.randomUUID(), "payload", EventActions.NONE, TIMESTAMP);
+        final var buffer = ByteBuffer.allocate(1024).position(17);
+        codec.encode(eventData, buffer);
+
+        assertThat(BusinessEventDataCodec.readId(buffer, 17)).isEqualTo(eventData.id());
+        assertThat(BusinessEventDataCodec.readTimestamp(buffer, 17)).isEqualTo(TIMESTAMP.toInstant());
+    }
+
+    @Test
+    void decodingUnknownVersionFails() {
+        final var encoded = codec.encode(new BusinessEventData("payload"));
+        encoded[0] = 42;
+
+        assertThatThrownBy(() -> codec.decode(encoded))
+            .isInstanceOf(BusinessEventCodecException.class)
+            .hasMessageContaining("version 42");
+    }
+
+    @Test
+    void decodingTruncatedEventFails() {
+        final var encoded = codec.encode(new BusinessEventData(UUID.randomUUID(), "payload", EventActions.CREATE, TIMESTAMP, Map.of("key", "value")));
+
+        for (var length = 0; length < encoded.length; length++) {
+            final var truncated = Arrays.copyOf(encoded, length);
+
+            assertThatThrownBy(() -> codec.decode(truncated))
+                .as("truncated to %d bytes", length)
+                .isInstanceOf(BusinessEventCodecException.class);
+        }
+    }
+
+    static class Utf8PayloadSerializer implements PayloadSerializer {
+        @Nonnull
+        @Override
+        public byte[] serialize(@Nonnull Object payload) {
+            return ((String) payload).getBytes(UTF_8);
+        }
+
+        @Nonnull
+        @Override
+        public Object deserialize(@Nonnull byte[] data, @Nonnull String payloadType) {
+            return new String(data, UTF_8);
+        }
+    }
+}
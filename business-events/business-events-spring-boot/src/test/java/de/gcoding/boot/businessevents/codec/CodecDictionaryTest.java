@@ -0,0 +1,46 @@
+package de.gcoding.boot.businessevents.codec;
+
+import de.gcoding.boot.businessevents.EventActions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CodecDictionaryTest {
+    @Test
+    void defaultsContainEventActions() {
+        final var dictionary = CodecDictionary.defaults();
+
+        assertThat(dictionary.indexOf(EventActions.CREATE)).isNotNegative();
+        assertThat(dictionary.indexOf(EventActions.NONE)).isNotNegative();
+        assertThat(dictionary.indexOf("unknown")).isEqualTo(-1);
+    }
+
+    @Test
+    void additionalEntriesAreAppended() {
+        final var defaults = CodecDictionary.defaults();
+
+        final var extended = defaults.with("tenant", "trace");
+
+        assertThat(extended.size()).isEqualTo(defaults.size() + 2);
+        assertThat(extended.indexOf(EventActions.CREATE)).isEqualTo(defaults.indexOf(EventActions.CREATE));
+        assertThat(extended.get(defaults.size())).isEqualTo("tenant");
+        assertThat(extended.get(defaults.size() + 1)).isEqualTo("trace");
+        assertThat(defaults.indexOf("tenant")).isEqualTo(-1);
+    }
+
+    @Test
+    void duplicateEntriesAreRejected() {
+        assertThatThrownBy(() -> CodecDictionary.defaults().with(EventActions.CREATE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(EventActions.CREATE);
+    }
+
+    @Test
+    void referencesOutOfRangeAreRejected() {
+        final var dictionary = CodecDictionary.defaults();
+
+        assertThatThrownBy(() -> dictionary.get(dictionary.size()))
+            .isInstanceOf(BusinessEventCodecException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package de.gcoding.boot.businessevents.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JavaPayloadSerializerTest {
+    final JavaPayloadSerializer serializer = new JavaPayloadSerializer();
+
+    @Test
+    void serializedPayloadCanBeDeserialized() {
+        final var payload = new SerializablePayload("name", 42, List.of("a", "b"));
+
+        final var data = serializer.serialize(payload);
+        final var deserialized = serializer.deserialize(data, SerializablePayload.class.getName());
+
+        assertThat(deserialized).isEqualTo(payload);
+    }
+
+    @Test
+    void serializingPayloadThatIsNotSerializableFails() {
+        final var payload = new Object();
+
+        assertThatThrownBy(() -> serializer.serialize(payload))
+            .isInstanceOf(PayloadSerializationException.class)
+            .hasMessageContaining("java.lang.Object");
+    }
+
+    @Test
+    void deserializingInvalidDataFails() {
+        final var data = new byte[]{1, 2, 3};
+
+        assertThatThrownBy(() -> serializer.deserialize(data, "some.Type"))
+            .isInstanceOf(PayloadSerializationException.class)
+            .hasMessageContaining("some.Type")
+            .hasCauseInstanceOf(java.io.IOException.class);
+    }
+
+    @Test
+    void classesAreResolvedThroughGivenClassLoader() {
+        final var classLoaderSerializer = new JavaPayloadSerializer(getClass().getClassLoader());
+        final var payload = new SerializablePayload("name", 1, List.of());
+
+        final var deserialized = classLoaderSerializer.deserialize(classLoaderSerializer.serialize(payload), "ignored");
+
+        assertThat(deserialized).isEqualTo(payload);
+    }
+
+    record SerializablePayload(String name, int value, List<String> tags) implements Serializable {
+    }
+}
@@ -3,6 +3,9 @@ package de.gcoding.boot.businessevents.emission;
 import de.gcoding.boot.businessevents.BusinessEvent;
 import de.gcoding.boot.businessevents.EventActions;
 import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.id.RandomEventIdGenerator;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import de.gcoding.boot.businessevents.time.SystemEventClock;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,9 +16,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -32,10 +41,7 @@ class BusinessEventFactoryImplTest {
     void beforeEach() {
         final var beanFactory = new StaticListableBeanFactory(Map.of("mockBean", new MockBean()));
 
-        businessEventFactory = new BusinessEventFactoryImpl(
-            new SpelExpressionParser(),
-            new BeanFactoryResolver(beanFactory)
-        );
+        businessEventFactory = createFactory(new SpelExpressionParser(), new BeanFactoryResolver(beanFactory));
     }
 
     @Test
@@ -158,9 +164,103 @@ class BusinessEventFactoryImplTest {
         assertThat(event.getAction()).isEqualTo("true");
     }
 
+    @Test
+    void whenSameActionSpELIsEvaluatedMultipleTimesItIsParsedOnlyOnce() {
+        when(configuration.actionSpEL()).thenReturn("payload.action");
+
+        for (var i = 0; i < 5; i++) {
+            businessEventFactory.createBusinessEvent(new PayloadWithDynamicAction("action"), this, methodSignature, configuration);
+        }
+
+        final var expressionCache = businessEventFactory.getExpressionCache();
+        assertThat(expressionCache.getMissCount()).isEqualTo(1);
+        assertThat(expressionCache.getHitCount()).isEqualTo(4);
+    }
+
+    @Test
+    void whenCompiledActionSpELFailsItIsEvaluatedInterpretedInstead() {
+        final var parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null));
+        businessEventFactory = createFactory(parser, new BeanFactoryResolver(new StaticListableBeanFactory()));
+        when(configuration.actionSpEL()).thenReturn("payload.action");
+
+        for (var i = 0; i < 3; i++) {
+            final var event = businessEventFactory.createBusinessEvent(new PayloadWithDynamicAction("compiled"), this, methodSignature, configuration);
+            assertThat(event.getAction()).isEqualTo("compiled");
+        }
+
+        final var event = businessEventFactory.createBusinessEvent(new OtherPayloadWithDynamicAction("interpreted"), this, methodSignature, configuration);
+
+        assertThat(event.getAction()).isEqualTo("interpreted");
+        assertThat(businessEventFactory.getCompiledEvaluationFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenBatchEventIsCreatedActionSpELIsEvaluatedOnceWithAllPayloads() {
+        when(configuration.actionSpEL()).thenReturn("payload.size() + ''");
+
+        final var batch = businessEventFactory.createBatchBusinessEvent(List.of("first", "second"), "wrapped", this, methodSignature, configuration);
+
+        assertThat(batch.getPayloads()).containsExactly("first", "second");
+        assertThat(batch.getAction()).isEqualTo("2");
+        assertThat(batch.getSource()).isEqualTo(this);
+    }
+
+    @Test
+    void whenEventsAreCreatedTheirIdsAreTakenFromTheIdGenerator() {
+        final var expectedIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        final var ids = expectedIds.iterator();
+        businessEventFactory = new BusinessEventFactoryImpl(
+            new SpelExpressionParser(),
+            new BeanFactoryResolver(new StaticListableBeanFactory()),
+            BusinessEventFactoryImpl.DEFAULT_EXPRESSION_CACHE_SIZE,
+            ids::next,
+            new SystemEventClock(),
+            BusinessEventsMetrics.NOOP
+        );
+
+        final var event = businessEventFactory.createBusinessEvent("payload", this, methodSignature, configuration);
+        final var batch = businessEventFactory.createBatchBusinessEvent(List.of("payload"), "wrapped", this, methodSignature, configuration);
+
+        assertThat(List.of(event.getId(), batch.getId())).isEqualTo(expectedIds);
+    }
+
+    @Test
+    void whenEventsAreCreatedTheirTimestampsAreTakenFromTheEventClock() {
+        final var timestamp = ZonedDateTime.parse("2007-12-03T10:15:30+01:00");
+        businessEventFactory = new BusinessEventFactoryImpl(
+            new SpelExpressionParser(),
+            new BeanFactoryResolver(new StaticListableBeanFactory()),
+            BusinessEventFactoryImpl.DEFAULT_EXPRESSION_CACHE_SIZE,
+            UUID::randomUUID,
+            () -> timestamp,
+            BusinessEventsMetrics.NOOP
+        );
+
+        final var event = businessEventFactory.createBusinessEvent("payload", this, methodSignature, configuration);
+        final var batch = businessEventFactory.createBatchBusinessEvent(List.of("payload"), "wrapped", this, methodSignature, configuration);
+
+        assertThat(event.getEventDataTimestamp()).isSameAs(timestamp);
+        assertThat(batch.getEventDataTimestamp()).isSameAs(timestamp);
+        assertThat(event.getTimestamp()).isEqualTo(timestamp.toInstant().toEpochMilli());
+    }
+
+    static BusinessEventFactoryImpl createFactory(SpelExpressionParser parser, BeanResolver beanResolver) {
+        return new BusinessEventFactoryImpl(
+            parser,
+            beanResolver,
+            BusinessEventFactoryImpl.DEFAULT_EXPRESSION_CACHE_SIZE,
+            new RandomEventIdGenerator(),
+            new SystemEventClock(),
+            BusinessEventsMetrics.NOOP
+        );
+    }
+
     public record PayloadWithDynamicAction(String action) {
     }
 
+    public record OtherPayloadWithDynamicAction(String action) {
+    }
+
     public String getCalledBySpELInTest() {
         return "was called";
     }
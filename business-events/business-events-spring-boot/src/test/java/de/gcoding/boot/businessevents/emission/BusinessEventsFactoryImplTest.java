@@ -1,9 +1,13 @@
 package de.gcoding.boot.businessevents.emission;
 
 
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
 import de.gcoding.boot.businessevents.BusinessEvent;
 import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.EventActions;
 import de.gcoding.boot.businessevents.emission.unwrapper.EventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptionRegistry;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
 import jakarta.annotation.Nonnull;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.Test;
@@ -13,11 +17,13 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,6 +40,10 @@ class BusinessEventsFactoryImplTest {
     EventPayloadUnwrapper eventPayloadUnwrapper;
     @Spy
     BusinessEventFactory businessEventFactory = new MockBusinessEventFactory();
+    @Spy
+    BusinessEventSubscriptionRegistry subscriptions = new BusinessEventSubscriptionRegistry();
+    @Mock
+    BusinessEventsMetrics metrics;
     @InjectMocks
     BusinessEventsFactoryImpl businessEventsFactory;
 
@@ -66,6 +76,73 @@ class BusinessEventsFactoryImplTest {
         assertThat(events).hasSize(3).allSatisfy(event -> assertThat(Set.of("first", "second", "third")).contains(event.getPayloadAs(String.class)));
     }
 
+    @Test
+    void whenValuesAreUnwrappedTheFanOutIsRecorded() {
+        when(eventPayloadUnwrapper.unwrap(STRING_PAYLOAD, this, methodSignature, configuration))
+            .thenReturn(Optional.of(Stream.of("first", "second", "third")));
+
+        businessEventsFactory.createBusinessEvents(STRING_PAYLOAD, this, methodSignature, configuration);
+
+        verify(metrics).payloadsUnwrapped(3);
+    }
+
+    @Test
+    void whenEventsAreStreamedTheyAreOnlyCreatedWhenConsumed() {
+        when(eventPayloadUnwrapper.unwrap(STRING_PAYLOAD, this, methodSignature, configuration))
+            .thenReturn(Optional.of(Stream.of("first", "second", "third")));
+
+        final var events = businessEventsFactory.streamBusinessEvents(STRING_PAYLOAD, this, methodSignature, configuration);
+        verify(businessEventFactory, times(0)).createBusinessEvent(any(), any(), any(), any(), any());
+
+        final var first = events.findFirst();
+
+        assertThat(first).hasValueSatisfying(event -> assertThat(event.getPayload()).isEqualTo("first"));
+        verify(businessEventFactory, times(1)).createBusinessEvent(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void whenEventsAreStreamedForNullPayloadStreamIsEmpty() {
+        final var events = businessEventsFactory.streamBusinessEvents(null, this, methodSignature, configuration);
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void whenBatchIsConfiguredASingleBatchEventWithAllUnwrappedPayloadsIsCreated() {
+        when(configuration.batch()).thenReturn(true);
+        when(eventPayloadUnwrapper.unwrap(STRING_PAYLOAD, this, methodSignature, configuration))
+            .thenReturn(Optional.of(Stream.of("first", "second", "third")));
+
+        final var events = businessEventsFactory.createBusinessEvents(STRING_PAYLOAD, this, methodSignature, configuration);
+
+        assertThat(events).singleElement()
+            .isInstanceOfSatisfying(BatchBusinessEvent.class, batch ->
+                assertThat(batch.getPayloads()).containsExactly("first", "second", "third"));
+    }
+
+    @Test
+    void whenBatchIsConfiguredAndNothingRemainsAfterUnwrappingNoEventIsCreated() {
+        when(configuration.batch()).thenReturn(true);
+        when(eventPayloadUnwrapper.unwrap(STRING_PAYLOAD, this, methodSignature, configuration))
+            .thenReturn(Optional.of(Stream.empty()));
+
+        final var events = businessEventsFactory.createBusinessEvents(STRING_PAYLOAD, this, methodSignature, configuration);
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void whenBatchIsConfiguredAndUnwrappingIsSkippedBatchContainsTheReturnValue() {
+        when(configuration.batch()).thenReturn(true);
+        when(configuration.skipUnwrap()).thenReturn(true);
+
+        final var events = businessEventsFactory.streamBusinessEvents(WRAPPED_STRING_PAYLOAD, this, methodSignature, configuration).toList();
+
+        assertThat(events).singleElement()
+            .isInstanceOfSatisfying(BatchBusinessEvent.class, batch ->
+                assertThat(batch.getPayloads()).containsExactly(WRAPPED_STRING_PAYLOAD));
+    }
+
     @Test
     void whenPayloadIsNullNoEventIsGenerated() {
         final var events = businessEventsFactory.createBusinessEvents(null, this, methodSignature, configuration);
@@ -91,6 +168,31 @@ class BusinessEventsFactoryImplTest {
         verify(businessEventFactory).createBusinessEvent(STRING_PAYLOAD, WRAPPED_STRING_PAYLOAD, this, methodSignature, configuration);
     }
 
+    @Test
+    void whenNoListenerSubscribedToThePayloadTypeNoEventIsCreatedForIt() {
+        subscriptions.subscribe(Integer.class, List.of());
+        subscriptions.activate();
+        when(eventPayloadUnwrapper.unwrap(STRING_PAYLOAD, this, methodSignature, configuration))
+            .thenReturn(Optional.of(Stream.of("first", 2, "third")));
+
+        final var events = businessEventsFactory.createBusinessEvents(STRING_PAYLOAD, this, methodSignature, configuration);
+
+        assertThat(events).singleElement().satisfies(event -> assertThat(event.getPayload()).isEqualTo(2));
+        verify(businessEventFactory, times(1)).createBusinessEvent(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void whenNoListenerSubscribedToTheEvaluatedActionTheEventIsDropped() {
+        subscriptions.subscribe(Object.class, List.of(EventActions.CREATE));
+        subscriptions.activate();
+        when(configuration.actionSpEL()).thenReturn("'evaluated'");
+        when(configuration.skipUnwrap()).thenReturn(true);
+
+        final var events = businessEventsFactory.createBusinessEvents(STRING_PAYLOAD, this, methodSignature, configuration);
+
+        assertThat(events).isEmpty();
+    }
+
     protected static class MockBusinessEventFactory implements BusinessEventFactory {
         @Override
         public @Nonnull BusinessEvent createBusinessEvent(@Nonnull Object payload, @Nonnull Object wrappedPayload, @Nonnull Object emittingSource, @Nonnull MethodSignature methodSignature, @Nonnull EmitBusinessEvent configuration) {
@@ -0,0 +1,111 @@
+package de.gcoding.boot.businessevents.emission;
+
+import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmissionPlanTest {
+    @Mock
+    MethodSignature methodSignature;
+    @Mock
+    EmitBusinessEvent configuration;
+
+    @Test
+    void whenPlanIsRequestedForTheSameMethodTwiceTheCachedPlanIsReturned() throws Exception {
+        final var method = AnnotatedMethods.class.getMethod("withStaticAction");
+        final var annotation = method.getAnnotation(EmitBusinessEvent.class);
+        when(methodSignature.getMethod()).thenReturn(method);
+
+        final var first = EmissionPlan.of(methodSignature, annotation);
+        final var second = EmissionPlan.of(methodSignature, annotation);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void whenMethodIsNotAvailablePlanIsNotCached() {
+        final var first = EmissionPlan.of(methodSignature, configuration);
+        final var second = EmissionPlan.of(methodSignature, configuration);
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void whenConfigurationDiffersFromCachedPlanANewPlanIsComputed() throws Exception {
+        final var method = AnnotatedMethods.class.getMethod("withStaticAction");
+        when(methodSignature.getMethod()).thenReturn(method);
+        final var cached = EmissionPlan.of(methodSignature, method.getAnnotation(EmitBusinessEvent.class));
+
+        when(configuration.action()).thenReturn("other");
+        final var plan = EmissionPlan.of(methodSignature, configuration);
+
+        assertThat(plan).isNotSameAs(cached);
+        assertThat(plan.staticAction()).isEqualTo("other");
+    }
+
+    @Test
+    void whenMethodIsAnnotatedPlanReflectsConfiguration() throws Exception {
+        final var method = AnnotatedMethods.class.getMethod("withStaticAction");
+        when(methodSignature.getMethod()).thenReturn(method);
+        when(methodSignature.getReturnType()).thenReturn(method.getReturnType());
+
+        final var plan = EmissionPlan.of(methodSignature, method.getAnnotation(EmitBusinessEvent.class));
+
+        assertThat(plan.returnsValue()).isTrue();
+        assertThat(plan.unwrap()).isFalse();
+        assertThat(plan.staticAction()).isEqualTo(EventActions.CREATE);
+        assertThat(plan.hasActionExpression()).isFalse();
+        assertThat(plan.actionSpEL()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {void.class, Void.class})
+    void whenMethodHasNoReturnTypePlanDoesNotReturnValue(Class<?> returnType) {
+        when(methodSignature.getReturnType()).thenReturn(returnType);
+
+        assertThat(EmissionPlan.of(methodSignature, configuration).returnsValue()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "\t"})
+    void whenActionIsBlankStaticActionIsNone(String action) {
+        when(configuration.action()).thenReturn(action);
+
+        assertThat(EmissionPlan.of(methodSignature, configuration).staticAction()).isEqualTo(EventActions.NONE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "\t"})
+    void whenActionSpELIsBlankPlanHasNoActionExpression(String actionSpEL) {
+        when(configuration.actionSpEL()).thenReturn(actionSpEL);
+
+        assertThat(EmissionPlan.of(methodSignature, configuration).hasActionExpression()).isFalse();
+    }
+
+    @Test
+    void whenActionSpELIsSetPlanHasActionExpression() {
+        when(configuration.actionSpEL()).thenReturn("payload");
+
+        final var plan = EmissionPlan.of(methodSignature, configuration);
+
+        assertThat(plan.hasActionExpression()).isTrue();
+        assertThat(plan.actionSpEL()).isEqualTo("payload");
+    }
+
+    public static class AnnotatedMethods {
+        @EmitBusinessEvent(action = EventActions.CREATE, skipUnwrap = true)
+        public String withStaticAction() {
+            return "payload";
+        }
+    }
+}
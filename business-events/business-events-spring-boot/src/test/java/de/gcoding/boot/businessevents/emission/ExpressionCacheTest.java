@@ -0,0 +1,56 @@
+package de.gcoding.boot.businessevents.emission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExpressionCacheTest {
+    final SpelExpressionParser parser = new SpelExpressionParser();
+
+    @Test
+    void whenExpressionIsRequestedTwiceTheSameInstanceIsReturned() {
+        final var cache = new ExpressionCache(parser, 10);
+
+        final var first = cache.get("payload");
+        final var second = cache.get("payload");
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void whenMaxSizeIsReachedEntriesAreEvicted() {
+        final var cache = new ExpressionCache(parser, 2);
+
+        cache.get("'first'");
+        cache.get("'second'");
+        cache.get("'third'");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    void whenMaxSizeIsReachedTheLeastRecentlyUsedEntryIsEvicted() {
+        final var cache = new ExpressionCache(parser, 2);
+        final var first = cache.get("'first'");
+        cache.get("'second'");
+        cache.get("'first'");
+
+        cache.get("'third'");
+
+        assertThat(cache.get("'first'")).isSameAs(first);
+        assertThat(cache.getMissCount()).isEqualTo(3);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenMaxSizeIsNotPositiveAnExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpressionCache(parser, 0));
+    }
+}
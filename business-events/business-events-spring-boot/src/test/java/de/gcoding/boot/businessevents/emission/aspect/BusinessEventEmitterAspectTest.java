@@ -1,7 +1,13 @@
 package de.gcoding.boot.businessevents.emission.aspect;
 
+import de.gcoding.boot.businessevents.BatchEventPublisher;
 import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.EventActions;
 import de.gcoding.boot.businessevents.emission.BusinessEventsFactory;
+import de.gcoding.boot.businessevents.emission.unwrapper.DeferredEventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptionRegistry;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptions;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.FieldSignature;
 import org.aspectj.lang.reflect.MethodSignature;
@@ -17,14 +23,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.Ordered;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -71,6 +83,197 @@ class BusinessEventEmitterAspectTest {
         assertThatMultipleEventsAreEmittedWithPayloads("first", "second", "third");
     }
 
+    @Test
+    void whenStreamingIsEnabledEventsArePublishedWhileTheyAreCreated() throws Throwable {
+        final var log = new ArrayList<String>();
+        businessEventEmitterAspect = new BusinessEventEmitterAspect(
+            businessEventsFactory,
+            eventPublisher,
+            DEFAULT_ORDER,
+            true,
+            1,
+            DeferredEventPayloadUnwrapper.NOOP,
+            BusinessEventSubscriptions.ANY,
+            BusinessEventsMetrics.NOOP
+        );
+        whenMethodExecutedSuccessfullyAndReturns("irrelevant-payload-for-test");
+        whenEventsAreStreamedWithPayloads(log, "first", "second", "third");
+        doAnswer(i -> log.add("publish " + i.<BusinessEvent>getArgument(0).getPayload())).when(eventPublisher).publishEvent(any(BusinessEvent.class));
+
+        businessEventEmitterAspect.emitEvents(joinPoint, this, configuration);
+
+        assertThat(log).containsExactly(
+            "create first", "publish first",
+            "create second", "publish second",
+            "create third", "publish third"
+        );
+    }
+
+    @Test
+    void whenStreamingIsEnabledWithChunkSizeEventsArePublishedInChunks() throws Throwable {
+        final var log = new ArrayList<String>();
+        businessEventEmitterAspect = new BusinessEventEmitterAspect(
+            businessEventsFactory,
+            eventPublisher,
+            DEFAULT_ORDER,
+            true,
+            2,
+            DeferredEventPayloadUnwrapper.NOOP,
+            BusinessEventSubscriptions.ANY,
+            BusinessEventsMetrics.NOOP
+        );
+        whenMethodExecutedSuccessfullyAndReturns("irrelevant-payload-for-test");
+        whenEventsAreStreamedWithPayloads(log, "first", "second", "third");
+        doAnswer(i -> log.add("publish " + i.<BusinessEvent>getArgument(0).getPayload())).when(eventPublisher).publishEvent(any(BusinessEvent.class));
+
+        businessEventEmitterAspect.emitEvents(joinPoint, this, configuration);
+
+        assertThat(log).containsExactly(
+            "create first", "create second", "publish first", "publish second",
+            "create third", "publish third"
+        );
+    }
+
+    @Test
+    void whenThePublisherPublishesBatchesEachChunkIsPublishedAtOnce() throws Throwable {
+        final var log = new ArrayList<String>();
+        final var batchEventPublisher = mock(BatchApplicationEventPublisher.class);
+        businessEventEmitterAspect = new BusinessEventEmitterAspect(
+            businessEventsFactory,
+            batchEventPublisher,
+            DEFAULT_ORDER,
+            true,
+            2,
+            DeferredEventPayloadUnwrapper.NOOP,
+            BusinessEventSubscriptions.ANY,
+            BusinessEventsMetrics.NOOP
+        );
+        whenMethodExecutedSuccessfullyAndReturns("irrelevant-payload-for-test");
+        whenEventsAreStreamedWithPayloads(log, "first", "second", "third");
+        doAnswer(i -> log.add("publish " + i.<List<BusinessEvent>>getArgument(0).stream().map(BusinessEvent::getPayload).toList()))
+            .when(batchEventPublisher).publishEvents(any());
+
+        businessEventEmitterAspect.emitEvents(joinPoint, this, configuration);
+
+        assertThat(log).containsExactly(
+            "create first", "create second", "publish [first, second]",
+            "create third", "publish [third]"
+        );
+        verify(batchEventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void whenThePublisherPublishesBatchesAllEventsOfAMethodCallArePublishedAtOnce() throws Throwable {
+        final var batchEventPublisher = mock(BatchApplicationEventPublisher.class);
+        businessEventEmitterAspect = new BusinessEventEmitterAspect(
+            businessEventsFactory,
+            batchEventPublisher,
+            DEFAULT_ORDER,
+            false,
+            1,
+            DeferredEventPayloadUnwrapper.NOOP,
+            BusinessEventSubscriptions.ANY,
+            BusinessEventsMetrics.NOOP
+        );
+        whenMethodExecutedSuccessfullyAndReturns("irrelevant-payload-for-test");
+        whenMultipleEventsAreGeneratedWithPayloads("first", "second", "third");
+
+        businessEventEmitterAspect.emitEvents(joinPoint, this, configuration);
+
+        verify(batchEventPublisher).publishEvents(argThat(events -> events.size() == 3));
+        verify(batchEventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void whenChunkSizeIsNotPositiveAnExceptionIsThrown(int chunkSize) {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new BusinessEventEmitterAspect(
+                businessEventsFactory,
+                eventPublisher,
+                DEFAULT_ORDER,
+                true,
+                chunkSize,
+                DeferredEventPayloadUnwrapper.NOOP,
+                BusinessEventSubscriptions.ANY,
+                BusinessEventsMetrics.NOOP
+            )
+        );
+    }
+
+    @Test
+    void whenReturnValueIsDeferredTheDecoratedValueIsReturnedAndEventsAreEmittedOnArrival() throws Throwable {
+        final var arrivedPayloads = new ArrayList<Consumer<Object>>();
+        businessEventEmitterAspect = new BusinessEventEmitterAspect(businessEventsFactory, eventPublisher, DEFAULT_ORDER, false, 1,
+            (payload, payloadConsumer, source, method, config) -> {
+                arrivedPayloads.add(payloadConsumer);
+                return Optional.of("decorated");
+            }, BusinessEventSubscriptions.ANY, BusinessEventsMetrics.NOOP);
+        whenMethodExecutedSuccessfullyAndReturns("deferred-payload");
+        whenASingleEventIsGeneratedWithTheReturnValueAsPayload();
+
+        final var returnValue = businessEventEmitterAspect.emitEvents(joinPoint, this, configuration);
+
+        assertThat(returnValue).isEqualTo("decorated");
+        verify(eventPublisher, never()).publishEvent(any(BusinessEvent.class));
+
+        arrivedPayloads.forEach(payloadConsumer -> payloadConsumer.accept("arrived"));
+
+        assertThatOneEventIsEmittedWithPayload("arrived");
+    }
+
+    @Test
+    void whenUnwrappingIsSkippedReturnValueIsNotDeferred() throws Throwable {
+        businessEventEmitterAspect = new BusinessEventEmitterAspect(businessEventsFactory, eventPublisher, DEFAULT_ORDER, false, 1,
+            (payload, payloadConsumer, source, method, config) -> {
+                throw new IllegalStateException("should not be executed");
+            }, BusinessEventSubscriptions.ANY, BusinessEventsMetrics.NOOP);
+        when(configuration.skipUnwrap()).thenReturn(true);
+        whenMethodExecutedSuccessfullyAndReturns("payload");
+        whenASingleEventIsGeneratedWithTheReturnValueAsPayload();
+
+        final var returnValue = businessEventEmitterAspect.emitEvents(joinPoint, this, configuration);
+
+        assertThat(returnValue).isEqualTo("payload");
+        assertThatOneEventIsEmittedWithPayload("payload");
+    }
+
+    @Test
+    void whenNoListenerSubscribedToTheEventsOfTheMethodNoEventIsCreated() throws Throwable {
+        final var subscriptions = new BusinessEventSubscriptionRegistry();
+        subscriptions.subscribe(Integer.class, List.of());
+        subscriptions.activate();
+        businessEventEmitterAspect = new BusinessEventEmitterAspect(businessEventsFactory, eventPublisher, DEFAULT_ORDER, false, 1,
+            (payload, payloadConsumer, source, method, config) -> {
+                throw new IllegalStateException("should not be executed");
+            }, subscriptions, BusinessEventsMetrics.NOOP);
+        when(configuration.skipUnwrap()).thenReturn(true);
+        whenMethodExecutedSuccessfullyAndReturns("payload");
+
+        final var returnValue = businessEventEmitterAspect.emitEvents(joinPoint, this, configuration);
+
+        assertThat(returnValue).isEqualTo("payload");
+        verify(businessEventsFactory, never()).createBusinessEvents(any(), any(), any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(BusinessEvent.class));
+    }
+
+    @Test
+    void whenListenerSubscribedToTheActionOfTheMethodEventsAreEmitted() throws Throwable {
+        final var subscriptions = new BusinessEventSubscriptionRegistry();
+        subscriptions.subscribe(Object.class, List.of(EventActions.CREATE));
+        subscriptions.activate();
+        businessEventEmitterAspect = new BusinessEventEmitterAspect(businessEventsFactory, eventPublisher, DEFAULT_ORDER, false, 1,
+            DeferredEventPayloadUnwrapper.NOOP, subscriptions, BusinessEventsMetrics.NOOP);
+        when(configuration.action()).thenReturn(EventActions.CREATE);
+        whenMethodExecutedSuccessfullyAndReturns("payload");
+        whenASingleEventIsGeneratedWithTheReturnValueAsPayload();
+
+        businessEventEmitterAspect.emitEvents(joinPoint, this, configuration);
+
+        assertThatOneEventIsEmittedWithPayload("payload");
+    }
+
     @Test
     void whenJoinPointIsNotAMethodExecutionAnExceptionShouldBeThrown() {
         when(joinPoint.getSignature()).thenReturn(mock(FieldSignature.class));
@@ -125,15 +328,22 @@ class BusinessEventEmitterAspectTest {
     }
 
     private void whenASingleEventIsGeneratedWithTheReturnValueAsPayload() {
-        when(businessEventsFactory.createBusinessEvents(any(), eq(this), eq(methodSignature), eq(configuration)))
+        when(businessEventsFactory.createBusinessEvents(any(), eq(this), eq(methodSignature), eq(configuration), any()))
             .then(i -> List.of(BusinessEvent.withPayload(i.getArgument(0)).build()));
     }
 
     private void whenMultipleEventsAreGeneratedWithPayloads(Object... payloads) {
-        when(businessEventsFactory.createBusinessEvents(any(), eq(this), eq(methodSignature), eq(configuration)))
+        when(businessEventsFactory.createBusinessEvents(any(), eq(this), eq(methodSignature), eq(configuration), any()))
             .then(i -> Arrays.stream(payloads).map(p -> BusinessEvent.withPayload(p).build()).toList());
     }
 
+    private void whenEventsAreStreamedWithPayloads(List<String> log, Object... payloads) {
+        when(businessEventsFactory.streamBusinessEvents(any(), eq(this), eq(methodSignature), eq(configuration), any()))
+            .then(i -> Arrays.stream(payloads)
+                .peek(p -> log.add("create " + p))
+                .map(p -> BusinessEvent.withPayload(p).build()));
+    }
+
     private void assertThatOneEventIsEmittedWithPayload(Object payload) {
         assertThatMultipleEventsAreEmittedWithPayloads(payload);
     }
@@ -148,6 +358,18 @@ class BusinessEventEmitterAspectTest {
     }
 
     private void setupTestObject(int order) {
-        businessEventEmitterAspect = new BusinessEventEmitterAspect(businessEventsFactory, eventPublisher, order);
+        businessEventEmitterAspect = new BusinessEventEmitterAspect(
+            businessEventsFactory,
+            eventPublisher,
+            order,
+            false,
+            1,
+            DeferredEventPayloadUnwrapper.NOOP,
+            BusinessEventSubscriptions.ANY,
+            BusinessEventsMetrics.NOOP
+        );
+    }
+
+    interface BatchApplicationEventPublisher extends ApplicationEventPublisher, BatchEventPublisher {
     }
 }
\ No newline at end of file
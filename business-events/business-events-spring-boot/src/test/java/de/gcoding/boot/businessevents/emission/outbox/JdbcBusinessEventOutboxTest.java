@@ -0,0 +1,210 @@
+package de.gcoding.boot.businessevents.emission.outbox;
+
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.codec.JavaPayloadSerializer;
+import de.gcoding.boot.businessevents.emission.outbox.BusinessEventOutbox.OutboxEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdbcBusinessEventOutboxTest {
+    EmbeddedDatabase database;
+    TransactionTemplate transactionTemplate;
+    JdbcBusinessEventOutbox outbox;
+
+    @BeforeEach
+    void beforeEach() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        outbox = new JdbcBusinessEventOutbox(
+            new JdbcTemplate(database),
+            new JavaPayloadSerializer(),
+            JdbcBusinessEventOutbox.detectDialect(database),
+            JdbcBusinessEventOutbox.DEFAULT_TABLE_NAME
+        );
+        outbox.createSchema();
+    }
+
+    @AfterEach
+    void afterEach() {
+        database.shutdown();
+    }
+
+    @Test
+    void dialectIsDetectedFromDataSource() {
+        assertThat(outbox.getDialect()).isEqualTo(OutboxDialect.H2);
+    }
+
+    @Test
+    void creatingSchemaTwiceSucceeds() {
+        outbox.createSchema();
+
+        assertThat(outbox.countPending()).isZero();
+    }
+
+    @Test
+    void appendedEventsAreClaimedWithAllTheirData() {
+        final var eventData = new BusinessEventData(
+            UUID.randomUUID(),
+            "payload",
+            "CREATED",
+            ZonedDateTime.of(2024, 5, 17, 13, 37, 42, 123_456_789, ZoneId.of("Europe/Berlin")),
+            Map.of("key", "value", "special &=%", "ümlaut & more=")
+        );
+
+        outbox.append(List.of(eventData));
+        final var claimed = claimInTransaction(10);
+
+        assertThat(claimed).singleElement()
+            .extracting(OutboxEntry::eventData)
+            .isEqualTo(eventData);
+    }
+
+    @Test
+    void eventsAreClaimedInTheOrderTheyWereAppendedUpToTheLimit() {
+        outbox.append(List.of(event("first"), event("second"), event("third")));
+
+        final var claimed = claimInTransaction(2);
+
+        assertThat(claimed).extracting(entry -> entry.eventData().payload()).containsExactly("first", "second");
+    }
+
+    @Test
+    void processedEventsAreNotClaimedAgain() {
+        outbox.append(List.of(event("first"), event("second"), event("third")));
+
+        transactionTemplate.executeWithoutResult(status -> outbox.markProcessed(outbox.claim(2)));
+        final var claimed = claimInTransaction(10);
+
+        assertThat(claimed).extracting(entry -> entry.eventData().payload()).containsExactly("third");
+        assertThat(outbox.countPending()).isOne();
+    }
+
+    @Test
+    void eventsAppendedWithinRolledBackTransactionAreDiscarded() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(List.of(event("payload")));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outbox.countPending()).isZero();
+    }
+
+    @Test
+    void eventsLockedByAnotherTransactionAreSkipped() throws Exception {
+        outbox.append(List.of(event("first"), event("second"), event("third")));
+        final var claimedByOther = new CountDownLatch(1);
+        final var releaseOther = new CountDownLatch(1);
+
+        final var other = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            final var entries = outbox.claim(2);
+            claimedByOther.countDown();
+            await(releaseOther);
+            return entries;
+        }));
+
+        assertThat(claimedByOther.await(5, TimeUnit.SECONDS)).isTrue();
+        final var claimed = claimInTransaction(10);
+        releaseOther.countDown();
+
+        assertThat(claimed).extracting(entry -> entry.eventData().payload()).containsExactly("third");
+        assertThat(other.get(5, TimeUnit.SECONDS))
+            .extracting(entry -> entry.eventData().payload())
+            .containsExactly("first", "second");
+    }
+
+    @Test
+    void eventsAreParkedOnceTheyFailedMaxAttemptsTimes() {
+        outbox.append(List.of(event("first"), event("second")));
+        final var firstId = claimInTransaction(1).getFirst().id();
+
+        assertThat(outbox.recordFailure(firstId, 2)).isOne();
+        assertThat(claimInTransaction(10)).hasSize(2);
+        assertThat(outbox.recordFailure(firstId, 2)).isEqualTo(2);
+
+        assertThat(claimInTransaction(10)).extracting(entry -> entry.eventData().payload()).containsExactly("second");
+        assertThat(outbox.countPending()).isOne();
+        assertThat(outbox.countParked()).isOne();
+    }
+
+    @Test
+    void whenPendingEventCannotBeReadClaimingFailsWithItsId() {
+        outbox.append(List.of(event("payload")));
+        final var id = claimInTransaction(1).getFirst().id();
+        new JdbcTemplate(database).update("UPDATE business_event_outbox SET payload = ? WHERE id = ?", new byte[]{1, 2, 3}, id);
+
+        assertThatThrownBy(() -> claimInTransaction(10))
+            .isInstanceOfSatisfying(OutboxEntryException.class, e -> assertThat(e.getEntryId()).isEqualTo(id));
+    }
+
+    @Test
+    void appendingNoEventsDoesNothing() {
+        outbox.append(List.of());
+
+        assertThat(outbox.countPending()).isZero();
+    }
+
+    @Test
+    void claimingWithoutPositiveLimitFails() {
+        assertThatThrownBy(() -> outbox.claim(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tableNameMustBeValidIdentifier() {
+        final var jdbcTemplate = new JdbcTemplate(database);
+        final var serializer = new JavaPayloadSerializer();
+
+        assertThatThrownBy(() -> new JdbcBusinessEventOutbox(jdbcTemplate, serializer, OutboxDialect.H2, "outbox; DROP TABLE x"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new JdbcBusinessEventOutbox(jdbcTemplate, serializer, OutboxDialect.H2, "PUBLIC.outbox").getTableName())
+            .isEqualTo("PUBLIC.outbox");
+    }
+
+    @Test
+    void metadataIsEncodedAndDecodedLosslessly() {
+        final var metadata = Map.of("a", "1", "b&c", "d=e", "empty", "");
+
+        final var decoded = JdbcBusinessEventOutbox.decodeMetadata(JdbcBusinessEventOutbox.encodeMetadata(metadata));
+
+        assertThat(decoded).isEqualTo(metadata);
+        assertThat(JdbcBusinessEventOutbox.encodeMetadata(Map.of())).isNull();
+        assertThat(JdbcBusinessEventOutbox.decodeMetadata(null)).isEmpty();
+    }
+
+    private List<OutboxEntry> claimInTransaction(int limit) {
+        return transactionTemplate.execute(status -> outbox.claim(limit));
+    }
+
+    private static BusinessEventData event(Object payload) {
+        return new BusinessEventData(payload, "ACTION");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package de.gcoding.boot.businessevents.emission.outbox;
+
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.emission.outbox.BusinessEventOutbox.OutboxEntry;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxBusinessEventPublisherTest {
+    final RecordingOutbox outbox = new RecordingOutbox();
+    final List<Object> delegatedEvents = new ArrayList<>();
+    OutboxBusinessEventPublisher publisher;
+
+    @BeforeEach
+    void beforeEach() {
+        publisher = new OutboxBusinessEventPublisher(outbox, delegatedEvents::add);
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void whenNoTransactionIsActiveEventIsAppendedImmediately() {
+        final var event = BusinessEvent.withPayload("payload").build(this);
+
+        publisher.publishEvent(event);
+
+        assertThat(outbox.appends).containsExactly(List.of(event.getEventData()));
+        assertThat(delegatedEvents).isEmpty();
+    }
+
+    @Test
+    void eventsThatAreNotBusinessEventsArePassedToDelegate() {
+        publisher.publishEvent("event");
+
+        assertThat(delegatedEvents).containsExactly("event");
+        assertThat(outbox.appends).isEmpty();
+    }
+
+    @Test
+    void whenTransactionIsActiveEventsAreAppendedInOneBatchBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        final var first = BusinessEvent.withPayload("first").build(this);
+        final var second = BusinessEvent.withPayload("second").build(this);
+
+        publisher.publishEvent(first);
+        publisher.publishEvent(second);
+        assertThat(outbox.appends).isEmpty();
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(outbox.appends).containsExactly(List.of(first.getEventData(), second.getEventData()));
+        assertThat(TransactionSynchronizationManager.getResource(publisher)).isNull();
+    }
+
+    @Test
+    void whenTransactionIsRolledBackEventsAreDropped() {
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publishEvent(BusinessEvent.withPayload("payload").build(this));
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(outbox.appends).isEmpty();
+        assertThat(TransactionSynchronizationManager.getResource(publisher)).isNull();
+    }
+
+    @Test
+    void whenEventIsPublishedAfterBufferWasWrittenItIsAppendedImmediately() {
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publishEvent(BusinessEvent.withPayload("first").build(this));
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+        final var late = BusinessEvent.withPayload("late").build(this);
+        publisher.publishEvent(late);
+
+        assertThat(outbox.appends).hasSize(2);
+        assertThat(outbox.appends.get(1)).containsExactly(late.getEventData());
+    }
+
+    @Test
+    void payloadsOfBatchEventsAreAppendedAsIndividualEvents() {
+        final var batch = new BatchBusinessEvent(this, new BusinessEventData(List.of("a", "b"), "CREATED"));
+
+        publisher.publishEvent(batch);
+
+        assertThat(outbox.appends).singleElement().satisfies(events -> {
+            assertThat(events).extracting(BusinessEventData::payload).containsExactly("a", "b");
+            assertThat(events).extracting(BusinessEventData::action).containsOnly("CREATED");
+            assertThat(events).containsExactly(batch.getElementEventData(0), batch.getElementEventData(1));
+            assertThat(events).extracting(BusinessEventData::id).doesNotHaveDuplicates();
+        });
+    }
+
+    private void completeTransaction(int status) {
+        final var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        }
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    static class RecordingOutbox implements BusinessEventOutbox {
+        final List<List<BusinessEventData>> appends = new ArrayList<>();
+
+        @Override
+        public void append(@Nonnull List<BusinessEventData> events) {
+            appends.add(List.copyOf(events));
+        }
+
+        @Nonnull
+        @Override
+        public List<OutboxEntry> claim(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public void markProcessed(@Nonnull List<OutboxEntry> entries) {
+        }
+
+        @Override
+        public int recordFailure(long entryId, int maxAttempts) {
+            return 0;
+        }
+
+        @Override
+        public long countPending() {
+            return 0;
+        }
+
+        @Override
+        public long countParked() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package de.gcoding.boot.businessevents.emission.outbox;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxDialectTest {
+    @ParameterizedTest
+    @CsvSource({
+        "H2, H2",
+        "PostgreSQL, POSTGRESQL",
+        "MySQL, MYSQL",
+        "MariaDB, MARIADB",
+        "Oracle, GENERIC",
+        "Microsoft SQL Server, GENERIC"
+    })
+    void dialectIsDeterminedFromDatabaseProductName(String productName, OutboxDialect expectedDialect) {
+        assertThat(OutboxDialect.fromDatabaseProductName(productName)).isEqualTo(expectedDialect);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "H2, true",
+        "POSTGRESQL, true",
+        "MYSQL, true",
+        "MARIADB, true",
+        "GENERIC, false"
+    })
+    void onlyGenericDialectDoesNotSkipLockedRows(OutboxDialect dialect, boolean expectedSkipLocked) {
+        assertThat(dialect.supportsSkipLocked()).isEqualTo(expectedSkipLocked);
+        assertThat(dialect.lockClause()).endsWith(expectedSkipLocked ? "SKIP LOCKED" : "FOR UPDATE");
+    }
+}
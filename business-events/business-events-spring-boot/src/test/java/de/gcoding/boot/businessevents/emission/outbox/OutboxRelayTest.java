@@ -0,0 +1,266 @@
+package de.gcoding.boot.businessevents.emission.outbox;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.emission.outbox.BusinessEventOutbox.OutboxEntry;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class OutboxRelayTest {
+    final InMemoryOutbox outbox = new InMemoryOutbox();
+    final List<Object> publishedEvents = new CopyOnWriteArrayList<>();
+    OutboxRelay relay;
+
+    @AfterEach
+    void afterEach() {
+        if (relay != null) {
+            relay.stop();
+        }
+    }
+
+    @Test
+    void relayBatchPublishesClaimedEventsAndMarksThemProcessed() {
+        relay = createRelay(2);
+        outbox.add("first", "second", "third");
+
+        final var relayed = relay.relayBatch();
+
+        assertThat(relayed).isEqualTo(2);
+        assertThat(publishedEvents)
+            .extracting(event -> ((BusinessEvent) event).getPayload())
+            .containsExactly("first", "second");
+        assertThat(publishedEvents).allSatisfy(event -> assertThat(((BusinessEvent) event).getSource()).isSameAs(relay));
+        assertThat(outbox.countPending()).isOne();
+    }
+
+    @Test
+    void relayedEventsKeepTheirEventData() {
+        relay = createRelay(10);
+        final var eventData = outbox.add("payload").getFirst();
+
+        relay.relayBatch();
+
+        assertThat(publishedEvents).singleElement()
+            .satisfies(event -> assertThat(((BusinessEvent) event).getEventData()).isEqualTo(eventData));
+    }
+
+    @Test
+    void relayPendingDrainsOutboxInBatches() {
+        relay = createRelay(2);
+        outbox.add("1", "2", "3", "4", "5");
+
+        final var relayed = relay.relayPending();
+
+        assertThat(relayed).isEqualTo(5);
+        assertThat(outbox.claims).isEqualTo(3);
+        assertThat(relay.getRelayedCount()).isEqualTo(5);
+        assertThat(outbox.countPending()).isZero();
+    }
+
+    @Test
+    void whenPublishingFailsEventIsNotMarkedProcessedAndItsFailureIsRecorded() {
+        relay = createRelay(event -> {
+            throw new IllegalStateException("listener failed");
+        }, 10, Duration.ofSeconds(1), OutboxRelay.DEFAULT_MAX_ATTEMPTS);
+        outbox.add("payload");
+
+        final var relayed = relay.relayBatch();
+
+        assertThat(relayed).isZero();
+        assertThat(outbox.countPending()).isOne();
+        assertThat(outbox.attempts).containsExactly(entry(1L, 1));
+        assertThat(relay.getFailedCount()).isOne();
+    }
+
+    @Test
+    void whenPublishingAnEventFailsTheHealthyEventsOfTheBatchAreProcessed() {
+        relay = createRelay(event -> {
+            if ("poison".equals(((BusinessEvent) event).getPayload())) {
+                throw new IllegalStateException("listener failed");
+            }
+
+            publishedEvents.add(event);
+        }, 10, Duration.ofSeconds(1), OutboxRelay.DEFAULT_MAX_ATTEMPTS);
+        outbox.add("poison", "first", "second");
+
+        final var relayed = relay.relayBatch();
+
+        assertThat(relayed).isEqualTo(2);
+        assertThat(publishedEvents)
+            .extracting(event -> ((BusinessEvent) event).getPayload())
+            .containsExactly("first", "second");
+        assertThat(outbox.pending).singleElement()
+            .satisfies(entry -> assertThat(entry.eventData().payload()).isEqualTo("poison"));
+    }
+
+    @Test
+    void whenAnEventFailsMaxAttemptsTimesItIsParked() {
+        relay = createRelay(event -> {
+            throw new IllegalStateException("listener failed");
+        }, 10, Duration.ofSeconds(1), 3);
+        outbox.add("poison");
+
+        relay.relayPending();
+        relay.relayPending();
+        assertThat(outbox.countParked()).isZero();
+        relay.relayPending();
+
+        assertThat(outbox.countParked()).isOne();
+        assertThat(outbox.countPending()).isZero();
+        assertThat(relay.getFailedCount()).isEqualTo(3);
+        assertThat(relay.getParkedCount()).isOne();
+    }
+
+    @Test
+    void whenAnEventCannotBeReadItIsParkedAfterMaxAttemptsAndNoLongerBlocksTheOutbox() {
+        relay = createRelay(publishedEvents::add, 10, Duration.ofSeconds(1), 2);
+        outbox.add("unreadable", "healthy");
+        outbox.unreadableIds.add(1L);
+
+        assertThatThrownBy(relay::relayPending).isInstanceOf(OutboxEntryException.class);
+        assertThat(publishedEvents).isEmpty();
+
+        relay.relayPending();
+
+        assertThat(publishedEvents)
+            .extracting(event -> ((BusinessEvent) event).getPayload())
+            .containsExactly("healthy");
+        assertThat(outbox.countParked()).isOne();
+    }
+
+    @Test
+    void whenStartedOutboxIsPolledUntilStopped() throws InterruptedException {
+        final var published = new CountDownLatch(2);
+        relay = createRelay(event -> {
+            publishedEvents.add(event);
+            published.countDown();
+        }, 10, Duration.ofMillis(10), OutboxRelay.DEFAULT_MAX_ATTEMPTS);
+        outbox.add("first");
+
+        relay.start();
+        assertThat(relay.isRunning()).isTrue();
+        outbox.add("second");
+
+        assertThat(published.await(5, TimeUnit.SECONDS)).isTrue();
+        relay.stop();
+        assertThat(relay.isRunning()).isFalse();
+    }
+
+    @Test
+    void invalidConfigurationIsRejected() {
+        final var pollInterval = Duration.ofSeconds(1);
+        final var maxAttempts = OutboxRelay.DEFAULT_MAX_ATTEMPTS;
+
+        assertThatThrownBy(() -> createRelay(publishedEvents::add, 0, pollInterval, maxAttempts))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> createRelay(publishedEvents::add, 1, Duration.ZERO, maxAttempts))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> createRelay(publishedEvents::add, 1, pollInterval, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OutboxRelay createRelay(int batchSize) {
+        return createRelay(publishedEvents::add, batchSize, Duration.ofSeconds(1), OutboxRelay.DEFAULT_MAX_ATTEMPTS);
+    }
+
+    private OutboxRelay createRelay(ApplicationEventPublisher delegate, int batchSize, Duration pollInterval, int maxAttempts) {
+        return new OutboxRelay(
+            outbox,
+            delegate,
+            TransactionOperations.withoutTransaction(),
+            batchSize,
+            pollInterval,
+            maxAttempts,
+            OutboxRelay.defaultThreadFactory()
+        );
+    }
+
+    static class InMemoryOutbox implements BusinessEventOutbox {
+        final List<OutboxEntry> pending = new ArrayList<>();
+        final List<OutboxEntry> parked = new ArrayList<>();
+        final Map<Long, Integer> attempts = new HashMap<>();
+        final Set<Long> unreadableIds = new HashSet<>();
+        long nextId = 1;
+        int claims;
+
+        synchronized List<BusinessEventData> add(Object... payloads) {
+            final var events = new ArrayList<BusinessEventData>();
+
+            for (final var payload : payloads) {
+                events.add(new BusinessEventData(payload, "ACTION"));
+            }
+
+            append(events);
+            return events;
+        }
+
+        @Override
+        public synchronized void append(@Nonnull List<BusinessEventData> events) {
+            for (final var eventData : events) {
+                pending.add(new OutboxEntry(nextId++, eventData));
+            }
+        }
+
+        @Nonnull
+        @Override
+        public synchronized List<OutboxEntry> claim(int limit) {
+            claims++;
+            final var claimed = List.copyOf(pending.subList(0, Math.min(limit, pending.size())));
+
+            for (final var entry : claimed) {
+                if (unreadableIds.contains(entry.id())) {
+                    throw new OutboxEntryException(entry.id(), "unreadable", new IllegalStateException());
+                }
+            }
+
+            return claimed;
+        }
+
+        @Override
+        public synchronized void markProcessed(@Nonnull List<OutboxEntry> entries) {
+            pending.removeAll(entries);
+        }
+
+        @Override
+        public synchronized int recordFailure(long entryId, int maxAttempts) {
+            final int entryAttempts = attempts.merge(entryId, 1, Integer::sum);
+
+            if (entryAttempts >= maxAttempts) {
+                pending.stream().filter(entry -> entry.id() == entryId).findFirst().ifPresent(entry -> {
+                    pending.remove(entry);
+                    parked.add(entry);
+                });
+            }
+
+            return entryAttempts;
+        }
+
+        @Override
+        public synchronized long countPending() {
+            return pending.size();
+        }
+
+        @Override
+        public synchronized long countParked() {
+            return parked.size();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package de.gcoding.boot.businessevents.emission.publisher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncBusinessEventPublisherTest {
+    static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+    final List<Object> publishedEvents = new CopyOnWriteArrayList<>();
+    final List<Thread> publishingThreads = new CopyOnWriteArrayList<>();
+    final CountDownLatch blockingEventReceived = new CountDownLatch(1);
+    final CountDownLatch releaseBlockingEvent = new CountDownLatch(1);
+    AsyncBusinessEventPublisher publisher;
+
+    @AfterEach
+    void afterEach() {
+        releaseBlockingEvent.countDown();
+        publisher.close();
+    }
+
+    @Test
+    void whenEventIsPublishedItIsPublishedThroughDelegateOnWorkerThread() {
+        publisher = givenAPublisher(10, OverflowPolicy.FAIL);
+
+        publisher.publishEvent("event");
+        publisher.close();
+
+        assertThat(publishedEvents).containsExactly("event");
+        assertThat(publishingThreads).doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    void whenASingleWorkerIsUsedEventsArePublishedInOrder() {
+        publisher = givenAPublisher(100, OverflowPolicy.BLOCK);
+
+        for (var i = 0; i < 100; i++) {
+            publisher.publishEvent(i);
+        }
+        publisher.close();
+
+        assertThat(publishedEvents).hasSize(100).isSorted();
+    }
+
+    @Test
+    void whenEventsArePublishedAsBatchTheyOccupyASingleQueueSlot() throws InterruptedException {
+        publisher = givenAPublisher(1, OverflowPolicy.FAIL);
+        publisher.publishEvent("blocking");
+        assertThat(blockingEventReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        publisher.publishEvents(List.of("event-1", "event-2", "event-3"));
+        releaseBlockingEvent.countDown();
+        publisher.close();
+
+        assertThat(publishedEvents).containsExactly("blocking", "event-1", "event-2", "event-3");
+        assertThat(publisher.getRejectedCount()).isZero();
+    }
+
+    @Test
+    void whenQueueIsFullAndPolicyIsFailAnExceptionIsThrown() throws InterruptedException {
+        publisher = givenAPublisherWithBlockedWorkerAndFullQueue(1, OverflowPolicy.FAIL);
+
+        assertThrows(BusinessEventPublicationRejectedException.class, () -> publisher.publishEvent("rejected"));
+        assertThat(publisher.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenQueueIsFullAndPolicyIsCallerRunsEventIsPublishedOnCallingThread() throws InterruptedException {
+        publisher = givenAPublisherWithBlockedWorkerAndFullQueue(1, OverflowPolicy.CALLER_RUNS);
+
+        publisher.publishEvent("caller");
+
+        assertThat(publishedEvents).containsExactly("caller");
+        assertThat(publishingThreads).containsExactly(Thread.currentThread());
+        assertThat(publisher.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenQueueIsFullAndPolicyIsDropOldestOldestQueuedEventIsDiscarded() throws InterruptedException {
+        publisher = givenAPublisherWithBlockedWorkerAndFullQueue(2, OverflowPolicy.DROP_OLDEST);
+
+        publisher.publishEvent("newest");
+        releaseBlockingEvent.countDown();
+        publisher.close();
+
+        assertThat(publishedEvents).containsExactly("blocking", "queued-1", "newest");
+        assertThat(publisher.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenQueueIsFullAndPolicyIsBlockPublisherWaitsForFreeSpace() throws Exception {
+        publisher = givenAPublisherWithBlockedWorkerAndFullQueue(1, OverflowPolicy.BLOCK);
+
+        final var blockedPublication = CompletableFuture.runAsync(() -> publisher.publishEvent("waiting"));
+        Thread.sleep(100);
+        assertThat(blockedPublication).isNotDone();
+
+        releaseBlockingEvent.countDown();
+        blockedPublication.get(5, TimeUnit.SECONDS);
+        publisher.close();
+
+        assertThat(publishedEvents).containsExactly("blocking", "queued-0", "waiting");
+    }
+
+    @Test
+    void whenEventsAreQueuedQueueDepthReflectsThem() throws InterruptedException {
+        publisher = givenAPublisherWithBlockedWorkerAndFullQueue(3, OverflowPolicy.FAIL);
+
+        assertThat(publisher.getQueueDepth()).isEqualTo(3);
+        assertThat(publisher.getQueueCapacity()).isEqualTo(3);
+    }
+
+    @Test
+    void whenDelegateFailsWorkerKeepsPublishing() {
+        publisher = new AsyncBusinessEventPublisher(
+            event -> {
+                if ("failing".equals(event)) {
+                    throw new IllegalStateException("listener failed");
+                }
+                publishedEvents.add(event);
+            },
+            10, 1, Thread.ofPlatform().factory(), OverflowPolicy.FAIL, SHUTDOWN_TIMEOUT
+        );
+
+        publisher.publishEvent("failing");
+        publisher.publishEvent("after");
+        publisher.close();
+
+        assertThat(publishedEvents).containsExactly("after");
+    }
+
+    @Test
+    void whenPublisherIsClosedEventsArePublishedSynchronously() {
+        publisher = givenAPublisher(10, OverflowPolicy.FAIL);
+        publisher.close();
+
+        publisher.publishEvent("after-close");
+
+        assertThat(publishedEvents).containsExactly("after-close");
+        assertThat(publishingThreads).containsExactly(Thread.currentThread());
+    }
+
+    private AsyncBusinessEventPublisher givenAPublisherWithBlockedWorkerAndFullQueue(int capacity, OverflowPolicy policy) throws InterruptedException {
+        final var newPublisher = givenAPublisher(capacity, policy);
+
+        newPublisher.publishEvent("blocking");
+        assertThat(blockingEventReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (var i = 0; i < capacity; i++) {
+            newPublisher.publishEvent("queued-" + i);
+        }
+
+        return newPublisher;
+    }
+
+    private AsyncBusinessEventPublisher givenAPublisher(int capacity, OverflowPolicy policy) {
+        return new AsyncBusinessEventPublisher(recordingPublisher(), capacity, 1, Thread.ofVirtual().factory(), policy, SHUTDOWN_TIMEOUT);
+    }
+
+    private ApplicationEventPublisher recordingPublisher() {
+        return event -> {
+            if ("blocking".equals(event)) {
+                blockingEventReceived.countDown();
+                awaitRelease();
+            }
+
+            publishingThreads.add(Thread.currentThread());
+            publishedEvents.add(event);
+        };
+    }
+
+    private void awaitRelease() {
+        try {
+            releaseBlockingEvent.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
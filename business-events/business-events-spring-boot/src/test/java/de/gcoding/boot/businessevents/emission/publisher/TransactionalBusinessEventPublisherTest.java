@@ -0,0 +1,113 @@
+package de.gcoding.boot.businessevents.emission.publisher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionalBusinessEventPublisherTest {
+    final List<Object> publishedEvents = new ArrayList<>();
+    TransactionalBusinessEventPublisher publisher;
+
+    @BeforeEach
+    void beforeEach() {
+        publisher = new TransactionalBusinessEventPublisher(publishedEvents::add);
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void whenNoTransactionIsActiveEventsArePublishedImmediately() {
+        publisher.publishEvent("event");
+
+        assertThat(publishedEvents).containsExactly("event");
+    }
+
+    @Test
+    void whenTransactionIsActiveEventsAreNotPublishedBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.publishEvent("event-1");
+        publisher.publishEvent("event-2");
+
+        assertThat(publishedEvents).isEmpty();
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+    }
+
+    @Test
+    void whenTransactionIsCommittedBufferedEventsArePublishedInOrder() {
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publishEvent("event-1");
+        publisher.publishEvent("event-2");
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(publishedEvents).containsExactly("event-1", "event-2");
+        assertThat(TransactionSynchronizationManager.getResource(publisher)).isNull();
+    }
+
+    @Test
+    void whenTransactionIsCommittedBufferedEventsArePublishedAsOneBatch() {
+        final var batches = new ArrayList<List<?>>();
+        publisher = new TransactionalBusinessEventPublisher(publishedEvents::add, batches::add);
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publishEvent("event-1");
+        publisher.publishEvent("event-2");
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(batches).containsExactly(List.of("event-1", "event-2"));
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    @Test
+    void whenTransactionIsRolledBackBufferedEventsAreDropped() {
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publishEvent("event-1");
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(publishedEvents).isEmpty();
+        assertThat(TransactionSynchronizationManager.getResource(publisher)).isNull();
+    }
+
+    @Test
+    void whenEventIsPublishedDuringAfterCommitItIsPublishedImmediately() {
+        publisher = new TransactionalBusinessEventPublisher(event -> {
+            publishedEvents.add(event);
+            if ("event".equals(event)) {
+                publisher.publishEvent("follow-up");
+            }
+        });
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publishEvent("event");
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(publishedEvents).containsExactly("event", "follow-up");
+    }
+
+    private void completeTransaction(int status) {
+        final var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        }
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,53 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ArrayUnwrapperTest {
+    @Mock
+    MethodSignature methodSignature;
+    @Mock
+    EmitBusinessEvent configuration;
+    ArrayUnwrapper unwrapper = new ArrayUnwrapper();
+
+    static List<Object> getUnsupportedTypes() {
+        return List.of(
+            new int[]{1, 2, 3},
+            List.of("first", "second"),
+            "value"
+        );
+    }
+
+    @Test
+    void whenObjectArrayIsPassedValuesAreUnwrapped() {
+        final var result = unwrapper.unwrap(new String[]{"first", "second", "third"}, this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(v -> assertThat(v).containsExactly("first", "second", "third"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getUnsupportedTypes")
+    void whenUnsupportedTypeIsPassedValueIsKeptUntouched(Object value) {
+        final var result = unwrapper.unwrap(value, this, methodSignature, configuration);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void supportedTypesIncludeAllObjectArrays() {
+        assertThat(unwrapper.getSupportedTypes())
+            .anyMatch(type -> type.isAssignableFrom(Integer[].class))
+            .noneMatch(type -> type.isAssignableFrom(int[].class));
+    }
+}
@@ -0,0 +1,95 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompletionStageUnwrapperTest {
+    @Mock
+    MethodSignature methodSignature;
+    @Mock
+    EmitBusinessEvent configuration;
+    List<Object> arrivedPayloads = new ArrayList<>();
+    CompletionStageUnwrapper unwrapper = new CompletionStageUnwrapper();
+
+    @ParameterizedTest
+    @ValueSource(classes = {CompletableFuture.class, CompletionStage.class, Future.class, Object.class})
+    void whenFutureCompletesSuccessfullyResultIsUnwrapped(Class<?> returnType) {
+        final var future = new CompletableFuture<String>();
+        doReturn(returnType);
+
+        final var result = unwrapper.unwrap(future, arrivedPayloads::add, this, methodSignature, configuration);
+        assertThat(result).hasValueSatisfying(value -> assertThat(value).isInstanceOf(returnType));
+        assertThat(arrivedPayloads).isEmpty();
+
+        future.complete("result");
+        assertThat(arrivedPayloads).containsExactly("result");
+        assertThat(result.map(CompletableFuture.class::cast)).hasValueSatisfying(value -> assertThat(value).isCompletedWithValue("result"));
+    }
+
+    @Test
+    void whenFutureCompletesExceptionallyNothingIsUnwrapped() {
+        final var future = new CompletableFuture<String>();
+        doReturn(CompletableFuture.class);
+
+        final var result = unwrapper.unwrap(future, arrivedPayloads::add, this, methodSignature, configuration);
+        future.completeExceptionally(new IllegalStateException("failed"));
+
+        assertThat(arrivedPayloads).isEmpty();
+        assertThat(result.map(CompletableFuture.class::cast)).hasValueSatisfying(value -> assertThat(value).isCompletedExceptionally());
+    }
+
+    @Test
+    void whenMinimalStageIsReturnedAsCompletionStageResultIsUnwrapped() {
+        final var future = new CompletableFuture<String>();
+        doReturn(CompletionStage.class);
+
+        final var result = unwrapper.unwrap(future.minimalCompletionStage(), arrivedPayloads::add, this, methodSignature, configuration);
+        future.complete("result");
+
+        assertThat(result).isPresent();
+        assertThat(arrivedPayloads).containsExactly("result");
+    }
+
+    @Test
+    void whenDependentStageIsNotAssignableToReturnTypeValueIsKeptUntouched() {
+        final var future = new CompletableFuture<String>();
+        doReturn(CustomFuture.class);
+
+        final var result = unwrapper.unwrap(future, arrivedPayloads::add, this, methodSignature, configuration);
+        future.complete("result");
+
+        assertThat(result).isEmpty();
+        assertThat(arrivedPayloads).isEmpty();
+    }
+
+    @Test
+    void whenUnsupportedTypeIsPassedValueIsKeptUntouched() {
+        final var result = unwrapper.unwrap(Optional.of("value"), arrivedPayloads::add, this, methodSignature, configuration);
+        assertThat(result).isEmpty();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void doReturn(Class<?> returnType) {
+        when(methodSignature.getReturnType()).thenReturn((Class) returnType);
+    }
+
+    static class CustomFuture<T> extends CompletableFuture<T> {
+    }
+}
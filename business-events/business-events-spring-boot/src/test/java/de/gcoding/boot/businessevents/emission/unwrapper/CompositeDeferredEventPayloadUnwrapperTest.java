@@ -0,0 +1,68 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CompositeDeferredEventPayloadUnwrapperTest {
+    static final String STRING_PAYLOAD = "payload";
+    static final Consumer<Object> PAYLOAD_CONSUMER = payload -> {
+    };
+    @Mock
+    MethodSignature methodSignature;
+    @Mock
+    EmitBusinessEvent configuration;
+
+    @Test
+    void whenEmptyListIsGivenNoUnwrappingTakesPlace() {
+        final var unwrapper = new CompositeDeferredEventPayloadUnwrapper(List.of());
+        final var result = unwrapper.unwrap(STRING_PAYLOAD, PAYLOAD_CONSUMER, this, methodSignature, configuration);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void whenNoUnwrapperIsAbleToUnwrapNoUnwrappingTakesPlace() {
+        final var unwrapper = new CompositeDeferredEventPayloadUnwrapper(List.of(
+            (p, pc, s, m, c) -> Optional.empty(),
+            (p, pc, s, m, c) -> Optional.empty()
+        ));
+        final var result = unwrapper.unwrap(STRING_PAYLOAD, PAYLOAD_CONSUMER, this, methodSignature, configuration);
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void whenUnwrapperIsAbleToUnwrapPayloadOthersAreSkipped() {
+        final var unwrapper = new CompositeDeferredEventPayloadUnwrapper(List.of(
+            (p, pc, s, m, c) -> Optional.empty(),
+            (p, pc, s, m, c) -> Optional.of("decorated"),
+            (p, pc, s, m, c) -> {
+                throw new IllegalStateException("should not be executed");
+            }
+        ));
+        final var result = unwrapper.unwrap(STRING_PAYLOAD, PAYLOAD_CONSUMER, this, methodSignature, configuration);
+        assertThat(result).contains("decorated");
+    }
+
+    @Test
+    void whenTypedUnwrapperDoesNotSupportPayloadTypeItIsNotInvoked() {
+        final var unwrapper = new CompositeDeferredEventPayloadUnwrapper(List.of(
+            new StreamUnwrapper(),
+            new CompletionStageUnwrapper()
+        ));
+        final var result = unwrapper.unwrap(STRING_PAYLOAD, PAYLOAD_CONSUMER, this, methodSignature, configuration);
+        assertThat(result).isEmpty();
+        verifyNoInteractions(methodSignature);
+    }
+}
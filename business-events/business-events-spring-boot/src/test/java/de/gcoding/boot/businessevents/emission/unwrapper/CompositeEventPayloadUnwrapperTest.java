@@ -1,17 +1,23 @@
 package de.gcoding.boot.businessevents.emission.unwrapper;
 
 import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
 class CompositeEventPayloadUnwrapperTest {
@@ -51,4 +57,135 @@ class CompositeEventPayloadUnwrapperTest {
         final var result = unwrapper.unwrap(STRING_PAYLOAD, this, methodSignature, configuration);
         assertThat(result).hasValueSatisfying(value -> assertThat(value).containsExactly("unwrapped"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenTypedUnwrapperDoesNotSupportPayloadTypeItIsNotInvoked() {
+        final var unwrapper = new CompositeEventPayloadUnwrapper(List.of(
+            new TypedMockUnwrapper(Set.of(Integer.class), "typed")
+        ));
+        final var result = unwrapper.unwrap(STRING_PAYLOAD, this, methodSignature, configuration);
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void whenTypedUnwrapperSupportsSuperTypeOfPayloadItIsInvoked() {
+        final var unwrapper = new CompositeEventPayloadUnwrapper(List.of(
+            new TypedMockUnwrapper(Set.of(Integer.class), "integer"),
+            new TypedMockUnwrapper(Set.of(CharSequence.class), "char-sequence")
+        ));
+        final var result = unwrapper.unwrap(STRING_PAYLOAD, this, methodSignature, configuration);
+        assertThat(result).hasValueSatisfying(value -> assertThat(value).containsExactly("char-sequence"));
+    }
+
+    @Test
+    void whenTypedAndUntypedUnwrappersAreMixedOrderIsHonored() {
+        final var unwrapper = new CompositeEventPayloadUnwrapper(List.of(
+            new TypedMockUnwrapper(Set.of(Integer.class), "integer"),
+            (p, s, m, c) -> Optional.of(Stream.of("untyped")),
+            new TypedMockUnwrapper(Set.of(String.class), "string")
+        ));
+        final var result = unwrapper.unwrap(STRING_PAYLOAD, this, methodSignature, configuration);
+        assertThat(result).hasValueSatisfying(value -> assertThat(value).containsExactly("untyped"));
+    }
+
+    @Test
+    void whenPayloadIsNullOnlyUntypedUnwrappersAreInvoked() {
+        final var unwrapper = new CompositeEventPayloadUnwrapper(List.of(
+            new TypedMockUnwrapper(Set.of(Object.class), "typed"),
+            (p, s, m, c) -> Optional.of(Stream.of("untyped"))
+        ));
+        final var result = unwrapper.unwrap(null, this, methodSignature, configuration);
+        assertThat(result).hasValueSatisfying(value -> assertThat(value).containsExactly("untyped"));
+    }
+
+    @Test
+    void whenSamePayloadTypeIsUnwrappedRepeatedlySupportedTypesAreOnlyResolvedOnce() {
+        final var typedUnwrapper = new TypedMockUnwrapper(Set.of(String.class), "typed");
+        final var unwrapper = new CompositeEventPayloadUnwrapper(List.of(typedUnwrapper));
+
+        unwrapper.unwrap("first", this, methodSignature, configuration);
+        unwrapper.unwrap("second", this, methodSignature, configuration);
+        unwrapper.unwrap(1, this, methodSignature, configuration);
+
+        assertThat(typedUnwrapper.numSupportedTypesRequested).isEqualTo(2);
+    }
+
+    @Test
+    void whenMaxDepthIsGreaterThanOneNestedPayloadsAreFlattened() {
+        final var unwrapper = new CompositeEventPayloadUnwrapper(List.of(new OptionalUnwrapper(), new CollectionUnwrapper()), 3);
+        final var payload = Optional.of(List.of(List.of("first", "second"), Set.of("third"), "fourth"));
+
+        final var result = unwrapper.unwrap(payload, this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(value -> assertThat(value).containsExactly("first", "second", "third", "fourth"));
+    }
+
+    @Test
+    void whenMaxDepthIsReachedNestedPayloadsAreKept() {
+        final var unwrapper = new CompositeEventPayloadUnwrapper(List.of(new OptionalUnwrapper(), new CollectionUnwrapper()), 2);
+        final var payload = Optional.of(List.of(List.of("first", "second"), "third"));
+
+        final var result = unwrapper.unwrap(payload, this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(value -> assertThat(value).containsExactly(List.of("first", "second"), "third"));
+    }
+
+    @Test
+    void whenDefaultMaxDepthIsUsedPayloadsAreOnlyUnwrappedOnce() {
+        final var unwrapper = new CompositeEventPayloadUnwrapper(List.of(new OptionalUnwrapper(), new CollectionUnwrapper()));
+        final var payload = Optional.of(List.of("first", "second"));
+
+        final var result = unwrapper.unwrap(payload, this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(value -> assertThat(value).containsExactly(List.of("first", "second")));
+    }
+
+    @Test
+    void whenNestedPayloadsAreFlattenedTheyAreUnwrappedLazily() {
+        final var unwrapper = new CompositeEventPayloadUnwrapper(List.of(
+            (p, s, m, c) -> p instanceof String string ? Optional.of(Stream.of(string + "-unwrapped")) : Optional.empty(),
+            new CollectionUnwrapper()
+        ), 2);
+
+        final var result = unwrapper.unwrap(List.of("first", "second"), this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(value -> assertThat(value.findFirst()).contains("first-unwrapped"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void whenMaxDepthIsNotPositiveAnExceptionIsThrown(int maxDepth) {
+        final var delegates = List.<EventPayloadUnwrapper>of();
+
+        assertThrows(IllegalArgumentException.class, () -> new CompositeEventPayloadUnwrapper(delegates, maxDepth));
+    }
+
+    static class TypedMockUnwrapper implements EventPayloadUnwrapper, TypedUnwrapper {
+        final Set<Class<?>> supportedTypes;
+        final String unwrapped;
+        int numSupportedTypesRequested;
+
+        TypedMockUnwrapper(Set<Class<?>> supportedTypes, String unwrapped) {
+            this.supportedTypes = supportedTypes;
+            this.unwrapped = unwrapped;
+        }
+
+        @Override
+        @Nonnull
+        public Optional<Stream<Object>> unwrap(
+            @Nullable Object payload,
+            @Nonnull Object emittingSource,
+            @Nonnull MethodSignature methodSignature,
+            @Nonnull EmitBusinessEvent configuration
+        ) {
+            return Optional.of(Stream.of(unwrapped));
+        }
+
+        @Override
+        @Nonnull
+        public Set<Class<?>> getSupportedTypes() {
+            numSupportedTypesRequested++;
+            return supportedTypes;
+        }
+    }
+}
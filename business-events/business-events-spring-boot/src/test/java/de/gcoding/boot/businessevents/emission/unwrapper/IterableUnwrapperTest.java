@@ -0,0 +1,61 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class IterableUnwrapperTest {
+    @Mock
+    MethodSignature methodSignature;
+    @Mock
+    EmitBusinessEvent configuration;
+    IterableUnwrapper unwrapper = new IterableUnwrapper();
+
+    @Test
+    void whenIterableIsPassedValuesAreUnwrapped() {
+        final Iterable<String> iterable = () -> List.of("first", "second", "third").iterator();
+        final var result = unwrapper.unwrap(iterable, this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(v -> assertThat(v).containsExactly("first", "second", "third"));
+    }
+
+    @Test
+    void whenIterableIsUnwrappedElementsAreIteratedLazily() {
+        final var numIterated = new AtomicInteger();
+        final Iterable<String> iterable = () -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String next() {
+                return "element-" + numIterated.incrementAndGet();
+            }
+        };
+
+        final var result = unwrapper.unwrap(iterable, this, methodSignature, configuration);
+
+        assertThat(numIterated).hasValue(0);
+        assertThat(result).hasValueSatisfying(v -> assertThat(v.limit(2)).containsExactly("element-1", "element-2"));
+        assertThat(numIterated).hasValue(2);
+    }
+
+    @Test
+    void whenUnsupportedTypeIsPassedValueIsKeptUntouched() {
+        final var result = unwrapper.unwrap(Map.of("key", "value"), this, methodSignature, configuration);
+
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,36 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class MapValuesUnwrapperTest {
+    @Mock
+    MethodSignature methodSignature;
+    @Mock
+    EmitBusinessEvent configuration;
+    MapValuesUnwrapper unwrapper = new MapValuesUnwrapper();
+
+    @Test
+    void whenMapIsPassedValuesAreUnwrapped() {
+        final var result = unwrapper.unwrap(Map.of("first", 1, "second", 2), this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(v -> assertThat(v).containsExactlyInAnyOrder(1, 2));
+    }
+
+    @Test
+    void whenUnsupportedTypeIsPassedValueIsKeptUntouched() {
+        final var result = unwrapper.unwrap(List.of("first"), this, methodSignature, configuration);
+
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactorUnwrapperTest {
+    @Mock
+    MethodSignature methodSignature;
+    @Mock
+    EmitBusinessEvent configuration;
+    List<Object> arrivedPayloads = new ArrayList<>();
+    ReactorUnwrapper unwrapper = new ReactorUnwrapper();
+
+    @Test
+    void whenMonoIsSubscribedValueIsUnwrapped() {
+        when(methodSignature.getReturnType()).thenReturn(Mono.class);
+
+        final var result = unwrapper.unwrap(Mono.just("value"), arrivedPayloads::add, this, methodSignature, configuration);
+        assertThat(arrivedPayloads).isEmpty();
+
+        assertThat(result).hasValueSatisfying(value -> assertThat(((Mono<?>) value).block()).isEqualTo("value"));
+        assertThat(arrivedPayloads).containsExactly("value");
+    }
+
+    @Test
+    void whenEmptyMonoIsSubscribedNothingIsUnwrapped() {
+        when(methodSignature.getReturnType()).thenReturn(Mono.class);
+
+        final var result = unwrapper.unwrap(Mono.empty(), arrivedPayloads::add, this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(value -> assertThat(((Mono<?>) value).block()).isNull());
+        assertThat(arrivedPayloads).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenFluxIsSubscribedEachElementIsUnwrapped() {
+        when(methodSignature.getReturnType()).thenReturn(Publisher.class);
+
+        final var result = unwrapper.unwrap(Flux.just("first", "second", "third"), arrivedPayloads::add, this, methodSignature, configuration);
+        assertThat(arrivedPayloads).isEmpty();
+
+        assertThat(result).hasValueSatisfying(value -> assertThat(((Flux<Object>) value).collectList().block()).containsExactly("first", "second", "third"));
+        assertThat(arrivedPayloads).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void whenUnsupportedTypeIsPassedValueIsKeptUntouched() {
+        final var result = unwrapper.unwrap(List.of("first"), arrivedPayloads::add, this, methodSignature, configuration);
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class SliceUnwrapperTest {
+    @Mock
+    MethodSignature methodSignature;
+    @Mock
+    EmitBusinessEvent configuration;
+    SliceUnwrapper unwrapper = new SliceUnwrapper();
+
+    @Test
+    void whenPageIsPassedContentIsUnwrapped() {
+        final var page = new PageImpl<>(List.of("first", "second"), PageRequest.of(0, 2), 10);
+        final var result = unwrapper.unwrap(page, this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(v -> assertThat(v).containsExactly("first", "second"));
+    }
+
+    @Test
+    void whenSliceIsPassedContentIsUnwrapped() {
+        final var slice = new SliceImpl<>(List.of("first", "second"), PageRequest.of(0, 2), true);
+        final var result = unwrapper.unwrap(slice, this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(v -> assertThat(v).containsExactly("first", "second"));
+    }
+
+    @Test
+    void whenUnsupportedTypeIsPassedValueIsKeptUntouched() {
+        final var result = unwrapper.unwrap(List.of("first"), this, methodSignature, configuration);
+
+        assertThat(result).isEmpty();
+    }
+}
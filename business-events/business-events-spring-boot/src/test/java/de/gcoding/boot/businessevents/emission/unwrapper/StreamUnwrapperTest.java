@@ -0,0 +1,88 @@
+package de.gcoding.boot.businessevents.emission.unwrapper;
+
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamUnwrapperTest {
+    @Mock
+    MethodSignature methodSignature;
+    @Mock
+    EmitBusinessEvent configuration;
+    List<Object> arrivedPayloads = new ArrayList<>();
+    StreamUnwrapper unwrapper = new StreamUnwrapper();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenStreamIsConsumedElementsAreUnwrapped() {
+        when(methodSignature.getReturnType()).thenReturn(Stream.class);
+
+        final var result = unwrapper.unwrap(Stream.of("first", "second", "third"), arrivedPayloads::add, this, methodSignature, configuration);
+        assertThat(arrivedPayloads).isEmpty();
+
+        assertThat(result).hasValueSatisfying(value -> assertThat((Stream<Object>) value).containsExactly("first", "second", "third"));
+        assertThat(arrivedPayloads).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenStreamIsConsumedPartiallyOnlyConsumedElementsAreUnwrapped() {
+        when(methodSignature.getReturnType()).thenReturn(Stream.class);
+
+        final var result = unwrapper.unwrap(Stream.of("first", "second", "third"), arrivedPayloads::add, this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(value -> assertThat(((Stream<Object>) value).findFirst()).contains("first"));
+        assertThat(arrivedPayloads).containsExactly("first");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenSizedStreamIsCountedAllElementsAreUnwrapped() {
+        when(methodSignature.getReturnType()).thenReturn(Stream.class);
+
+        final var result = unwrapper.unwrap(List.of("first", "second").stream().map(String::toUpperCase), arrivedPayloads::add, this, methodSignature, configuration);
+
+        assertThat(result).hasValueSatisfying(value -> assertThat(((Stream<Object>) value).count()).isEqualTo(2));
+        assertThat(arrivedPayloads).containsExactly("FIRST", "SECOND");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenUnwrappedStreamIsClosedTheOriginalStreamIsClosed() {
+        when(methodSignature.getReturnType()).thenReturn(Stream.class);
+        final var closed = new ArrayList<String>();
+
+        final var result = unwrapper.unwrap(Stream.of("first").onClose(() -> closed.add("closed")), arrivedPayloads::add, this, methodSignature, configuration);
+        result.map(value -> (Stream<Object>) value).ifPresent(Stream::close);
+
+        assertThat(closed).containsExactly("closed");
+    }
+
+    @Test
+    void whenMethodDoesNotReturnAStreamValueIsKeptUntouched() {
+        when(methodSignature.getReturnType()).thenReturn(CustomStreamHolder.class);
+
+        final var result = unwrapper.unwrap(Stream.of("first"), arrivedPayloads::add, this, methodSignature, configuration);
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void whenUnsupportedTypeIsPassedValueIsKeptUntouched() {
+        final var result = unwrapper.unwrap(List.of("first"), arrivedPayloads::add, this, methodSignature, configuration);
+        assertThat(result).isEmpty();
+    }
+
+    static class CustomStreamHolder {
+    }
+}
@@ -0,0 +1,18 @@
+package de.gcoding.boot.businessevents.id;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RandomEventIdGeneratorTest {
+    @Test
+    void whenIdIsGeneratedItIsARandomUuid() {
+        final var generator = new RandomEventIdGenerator();
+
+        final var first = generator.generateId();
+        final var second = generator.generateId();
+
+        assertThat(first.version()).isEqualTo(4);
+        assertThat(first).isNotEqualTo(second);
+    }
+}
@@ -0,0 +1,66 @@
+package de.gcoding.boot.businessevents.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedEventIdGeneratorTest {
+    static final Instant NOW = Instant.parse("2025-01-01T12:00:00.123456789Z");
+
+    @Test
+    void whenIdIsGeneratedItIsAVersion7Uuid() {
+        final var id = new TimeOrderedEventIdGenerator().generateId();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void whenIdIsGeneratedItStartsWithTheUnixTimestampInMillis() {
+        final var generator = new TimeOrderedEventIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        final var id = generator.generateId();
+
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    void whenIdsAreGeneratedWithinTheSameMillisecondTheyAreOrderedByTheFractionOfTheMillisecond() {
+        final var earlier = new TimeOrderedEventIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC)).generateId();
+        final var later = new TimeOrderedEventIdGenerator(Clock.fixed(NOW.plusNanos(500_000), ZoneOffset.UTC)).generateId();
+
+        assertThat(later).isGreaterThan(earlier);
+    }
+
+    @Test
+    void whenIdsAreGeneratedAtDifferentTimesTheySortByCreationTime() {
+        final var ids = new ArrayList<UUID>();
+
+        for (var millis = 0; millis < 100; millis++) {
+            final var clock = Clock.fixed(NOW.plusMillis(millis), ZoneOffset.UTC);
+            ids.add(new TimeOrderedEventIdGenerator(clock).generateId());
+        }
+
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    void whenManyIdsAreGeneratedAtTheSameTimeTheyAreUnique() {
+        final var generator = new TimeOrderedEventIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        final var ids = IntStream.range(0, 10_000)
+            .parallel()
+            .mapToObj(i -> generator.generateId())
+            .toList();
+
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+    }
+}
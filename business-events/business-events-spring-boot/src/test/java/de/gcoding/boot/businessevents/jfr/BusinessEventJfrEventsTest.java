@@ -0,0 +1,167 @@
+package de.gcoding.boot.businessevents.jfr;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.emission.BusinessEventFactoryImpl;
+import de.gcoding.boot.businessevents.emission.BusinessEventsFactoryImpl;
+import de.gcoding.boot.businessevents.emission.aspect.BusinessEventEmitterAspect;
+import de.gcoding.boot.businessevents.emission.aspect.EmitBusinessEvent;
+import de.gcoding.boot.businessevents.emission.unwrapper.DeferredEventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.emission.unwrapper.EventPayloadUnwrapper;
+import de.gcoding.boot.businessevents.id.RandomEventIdGenerator;
+import de.gcoding.boot.businessevents.listen.BusinessEventListener;
+import de.gcoding.boot.businessevents.listen.BusinessEventListenerMethodAdapter;
+import de.gcoding.boot.businessevents.listen.BusinessEventSubscriptions;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import de.gcoding.boot.businessevents.time.SystemEventClock;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.core.Ordered;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.gcoding.boot.common.ExceptionUtils.sneakyThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BusinessEventJfrEventsTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void emissionAndActionEvaluationAreRecorded() throws IOException {
+        final var published = new ArrayList<Object>();
+        final var eventFactory = new BusinessEventFactoryImpl(
+            new SpelExpressionParser(),
+            new BeanFactoryResolver(new StaticListableBeanFactory()),
+            BusinessEventFactoryImpl.DEFAULT_EXPRESSION_CACHE_SIZE,
+            new RandomEventIdGenerator(),
+            new SystemEventClock(),
+            BusinessEventsMetrics.NOOP
+        );
+        final var aspect = new BusinessEventEmitterAspect(
+            new BusinessEventsFactoryImpl(EventPayloadUnwrapper.NOOP, eventFactory, BusinessEventSubscriptions.ANY, BusinessEventsMetrics.NOOP),
+            published::add,
+            Ordered.LOWEST_PRECEDENCE,
+            false,
+            1,
+            DeferredEventPayloadUnwrapper.NOOP,
+            BusinessEventSubscriptions.ANY,
+            BusinessEventsMetrics.NOOP
+        );
+        final var proxyFactory = new AspectJProxyFactory(new Emitter());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        final Emitter emitter = proxyFactory.getProxy();
+
+        final var events = record(emitter::create);
+
+        assertThat(published).hasSize(1);
+        assertThat(eventsNamed(events, BusinessEventEmissionJfrEvent.NAME)).singleElement().satisfies(event -> {
+            assertThat(event.getString("method")).isEqualTo(Emitter.class.getName() + "#create");
+            assertThat(event.getString("action")).isEqualTo("'CREATE'");
+            assertThat(event.getInt("eventCount")).isEqualTo(1);
+        });
+        assertThat(eventsNamed(events, ActionEvaluationJfrEvent.NAME)).singleElement().satisfies(event -> {
+            assertThat(event.getString("expression")).isEqualTo("'CREATE'");
+            assertThat(event.getString("action")).isEqualTo("CREATE");
+        });
+    }
+
+    @Test
+    void listenerInvocationsAreRecorded() throws IOException {
+        final var succeeding = givenAnAdapterFor("onEvent");
+        final var failing = givenAnAdapterFor("fail");
+
+        final var events = record(() -> {
+            succeeding.onApplicationEvent(BusinessEvent.withPayload("payload").build());
+            assertThrows(IllegalStateException.class, () -> failing.onApplicationEvent(BusinessEvent.withPayload("payload").build()));
+        });
+
+        assertThat(eventsNamed(events, ListenerInvocationJfrEvent.NAME))
+            .extracting(event -> event.getString("listener"), event -> event.getInt("payloadCount"), event -> event.getBoolean("failed"))
+            .containsExactly(
+                tuple(Listener.class.getName() + "#onEvent", 1, false),
+                tuple(Listener.class.getName() + "#fail", 1, true)
+            );
+    }
+
+    @Test
+    void whenDisabledNothingIsRecorded() throws IOException {
+        final var adapter = givenAnAdapterFor("onEvent");
+
+        try (var recording = new Recording()) {
+            recording.disable(ListenerInvocationJfrEvent.NAME);
+            recording.start();
+            adapter.onApplicationEvent(BusinessEvent.withPayload("payload").build());
+            recording.stop();
+
+            assertThat(eventsNamed(dump(recording), ListenerInvocationJfrEvent.NAME)).isEmpty();
+        }
+    }
+
+    List<RecordedEvent> record(Runnable runnable) throws IOException {
+        try (var recording = new Recording()) {
+            recording.enable(BusinessEventEmissionJfrEvent.NAME);
+            recording.enable(ActionEvaluationJfrEvent.NAME);
+            recording.enable(ListenerInvocationJfrEvent.NAME);
+            recording.start();
+            runnable.run();
+            recording.stop();
+
+            return dump(recording);
+        }
+    }
+
+    List<RecordedEvent> dump(Recording recording) throws IOException {
+        final var file = directory.resolve("recording.jfr");
+        recording.dump(file);
+
+        return RecordingFile.readAllEvents(file);
+    }
+
+    static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    static BusinessEventListenerMethodAdapter givenAnAdapterFor(String methodName) {
+        final var method = sneakyThrows(() -> Listener.class.getDeclaredMethod(methodName, String.class));
+        final var listener = new Listener();
+
+        return new BusinessEventListenerMethodAdapter(
+            method.getAnnotation(BusinessEventListener.class),
+            () -> listener,
+            method,
+            null,
+            BusinessEventsMetrics.NOOP
+        );
+    }
+
+    public static class Emitter {
+        @EmitBusinessEvent(actionSpEL = "'CREATE'")
+        public String create() {
+            return "payload";
+        }
+    }
+
+    public static class Listener {
+        @BusinessEventListener
+        public void onEvent(String payload) {
+        }
+
+        @BusinessEventListener
+        public void fail(String payload) {
+            throw new IllegalStateException("failed");
+        }
+    }
+}
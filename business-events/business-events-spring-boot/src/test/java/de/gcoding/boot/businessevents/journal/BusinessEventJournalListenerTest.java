@@ -0,0 +1,46 @@
+package de.gcoding.boot.businessevents.journal;
+
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BusinessEventJournalListenerTest {
+    final BusinessEventJournal journal = mock(BusinessEventJournal.class);
+    final BusinessEventJournalListener listener = new BusinessEventJournalListener(journal);
+
+    @Test
+    void businessEventIsAppendedToJournal() {
+        final var eventData = new BusinessEventData("payload");
+
+        listener.onApplicationEvent(new BusinessEvent(this, eventData));
+
+        verify(journal).append(eventData);
+    }
+
+    @Test
+    void payloadsOfBatchEventAreAppendedIndividually() {
+        final var eventData = new BusinessEventData(List.of("first", "second"));
+
+        final var batch = new BatchBusinessEvent(this, eventData);
+
+        listener.onApplicationEvent(batch);
+
+        verify(journal).append(batch.getElementEventData(0));
+        verify(journal).append(batch.getElementEventData(1));
+    }
+
+    @Test
+    void eventsReplayedByJournalAreNotAppendedAgain() {
+        listener.onApplicationEvent(new BusinessEvent(journal, new BusinessEventData("payload")));
+
+        verify(journal, never()).append(any());
+    }
+}
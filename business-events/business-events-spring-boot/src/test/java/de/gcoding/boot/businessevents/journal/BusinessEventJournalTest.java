@@ -0,0 +1,339 @@
+package de.gcoding.boot.businessevents.journal;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.codec.BusinessEventDataCodec;
+import de.gcoding.boot.businessevents.codec.JavaPayloadSerializer;
+import de.gcoding.boot.businessevents.codec.PayloadSerializer;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BusinessEventJournalTest {
+    static final ZonedDateTime START = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    @TempDir
+    Path directory;
+    BusinessEventJournal journal;
+
+    @AfterEach
+    void afterEach() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void appendedEventsAreReplayedInOrder() {
+        journal = createJournal(BusinessEventJournal.DEFAULT_SEGMENT_SIZE, FsyncPolicy.EVERY_BATCH);
+        final var events = appendEvents(100);
+
+        journal.flush();
+
+        assertThat(replay(JournalReplayStart.beginning())).containsExactlyElementsOf(events);
+        assertThat(journal.getWrittenCount()).isEqualTo(100);
+        assertThat(journal.getForceCount()).isPositive();
+    }
+
+    @Test
+    void replayFromEventIdStartsWithThatEvent() {
+        journal = createJournal(BusinessEventJournal.DEFAULT_SEGMENT_SIZE, FsyncPolicy.INTERVAL);
+        final var events = appendEvents(10);
+
+        journal.flush();
+
+        assertThat(replay(JournalReplayStart.fromEventId(events.get(6).id()))).containsExactlyElementsOf(events.subList(6, 10));
+        assertThat(replay(JournalReplayStart.fromEventId(UUID.randomUUID()))).isEmpty();
+    }
+
+    @Test
+    void replayFromTimestampSkipsOlderEvents() {
+        journal = createJournal(BusinessEventJournal.DEFAULT_SEGMENT_SIZE, FsyncPolicy.NEVER);
+        final var events = appendEvents(10);
+
+        journal.flush();
+
+        assertThat(replay(JournalReplayStart.fromTimestamp(START.plusSeconds(4).toInstant())))
+            .containsExactlyElementsOf(events.subList(4, 10));
+        assertThat(journal.getForceCount()).isZero();
+    }
+
+    @Test
+    void eventsAreWrittenToNewSegmentOnceSegmentIsFull() throws IOException {
+        journal = createJournal(1024, FsyncPolicy.EVERY_BATCH);
+        final var events = appendEvents(50);
+
+        journal.flush();
+
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+        assertThat(replay(JournalReplayStart.beginning())).containsExactlyElementsOf(events);
+        assertThat(replay(JournalReplayStart.fromEventId(events.get(42).id()))).containsExactlyElementsOf(events.subList(42, 50));
+    }
+
+    @Test
+    void eventsLargerThanSegmentAreDropped() {
+        journal = createJournal(256, FsyncPolicy.EVERY_BATCH);
+
+        journal.append(new BusinessEventData("x".repeat(1024)));
+        journal.flush();
+
+        assertThat(journal.getDroppedCount()).isOne();
+        assertThat(replay(JournalReplayStart.beginning())).isEmpty();
+    }
+
+    @Test
+    void reopenedJournalContinuesAfterExistingEvents() {
+        journal = createJournal(1024, FsyncPolicy.EVERY_BATCH);
+        final var events = new ArrayList<>(appendEvents(20));
+        journal.close();
+
+        journal = createJournal(1024, FsyncPolicy.EVERY_BATCH);
+        final var moreEvents = appendEvents(20);
+        events.addAll(moreEvents);
+        journal.flush();
+
+        assertThat(replay(JournalReplayStart.beginning())).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    void partiallyWrittenRecordIsDiscardedOnReopen() throws IOException {
+        journal = createJournal(BusinessEventJournal.DEFAULT_SEGMENT_SIZE, FsyncPolicy.EVERY_BATCH);
+        final var events = appendEvents(3);
+        journal.close();
+
+        final var segment = segmentFiles().getLast();
+        final long end;
+
+        try (final var channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            end = JournalSegment.endOfRecords(JournalSegment.mapReadOnly(segment), (int) channel.size());
+            // simulates a crash while writing a record
+            channel.write(ByteBuffer.allocate(12).putInt(64).putInt(42).putInt(7).flip(), end);
+        }
+
+        journal = createJournal(BusinessEventJournal.DEFAULT_SEGMENT_SIZE, FsyncPolicy.EVERY_BATCH);
+        final var event = appendEvents(1).getFirst();
+        journal.flush();
+
+        assertThat(replay(JournalReplayStart.beginning())).containsExactly(events.get(0), events.get(1), events.get(2), event);
+    }
+
+    @Test
+    void segmentsOfOutdatedFormatVersionAreRejected() throws IOException {
+        journal = createJournal(1024, FsyncPolicy.EVERY_BATCH);
+        journal.close();
+
+        try (final var channel = FileChannel.open(segmentFiles().getLast(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(1).flip(), 4);
+        }
+
+        assertThatThrownBy(() -> createJournal(1024, FsyncPolicy.EVERY_BATCH))
+            .isInstanceOf(UncheckedIOException.class)
+            .rootCause()
+            .hasMessageContaining("outdated format version 1");
+    }
+
+    @Test
+    void concurrentlyAppendedEventsAreAllWritten() throws InterruptedException {
+        journal = createJournal(64 * 1024, FsyncPolicy.INTERVAL);
+
+        try (final var executor = Executors.newFixedThreadPool(4)) {
+            IntStream.range(0, 4).forEach(thread -> executor.execute(() -> {
+                for (var i = 0; i < 1000; i++) {
+                    journal.append(new BusinessEventData(thread + "-" + i));
+                }
+            }));
+        }
+
+        journal.flush();
+
+        final var replayed = replay(JournalReplayStart.beginning());
+        assertThat(replayed).hasSize(4000);
+        IntStream.range(0, 4).forEach(thread -> assertThat(replayed)
+            .extracting(BusinessEventData::payload)
+            .filteredOn(payload -> ((String) payload).startsWith(thread + "-"))
+            .containsExactlyElementsOf(IntStream.range(0, 1000).mapToObj(i -> thread + "-" + i).toList()));
+    }
+
+    @Test
+    void republishPublishesBusinessEventsWithJournalAsSource() {
+        journal = createJournal(BusinessEventJournal.DEFAULT_SEGMENT_SIZE, FsyncPolicy.EVERY_BATCH);
+        final var events = appendEvents(3);
+        final var published = new ArrayList<Object>();
+        journal.flush();
+
+        final var replayed = journal.republish(JournalReplayStart.beginning(), published::add);
+
+        assertThat(replayed).isEqualTo(3);
+        assertThat(published)
+            .allSatisfy(event -> assertThat(((BusinessEvent) event).getSource()).isSameAs(journal))
+            .extracting(event -> ((BusinessEvent) event).getEventData())
+            .containsExactlyElementsOf(events);
+    }
+
+    @Test
+    void appendingToClosedJournalFails() {
+        journal = createJournal(BusinessEventJournal.DEFAULT_SEGMENT_SIZE, FsyncPolicy.EVERY_BATCH);
+        journal.close();
+
+        assertThatThrownBy(() -> journal.append(new BusinessEventData("payload")))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void flushesRacingCloseDoNotBlockForever() {
+        for (var round = 0; round < 20; round++) {
+            // a queue of a single element makes flushing threads wait for the writer, so they race with close
+            journal = new BusinessEventJournal(
+                directory,
+                new BusinessEventDataCodec(new JavaPayloadSerializer()),
+                64 * 1024,
+                1,
+                1,
+                FsyncPolicy.NEVER,
+                Duration.ofMillis(10)
+            );
+            final var flushes = new ArrayList<Future<?>>();
+            final var executor = Executors.newFixedThreadPool(8);
+
+            try {
+                for (var thread = 0; thread < 8; thread++) {
+                    flushes.add(executor.submit(this::flushUntilClosed));
+                }
+
+                journal.close();
+
+                assertThat(flushes).allSatisfy(flush -> assertThat(flush).succeedsWithin(Duration.ofSeconds(5)));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void whenWritingToTheSegmentFailsFatallyFlushAndCloseDoNotBlockForever() {
+        final var serializer = new FailingPayloadSerializer();
+        journal = new BusinessEventJournal(
+            directory,
+            new BusinessEventDataCodec(serializer),
+            64 * 1024,
+            256,
+            64,
+            FsyncPolicy.EVERY_BATCH,
+            Duration.ofMillis(10)
+        );
+
+        journal.append(new BusinessEventData("failing"));
+        final var flush = CompletableFuture.runAsync(journal::flush);
+
+        // the flush request is queued while the writer is blocked in writing the failing event
+        while (journal.getQueueSize() == 0) {
+            Thread.onSpinWait();
+        }
+
+        serializer.failing.countDown();
+
+        assertThat(flush).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(CompletableFuture.runAsync(journal::close)).succeedsWithin(Duration.ofSeconds(5));
+        assertThatThrownBy(() -> journal.append(new BusinessEventData("payload")))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    BusinessEventJournal createJournal(int segmentSize, FsyncPolicy fsyncPolicy) {
+        return new BusinessEventJournal(
+            directory,
+            new BusinessEventDataCodec(new JavaPayloadSerializer()),
+            segmentSize,
+            256,
+            64,
+            fsyncPolicy,
+            Duration.ofMillis(10)
+        );
+    }
+
+    void flushUntilClosed() {
+        try {
+            for (var i = 0; i < 1000; i++) {
+                journal.flush();
+            }
+        } catch (IllegalStateException e) {
+            // the journal has been closed while flushing
+        }
+    }
+
+    List<BusinessEventData> appendEvents(int count) {
+        final var events = new ArrayList<BusinessEventData>();
+
+        for (var i = 0; i < count; i++) {
+            final var eventData = new BusinessEventData(
+                UUID.randomUUID(),
+                "payload-" + i,
+                "CREATED",
+                START.plusSeconds(i),
+                Map.of("index", String.valueOf(i))
+            );
+
+            journal.append(eventData);
+            events.add(eventData);
+        }
+
+        return events;
+    }
+
+    List<BusinessEventData> replay(JournalReplayStart start) {
+        final var replayed = new ArrayList<BusinessEventData>();
+        journal.replay(start, replayed::add);
+        return replayed;
+    }
+
+    List<Path> segmentFiles() throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files.filter(JournalSegment::isSegmentFile).sorted().toList();
+        }
+    }
+
+    static class FailingPayloadSerializer implements PayloadSerializer {
+        final CountDownLatch failing = new CountDownLatch(1);
+
+        @Nonnull
+        @Override
+        public byte[] serialize(@Nonnull Object payload) {
+            try {
+                failing.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            // errors are not handled per event like exceptions, they terminate the writer
+            throw new OutOfMemoryError("serializing " + payload + " exhausted the heap");
+        }
+
+        @Nonnull
+        @Override
+        public Object deserialize(@Nonnull byte[] data, @Nonnull String payloadType) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
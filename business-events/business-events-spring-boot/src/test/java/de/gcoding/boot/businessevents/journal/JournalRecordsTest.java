@@ -0,0 +1,69 @@
+package de.gcoding.boot.businessevents.journal;
+
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.codec.BusinessEventDataCodec;
+import de.gcoding.boot.businessevents.codec.JavaPayloadSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalRecordsTest {
+    final BusinessEventDataCodec codec = new BusinessEventDataCodec(new JavaPayloadSerializer());
+
+    @Test
+    void writtenRecordCanBeReadAgain() {
+        final var buffer = ByteBuffer.allocate(1024);
+        final var eventData = new BusinessEventData(
+            UUID.randomUUID(),
+            "payload",
+            "CREATED",
+            ZonedDateTime.of(2024, 5, 17, 12, 30, 15, 123456789, ZoneId.of("Europe/Berlin")),
+            Map.of("tenant", "a", "trace", "b")
+        );
+
+        final var written = JournalRecords.write(buffer, eventData, codec);
+        final var bodyLength = JournalRecords.validBodyLength(buffer, 0, buffer.limit());
+
+        assertThat(written).isEqualTo(buffer.position()).isEqualTo(JournalRecords.RECORD_HEADER_SIZE + bodyLength);
+        assertThat(JournalRecords.readId(buffer, JournalRecords.RECORD_HEADER_SIZE)).isEqualTo(eventData.id());
+        assertThat(JournalRecords.readInstant(buffer, JournalRecords.RECORD_HEADER_SIZE))
+            .isEqualTo(eventData.timestamp().toInstant());
+        assertThat(JournalRecords.read(buffer, JournalRecords.RECORD_HEADER_SIZE, codec)).isEqualTo(eventData);
+    }
+
+    @Test
+    void recordThatDoesNotFitIsNotWritten() {
+        final var buffer = ByteBuffer.allocate(32);
+
+        final var written = JournalRecords.write(buffer, new BusinessEventData("payload"), codec);
+
+        assertThat(written).isEqualTo(-1);
+        assertThat(buffer.position()).isZero();
+        assertThat(JournalRecords.validBodyLength(buffer, 0, buffer.limit())).isEqualTo(-1);
+    }
+
+    @Test
+    void recordWithCorruptedBodyIsInvalid() {
+        final var buffer = ByteBuffer.allocate(1024);
+        JournalRecords.write(buffer, new BusinessEventData("payload"), codec);
+
+        buffer.put(JournalRecords.RECORD_HEADER_SIZE + 3, (byte) (buffer.get(JournalRecords.RECORD_HEADER_SIZE + 3) + 1));
+
+        assertThat(JournalRecords.validBodyLength(buffer, 0, buffer.limit())).isEqualTo(-1);
+    }
+
+    @Test
+    void recordExceedingLimitIsInvalid() {
+        final var buffer = ByteBuffer.allocate(1024);
+        final var written = JournalRecords.write(buffer, new BusinessEventData("payload"), codec);
+
+        assertThat(JournalRecords.validBodyLength(buffer, 0, written - 1)).isEqualTo(-1);
+        assertThat(JournalRecords.validBodyLength(buffer, written, buffer.limit())).isEqualTo(-1);
+    }
+}
@@ -1,6 +1,8 @@
 package de.gcoding.boot.businessevents.listen;
 
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
 import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
 import de.gcoding.boot.businessevents.EventActions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,17 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationListener;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @ExtendWith(MockitoExtension.class)
 class AbstractBusinessEventEventListenerTest {
     @Spy
@@ -113,9 +126,86 @@ class AbstractBusinessEventEventListenerTest {
             .build();
     }
 
+    @Test
+    void whenBatchEventIsReceivedCallbacksAreInvokedForEachPayload() {
+        final var otherEntity = new ExtendedMockEntity();
+        final var batch = new BatchBusinessEvent(this, new BusinessEventData(List.of(entity, otherEntity), EventActions.CREATE));
+
+        eventListenerUnderTest.onApplicationEvent(batch);
+
+        Mockito.verify(delegateListener).onCreate(ArgumentMatchers.eq(entity), ArgumentMatchers.argThat(event -> event.getId().equals(batch.getElementEventData(0).id())));
+        Mockito.verify(delegateListener).onCreate(ArgumentMatchers.eq(otherEntity), ArgumentMatchers.any());
+    }
+
+    @Test
+    void whenOnBatchEventIsOverriddenBatchIsHandledAsAWhole() {
+        final var receivedBatches = new ArrayList<BatchBusinessEvent>();
+        final var listener = new MockBusinessEventEventListener(delegateListener) {
+            @Override
+            protected void onBatchEvent(BatchBusinessEvent batch) {
+                receivedBatches.add(batch);
+            }
+        };
+        final var batch = new BatchBusinessEvent(this, new BusinessEventData(List.of(entity), EventActions.CREATE));
+
+        listener.onApplicationEvent(batch);
+
+        assertThat(receivedBatches).containsExactly(batch);
+        Mockito.verify(delegateListener, Mockito.times(0)).onCreate(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void whenListenerIsAsyncEventsOfTheSameKeyAreProcessedInOrderOnOtherThreads() throws InterruptedException {
+        final var pool = Executors.newFixedThreadPool(8);
+        final var listener = new AsyncEntityListener(pool, 300);
+
+        try {
+            for (var i = 0; i < 300; i++) {
+                listener.onApplicationEvent(givenAnEventWithPayloadAndAction(new KeyedEntity(i % 3, i / 3), EventActions.UPDATE));
+            }
+
+            assertThat(listener.done.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(listener.threads).doesNotContain(Thread.currentThread());
+        for (var key = 0; key < 3; key++) {
+            final var expectedKey = key;
+            assertThat(listener.updated.stream().filter(entity -> entity.key() == expectedKey).map(KeyedEntity::sequence))
+                .containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+        }
+    }
+
     public static class MockEntity {
     }
 
+    public record KeyedEntity(int key, int sequence) {
+    }
+
+    public static class AsyncEntityListener extends AbstractBusinessEventEventListener<KeyedEntity> {
+        final List<KeyedEntity> updated = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done;
+
+        AsyncEntityListener(Executor executor, int expectedEvents) {
+            super(KeyedEntity.class, executor);
+            this.done = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        protected Object resolveKey(KeyedEntity payload, BusinessEvent event) {
+            return payload.key();
+        }
+
+        @Override
+        protected void onUpdate(KeyedEntity entity, BusinessEvent event) {
+            updated.add(entity);
+            threads.add(Thread.currentThread());
+            done.countDown();
+        }
+    }
+
     public static class ExtendedMockEntity extends MockEntity {
     }
 
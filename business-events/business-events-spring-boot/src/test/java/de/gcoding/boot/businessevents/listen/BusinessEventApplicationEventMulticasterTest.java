@@ -0,0 +1,238 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
+import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.core.ResolvableType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessEventApplicationEventMulticasterTest {
+    final List<String> deliveries = new ArrayList<>();
+    BusinessEventApplicationEventMulticaster multicaster;
+
+    @BeforeEach
+    void beforeEach() {
+        multicaster = new BusinessEventApplicationEventMulticaster();
+    }
+
+    @Test
+    void whenPayloadTypeDoesNotMatchRoutableListenerIsNotInvoked() {
+        multicaster.addApplicationListener(new RecordingRoutableListener("numbers", Number.class));
+
+        multicaster.multicastEvent(event("payload", EventActions.CREATE));
+
+        assertThat(deliveries).isEmpty();
+    }
+
+    @Test
+    void whenPayloadIsOfSubtypeRoutableListenerIsInvoked() {
+        multicaster.addApplicationListener(new RecordingRoutableListener("numbers", Number.class));
+
+        multicaster.multicastEvent(event(42, EventActions.CREATE));
+
+        assertThat(deliveries).containsExactly("numbers");
+    }
+
+    @Test
+    void whenActionDoesNotMatchRoutableListenerIsNotInvoked() {
+        multicaster.addApplicationListener(new RecordingRoutableListener("created", String.class, EventActions.CREATE));
+        multicaster.addApplicationListener(new RecordingRoutableListener("all", String.class));
+
+        multicaster.multicastEvent(event("payload", EventActions.DELETE));
+        multicaster.multicastEvent(event("payload", EventActions.CREATE));
+
+        assertThat(deliveries).containsExactly("all", "created", "all");
+    }
+
+    @Test
+    void whenListenerIsNotRoutableItReceivesAllBusinessEvents() {
+        multicaster.addApplicationListener((ApplicationListener<BusinessEvent>) event -> deliveries.add("plain"));
+
+        multicaster.multicastEvent(event("payload", EventActions.CREATE));
+        multicaster.multicastEvent(event(42, EventActions.DELETE));
+
+        assertThat(deliveries).containsExactly("plain", "plain");
+    }
+
+    @Test
+    void whenEventIsABatchItIsDeliveredToAllListeners() {
+        multicaster.addApplicationListener(new RecordingRoutableListener("numbers", Number.class));
+
+        multicaster.multicastEvent(new BatchBusinessEvent(this, new BusinessEventData(List.of("payload"), EventActions.CREATE)));
+
+        assertThat(deliveries).containsExactly("numbers");
+    }
+
+    @Test
+    void whenEventIsNoBusinessEventItIsDeliveredAsUsual() {
+        multicaster.addApplicationListener(new RecordingRoutableListener("numbers", Number.class));
+        multicaster.addApplicationListener((ApplicationListener<PayloadApplicationEvent<String>>) event -> deliveries.add(event.getPayload()));
+
+        multicaster.multicastEvent(new PayloadApplicationEvent<>(this, "other"));
+
+        assertThat(deliveries).containsExactly("other");
+    }
+
+    @Test
+    void whenSamePayloadClassIsDispatchedMultipleTimesRouteIsResolvedOnce() {
+        multicaster.addApplicationListener(new RecordingRoutableListener("strings", String.class));
+
+        multicaster.multicastEvent(event("first", EventActions.CREATE));
+        multicaster.multicastEvent(event("second", EventActions.DELETE));
+        multicaster.multicastEvent(event(42, EventActions.CREATE));
+
+        assertThat(multicaster.getRouteCount()).isEqualTo(2);
+        assertThat(deliveries).containsExactly("strings", "strings");
+    }
+
+    @Test
+    void whenListenerIsAddedAfterDispatchItIsIncludedInRoute() {
+        multicaster.addApplicationListener(new RecordingRoutableListener("strings", String.class));
+        multicaster.multicastEvent(event("first", EventActions.CREATE));
+
+        multicaster.addApplicationListener(new RecordingRoutableListener("objects", Object.class));
+        multicaster.multicastEvent(event("second", EventActions.CREATE));
+
+        assertThat(deliveries).containsExactly("strings", "strings", "objects");
+    }
+
+    @Test
+    void whenListenerIsRemovedAfterDispatchItIsExcludedFromRoute() {
+        final var listener = new RecordingRoutableListener("strings", String.class);
+        multicaster.addApplicationListener(listener);
+        multicaster.addApplicationListener(new RecordingRoutableListener("objects", Object.class));
+        multicaster.multicastEvent(event("first", EventActions.CREATE));
+
+        multicaster.removeApplicationListener(listener);
+        multicaster.multicastEvent(event("second", EventActions.CREATE));
+
+        assertThat(deliveries).containsExactly("strings", "objects", "objects");
+    }
+
+    @Test
+    void whenListenersChangeWhileRouteIsResolvedTheOutdatedRouteIsNotCached() {
+        final var strings = new RecordingRoutableListener("strings", String.class);
+        final var numbers = new RecordingRoutableListener("numbers", Number.class);
+        multicaster = new BusinessEventApplicationEventMulticaster() {
+            private boolean replaced;
+
+            @Override
+            protected Collection<ApplicationListener<?>> getApplicationListeners(ApplicationEvent event, ResolvableType eventType) {
+                final var listeners = super.getApplicationListeners(event, eventType);
+
+                if (!replaced) {
+                    // simulates another thread replacing the listener after this lookup retrieved its listeners
+                    replaced = true;
+                    removeApplicationListener(strings);
+                    addApplicationListener(numbers);
+                }
+
+                return listeners;
+            }
+        };
+        multicaster.addApplicationListener(strings);
+        multicaster.multicastEvent(event("first", EventActions.CREATE));
+
+        multicaster.multicastEvent(event("second", EventActions.CREATE));
+        multicaster.multicastEvent(event(42, EventActions.CREATE));
+
+        assertThat(deliveries).containsExactly("strings", "numbers");
+    }
+
+    @Test
+    void whenMoreActionsThanCachedAreDispatchedEventsAreStillRouted() {
+        multicaster.addApplicationListener(new RecordingRoutableListener("last", String.class, "action-99"));
+
+        for (var i = 0; i < 100; i++) {
+            multicaster.multicastEvent(event("payload", "action-" + i));
+        }
+
+        assertThat(deliveries).containsExactly("last");
+    }
+
+    @Test
+    void whenBusinessEventListenerMethodIsRoutedOnlyMatchingEventsInvokeIt() throws NoSuchMethodException {
+        final var target = new AnnotatedListener();
+        final var method = AnnotatedListener.class.getMethod("onCreate", String.class);
+        multicaster.addApplicationListener(new BusinessEventListenerMethodAdapter(
+            method.getAnnotation(BusinessEventListener.class), () -> target, method, null, BusinessEventsMetrics.NOOP));
+
+        multicaster.multicastEvent(event("created", EventActions.CREATE));
+        multicaster.multicastEvent(event("deleted", EventActions.DELETE));
+        multicaster.multicastEvent(event(42, EventActions.CREATE));
+
+        assertThat(target.received).containsExactly("created");
+    }
+
+    @Test
+    void whenEventsArePublishedAsBatchEachIsRoutedToItsListeners() {
+        multicaster.addApplicationListener(new RecordingRoutableListener("strings", String.class));
+        multicaster.addApplicationListener(new RecordingRoutableListener("numbers", Number.class, EventActions.CREATE));
+        multicaster.addApplicationListener((ApplicationListener<PayloadApplicationEvent<String>>) event -> deliveries.add(event.getPayload()));
+
+        multicaster.publishEvents(List.of(
+            event("first", EventActions.CREATE),
+            event(42, EventActions.DELETE),
+            event(43, EventActions.CREATE),
+            "plain",
+            event("second", EventActions.DELETE)
+        ));
+
+        assertThat(deliveries).containsExactly("strings", "numbers", "plain", "strings");
+        assertThat(multicaster.getRouteCount()).isEqualTo(2);
+    }
+
+    private BusinessEvent event(Object payload, String action) {
+        return BusinessEvent.withPayload(payload).action(action).build(this);
+    }
+
+    private class RecordingRoutableListener implements RoutableBusinessEventListener {
+        private final String name;
+        private final Class<?> payloadType;
+        private final Set<String> actions;
+
+        RecordingRoutableListener(String name, Class<?> payloadType, String... actions) {
+            this.name = name;
+            this.payloadType = payloadType;
+            this.actions = Set.of(actions);
+        }
+
+        @Override
+        public Class<?> getPayloadType() {
+            return payloadType;
+        }
+
+        @Override
+        public Set<String> getActions() {
+            return actions;
+        }
+
+        @Override
+        public void onApplicationEvent(BusinessEvent event) {
+            // records every delivery without filtering, so that deliveries reveal the routing decisions
+            deliveries.add(name);
+        }
+    }
+
+    public static class AnnotatedListener {
+        final List<String> received = new ArrayList<>();
+
+        @BusinessEventListener(payloadType = String.class, actions = EventActions.CREATE)
+        public void onCreate(String payload) {
+            received.add(payload);
+        }
+    }
+}
@@ -1,21 +1,34 @@
 package de.gcoding.boot.businessevents.listen;
 
+import de.gcoding.boot.businessevents.BusinessEvent;
 import de.gcoding.boot.businessevents.BusinessEventDataProvider;
+import de.gcoding.boot.businessevents.EventActions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.Ordered;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static de.gcoding.boot.common.ExceptionUtils.sneakyThrows;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class BusinessEventListenerFactoryTest {
     static final String TEST_CLASS_BEAN_NAME = "testClass";
@@ -91,6 +104,88 @@ class BusinessEventListenerFactoryTest {
         assertThat(result).isInstanceOf(BusinessEventListenerMethodAdapter.class);
     }
 
+    @Test
+    void whenListenerIsCreatedItsSubscriptionIsRegistered() {
+        final var subscriptionRegistry = new BusinessEventSubscriptionRegistry();
+        businessEventListenerFactory = new BusinessEventListenerFactory(beanFactory, subscriptionRegistry);
+        final var method = givenTheTestClassMethod("annotatedMethodWithPayloadTypeAndActions");
+
+        businessEventListenerFactory.createApplicationListener(TEST_CLASS_BEAN_NAME, Test.class, method);
+
+        assertThat(subscriptionRegistry.getSubscriptions()).containsExactly(
+            new BusinessEventSubscriptionRegistry.Subscription(String.class, Set.of(EventActions.CREATE, EventActions.DELETE))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void whenListenerIsInvokedSingletonTargetsAreResolvedOnlyOnce(boolean singleton) {
+        final var mockBeanFactory = mock(BeanFactory.class);
+        when(mockBeanFactory.containsBean(TEST_CLASS_BEAN_NAME)).thenReturn(true);
+        when(mockBeanFactory.isSingleton(TEST_CLASS_BEAN_NAME)).thenReturn(singleton);
+        when(mockBeanFactory.getBean(TEST_CLASS_BEAN_NAME)).thenReturn(new TestClass());
+        businessEventListenerFactory = new BusinessEventListenerFactory(mockBeanFactory);
+        final var listener = createBusinessEventListener(givenTheTestClassMethod("annotatedMethod"));
+
+        listener.onApplicationEvent(BusinessEvent.withPayload("first").build());
+        listener.onApplicationEvent(BusinessEvent.withPayload("second").build());
+
+        verify(mockBeanFactory, times(singleton ? 1 : 2)).getBean(TEST_CLASS_BEAN_NAME);
+    }
+
+    @Test
+    void whenAsyncListenerNamesAnExecutorBeanItIsUsed() {
+        final var executedTasks = new ArrayList<Runnable>();
+        final var defaultBeanFactory = new DefaultListableBeanFactory();
+        defaultBeanFactory.registerSingleton("listenerExecutor", (Executor) task -> {
+            executedTasks.add(task);
+            task.run();
+        });
+        defaultBeanFactory.registerSingleton(TEST_CLASS_BEAN_NAME, new TestClass());
+        businessEventListenerFactory = new BusinessEventListenerFactory(defaultBeanFactory, new BusinessEventSubscriptionRegistry(), task -> {
+            throw new IllegalStateException("default executor must not be used");
+        });
+        final var listener = createBusinessEventListener(givenTheTestClassMethod("asyncMethodWithExecutor"));
+
+        listener.onApplicationEvent(BusinessEvent.withPayload("payload").build());
+
+        assertThat(executedTasks).hasSize(1);
+    }
+
+    @Test
+    void whenContextIsClosedPendingMicroBatchesAreFlushed() {
+        final var context = new GenericApplicationContext();
+        final var target = new TestClass();
+        context.getBeanFactory().registerSingleton(TEST_CLASS_BEAN_NAME, target);
+        context.refresh();
+        businessEventListenerFactory = new BusinessEventListenerFactory(context.getBeanFactory());
+        final var listener = createBusinessEventListener(givenTheTestClassMethod("microBatchingMethod"));
+        listener.onApplicationEvent(BusinessEvent.withPayload("pending").build());
+
+        businessEventListenerFactory.onApplicationEvent(new ContextClosedEvent(context));
+
+        assertThat(target.microBatches).containsExactly(List.of("pending"));
+    }
+
+    @Test
+    void whenOtherContextIsClosedPendingMicroBatchesAreKept() {
+        final var target = new TestClass();
+        beanFactory.registerSingleton(TEST_CLASS_BEAN_NAME, target);
+        final var listener = createBusinessEventListener(givenTheTestClassMethod("microBatchingMethod"));
+        listener.onApplicationEvent(BusinessEvent.withPayload("pending").build());
+
+        final var otherContext = new GenericApplicationContext();
+        otherContext.refresh();
+
+        businessEventListenerFactory.onApplicationEvent(new ContextClosedEvent(otherContext));
+
+        assertThat(target.microBatches).isEmpty();
+    }
+
+    private BusinessEventListenerMethodAdapter createBusinessEventListener(Method method) {
+        return (BusinessEventListenerMethodAdapter) businessEventListenerFactory.createApplicationListener(TEST_CLASS_BEAN_NAME, Test.class, method);
+    }
+
     private Method givenTheTestClassMethod(String methodName) {
         return givenTheTestClassMethod(TestClass.class, methodName);
     }
@@ -105,6 +200,12 @@ class BusinessEventListenerFactoryTest {
     }
 
     public static class TestClass {
+        final List<List<String>> microBatches = new ArrayList<>();
+
+        @BusinessEventListener(payloadType = String.class, maxLatency = "1h")
+        public void microBatchingMethod(List<String> payloads) {
+            microBatches.add(payloads);
+        }
         @BusinessEventListener
         public void annotatedMethod() {
         }
@@ -113,6 +214,14 @@ class BusinessEventListenerFactoryTest {
         public void annotatedMethodWithArgument(BusinessEventDataProvider event) {
         }
 
+        @BusinessEventListener(payloadType = String.class, actions = {EventActions.CREATE, EventActions.DELETE})
+        public void annotatedMethodWithPayloadTypeAndActions(String payload) {
+        }
+
+        @BusinessEventListener(async = true, executor = "listenerExecutor")
+        public void asyncMethodWithExecutor() {
+        }
+
         @EventListener
         public void standardEventListener() {
         }
@@ -1,9 +1,12 @@
 package de.gcoding.boot.businessevents.listen;
 
 
+import de.gcoding.boot.businessevents.BatchBusinessEvent;
 import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.BusinessEventData;
 import de.gcoding.boot.businessevents.BusinessEventDataProvider;
 import de.gcoding.boot.businessevents.EventActions;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -11,11 +14,27 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
 import static de.gcoding.boot.common.ExceptionUtils.sneakyThrows;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class BusinessEventListenerMethodAdapterTest {
@@ -141,6 +160,46 @@ class BusinessEventListenerMethodAdapterTest {
         verify(mockMethods, times(0)).filterByAction();
     }
 
+    @Test
+    void whenBatchEventIsReceivedByMethodWithoutBatchParameterItIsInvokedForEachPayload() {
+        final var adapter = givenAnAdapterForAnAnnotatedMethod("mockPayload", MockPayload.class);
+        final var first = new MockPayload();
+        final var second = new MockPayload();
+
+        adapter.onApplicationEvent(givenABatchEventWithPayloads(first, second));
+
+        verify(mockMethods).mockPayload(first);
+        verify(mockMethods).mockPayload(second);
+    }
+
+    @Test
+    void whenBatchEventIsReceivedByMethodWithBatchParameterItIsInvokedOnce() {
+        final var adapter = givenAnAdapterForAnAnnotatedMethod("batch", BatchBusinessEvent.class);
+        final var batch = givenABatchEventWithPayloads(new MockPayload(), new ExtendedMockPayload());
+
+        adapter.onApplicationEvent(batch);
+
+        verify(mockMethods).batch(batch);
+    }
+
+    @Test
+    void whenBatchEventContainsPayloadsOfIncompatibleTypeBatchMethodIsNotInvoked() {
+        final var adapter = givenAnAdapterForAnAnnotatedMethod("batch", BatchBusinessEvent.class);
+
+        adapter.onApplicationEvent(givenABatchEventWithPayloads(new MockPayload(), "incompatible"));
+
+        verify(mockMethods, times(0)).batch(any());
+    }
+
+    @Test
+    void whenRegularEventIsReceivedByMethodWithBatchParameterItIsNotInvoked() {
+        final var adapter = givenAnAdapterForAnAnnotatedMethod("batch", BatchBusinessEvent.class);
+
+        adapter.onApplicationEvent(givenAnEventWithPayloadOfType(MockPayload.class));
+
+        verify(mockMethods, times(0)).batch(any());
+    }
+
     @Test
     void whenMethodHasTooManyArgumentsItCannotBeBound() {
         assertThrows(
@@ -179,6 +238,220 @@ class BusinessEventListenerMethodAdapterTest {
         assertThat(error).hasMessageContaining("at position 2");
     }
 
+    @Test
+    void whenMethodReturnsAValueItIsInvokedAndTheValueIsIgnored() {
+        final var adapter = givenAnAdapterForAnAnnotatedMethod("returnsValue", MockPayload.class);
+        final var event = givenAnEventWithPayloadOfType(MockPayload.class);
+
+        adapter.onApplicationEvent(event);
+
+        verify(mockMethods).returnsValue((MockPayload) event.getPayload());
+    }
+
+    @Test
+    void whenMethodIsStaticItIsInvokedWithoutTarget() {
+        final var adapter = givenAnAdapterForAnAnnotatedMethod("staticMethod", String.class);
+        StaticListener.received = null;
+
+        adapter.onApplicationEvent(BusinessEvent.withPayload("payload").action(EventActions.CREATE).build());
+
+        assertThat(StaticListener.received).isEqualTo("payload");
+    }
+
+    @Test
+    void whenMethodIsDeclaredByNonPublicClassItCanBeInvoked() {
+        final var target = new NonPublicListener();
+        final var method = sneakyThrows(() -> NonPublicListener.class.getDeclaredMethod("onEvent", String.class));
+        final var adapter = new BusinessEventListenerMethodAdapter(
+            method.getAnnotation(BusinessEventListener.class),
+            () -> target,
+            method,
+            null,
+            BusinessEventsMetrics.NOOP
+        );
+
+        adapter.onApplicationEvent(BusinessEvent.withPayload("payload").action(EventActions.CREATE).build());
+
+        assertThat(target.received).isEqualTo("payload");
+    }
+
+    @Test
+    void whenMethodThrowsUncheckedExceptionItIsRethrownAsIs() {
+        final var adapter = givenAnAdapterForAnAnnotatedMethod("throwsUnchecked");
+        final var event = givenAnEventWithPayloadOfType(MockPayload.class);
+
+        final var error = assertThrows(IllegalStateException.class, () -> adapter.onApplicationEvent(event));
+
+        assertThat(error).hasMessage("unchecked");
+    }
+
+    @Test
+    void whenMethodThrowsCheckedExceptionItIsWrapped() {
+        final var adapter = givenAnAdapterForAnAnnotatedMethod("throwsChecked");
+        final var event = givenAnEventWithPayloadOfType(MockPayload.class);
+
+        final var error = assertThrows(UndeclaredThrowableException.class, () -> adapter.onApplicationEvent(event));
+
+        assertThat(error).hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void whenMethodIsInvokedItsDurationIsRecorded() {
+        final var listenerMetrics = mock(BusinessEventsMetrics.ListenerMetrics.class);
+        final var adapter = givenAnAdapterWithMetrics("noArguments", listenerMetrics);
+
+        adapter.onApplicationEvent(givenAnEventWithPayloadOfType(MockPayload.class));
+
+        verify(listenerMetrics).invoked(anyLong());
+        verify(listenerMetrics, never()).failed(anyLong());
+    }
+
+    @Test
+    void whenMethodThrowsTheFailureIsRecorded() {
+        final var listenerMetrics = mock(BusinessEventsMetrics.ListenerMetrics.class);
+        final var adapter = givenAnAdapterWithMetrics("throwsUnchecked", listenerMetrics);
+        final var event = givenAnEventWithPayloadOfType(MockPayload.class);
+
+        assertThrows(IllegalStateException.class, () -> adapter.onApplicationEvent(event));
+
+        verify(listenerMetrics).failed(anyLong());
+        verify(listenerMetrics, never()).invoked(anyLong());
+    }
+
+    @Test
+    void whenMethodIsAsyncItIsInvokedOnAnotherThread() throws InterruptedException {
+        final var target = new AsyncListener(1);
+        final var adapter = givenAnAsyncAdapter(target, "onEvent", null);
+
+        adapter.onApplicationEvent(BusinessEvent.withPayload(new KeyedPayload("key", 0)).build());
+
+        assertThat(target.done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(target.threads).doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    void whenMethodIsAsyncEventsOfTheSameKeyAreProcessedInOrder() throws InterruptedException {
+        final var target = new AsyncListener(400);
+        final var pool = Executors.newFixedThreadPool(8);
+
+        try {
+            final var adapter = givenAnAsyncAdapter(target, "onEventWithKey", pool);
+
+            for (var i = 0; i < 400; i++) {
+                adapter.onApplicationEvent(BusinessEvent.withPayload(new KeyedPayload("key-" + i % 4, i / 4)).build());
+            }
+
+            assertThat(target.done.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (var key = 0; key < 4; key++) {
+            final var expectedKey = "key-" + key;
+            assertThat(target.received.stream().filter(payload -> payload.key().equals(expectedKey)).map(KeyedPayload::sequence))
+                .containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+        }
+    }
+
+    @Test
+    void whenMethodHasPayloadListParameterItReceivesMicroBatchesOfPayloads() {
+        final var target = new MicroBatchingListener();
+        final var adapter = givenAMicroBatchingAdapter(target, "onPayloads");
+
+        for (var i = 0; i < 5; i++) {
+            adapter.onApplicationEvent(BusinessEvent.withPayload("payload-" + i).build());
+        }
+        adapter.onApplicationEvent(BusinessEvent.withPayload(42).build());
+
+        assertThat(target.payloadBatches).containsExactly(List.of("payload-0", "payload-1"), List.of("payload-2", "payload-3"));
+        assertThat(adapter.getMicroBatcher()).isNotNull();
+        assertThat(adapter.getMicroBatcher().getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenMethodHasEventListParameterItReceivesMicroBatchesOfEvents() {
+        final var target = new MicroBatchingListener();
+        final var adapter = givenAMicroBatchingAdapter(target, "onEvents");
+        final var first = BusinessEvent.withPayload("first").build();
+        final var second = BusinessEvent.withPayload("second").build();
+
+        adapter.onApplicationEvent(first);
+        adapter.onApplicationEvent(second);
+
+        assertThat(target.eventBatches).containsExactly(List.of(first, second));
+    }
+
+    @Test
+    void whenMicroBatchingAdapterIsClosedPendingEventsAreFlushed() {
+        final var target = new MicroBatchingListener();
+        final var adapter = givenAMicroBatchingAdapter(target, "onPayloads");
+        adapter.onApplicationEvent(BusinessEvent.withPayload("pending").build());
+
+        adapter.close();
+
+        assertThat(target.payloadBatches).containsExactly(List.of("pending"));
+        assertThat(adapter.getMicroBatcher().getFlushCount(MicroBatcher.FlushReason.SHUTDOWN)).isEqualTo(1);
+    }
+
+    @Test
+    void whenBatchEventIsReceivedByMicroBatchingMethodItsPayloadsAreBatchedElementWise() {
+        final var target = new MicroBatchingListener();
+        final var adapter = givenAMicroBatchingAdapter(target, "onPayloads");
+
+        adapter.onApplicationEvent(givenABatchEventWithPayloads("first", "second", "third"));
+
+        assertThat(target.payloadBatches).containsExactly(List.of("first", "second"));
+    }
+
+    @Test
+    void whenMicroBatchingMethodHasFurtherParametersItCannotBeBound() {
+        final var method = sneakyThrows(() -> MicroBatchingListener.class.getDeclaredMethod("withFurtherParameter", List.class, String.class));
+
+        final var error = assertThrows(IllegalStateException.class, () -> new BusinessEventListenerMethodAdapter(
+            method.getAnnotation(BusinessEventListener.class), MicroBatchingListener::new, method, null, BusinessEventsMetrics.NOOP));
+
+        assertThat(error).hasMessageContaining("must be its only parameter");
+    }
+
+    @Test
+    void whenMicroBatchElementTypeDoesNotMatchPayloadTypeItCannotBeBound() {
+        final var method = sneakyThrows(() -> MicroBatchingListener.class.getDeclaredMethod("incompatibleElements", List.class));
+
+        final var error = assertThrows(IllegalStateException.class, () -> new BusinessEventListenerMethodAdapter(
+            method.getAnnotation(BusinessEventListener.class), MicroBatchingListener::new, method, null, BusinessEventsMetrics.NOOP));
+
+        assertThat(error).hasMessageContaining("cannot be bound to payloads");
+    }
+
+    private BusinessEventListenerMethodAdapter givenAnAdapterWithMetrics(String methodName, BusinessEventsMetrics.ListenerMetrics listenerMetrics) {
+        final var method = sneakyThrows(() -> MockMethods.class.getDeclaredMethod(methodName));
+        final var metrics = mock(BusinessEventsMetrics.class);
+        when(metrics.listener(MockMethods.class.getName() + "#" + methodName)).thenReturn(listenerMetrics);
+
+        return new BusinessEventListenerMethodAdapter(method.getAnnotation(BusinessEventListener.class), () -> mockMethods, method, null, metrics);
+    }
+
+    private BusinessEventListenerMethodAdapter givenAMicroBatchingAdapter(MicroBatchingListener target, String methodName) {
+        final var method = sneakyThrows(() -> MicroBatchingListener.class.getDeclaredMethod(methodName, List.class));
+        return new BusinessEventListenerMethodAdapter(
+            method.getAnnotation(BusinessEventListener.class),
+            () -> target,
+            method,
+            null,
+            BusinessEventsMetrics.NOOP
+        );
+    }
+
+    private BusinessEventListenerMethodAdapter givenAnAsyncAdapter(AsyncListener target, String methodName, Executor executor) {
+        final var method = sneakyThrows(() -> AsyncListener.class.getDeclaredMethod(methodName, KeyedPayload.class));
+        return new BusinessEventListenerMethodAdapter(
+            method.getAnnotation(BusinessEventListener.class),
+            () -> target,
+            method,
+            executor,
+            BusinessEventsMetrics.NOOP
+        );
+    }
 
     private BusinessEvent givenAnEventWithPayloadOfType(Class<?> payloadType) {
         final var payload = sneakyThrows(() -> payloadType.getConstructor().newInstance());
@@ -187,6 +460,10 @@ class BusinessEventListenerMethodAdapterTest {
             .build();
     }
 
+    private BatchBusinessEvent givenABatchEventWithPayloads(Object... payloads) {
+        return new BatchBusinessEvent(this, new BusinessEventData(List.of(payloads), EventActions.CREATE));
+    }
+
     private BusinessEvent givenAnEventWithAction(String action) {
         final var payload = new MockPayload();
         return BusinessEvent.withPayload(payload)
@@ -195,7 +472,8 @@ class BusinessEventListenerMethodAdapterTest {
     }
 
     private BusinessEventListenerMethodAdapter givenAnAdapterForAnAnnotatedMethod(String methodName, Class<?>... parameterTypes) {
-        final var method = sneakyThrows(() -> MockMethods.class.getDeclaredMethod(methodName, parameterTypes));
+        final var declaringClass = methodName.equals("staticMethod") ? StaticListener.class : MockMethods.class;
+        final var method = sneakyThrows(() -> declaringClass.getDeclaredMethod(methodName, parameterTypes));
 
         configuration = method.getAnnotation(BusinessEventListener.class);
         assertThat(configuration).isNotNull();
@@ -203,7 +481,9 @@ class BusinessEventListenerMethodAdapterTest {
         return new BusinessEventListenerMethodAdapter(
             configuration,
             () -> mockMethods,
-            method
+            method,
+            null,
+            BusinessEventsMetrics.NOOP
         );
     }
 
@@ -212,6 +492,10 @@ class BusinessEventListenerMethodAdapterTest {
         public void noArguments() {
         }
 
+        @BusinessEventListener(payloadType = MockPayload.class)
+        public void batch(BatchBusinessEvent batch) {
+        }
+
         @BusinessEventListener
         public void businessEvent(BusinessEventDataProvider businessEvent) {
         }
@@ -259,6 +543,87 @@ class BusinessEventListenerMethodAdapterTest {
         @BusinessEventListener(payloadType = MockPayload.class)
         public void actionCannotBeBound(BusinessEventDataProvider businessEvent, MockPayload payload, StringBuilder action) {
         }
+
+        @BusinessEventListener(payloadType = MockPayload.class)
+        public String returnsValue(MockPayload payload) {
+            return "ignored";
+        }
+
+        @BusinessEventListener
+        public void throwsUnchecked() {
+            throw new IllegalStateException("unchecked");
+        }
+
+        @BusinessEventListener
+        public void throwsChecked() throws IOException {
+            throw new IOException("checked");
+        }
+    }
+
+    public static class StaticListener {
+        static String received;
+
+        @BusinessEventListener(payloadType = String.class)
+        public static void staticMethod(String payload) {
+            received = payload;
+        }
+    }
+
+    public static class AsyncListener {
+        final List<KeyedPayload> received = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done;
+
+        AsyncListener(int expectedEvents) {
+            done = new CountDownLatch(expectedEvents);
+        }
+
+        @BusinessEventListener(payloadType = KeyedPayload.class, async = true)
+        public void onEvent(KeyedPayload payload) {
+            threads.add(Thread.currentThread());
+            done.countDown();
+        }
+
+        @BusinessEventListener(payloadType = KeyedPayload.class, async = true, key = "payload.key")
+        public void onEventWithKey(KeyedPayload payload) {
+            received.add(payload);
+            done.countDown();
+        }
+    }
+
+    public record KeyedPayload(String key, int sequence) {
+    }
+
+    public static class MicroBatchingListener {
+        final List<List<String>> payloadBatches = new ArrayList<>();
+        final List<List<BusinessEventDataProvider>> eventBatches = new ArrayList<>();
+
+        @BusinessEventListener(payloadType = String.class, maxBatchSize = 2, maxLatency = "1h")
+        public void onPayloads(List<String> payloads) {
+            payloadBatches.add(payloads);
+        }
+
+        @BusinessEventListener(payloadType = String.class, maxBatchSize = 2, maxLatency = "1h")
+        public void onEvents(List<BusinessEventDataProvider> events) {
+            eventBatches.add(events);
+        }
+
+        @BusinessEventListener(payloadType = String.class)
+        public void withFurtherParameter(List<String> payloads, String action) {
+        }
+
+        @BusinessEventListener(payloadType = String.class)
+        public void incompatibleElements(List<Integer> payloads) {
+        }
+    }
+
+    static class NonPublicListener {
+        String received;
+
+        @BusinessEventListener(payloadType = String.class)
+        void onEvent(String payload) {
+            received = payload;
+        }
     }
 
     public static class MockPayload {
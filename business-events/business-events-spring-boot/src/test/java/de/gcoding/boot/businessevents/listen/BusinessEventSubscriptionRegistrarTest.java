@@ -0,0 +1,183 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.EventActions;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.ResolvableType;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessEventSubscriptionRegistrarTest {
+    @Test
+    void whenContextIsRefreshedTheRegistryIsActivated() {
+        final var registry = refreshContextWithListeners();
+
+        assertThat(registry.isActive()).isTrue();
+        assertThat(registry.getSubscriptions()).isEmpty();
+    }
+
+    @Test
+    void whenAbstractBusinessEventListenerIsPresentItsPayloadTypeIsSubscribed() {
+        final var registry = refreshContextWithListeners(IntegerListener.class);
+
+        assertThat(registry.getSubscriptions())
+            .containsExactly(new BusinessEventSubscriptionRegistry.Subscription(Integer.class, Set.of()));
+    }
+
+    @Test
+    void whenApplicationListenerForBusinessEventsIsPresentAllEventsAreSubscribed() {
+        final var registry = refreshContextWithListeners(BusinessEventApplicationListener.class);
+
+        assertThat(registry.hasSubscribers(String.class, EventActions.DELETE)).isTrue();
+    }
+
+    @Test
+    void whenApplicationListenerForSupertypeOfBusinessEventsIsPresentAllEventsAreSubscribed() {
+        final var registry = refreshContextWithListeners(ApplicationEventApplicationListener.class);
+
+        assertThat(registry.hasSubscribers(String.class, EventActions.DELETE)).isTrue();
+    }
+
+    @Test
+    void whenLambdaApplicationListenerForBusinessEventsIsDeclaredByBeanMethodAllEventsAreSubscribed() {
+        final var registry = refreshContextWithListeners(BusinessEventLambdaListenerConfiguration.class);
+
+        assertThat(registry.hasSubscribers(String.class, EventActions.DELETE)).isTrue();
+    }
+
+    @Test
+    void whenGenericApplicationListenerSupportsBusinessEventsAllEventsAreSubscribed() {
+        final var registry = refreshContextWithListeners(BusinessEventGenericApplicationListener.class);
+
+        assertThat(registry.hasSubscribers(String.class, EventActions.DELETE)).isTrue();
+    }
+
+    @Test
+    void whenEventListenerMethodForBusinessEventsIsPresentAllEventsAreSubscribed() {
+        final var registry = refreshContextWithListeners(BusinessEventListenerMethod.class);
+
+        assertThat(registry.hasSubscribers(String.class, EventActions.DELETE)).isTrue();
+    }
+
+    @Test
+    void whenOnlyListenersForOtherEventsArePresentNothingIsSubscribed() {
+        final var registry = refreshContextWithListeners(
+            ContextRefreshedEventApplicationListener.class,
+            OtherEventLambdaListenerConfiguration.class,
+            OtherEventGenericApplicationListener.class,
+            OtherEventListenerMethod.class,
+            AnnotatedBusinessEventListenerMethod.class
+        );
+
+        assertThat(registry.getSubscriptions()).isEmpty();
+    }
+
+    private BusinessEventSubscriptionRegistry refreshContextWithListeners(Class<?>... listenerTypes) {
+        final var registry = new BusinessEventSubscriptionRegistry();
+
+        try (final var context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(BusinessEventSubscriptionRegistrar.class,
+                () -> new BusinessEventSubscriptionRegistrar(context.getBeanFactory(), registry));
+
+            for (final var listenerType : listenerTypes) {
+                context.registerBean(listenerType);
+            }
+
+            context.refresh();
+        }
+
+        return registry;
+    }
+
+    static class IntegerListener extends AbstractBusinessEventEventListener<Integer> {
+        IntegerListener() {
+            super(Integer.class);
+        }
+    }
+
+    static class BusinessEventApplicationListener implements ApplicationListener<BusinessEvent> {
+        @Override
+        public void onApplicationEvent(BusinessEvent event) {
+        }
+    }
+
+    static class ApplicationEventApplicationListener implements ApplicationListener<ApplicationEvent> {
+        @Override
+        public void onApplicationEvent(ApplicationEvent event) {
+        }
+    }
+
+    static class ContextRefreshedEventApplicationListener implements ApplicationListener<ContextRefreshedEvent> {
+        @Override
+        public void onApplicationEvent(ContextRefreshedEvent event) {
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class BusinessEventLambdaListenerConfiguration {
+        @Bean
+        ApplicationListener<BusinessEvent> businessEventLambdaListener() {
+            return event -> {
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class OtherEventLambdaListenerConfiguration {
+        @Bean
+        ApplicationListener<ContextRefreshedEvent> otherEventLambdaListener() {
+            return event -> {
+            };
+        }
+    }
+
+    static class BusinessEventGenericApplicationListener implements GenericApplicationListener {
+        @Override
+        public boolean supportsEventType(ResolvableType eventType) {
+            return BusinessEvent.class.isAssignableFrom(eventType.toClass());
+        }
+
+        @Override
+        public void onApplicationEvent(ApplicationEvent event) {
+        }
+    }
+
+    static class OtherEventGenericApplicationListener implements GenericApplicationListener {
+        @Override
+        public boolean supportsEventType(ResolvableType eventType) {
+            return ContextRefreshedEvent.class.isAssignableFrom(eventType.toClass());
+        }
+
+        @Override
+        public void onApplicationEvent(ApplicationEvent event) {
+        }
+    }
+
+    static class BusinessEventListenerMethod {
+        @EventListener
+        public void onEvent(BusinessEvent event) {
+        }
+    }
+
+    static class OtherEventListenerMethod {
+        @EventListener(ContextRefreshedEvent.class)
+        public void onEvent() {
+        }
+    }
+
+    static class AnnotatedBusinessEventListenerMethod {
+        @BusinessEventListener(payloadType = String.class)
+        public void onEvent(BusinessEvent event) {
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.EventActions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessEventSubscriptionRegistryTest {
+    BusinessEventSubscriptionRegistry registry;
+
+    @BeforeEach
+    void beforeEach() {
+        registry = new BusinessEventSubscriptionRegistry();
+    }
+
+    @Test
+    void whenRegistryIsNotActiveEveryEventHasSubscribers() {
+        assertThat(registry.hasSubscribers(String.class, EventActions.CREATE)).isTrue();
+        assertThat(registry.mayHaveSubscribers(String.class, EventActions.CREATE)).isTrue();
+    }
+
+    @Test
+    void whenRegistryIsActiveWithoutSubscriptionsNoEventHasSubscribers() {
+        registry.activate();
+
+        assertThat(registry.hasSubscribers(String.class, EventActions.CREATE)).isFalse();
+        assertThat(registry.mayHaveSubscribers(Object.class, null)).isFalse();
+    }
+
+    @Test
+    void whenPayloadTypeIsSubscribedEventsWithSubtypePayloadsHaveSubscribers() {
+        registry.subscribe(Number.class, List.of());
+        registry.activate();
+
+        assertThat(registry.hasSubscribers(Integer.class, EventActions.CREATE)).isTrue();
+        assertThat(registry.hasSubscribers(String.class, EventActions.CREATE)).isFalse();
+    }
+
+    @Test
+    void whenActionsAreSubscribedOnlyEventsWithTheseActionsHaveSubscribers() {
+        registry.subscribe(String.class, List.of(EventActions.CREATE));
+        registry.activate();
+
+        assertThat(registry.hasSubscribers(String.class, EventActions.CREATE)).isTrue();
+        assertThat(registry.hasSubscribers(String.class, EventActions.DELETE)).isFalse();
+        assertThat(registry.hasSubscribers(String.class, null)).isTrue();
+    }
+
+    @Test
+    void whenAllEventsAreSubscribedEveryEventHasSubscribers() {
+        registry.subscribeAll();
+        registry.activate();
+
+        assertThat(registry.hasSubscribers(String.class, EventActions.DELETE)).isTrue();
+    }
+
+    @Test
+    void whenSubscriptionIsAddedAfterLookupItIsConsidered() {
+        registry.activate();
+        assertThat(registry.hasSubscribers(String.class, EventActions.CREATE)).isFalse();
+
+        registry.subscribe(String.class, List.of());
+
+        assertThat(registry.hasSubscribers(String.class, EventActions.CREATE)).isTrue();
+    }
+
+    @Test
+    void whenSubtypeOfDeclaredTypeIsSubscribedEventsMayHaveSubscribers() {
+        registry.subscribe(Integer.class, List.of());
+        registry.activate();
+
+        assertThat(registry.mayHaveSubscribers(Number.class, null)).isTrue();
+        assertThat(registry.mayHaveSubscribers(Object.class, null)).isTrue();
+        assertThat(registry.mayHaveSubscribers(String.class, null)).isFalse();
+    }
+
+    @Test
+    void whenInterfaceIsSubscribedSubclassesOfNonFinalDeclaredTypesMayHaveSubscribers() {
+        registry.subscribe(Serializable.class, List.of());
+        registry.activate();
+
+        assertThat(registry.mayHaveSubscribers(Thread.class, null)).isTrue();
+    }
+
+    @Test
+    void whenDeclaredTypeIsPrimitiveItsWrapperTypeIsConsidered() {
+        registry.subscribe(Integer.class, List.of());
+        registry.activate();
+
+        assertThat(registry.mayHaveSubscribers(int.class, null)).isTrue();
+    }
+}
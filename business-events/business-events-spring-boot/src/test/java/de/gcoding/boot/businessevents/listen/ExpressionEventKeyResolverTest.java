@@ -0,0 +1,30 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import de.gcoding.boot.businessevents.EventActions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpressionEventKeyResolverTest {
+    @Test
+    void whenExpressionRefersToPayloadPropertyItsValueIsTheKey() {
+        final var resolver = new ExpressionEventKeyResolver("payload.customerId");
+
+        final var key = resolver.resolveKey(BusinessEvent.withPayload(new Order("customer")).build());
+
+        assertThat(key).isEqualTo("customer");
+    }
+
+    @Test
+    void whenExpressionRefersToActionAndEventTheirValuesAreAvailable() {
+        final var resolver = new ExpressionEventKeyResolver("action + ':' + event.payload.customerId()");
+
+        final var key = resolver.resolveKey(BusinessEvent.withPayload(new Order("customer")).action(EventActions.CREATE).build());
+
+        assertThat(key).isEqualTo(EventActions.CREATE + ":customer");
+    }
+
+    public record Order(String customerId) {
+    }
+}
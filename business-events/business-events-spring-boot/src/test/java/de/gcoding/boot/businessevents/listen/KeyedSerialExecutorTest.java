@@ -0,0 +1,208 @@
+package de.gcoding.boot.businessevents.listen;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeyedSerialExecutorTest {
+    ExecutorService pool;
+    KeyedSerialExecutor executor;
+
+    @BeforeEach
+    void beforeEach() {
+        pool = Executors.newFixedThreadPool(8);
+        executor = new KeyedSerialExecutor(pool);
+    }
+
+    @AfterEach
+    void afterEach() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void whenTasksHaveTheSameKeyTheyAreExecutedInSubmissionOrder() throws InterruptedException {
+        final var executed = Collections.synchronizedList(new ArrayList<Integer>());
+        final var done = new CountDownLatch(500);
+
+        for (var i = 0; i < 500; i++) {
+            final var value = i;
+            executor.execute("key", () -> {
+                executed.add(value);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).isEqualTo(IntStream.range(0, 500).boxed().toList());
+    }
+
+    @Test
+    void whenTasksHaveNoKeyTheyAreExecutedInSubmissionOrder() throws InterruptedException {
+        final var executed = Collections.synchronizedList(new ArrayList<Integer>());
+        final var done = new CountDownLatch(100);
+
+        for (var i = 0; i < 100; i++) {
+            final var value = i;
+            executor.execute(null, () -> {
+                executed.add(value);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).isEqualTo(IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    void whenTasksHaveDifferentKeysTheyAreExecutedInParallel() throws InterruptedException {
+        final var secondStarted = new CountDownLatch(1);
+        final var firstObservedSecond = new CountDownLatch(1);
+
+        executor.execute("first", () -> {
+            try {
+                if (secondStarted.await(10, TimeUnit.SECONDS)) {
+                    firstObservedSecond.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute("second", secondStarted::countDown);
+
+        assertThat(firstObservedSecond.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void whenTaskFailsSubsequentTasksOfTheSameKeyAreStillExecuted() throws InterruptedException {
+        final var done = new CountDownLatch(1);
+
+        executor.execute("key", () -> {
+            throw new IllegalStateException("failing");
+        });
+        executor.execute("key", done::countDown);
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void whenExecutorRejectsTaskItIsExecutedOnTheCurrentThread() {
+        final var executingThreads = new ArrayList<Thread>();
+        executor = new KeyedSerialExecutor(task -> {
+            throw new RejectedExecutionException("rejected");
+        });
+
+        executor.execute("key", () -> executingThreads.add(Thread.currentThread()));
+
+        assertThat(executingThreads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void whenExecutorRejectsTasksOfALongChainTheyAreExecutedWithoutNesting() throws InterruptedException {
+        final var release = new CountDownLatch(1);
+        final var submissions = new AtomicInteger();
+        final var executed = new AtomicInteger();
+        final var maxDepth = new AtomicInteger();
+        executor = new KeyedSerialExecutor(task -> {
+            if (submissions.getAndIncrement() > 0) {
+                throw new RejectedExecutionException("rejected");
+            }
+
+            pool.execute(task);
+        });
+
+        executor.execute("key", () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        for (var i = 0; i < 100_000; i++) {
+            executor.execute("key", () -> {
+                executed.incrementAndGet();
+                maxDepth.accumulateAndGet(Thread.currentThread().getStackTrace().length, Math::max);
+            });
+        }
+
+        release.countDown();
+        assertThat(executor.close(Duration.ofSeconds(10))).isTrue();
+        assertThat(executed).hasValue(100_000);
+        assertThat(maxDepth.get()).isLessThan(100);
+    }
+
+    @Test
+    void whenExecutorIsClosedPendingTasksAreAwaited() {
+        final var executed = Collections.synchronizedList(new ArrayList<Integer>());
+
+        for (var i = 0; i < 100; i++) {
+            final var value = i;
+            executor.execute("key", () -> executed.add(value));
+        }
+
+        assertThat(executor.close(Duration.ofSeconds(10))).isTrue();
+        assertThat(executed).hasSize(100);
+        assertThat(executor.getActiveKeyCount()).isZero();
+    }
+
+    @Test
+    void whenPendingTasksDoNotCompleteInTimeTheyAreDiscardedOnClose() {
+        final var release = new CountDownLatch(1);
+        final var executed = new AtomicInteger();
+
+        executor.execute("key", () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute("key", executed::incrementAndGet);
+
+        assertThat(executor.close(Duration.ofMillis(50))).isFalse();
+        release.countDown();
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute("key", executed::incrementAndGet));
+        assertThat(executed).hasValue(0);
+    }
+
+    @Test
+    void whenAllTasksOfAKeyAreCompletedTheKeyIsReleased() throws InterruptedException {
+        final var done = new CountDownLatch(1);
+
+        executor.execute("key", done::countDown);
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getActiveKeyCount()).isZero();
+    }
+
+    @Test
+    void whenDefaultExecutorIsUsedTasksRunOnVirtualThreads() throws InterruptedException {
+        final var virtual = new ArrayList<Boolean>();
+        final var done = new CountDownLatch(1);
+
+        new KeyedSerialExecutor().execute("key", () -> {
+            virtual.add(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).containsExactly(true);
+    }
+}
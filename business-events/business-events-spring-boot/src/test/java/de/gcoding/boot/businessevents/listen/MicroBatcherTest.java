@@ -0,0 +1,266 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.listen.MicroBatcher.FlushReason;
+import de.gcoding.boot.businessevents.metrics.BusinessEventsMetrics.ListenerMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class MicroBatcherTest {
+    final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void whenBatchReachesMaxSizeItIsFlushedImmediately() {
+        final var batcher = createBatcher(3, Duration.ofHours(1), batches::add);
+
+        for (var i = 0; i < 7; i++) {
+            batcher.add(i);
+        }
+
+        assertThat(batches).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5));
+        assertThat(batcher.getPendingCount()).isEqualTo(1);
+        assertThat(batcher.getFlushCount(FlushReason.SIZE)).isEqualTo(2);
+        assertThat(batcher.getBatchedCount()).isEqualTo(6);
+    }
+
+    @Test
+    void whenBatchIsFlushedItsReasonAndSizeAreRecorded() {
+        final var metrics = mock(ListenerMetrics.class);
+        final var batcher = new MicroBatcher<Integer>(
+            2,
+            Duration.ofHours(1),
+            MicroBatcher.sharedScheduler(),
+            Runnable::run,
+            batches::add,
+            metrics
+        );
+
+        batcher.add(1);
+        batcher.add(2);
+        batcher.add(3);
+        batcher.close();
+
+        verify(metrics).batchFlushed("SIZE", 2);
+        verify(metrics).batchFlushed("SHUTDOWN", 1);
+        verifyNoMoreInteractions(metrics);
+    }
+
+    @Test
+    void whenMaxLatencyPassesPendingBatchIsFlushed() throws InterruptedException {
+        final var flushed = new CountDownLatch(1);
+        final var batcher = createBatcher(100, Duration.ofMillis(20), batch -> {
+            batches.add(batch);
+            flushed.countDown();
+        });
+
+        batcher.add(1);
+        batcher.add(2);
+
+        assertThat(flushed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).containsExactly(List.of(1, 2));
+        assertThat(batcher.getFlushCount(FlushReason.LATENCY)).isEqualTo(1);
+        assertThat(batcher.getPendingCount()).isZero();
+    }
+
+    @Test
+    void whenMaxLatencyPassesPendingBatchIsConsumedOnTheExecutor() throws InterruptedException {
+        final var flushed = new CountDownLatch(1);
+        final var consumingThreads = new ArrayList<String>();
+        final var scheduler = Executors.newSingleThreadScheduledExecutor();
+        final var executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "batch-consumer"));
+
+        try {
+            final var batcher = new MicroBatcher<Integer>(100, Duration.ofMillis(20), scheduler, executor, batch -> {
+                consumingThreads.add(Thread.currentThread().getName());
+                flushed.countDown();
+            }, ListenerMetrics.NOOP);
+            batcher.add(1);
+
+            assertThat(flushed.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(consumingThreads).containsExactly("batch-consumer");
+        } finally {
+            scheduler.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void whenConsumerFailsOnLatencyFlushTheFailedBatchIsCounted() throws InterruptedException {
+        final var attempted = new CountDownLatch(1);
+        final var batcher = createBatcher(100, Duration.ofMillis(20), batch -> {
+            attempted.countDown();
+            throw new IllegalStateException("failing");
+        });
+
+        batcher.add(1);
+
+        assertThat(attempted.await(10, TimeUnit.SECONDS)).isTrue();
+        batcher.close();
+        assertThat(batcher.getFailedBatchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenBatchWasFlushedDueToItsSizeItsLatencyFlushIsSkipped() throws InterruptedException {
+        final var batcher = createBatcher(2, Duration.ofMillis(20), batches::add);
+
+        batcher.add(1);
+        batcher.add(2);
+        Thread.sleep(100);
+
+        assertThat(batches).containsExactly(List.of(1, 2));
+        assertThat(batcher.getFlushCount(FlushReason.LATENCY)).isZero();
+    }
+
+    @Test
+    void whenBatcherIsClosedPendingBatchIsFlushed() {
+        final var batcher = createBatcher(100, Duration.ofHours(1), batches::add);
+        batcher.add(1);
+
+        batcher.close();
+
+        assertThat(batches).containsExactly(List.of(1));
+        assertThat(batcher.getFlushCount(FlushReason.SHUTDOWN)).isEqualTo(1);
+    }
+
+    @Test
+    void whenItemIsAddedAfterCloseItIsFlushedImmediately() {
+        final var batcher = createBatcher(100, Duration.ofHours(1), batches::add);
+        batcher.close();
+
+        batcher.add(1);
+
+        assertThat(batches).containsExactly(List.of(1));
+    }
+
+    @Test
+    void whenConsumerFailsOnSizeFlushExceptionIsPropagated() {
+        final var batcher = createBatcher(1, Duration.ofHours(1), batch -> {
+            throw new IllegalStateException("failing");
+        });
+
+        assertThrows(IllegalStateException.class, () -> batcher.add(1));
+        assertThat(batcher.getPendingCount()).isZero();
+        assertThat(batcher.getFailedBatchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenBatchIsConsumedItemsCanBeAddedAndFlushedBatchesAreConsumedInOrder() throws Exception {
+        final var consuming = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var batcher = createBatcher(1, Duration.ofHours(1), batch -> {
+            batches.add(batch);
+
+            if (batch.getFirst() == 1) {
+                consuming.countDown();
+                await(release);
+            }
+        });
+        final var consumer = new Thread(() -> batcher.add(1));
+        consumer.start();
+        assertThat(consuming.await(10, TimeUnit.SECONDS)).isTrue();
+
+        batcher.add(2);
+        batcher.add(3);
+
+        assertThat(batches).containsExactly(List.of(1));
+        release.countDown();
+        consumer.join(10_000);
+        assertThat(batches).containsExactly(List.of(1), List.of(2), List.of(3));
+    }
+
+    @Test
+    void whenBatcherIsClosedBatchesConsumedByOtherThreadsAreAwaited() throws Exception {
+        final var consuming = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var batcher = createBatcher(1, Duration.ofHours(1), batch -> {
+            consuming.countDown();
+            await(release);
+            batches.add(batch);
+        });
+        new Thread(() -> batcher.add(1)).start();
+        assertThat(consuming.await(10, TimeUnit.SECONDS)).isTrue();
+
+        final var closer = new Thread(batcher::close);
+        closer.start();
+        closer.join(100);
+        assertThat(closer.isAlive()).isTrue();
+
+        release.countDown();
+        closer.join(10_000);
+        assertThat(batches).containsExactly(List.of(1));
+    }
+
+    @Test
+    void whenConsumerThrowsAnErrorRemainingBatchesAreConsumedOnClose() throws Exception {
+        final var consuming = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var errors = Collections.synchronizedList(new ArrayList<Throwable>());
+        final var batcher = createBatcher(1, Duration.ofHours(1), batch -> {
+            if (batch.getFirst() == 1) {
+                consuming.countDown();
+                await(release);
+                throw new StackOverflowError("consumer failed fatally");
+            }
+
+            batches.add(batch);
+        });
+        final var consumer = new Thread(() -> batcher.add(1));
+        consumer.setUncaughtExceptionHandler((thread, error) -> errors.add(error));
+        consumer.start();
+        assertThat(consuming.await(10, TimeUnit.SECONDS)).isTrue();
+        batcher.add(2);
+
+        final var closer = new Thread(batcher::close);
+        closer.start();
+        closer.join(100);
+        assertThat(closer.isAlive()).isTrue();
+
+        release.countDown();
+        closer.join(10_000);
+        assertThat(closer.isAlive()).isFalse();
+        assertThat(batches).containsExactly(List.of(2));
+        assertThat(errors).singleElement().isInstanceOf(StackOverflowError.class);
+    }
+
+    @Test
+    void whenMaxBatchSizeIsNotPositiveAnExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> createBatcher(0, Duration.ofSeconds(1), batches::add));
+    }
+
+    @Test
+    void whenMaxLatencyIsNotPositiveAnExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> createBatcher(1, Duration.ZERO, batches::add));
+    }
+
+    private static MicroBatcher<Integer> createBatcher(int maxBatchSize, Duration maxLatency, Consumer<List<Integer>> consumer) {
+        return new MicroBatcher<>(
+            maxBatchSize,
+            maxLatency,
+            MicroBatcher.sharedScheduler(),
+            KeyedSerialExecutor.virtualThreadExecutor(),
+            consumer,
+            ListenerMetrics.NOOP
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package de.gcoding.boot.businessevents.listen;
+
+import de.gcoding.boot.businessevents.BusinessEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadIdEventKeyResolverTest {
+    final EventKeyResolver resolver = EventKeyResolver.payloadId();
+
+    @Test
+    void whenPayloadHasGetIdMethodItsValueIsTheKey() {
+        final var entity = new Entity(UUID.randomUUID());
+
+        assertThat(resolver.resolveKey(BusinessEvent.withPayload(entity).build())).isEqualTo(entity.getId());
+    }
+
+    @Test
+    void whenPayloadIsRecordWithIdComponentItsValueIsTheKey() {
+        assertThat(resolver.resolveKey(BusinessEvent.withPayload(new IdRecord(42L)).build())).isEqualTo(42L);
+    }
+
+    @Test
+    void whenPayloadHasNoIdTheEventHasNoKey() {
+        assertThat(resolver.resolveKey(BusinessEvent.withPayload("payload").build())).isNull();
+    }
+
+    static class Entity {
+        private final UUID id;
+
+        Entity(UUID id) {
+            this.id = id;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+    }
+
+    record IdRecord(long id) {
+    }
+}
@@ -0,0 +1,171 @@
+package de.gcoding.boot.businessevents.metrics;
+
+import de.gcoding.boot.businessevents.emission.publisher.AsyncBusinessEventPublisher;
+import de.gcoding.boot.businessevents.emission.publisher.OverflowPolicy;
+import de.gcoding.boot.businessevents.listen.MicroBatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.ACTION_EVALUATION;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.ASYNC_QUEUE_CAPACITY;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.ASYNC_QUEUE_DEPTH;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.ASYNC_REJECTED;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.EVENTS_EMITTED;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.LISTENER_BATCH_FAILURES;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.LISTENER_BATCH_FLUSHES;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.LISTENER_BATCH_PENDING;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.LISTENER_BATCH_SIZE;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.LISTENER_INVOCATIONS;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.MAX_ACTIONS_PER_PAYLOAD_TYPE;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.OTHER_ACTION;
+import static de.gcoding.boot.businessevents.metrics.MicrometerBusinessEventsMetrics.UNWRAP_FAN_OUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MicrometerBusinessEventsMetricsTest {
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    final MicrometerBusinessEventsMetrics metrics = new MicrometerBusinessEventsMetrics(registry);
+
+    @Test
+    void emittedEventsAreCountedPerPayloadTypeAndAction() {
+        metrics.eventEmitted(String.class, "CREATED");
+        metrics.eventEmitted(String.class, "CREATED");
+        metrics.eventEmitted(String.class, "DELETED");
+        metrics.eventEmitted(Integer.class, "CREATED");
+
+        assertThat(emittedCount(String.class, "CREATED")).isEqualTo(2);
+        assertThat(emittedCount(String.class, "DELETED")).isEqualTo(1);
+        assertThat(emittedCount(Integer.class, "CREATED")).isEqualTo(1);
+    }
+
+    @Test
+    void actionsBeyondLimitAreCountedAsOther() {
+        for (int i = 0; i < MAX_ACTIONS_PER_PAYLOAD_TYPE + 2; i++) {
+            metrics.eventEmitted(String.class, "ACTION_" + i);
+        }
+
+        assertThat(registry.find(EVENTS_EMITTED).tag("payload.type", String.class.getName()).counters())
+            .hasSize(MAX_ACTIONS_PER_PAYLOAD_TYPE + 1);
+        assertThat(emittedCount(String.class, OTHER_ACTION)).isEqualTo(2);
+    }
+
+    @Test
+    void unwrapFanOutIsRecorded() {
+        metrics.payloadsUnwrapped(3);
+        metrics.payloadsUnwrapped(5);
+
+        final var summary = registry.get(UNWRAP_FAN_OUT).summary();
+
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(8);
+    }
+
+    @Test
+    void actionEvaluationIsTimed() {
+        metrics.actionEvaluated(TimeUnit.MILLISECONDS.toNanos(2));
+
+        final var timer = registry.get(ACTION_EVALUATION).timer();
+
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2);
+    }
+
+    @Test
+    void listenerInvocationsAreTimedPerOutcome() {
+        final var listener = metrics.listener("MyListener#onEvent");
+
+        listener.invoked(1_000);
+        listener.invoked(1_000);
+        listener.failed(1_000);
+
+        assertThat(listenerCount("MyListener#onEvent", "success")).isEqualTo(2);
+        assertThat(listenerCount("MyListener#onEvent", "failure")).isEqualTo(1);
+    }
+
+    @Test
+    void listenerMetricsOfSameListenerShareTimers() {
+        metrics.listener("MyListener#onEvent").invoked(1_000);
+        metrics.listener("MyListener#onEvent").invoked(1_000);
+
+        assertThat(listenerCount("MyListener#onEvent", "success")).isEqualTo(2);
+    }
+
+    @Test
+    void listenerBatchFlushesAreCountedPerReasonAndTheirSizeIsRecorded() {
+        final var listener = metrics.listener("MyListener#onEvents");
+
+        listener.batchFlushed("SIZE", 10);
+        listener.batchFlushed("SIZE", 10);
+        listener.batchFlushed("LATENCY", 3);
+
+        final var summary = registry.get(LISTENER_BATCH_SIZE).tag("listener", "MyListener#onEvents").summary();
+
+        assertThat(flushCount("MyListener#onEvents", "size")).isEqualTo(2);
+        assertThat(flushCount("MyListener#onEvents", "latency")).isEqualTo(1);
+        assertThat(summary.count()).isEqualTo(3);
+        assertThat(summary.totalAmount()).isEqualTo(23);
+    }
+
+    @Test
+    void asyncPublisherQueueIsObserved() {
+        final var publisher = mock(AsyncBusinessEventPublisher.class);
+        when(publisher.getOverflowPolicy()).thenReturn(OverflowPolicy.CALLER_RUNS);
+        when(publisher.getQueueCapacity()).thenReturn(100);
+        when(publisher.getQueueDepth()).thenReturn(3);
+        when(publisher.getRejectedCount()).thenReturn(2L);
+
+        metrics.asyncPublisherCreated(publisher);
+
+        assertThat(registry.get(ASYNC_QUEUE_DEPTH).gauge().value()).isEqualTo(3);
+        assertThat(registry.get(ASYNC_QUEUE_CAPACITY).gauge().value()).isEqualTo(100);
+        assertThat(registry.get(ASYNC_REJECTED).tag("overflow.policy", "caller_runs").functionCounter().count())
+            .isEqualTo(2);
+
+        when(publisher.getQueueDepth()).thenReturn(7);
+        when(publisher.getRejectedCount()).thenReturn(5L);
+
+        assertThat(registry.get(ASYNC_QUEUE_DEPTH).gauge().value()).isEqualTo(7);
+        assertThat(registry.get(ASYNC_REJECTED).functionCounter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void listenerBatcherIsObserved() {
+        final MicroBatcher<?> batcher = mock(MicroBatcher.class);
+        when(batcher.getPendingCount()).thenReturn(4);
+        when(batcher.getFailedBatchCount()).thenReturn(1L);
+
+        metrics.listener("MyListener#onEvents").batcherCreated(batcher);
+
+        assertThat(registry.get(LISTENER_BATCH_PENDING).tag("listener", "MyListener#onEvents").gauge().value())
+            .isEqualTo(4);
+        assertThat(registry.get(LISTENER_BATCH_FAILURES).tag("listener", "MyListener#onEvents").functionCounter().count())
+            .isEqualTo(1);
+    }
+
+    long emittedCount(Class<?> payloadType, String action) {
+        return (long) registry.get(EVENTS_EMITTED)
+            .tag("payload.type", payloadType.getName())
+            .tag("action", action)
+            .counter()
+            .count();
+    }
+
+    long listenerCount(String listener, String outcome) {
+        return registry.get(LISTENER_INVOCATIONS)
+            .tag("listener", listener)
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
+
+    long flushCount(String listener, String reason) {
+        return (long) registry.get(LISTENER_BATCH_FLUSHES)
+            .tag("listener", listener)
+            .tag("reason", reason)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,30 @@
+package de.gcoding.boot.businessevents.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SystemEventClockTest {
+    static final Instant NOW = Instant.parse("2025-01-01T12:00:00.123456789Z");
+    static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+    @Test
+    void whenTimeIsRequestedItIsReadFromTheClock() {
+        final var eventClock = new SystemEventClock(Clock.fixed(NOW, ZONE));
+        assertThat(eventClock.now()).isEqualTo(ZonedDateTime.ofInstant(NOW, ZONE));
+    }
+
+    @Test
+    void whenNoClockIsGivenTheSystemTimeIsUsed() {
+        final var before = ZonedDateTime.now();
+        final var now = new SystemEventClock().now();
+        final var after = ZonedDateTime.now();
+
+        assertThat(now).isBetween(before, after);
+    }
+}
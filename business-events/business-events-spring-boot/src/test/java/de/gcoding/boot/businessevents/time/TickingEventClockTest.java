@@ -0,0 +1,100 @@
+package de.gcoding.boot.businessevents.time;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TickingEventClockTest {
+    static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    static final Duration LONG_TICK_INTERVAL = Duration.ofHours(1);
+
+    @Test
+    void whenClockIsCreatedTheCurrentTimeIsAvailableImmediately() {
+        try (final var eventClock = new TickingEventClock(Clock.fixed(NOW, ZoneOffset.UTC), LONG_TICK_INTERVAL)) {
+            assertThat(eventClock.now()).isEqualTo(ZonedDateTime.ofInstant(NOW, ZoneOffset.UTC));
+        }
+    }
+
+    @Test
+    void whenTimeIsRequestedWithinTheSameTickTheSameInstanceIsReturned() {
+        try (final var eventClock = new TickingEventClock(Clock.systemUTC(), LONG_TICK_INTERVAL)) {
+            assertThat(eventClock.now()).isSameAs(eventClock.now());
+        }
+    }
+
+    @Test
+    void whenClockTicksTheCurrentTimeIsRefreshed() {
+        final var ticker = mock(ScheduledExecutorService.class);
+        final var tick = ArgumentCaptor.forClass(Runnable.class);
+        final var clock = new MutableClock(NOW);
+
+        try (final var eventClock = new TickingEventClock(clock, Duration.ofMillis(1), ticker)) {
+            verify(ticker).scheduleAtFixedRate(tick.capture(), eq(1_000_000L), eq(1_000_000L), eq(TimeUnit.NANOSECONDS));
+            clock.instant = NOW.plusSeconds(1);
+            assertThat(eventClock.now()).isEqualTo(ZonedDateTime.ofInstant(NOW, ZoneOffset.UTC));
+
+            tick.getValue().run();
+
+            assertThat(eventClock.now()).isEqualTo(ZonedDateTime.ofInstant(NOW.plusSeconds(1), ZoneOffset.UTC));
+        }
+
+        verify(ticker).shutdownNow();
+    }
+
+    @Test
+    void whenClockIsClosedTheTickerThreadIsStopped() throws InterruptedException {
+        final var tickerThread = new AtomicReference<Thread>();
+        final var eventClock = new TickingEventClock(Clock.systemUTC(), Duration.ofMillis(1), runnable -> {
+            tickerThread.set(new Thread(runnable));
+            return tickerThread.get();
+        });
+
+        eventClock.close();
+        tickerThread.get().join(5_000);
+
+        assertThat(tickerThread.get().isAlive()).isFalse();
+    }
+
+    @Test
+    void whenTickIntervalIsNotPositiveAnExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new TickingEventClock(Clock.systemUTC(), Duration.ZERO));
+    }
+
+    static class MutableClock extends Clock {
+        Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}